@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.shared.management.AutoRebalancer.AutoRebalancingProperties;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically checks whether the leaders are unevenly distributed over the brokers, e.g. after a
+ * restart or fail over, and moves them back to their primaries when they are.
+ *
+ * <p>To avoid moving leaders around while the cluster is still settling, the imbalance must be
+ * observed on consecutive checks before acting on it, and a partition whose leader was moved is
+ * not moved again until a cool down period has passed.
+ */
+@Component
+@EnableConfigurationProperties(AutoRebalancingProperties.class)
+public final class AutoRebalancer implements AutoCloseable {
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final RebalancingService service;
+  private final AutoRebalancingProperties properties;
+  private final LongSupplier clock;
+  private final Map<Integer, Long> lastTransfers = new HashMap<>();
+  private ScheduledExecutorService executor;
+  private int imbalancedChecks;
+
+  @Autowired
+  public AutoRebalancer(
+      final RebalancingService service, final AutoRebalancingProperties properties) {
+    this(service, properties, System::currentTimeMillis);
+
+    if (properties.enabled()) {
+      executor =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> Thread.ofPlatform().name("auto-rebalancer").daemon().unstarted(runnable));
+      executor.scheduleWithFixedDelay(
+          this::checkSafely,
+          properties.checkInterval().toMillis(),
+          properties.checkInterval().toMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  AutoRebalancer(
+      final RebalancingService service,
+      final AutoRebalancingProperties properties,
+      final LongSupplier clock) {
+    this.service = service;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  /**
+   * Checks the current leader distribution once, and moves leaders if the imbalance persisted.
+   *
+   * @return the applied plan, which is empty if nothing was moved
+   */
+  synchronized RebalancePlan check() {
+    final long now = clock.getAsLong();
+    final var plan = service.plan(partition -> isCoolingDown(partition, now));
+    if (plan.isBalanced()) {
+      imbalancedChecks = 0;
+      return plan;
+    }
+
+    imbalancedChecks++;
+    if (imbalancedChecks < properties.requiredChecks()) {
+      LOG.debug(
+          "Leaders are imbalanced ({}), waiting for {} more checks before rebalancing",
+          plan.leadersPerBroker(),
+          properties.requiredChecks() - imbalancedChecks);
+      return RebalancePlan.empty(plan.leadersPerBroker());
+    }
+
+    imbalancedChecks = 0;
+    LOG.info(
+        "Leaders are imbalanced ({}), moving leadership: {}",
+        plan.leadersPerBroker(),
+        plan.transfers());
+    plan.transfers().forEach(transfer -> lastTransfers.put(transfer.partitionId(), now));
+    service.apply(plan);
+    return plan;
+  }
+
+  private void checkSafely() {
+    try {
+      check();
+    } catch (final Exception e) {
+      // an exception would cancel all future executions
+      LOG.warn("Failed to check whether leaders need to be rebalanced", e);
+    }
+  }
+
+  private boolean isCoolingDown(final int partitionId, final long now) {
+    final var lastTransfer = lastTransfers.get(partitionId);
+    return lastTransfer != null && now - lastTransfer < properties.partitionCooldown().toMillis();
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @param enabled whether leaders are rebalanced automatically
+   * @param checkInterval how often the leader distribution is checked
+   * @param requiredChecks on how many consecutive checks the leaders must be imbalanced before
+   *     they are moved
+   * @param partitionCooldown how long to wait before moving the leader of a partition again
+   */
+  @ConfigurationProperties("zeebe.rebalancing.auto")
+  public record AutoRebalancingProperties(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("1m") Duration checkInterval,
+      @DefaultValue("2") int requiredChecks,
+      @DefaultValue("10m") Duration partitionCooldown) {}
+}
@@ -19,6 +19,7 @@ import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberJoinOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberLeaveOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberRemoveOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionBootstrapOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionDisableExporterOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionForceReconfigureOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionJoinOperation;
@@ -184,6 +185,12 @@ final class ClusterApiUtils {
               .brokerId(Integer.parseInt(disableExporterOperation.memberId().id()))
               .partitionId(disableExporterOperation.partitionId())
               .exporterId(disableExporterOperation.exporterId());
+      case final PartitionBootstrapOperation bootstrap ->
+          new Operation()
+              .operation(OperationEnum.PARTITION_BOOTSTRAP)
+              .brokerId(Integer.parseInt(bootstrap.memberId().id()))
+              .partitionId(bootstrap.partitionId())
+              .priority(bootstrap.priority());
       default -> new Operation().operation(OperationEnum.UNKNOWN);
     };
   }
@@ -365,6 +372,12 @@ final class ClusterApiUtils {
                   .brokerId(Integer.parseInt(disableExporterOperation.memberId().id()))
                   .partitionId(disableExporterOperation.partitionId())
                   .exporterId(disableExporterOperation.exporterId());
+          case final PartitionBootstrapOperation bootstrap ->
+              new TopologyChangeCompletedInner()
+                  .operation(TopologyChangeCompletedInner.OperationEnum.PARTITION_BOOTSTRAP)
+                  .brokerId(Integer.parseInt(bootstrap.memberId().id()))
+                  .partitionId(bootstrap.partitionId())
+                  .priority(bootstrap.priority());
           default ->
               new TopologyChangeCompletedInner()
                   .operation(TopologyChangeCompletedInner.OperationEnum.UNKNOWN);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.shared.management;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddMembersRequest;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddPartitionsRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.CancelChangeRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.JoinPartitionRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.LeavePartitionRequest;
@@ -130,8 +131,7 @@ public class ClusterEndpoint {
       @RequestParam final Optional<Integer> replicationFactor) {
     return switch (resource) {
       case brokers -> scaleBrokers(ids, dryRun, force, replicationFactor);
-      case partitions ->
-          new ResponseEntity<>("Scaling partitions is not supported", HttpStatusCode.valueOf(501));
+      case partitions -> scalePartitions(ids, dryRun, force);
       case changes ->
           ResponseEntity.status(501)
               .body(
@@ -162,6 +162,37 @@ public class ClusterEndpoint {
     }
   }
 
+  /**
+   * Adds partitions to the cluster, so that it has exactly the given partitions. Partitions can
+   * only be added, so the ids must be the contiguous range starting at 1 and include all existing
+   * partitions.
+   */
+  private ResponseEntity<?> scalePartitions(
+      final List<Integer> ids, final boolean dryRun, final boolean force) {
+    if (force) {
+      return ResponseEntity.status(501).body("Force scaling partitions is not supported");
+    }
+
+    final var sortedIds = ids.stream().sorted().distinct().toList();
+    for (int i = 0; i < sortedIds.size(); i++) {
+      if (sortedIds.get(i) != i + 1) {
+        final var error = new Error();
+        error.setMessage(
+            "Expected partition ids to be a contiguous range starting at 1, but got %s"
+                .formatted(ids));
+        return ResponseEntity.status(400).body(error);
+      }
+    }
+
+    try {
+      final var response =
+          requestSender.addPartitions(new AddPartitionsRequest(sortedIds.size(), dryRun)).join();
+      return ClusterApiUtils.mapOperationResponse(response);
+    } catch (final Exception error) {
+      return ClusterApiUtils.mapError(error);
+    }
+  }
+
   @PostMapping(
       path = "/{resource}/{resourceId}/{subResource}/{subResourceId}",
       consumes = "application/json")
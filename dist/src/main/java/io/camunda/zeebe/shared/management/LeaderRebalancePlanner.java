@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.protocol.record.PartitionHealthStatus;
+import io.camunda.zeebe.shared.management.RebalancePlan.LeaderTransfer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Plans leadership transfers which even out the load of the leaders per broker.
+ *
+ * <p>Leadership can only be moved by asking a leader to step down, after which the priority
+ * election hands it to the replica with the highest priority, its primary. The planner therefore
+ * only moves leadership of partitions which are not led by their primary, and only if the primary
+ * is a healthy follower. Since the primaries are distributed evenly when partitions are assigned,
+ * this converges to a balanced cluster, and since the target is deterministic, multiple gateways
+ * planning concurrently agree on the same transfers.
+ *
+ * <p>Each leader weighs one plus the number of records written per second to its partition, as
+ * reported by the leader. A transfer is only planned if it reduces the imbalance, i.e. the target
+ * broker's load including the transferred leader stays below the source broker's current load.
+ * This avoids moving leadership around without benefit, or moving a busy partition from one
+ * overloaded broker to the next. Without any reported load, this means the source broker hosts at
+ * least two leaders more than the target broker.
+ */
+final class LeaderRebalancePlanner {
+
+  private LeaderRebalancePlanner() {}
+
+  /**
+   * @param topology the current topology as seen by the gateway, or null if it's not known yet
+   * @param configuration the current cluster configuration, which contains the priorities
+   * @param isExcluded partitions which must not be transferred, e.g. because they moved recently
+   * @return the plan, which is empty if the cluster is balanced or cannot be balanced further
+   */
+  static RebalancePlan plan(
+      final BrokerClusterState topology,
+      final ClusterConfiguration configuration,
+      final IntPredicate isExcluded) {
+    if (topology == null) {
+      return RebalancePlan.empty(Map.of());
+    }
+
+    final var leadersPerBroker = new TreeMap<Integer, Integer>();
+    final var loadPerBroker = new TreeMap<Integer, Long>();
+    topology
+        .getBrokers()
+        .forEach(
+            broker -> {
+              leadersPerBroker.put(broker, 0);
+              loadPerBroker.put(broker, 0L);
+            });
+    for (final int partitionId : topology.getPartitions()) {
+      final int leader = topology.getLeaderForPartition(partitionId);
+      if (leader >= 0) {
+        leadersPerBroker.merge(leader, 1, Integer::sum);
+        loadPerBroker.merge(leader, weight(topology, partitionId), Long::sum);
+      }
+    }
+
+    if (configuration == null || configuration.isUninitialized()) {
+      return RebalancePlan.empty(leadersPerBroker);
+    }
+
+    final List<LeaderTransfer> candidates = new ArrayList<>();
+    for (final int partitionId : topology.getPartitions()) {
+      final int leader = topology.getLeaderForPartition(partitionId);
+      if (leader < 0 || isExcluded.test(partitionId)) {
+        continue;
+      }
+
+      findPrimary(configuration, partitionId)
+          .filter(primary -> primary != leader)
+          .filter(primary -> isHealthyFollower(topology, partitionId, primary))
+          .ifPresent(primary -> candidates.add(new LeaderTransfer(partitionId, leader, primary)));
+    }
+
+    final var projectedLoad = new TreeMap<>(loadPerBroker);
+    final List<LeaderTransfer> transfers = new ArrayList<>();
+    boolean planned;
+    do {
+      planned = false;
+      for (final var iterator = candidates.iterator(); iterator.hasNext(); ) {
+        final var transfer = iterator.next();
+        final long weight = weight(topology, transfer.partitionId());
+        final long fromLoad = projectedLoad.getOrDefault(transfer.fromBrokerId(), 0L);
+        final long toLoad = projectedLoad.getOrDefault(transfer.toBrokerId(), 0L);
+        if (toLoad + weight < fromLoad) {
+          projectedLoad.put(transfer.fromBrokerId(), fromLoad - weight);
+          projectedLoad.put(transfer.toBrokerId(), toLoad + weight);
+          transfers.add(transfer);
+          iterator.remove();
+          planned = true;
+        }
+      }
+    } while (planned);
+
+    return new RebalancePlan(leadersPerBroker, transfers);
+  }
+
+  private static long weight(final BrokerClusterState topology, final int partitionId) {
+    return 1 + Math.max(0, topology.getPartitionLoad(partitionId));
+  }
+
+  private static Optional<Integer> findPrimary(
+      final ClusterConfiguration configuration, final int partitionId) {
+    Optional<Integer> primary = Optional.empty();
+    int highestPriority = Integer.MIN_VALUE;
+    for (final var member : configuration.members().entrySet()) {
+      final var partition = member.getValue().partitions().get(partitionId);
+      if (partition == null || partition.state() != PartitionState.State.ACTIVE) {
+        continue;
+      }
+
+      if (partition.priority() > highestPriority) {
+        highestPriority = partition.priority();
+        primary = Optional.of(Integer.parseInt(member.getKey().id()));
+      } else if (partition.priority() == highestPriority) {
+        // without a unique primary, the election may pick either replica
+        primary = Optional.empty();
+      }
+    }
+    return primary;
+  }
+
+  private static boolean isHealthyFollower(
+      final BrokerClusterState topology, final int partitionId, final int brokerId) {
+    final Set<Integer> followers = topology.getFollowersForPartition(partitionId);
+    return followers != null
+        && followers.contains(brokerId)
+        && topology.getPartitionHealth(brokerId, partitionId) == PartitionHealthStatus.HEALTHY;
+  }
+}
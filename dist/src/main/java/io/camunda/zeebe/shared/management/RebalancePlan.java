@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The leadership transfers which would even out the load of the leaders per broker.
+ *
+ * @param leadersPerBroker the current number of leaders hosted by each broker
+ * @param transfers the leadership transfers to apply
+ */
+public record RebalancePlan(
+    Map<Integer, Integer> leadersPerBroker, List<LeaderTransfer> transfers) {
+
+  public static RebalancePlan empty(final Map<Integer, Integer> leadersPerBroker) {
+    return new RebalancePlan(leadersPerBroker, List.of());
+  }
+
+  public boolean isBalanced() {
+    return transfers.isEmpty();
+  }
+
+  /**
+   * Moves the leadership of a partition from its current leader to its primary, the replica with
+   * the highest priority.
+   */
+  public record LeaderTransfer(int partitionId, int fromBrokerId, int toBrokerId) {}
+}
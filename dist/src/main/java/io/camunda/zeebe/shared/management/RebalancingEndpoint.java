@@ -10,6 +10,7 @@ package io.camunda.zeebe.shared.management;
 import io.camunda.zeebe.gateway.Loggers;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
 import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
@@ -27,6 +28,12 @@ public final class RebalancingEndpoint {
     this.service = service;
   }
 
+  /** Previews which partitions would change leaders to balance the number of leaders per broker. */
+  @ReadOperation
+  public WebEndpointResponse<RebalancePlan> preview() {
+    return new WebEndpointResponse<>(service.plan());
+  }
+
   @WriteOperation
   @SuppressWarnings("UnusedReturnValue")
   public WebEndpointResponse<Void> rebalance() {
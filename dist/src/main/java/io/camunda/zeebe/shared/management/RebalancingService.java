@@ -9,6 +9,7 @@ package io.camunda.zeebe.shared.management;
 
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.admin.BrokerAdminRequest;
+import java.util.function.IntPredicate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -35,4 +36,31 @@ public final class RebalancingService {
               client.sendRequest(request);
             });
   }
+
+  /** Returns the leadership transfers which would balance the leaders without applying them. */
+  public RebalancePlan plan() {
+    return plan(partition -> false);
+  }
+
+  RebalancePlan plan(final IntPredicate isExcluded) {
+    final var topologyManager = client.getTopologyManager();
+    return LeaderRebalancePlanner.plan(
+        topologyManager.getTopology(), topologyManager.getClusterConfiguration(), isExcluded);
+  }
+
+  /**
+   * Applies the given plan by asking the current leader of each partition to step down, so that
+   * its primary takes over. Unlike {@link #rebalanceCluster()}, only the planned partitions are
+   * affected.
+   */
+  void apply(final RebalancePlan plan) {
+    plan.transfers()
+        .forEach(
+            transfer -> {
+              final var request = new BrokerAdminRequest();
+              request.setPartitionId(transfer.partitionId());
+              request.stepDownIfNotPrimary();
+              client.sendRequest(request);
+            });
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.shared.management.AutoRebalancer.AutoRebalancingProperties;
+import io.camunda.zeebe.shared.management.RebalancePlan.LeaderTransfer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.Test;
+
+final class AutoRebalancerTest {
+  private static final Duration COOLDOWN = Duration.ofMinutes(10);
+
+  private final RebalancingService service = mock(RebalancingService.class);
+  private final AtomicLong clock = new AtomicLong();
+  private final AutoRebalancer rebalancer =
+      new AutoRebalancer(
+          service,
+          new AutoRebalancingProperties(false, Duration.ofMinutes(1), 2, COOLDOWN),
+          clock::get);
+
+  private final RebalancePlan imbalancedPlan =
+      new RebalancePlan(Map.of(0, 2, 1, 0), List.of(new LeaderTransfer(2, 0, 1)));
+
+  @Test
+  void shouldNotRebalanceOnFirstImbalancedCheck() {
+    // given
+    when(service.plan(any())).thenReturn(imbalancedPlan);
+
+    // when
+    final var applied = rebalancer.check();
+
+    // then
+    assertThat(applied.isBalanced()).isTrue();
+    verify(service, never()).apply(any());
+  }
+
+  @Test
+  void shouldRebalanceIfImbalancePersists() {
+    // given
+    when(service.plan(any())).thenReturn(imbalancedPlan);
+
+    // when
+    rebalancer.check();
+    final var applied = rebalancer.check();
+
+    // then
+    assertThat(applied).isEqualTo(imbalancedPlan);
+    verify(service, times(1)).apply(imbalancedPlan);
+  }
+
+  @Test
+  void shouldResetWhenBalanced() {
+    // given
+    when(service.plan(any()))
+        .thenReturn(imbalancedPlan, RebalancePlan.empty(Map.of()), imbalancedPlan);
+
+    // when
+    rebalancer.check();
+    rebalancer.check();
+    rebalancer.check();
+
+    // then
+    verify(service, never()).apply(any());
+  }
+
+  @Test
+  void shouldExcludeRecentlyMovedPartitions() {
+    // given
+    final List<Boolean> excluded = new ArrayList<>();
+    when(service.plan(any()))
+        .thenAnswer(
+            invocation -> {
+              final IntPredicate isExcluded = invocation.getArgument(0);
+              excluded.add(isExcluded.test(2));
+              return imbalancedPlan;
+            });
+    rebalancer.check();
+    rebalancer.check();
+
+    // when
+    rebalancer.check();
+    clock.addAndGet(COOLDOWN.toMillis());
+    rebalancer.check();
+
+    // then
+    assertThat(excluded).containsExactly(false, false, true, false);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.protocol.record.PartitionHealthStatus;
+import io.camunda.zeebe.shared.management.RebalancePlan.LeaderTransfer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+final class LeaderRebalancePlannerTest {
+  private static final DynamicPartitionConfig CONFIG = DynamicPartitionConfig.init();
+
+  // three brokers replicating three partitions; broker N is the primary of partition N + 1
+  private final ClusterConfiguration configuration =
+      ClusterConfiguration.init()
+          .addMember(MemberId.from("0"), member(Map.of(1, 3, 2, 1, 3, 2)))
+          .addMember(MemberId.from("1"), member(Map.of(1, 2, 2, 3, 3, 1)))
+          .addMember(MemberId.from("2"), member(Map.of(1, 1, 2, 2, 3, 3)));
+
+  private final BrokerClusterState topology = mock(BrokerClusterState.class);
+
+  @Test
+  void shouldMoveLeadersToPrimaries() {
+    // given
+    givenLeaders(Map.of(1, 0, 2, 0, 3, 0));
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> false);
+
+    // then
+    assertThat(plan.leadersPerBroker())
+        .containsExactlyInAnyOrderEntriesOf(Map.of(0, 3, 1, 0, 2, 0));
+    assertThat(plan.transfers())
+        .containsExactly(new LeaderTransfer(2, 0, 1), new LeaderTransfer(3, 0, 2));
+  }
+
+  @Test
+  void shouldNotMoveLeaderIfBalanceDoesNotImprove() {
+    // given - the leaders of partition 1 and 2 are swapped, but each broker hosts one leader
+    givenLeaders(Map.of(1, 1, 2, 0, 3, 2));
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> false);
+
+    // then
+    assertThat(plan.isBalanced()).isTrue();
+  }
+
+  @Test
+  void shouldNotMoveLeaderIfPrimaryIsUnhealthy() {
+    // given
+    givenLeaders(Map.of(1, 0, 2, 0, 3, 0));
+    when(topology.getPartitionHealth(1, 2)).thenReturn(PartitionHealthStatus.UNHEALTHY);
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> false);
+
+    // then
+    assertThat(plan.transfers()).containsExactly(new LeaderTransfer(3, 0, 2));
+  }
+
+  @Test
+  void shouldNotMoveExcludedPartitions() {
+    // given
+    givenLeaders(Map.of(1, 0, 2, 0, 3, 0));
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> true);
+
+    // then
+    assertThat(plan.isBalanced()).isTrue();
+  }
+
+  @Test
+  void shouldNotPlanWithoutClusterConfiguration() {
+    // given
+    givenLeaders(Map.of(1, 0, 2, 0, 3, 0));
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, null, partition -> false);
+
+    // then
+    assertThat(plan.isBalanced()).isTrue();
+    assertThat(plan.leadersPerBroker()).containsEntry(0, 3);
+  }
+
+  @Test
+  void shouldNotPlanWithoutTopology() {
+    // when
+    final var plan = LeaderRebalancePlanner.plan(null, configuration, partition -> false);
+
+    // then
+    assertThat(plan.isBalanced()).isTrue();
+    assertThat(plan.leadersPerBroker()).isEmpty();
+  }
+
+  @Test
+  void shouldMoveLeadersOffBrokerWithHighestLoad() {
+    // given - no broker hosts two leaders more than another, but broker 0 leads both busy ones
+    givenLeaders(Map.of(1, 0, 2, 0, 3, 1));
+    when(topology.getPartitionLoad(1)).thenReturn(50L);
+    when(topology.getPartitionLoad(2)).thenReturn(50L);
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> false);
+
+    // then
+    assertThat(plan.transfers())
+        .containsExactly(new LeaderTransfer(2, 0, 1), new LeaderTransfer(3, 1, 2));
+  }
+
+  @Test
+  void shouldNotMoveBusyLeaderIfLoadDoesNotImprove() {
+    // given - the leaders of partition 1 and 2 are swapped, and partition 2 is the only busy one
+    givenLeaders(Map.of(1, 1, 2, 0, 3, 2));
+    when(topology.getPartitionLoad(2)).thenReturn(100L);
+
+    // when
+    final var plan = LeaderRebalancePlanner.plan(topology, configuration, partition -> false);
+
+    // then
+    assertThat(plan.isBalanced()).isTrue();
+  }
+
+  private void givenLeaders(final Map<Integer, Integer> leaders) {
+    final var brokers = Set.of(0, 1, 2);
+    when(topology.getBrokers()).thenReturn(List.of(0, 1, 2));
+    when(topology.getPartitions()).thenReturn(List.of(1, 2, 3));
+    when(topology.getPartitionHealth(anyInt(), anyInt())).thenReturn(PartitionHealthStatus.HEALTHY);
+    leaders.forEach(
+        (partition, leader) -> {
+          when(topology.getLeaderForPartition(partition)).thenReturn(leader);
+          when(topology.getFollowersForPartition(partition))
+              .thenReturn(
+                  Set.copyOf(brokers.stream().filter(broker -> !broker.equals(leader)).toList()));
+        });
+  }
+
+  private static MemberState member(final Map<Integer, Integer> priorities) {
+    var member = MemberState.initializeAsActive(Map.of());
+    for (final var partition : priorities.entrySet()) {
+      member =
+          member.addPartition(
+              partition.getKey(), PartitionState.active(partition.getValue(), CONFIG));
+    }
+    return member;
+  }
+}
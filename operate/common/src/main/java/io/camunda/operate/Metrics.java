@@ -37,6 +37,8 @@ public class Metrics {
       OPERATE_NAMESPACE + "import.processing.duration";
   public static final String TIMER_NAME_IMPORT_POSITION_UPDATE =
       OPERATE_NAMESPACE + "import.position.update";
+  public static final String TIMER_NAME_POST_IMPORT_INCIDENTS =
+      OPERATE_NAMESPACE + "import.post.incidents";
   public static final String TIMER_NAME_ARCHIVER_QUERY = OPERATE_NAMESPACE + "archiver.query";
   public static final String TIMER_NAME_ARCHIVER_REINDEX_QUERY =
       OPERATE_NAMESPACE + "archiver.reindex.query";
@@ -48,8 +50,15 @@ public class Metrics {
       "events.processed.finished.process.instances";
   public static final String COUNTER_NAME_COMMANDS = "commands";
   public static final String COUNTER_NAME_ARCHIVED = "archived.process.instances";
+  public static final String COUNTER_NAME_QUERY_CACHE = "query.cache";
   // Gauges:
   public static final String GAUGE_IMPORT_QUEUE_SIZE = "import.queue.size";
+  public static final String GAUGE_IMPORT_READER_POSITIONS_BEHIND =
+      "import.reader.positions.behind";
+  public static final String GAUGE_POST_IMPORT_PENDING_INCIDENTS =
+      "import.post.incidents.pending";
+  public static final String GAUGE_OPERATIONS_CONCURRENCY_LIMIT = "operations.concurrency.limit";
+  public static final String GAUGE_OPERATIONS_IN_FLIGHT = "operations.in.flight";
   public static final String GAUGE_BPMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.bpmn.count";
   public static final String GAUGE_DMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.dmn.count";
   // Tags
@@ -63,8 +72,13 @@ public class Metrics {
   //  Values:
   public static final String TAG_VALUE_PROCESSINSTANCES = "processInstances",
       TAG_VALUE_CORESTATISTICS = "corestatistics",
+      TAG_VALUE_FLOWNODESTATISTICS = "flownodestatistics",
+      TAG_VALUE_INCIDENTSBYPROCESS = "incidentsbyprocess",
+      TAG_VALUE_INCIDENTSBYERROR = "incidentsbyerror",
       TAG_VALUE_SUCCEEDED = "succeeded",
-      TAG_VALUE_FAILED = "failed";
+      TAG_VALUE_FAILED = "failed",
+      TAG_VALUE_HIT = "hit",
+      TAG_VALUE_MISS = "miss";
   private static final Logger LOGGER = LoggerFactory.getLogger(Metrics.class);
   private Timer importBatchTimer;
   @Autowired private MeterRegistry registry;
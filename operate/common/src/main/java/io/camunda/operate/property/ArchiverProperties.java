@@ -49,6 +49,15 @@ public class ArchiverProperties {
    */
   private int delayBetweenRuns = 2000;
 
+  /**
+   * When enabled, the importer writes flow node instances and sequence flows directly into the
+   * dated archive indices, if their process instance finishes within the same import batch, so
+   * that the archiver doesn't have to reindex and delete them later. The dated index
+   * is derived from {@link #rolloverDateFormat}, which must therefore correspond to {@link
+   * #rolloverInterval}.
+   */
+  private boolean archiveOnImport = false;
+
   public String getIlmMinAgeForDeleteArchivedIndices() {
     return ilmMinAgeForDeleteArchivedIndices;
   }
@@ -132,4 +141,12 @@ public class ArchiverProperties {
   public void setDelayBetweenRuns(int delayBetweenRuns) {
     this.delayBetweenRuns = delayBetweenRuns;
   }
+
+  public boolean isArchiveOnImport() {
+    return archiveOnImport;
+  }
+
+  public void setArchiveOnImport(boolean archiveOnImport) {
+    this.archiveOnImport = archiveOnImport;
+  }
 }
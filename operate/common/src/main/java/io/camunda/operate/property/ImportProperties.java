@@ -13,6 +13,7 @@ public class ImportProperties {
   public static final int DEFAULT_IMPORT_POSITION_UPDATE_INTERVAL = 10000;
   private static final int DEFAULT_IMPORT_THREADS_COUNT = 3;
   private static final int DEFAULT_POST_IMPORT_THREADS_COUNT = 1;
+  private static final int DEFAULT_POST_IMPORT_BATCH_SIZE = 1000;
   private static final int DEFAULT_READER_THREADS_COUNT = 3;
   private static final int DEFAULT_IMPORT_QUEUE_SIZE = 3;
   private static final int DEFAULT_READER_BACKOFF = 5000;
@@ -24,6 +25,13 @@ public class ImportProperties {
 
   private int postImportThreadsCount = DEFAULT_POST_IMPORT_THREADS_COUNT;
 
+  /**
+   * Maximum number of pending incidents the post importer processes per partition in one round.
+   * The related process instances and flow node instances are looked up once per round, so larger
+   * batches need fewer requests while many incidents are created at once.
+   */
+  private int postImportBatchSize = DEFAULT_POST_IMPORT_BATCH_SIZE;
+
   // is here for testing purposes
   private boolean postImportEnabled = true;
 
@@ -67,6 +75,16 @@ public class ImportProperties {
 
   private int maxEmptyRuns = DEFAULT_MAX_EMPTY_RUNS;
 
+  /**
+   * When enabled, the importer maintains the number of active, incident, canceled and completed
+   * flow node instances per process definition in a dedicated index, and the diagram statistics
+   * are served from it instead of being aggregated over all process instances. The counts only
+   * cover data imported while this is enabled, so the statistics of a process definition are only
+   * served from the index if none of its process instances started before this was enabled.
+   * Otherwise, and after importing any data with this disabled, they are aggregated as before.
+   */
+  private boolean flowNodeStatisticsEnabled = false;
+
   public boolean isStartLoadingDataOnStartup() {
     return startLoadingDataOnStartup;
   }
@@ -92,6 +110,15 @@ public class ImportProperties {
     return this;
   }
 
+  public int getPostImportBatchSize() {
+    return postImportBatchSize;
+  }
+
+  public ImportProperties setPostImportBatchSize(final int postImportBatchSize) {
+    this.postImportBatchSize = postImportBatchSize;
+    return this;
+  }
+
   public boolean isPostImportEnabled() {
     return postImportEnabled;
   }
@@ -194,4 +221,13 @@ public class ImportProperties {
     this.maxEmptyRuns = maxEmptyRuns;
     return this;
   }
+
+  public boolean isFlowNodeStatisticsEnabled() {
+    return flowNodeStatisticsEnabled;
+  }
+
+  public ImportProperties setFlowNodeStatisticsEnabled(final boolean flowNodeStatisticsEnabled) {
+    this.flowNodeStatisticsEnabled = flowNodeStatisticsEnabled;
+    return this;
+  }
 }
@@ -103,6 +103,8 @@ public class OperateProperties {
   @NestedConfigurationProperty
   private MultiTenancyProperties multiTenancy = new MultiTenancyProperties();
 
+  @NestedConfigurationProperty private QueryCacheProperties queryCache = new QueryCacheProperties();
+
   public boolean isImporterEnabled() {
     return importerEnabled;
   }
@@ -357,6 +359,14 @@ public class OperateProperties {
     return this;
   }
 
+  public QueryCacheProperties getQueryCache() {
+    return queryCache;
+  }
+
+  public void setQueryCache(final QueryCacheProperties queryCache) {
+    this.queryCache = queryCache;
+  }
+
   public boolean isRfc3339ApiDateFormat() {
     return rfc3339ApiDateFormat;
   }
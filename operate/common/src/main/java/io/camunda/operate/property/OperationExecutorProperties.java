@@ -22,6 +22,12 @@ public class OperationExecutorProperties {
 
   private static final int DEFAULT_IMPORT_QUEUE_SIZE = 10;
 
+  private static final int DEFAULT_MIN_CONCURRENT_OPERATIONS = 1;
+
+  private static final int DEFAULT_INITIAL_CONCURRENT_OPERATIONS = 10;
+
+  private static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 100;
+
   /**
    * Amount of process instances, that will be processed by one run of operation executor. This
    * counts process instances, but can end up in more operations, as one process instance can have
@@ -42,6 +48,18 @@ public class OperationExecutorProperties {
 
   private int queueSize = DEFAULT_IMPORT_QUEUE_SIZE;
 
+  /**
+   * Bounds of the number of operations that are executed concurrently. Commands are sent to Zeebe
+   * asynchronously, so this can be larger than the threads count. The limit starts at the initial
+   * value, grows while Zeebe accepts the commands and is halved when Zeebe rejects them with
+   * RESOURCE_EXHAUSTED.
+   */
+  private int minConcurrentOperations = DEFAULT_MIN_CONCURRENT_OPERATIONS;
+
+  private int initialConcurrentOperations = DEFAULT_INITIAL_CONCURRENT_OPERATIONS;
+
+  private int maxConcurrentOperations = DEFAULT_MAX_CONCURRENT_OPERATIONS;
+
   public int getBatchSize() {
     return batchSize;
   }
@@ -97,4 +115,28 @@ public class OperationExecutorProperties {
   public void setQueueSize(int queueSize) {
     this.queueSize = queueSize;
   }
+
+  public int getMinConcurrentOperations() {
+    return minConcurrentOperations;
+  }
+
+  public void setMinConcurrentOperations(int minConcurrentOperations) {
+    this.minConcurrentOperations = minConcurrentOperations;
+  }
+
+  public int getInitialConcurrentOperations() {
+    return initialConcurrentOperations;
+  }
+
+  public void setInitialConcurrentOperations(int initialConcurrentOperations) {
+    this.initialConcurrentOperations = initialConcurrentOperations;
+  }
+
+  public int getMaxConcurrentOperations() {
+    return maxConcurrentOperations;
+  }
+
+  public void setMaxConcurrentOperations(int maxConcurrentOperations) {
+    this.maxConcurrentOperations = maxConcurrentOperations;
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.property;
+
+public class QueryCacheProperties {
+
+  private static final long DEFAULT_IMPORT_PROGRESS_CHECK_INTERVAL = 1000L;
+
+  private static final long DEFAULT_REFRESH_INTERVAL = 5000L;
+
+  private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  /**
+   * Cache the results of the list view and statistics queries, until the import positions move on
+   * or operations are scheduled or finished.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Milliseconds between two reads of the import positions and the operations progress, which
+   * happen in the background. Changes made through other webapp nodes are seen after this interval
+   * at the latest.
+   */
+  private long importProgressCheckInterval = DEFAULT_IMPORT_PROGRESS_CHECK_INTERVAL;
+
+  /**
+   * Minimum milliseconds for which cached results are kept while the import progresses. Imported
+   * data shows up after this interval plus the import progress check interval at the latest.
+   */
+  private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+  /** Maximum number of cached query results, the least recently used ones are evicted. */
+  private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getImportProgressCheckInterval() {
+    return importProgressCheckInterval;
+  }
+
+  public void setImportProgressCheckInterval(long importProgressCheckInterval) {
+    this.importProgressCheckInterval = importProgressCheckInterval;
+  }
+
+  public long getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public void setRefreshInterval(long refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+}
@@ -115,6 +115,25 @@ public class TreePath {
     return flowNodeInstanceIds;
   }
 
+  /**
+   * Returns all prefixes of the tree path, from the root process instance to the full path. These
+   * are the terms the path_hierarchy tokenizer indexes for the tree path field.
+   */
+  public List<String> extractPrefixes() {
+    final List<String> prefixes = new ArrayList<>();
+    final String path = treePath.toString();
+    if (path.isEmpty()) {
+      return prefixes;
+    }
+    int separator = path.indexOf('/');
+    while (separator > -1) {
+      prefixes.add(path.substring(0, separator));
+      separator = path.indexOf('/', separator + 1);
+    }
+    prefixes.add(path);
+    return prefixes;
+  }
+
   @Override
   public String toString() {
     return treePath.toString();
@@ -9,23 +9,27 @@ package io.camunda.operate.zeebeimport.v8_5.processors;
 
 import static io.camunda.operate.util.CollectionUtil.map;
 
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.SimpleType;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.HitEntity;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.store.BatchRequest;
 import io.camunda.operate.util.CollectionUtil;
+import io.camunda.operate.util.DateUtil;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.AbstractImportBatchProcessor;
+import io.camunda.operate.zeebeimport.FinishedInstanceIndexResolver;
 import io.camunda.operate.zeebeimport.ImportBatch;
 import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.*;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,26 +71,30 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
 
   @Autowired private UserTaskZeebeRecordProcessor userTaskZeebeRecordProcessor;
 
+  @Autowired private FinishedInstanceIndexResolver finishedInstanceIndexResolver;
+
   @Autowired private Metrics metrics;
 
   @Autowired
   @Qualifier("operateObjectMapper")
   private ObjectMapper objectMapper;
 
-  private ObjectMapper localObjectMapper;
+  // reader bound to the record type, so that the deserializer is looked up once and not per hit
+  private ObjectReader recordReader;
 
-  private static <T> T fromSearchHit(
-      final String searchHitString, final ObjectMapper objectMapper, final JavaType valueType) {
+  private static <T> T fromSearchHit(final String searchHitString, final ObjectReader reader) {
     final T entity;
     try {
-      entity = objectMapper.readValue(searchHitString, valueType);
+      entity = reader.readValue(searchHitString);
     } catch (final IOException e) {
       LOGGER.error(
           String.format(
-              "Error while reading entity of type %s from indices!", valueType.toString()),
+              "Error while reading entity of type %s from indices!", reader.getValueType()),
           e);
       throw new OperateRuntimeException(
-          String.format("Error while reading entity of type %s from indices!", valueType), e);
+          String.format(
+              "Error while reading entity of type %s from indices!", reader.getValueType()),
+          e);
     }
     return entity;
   }
@@ -96,13 +104,7 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
       throws PersistenceException {
     final List<HitEntity> hits = importBatch.getHits();
     final List<Record> zeebeRecords =
-        map(
-            hits,
-            hit ->
-                fromSearchHit(
-                    hit.getSourceAsString(),
-                    getLocalObjectMapper(),
-                    SimpleType.constructUnsafe(Record.class)));
+        map(hits, hit -> fromSearchHit(hit.getSourceAsString(), getRecordReader()));
 
     LOGGER.debug(
         "Writing {} Zeebe records to indices, version={}, importValueType={}, partition={}",
@@ -181,11 +183,12 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
         groupedRecordsPerFlowNodeInst, batchRequest);
   }
 
-  private ObjectMapper getLocalObjectMapper() {
-    if (localObjectMapper == null) {
-      localObjectMapper = objectMapper.copy().registerModule(new ZeebeProtocolModule());
+  private ObjectReader getRecordReader() {
+    if (recordReader == null) {
+      recordReader =
+          objectMapper.copy().registerModule(new ZeebeProtocolModule()).readerFor(Record.class);
     }
-    return localObjectMapper;
+    return recordReader;
   }
 
   private void processDecisionRecords(
@@ -263,8 +266,8 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
     incidentZeebeRecordProcessor.processIncidentRecord(zeebeRecords, batchRequest);
     for (final Record record : zeebeRecords) {
       listViewZeebeRecordProcessor.processIncidentRecord(record, batchRequest);
-      flowNodeInstanceZeebeRecordProcessor.processIncidentRecord(record, batchRequest);
     }
+    flowNodeInstanceZeebeRecordProcessor.processIncidentRecords(zeebeRecords, batchRequest);
     final Map<Long, List<Record<IncidentRecordValue>>> groupedIncidentRecordsPerActivityInst =
         zeebeRecords.stream()
             .map(obj -> (Record<IncidentRecordValue>) obj)
@@ -294,13 +297,39 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
             .collect(Collectors.groupingBy(obj -> obj.getKey()));
     final List<Long> flowNodeInstanceKeysOrdered =
         zeebeRecords.stream().map(Record::getKey).distinct().collect(Collectors.toList());
+    final Map<Long, OffsetDateTime> finishedProcessInstances =
+        getFinishedProcessInstances(zeebeRecords);
     flowNodeInstanceZeebeRecordProcessor.processProcessInstanceRecord(
-        groupedWIRecordsPerActivityInst, flowNodeInstanceKeysOrdered, batchRequest);
+        groupedWIRecordsPerActivityInst,
+        flowNodeInstanceKeysOrdered,
+        finishedProcessInstances,
+        batchRequest);
     eventZeebeRecordProcessor.processProcessInstanceRecords(
         groupedWIRecordsPerActivityInst, batchRequest);
     for (final Record record : zeebeRecords) {
-      sequenceFlowZeebeRecordProcessor.processSequenceFlowRecord(record, batchRequest);
+      sequenceFlowZeebeRecordProcessor.processSequenceFlowRecord(
+          record, finishedProcessInstances, batchRequest);
+    }
+  }
+
+  /** Returns the end dates of the process instances which finished within this batch. */
+  private Map<Long, OffsetDateTime> getFinishedProcessInstances(final List<Record> zeebeRecords) {
+    if (!finishedInstanceIndexResolver.isEnabled()) {
+      return Map.of();
+    }
+    final Map<Long, OffsetDateTime> finishedProcessInstances = new HashMap<>();
+    for (final Record record : zeebeRecords) {
+      final var recordValue = (ProcessInstanceRecordValue) record.getValue();
+      final String intentStr = record.getIntent().name();
+      if (recordValue.getBpmnElementType() == BpmnElementType.PROCESS
+          && (intentStr.equals(ProcessInstanceIntent.ELEMENT_COMPLETED.name())
+              || intentStr.equals(ProcessInstanceIntent.ELEMENT_TERMINATED.name()))) {
+        finishedProcessInstances.put(
+            record.getKey(),
+            DateUtil.toOffsetDateTime(Instant.ofEpochMilli(record.getTimestamp())));
+      }
     }
+    return finishedProcessInstances;
   }
 
   private void processUserTask(final BatchRequest batchRequest, final List<Record> zeebeRecords)
@@ -25,6 +25,8 @@ import io.camunda.operate.store.ImportStore;
 import io.camunda.operate.util.ConversionUtils;
 import io.camunda.operate.util.DateUtil;
 import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsWriter;
 import io.camunda.operate.zeebeimport.IncidentNotifier;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
@@ -46,6 +48,7 @@ import org.springframework.util.StringUtils;
 public class IncidentZeebeRecordProcessor {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IncidentZeebeRecordProcessor.class);
+  private static final String STATISTICS_IMPORT_SOURCE = "incident";
 
   @Autowired private OperateProperties operateProperties;
 
@@ -59,6 +62,8 @@ public class IncidentZeebeRecordProcessor {
 
   @Autowired private IncidentNotifier incidentNotifier;
 
+  @Autowired private FlowNodeStatisticsWriter flowNodeStatisticsWriter;
+
   public void processIncidentRecord(final List<Record> records, final BatchRequest batchRequest)
       throws PersistenceException {
     final List<IncidentEntity> newIncidents = new ArrayList<>();
@@ -68,6 +73,46 @@ public class IncidentZeebeRecordProcessor {
     if (operateProperties.getAlert().getWebhook() != null) {
       incidentNotifier.notifyOnIncidents(newIncidents);
     }
+    if (flowNodeStatisticsWriter.isEnabled()) {
+      persistFlowNodeStatistics(records, batchRequest);
+    } else {
+      flowNodeStatisticsWriter.markDisabled(batchRequest);
+    }
+  }
+
+  private void persistFlowNodeStatistics(
+      final List<Record> records, final BatchRequest batchRequest) throws PersistenceException {
+    final FlowNodeStatisticsChanges changes =
+        new FlowNodeStatisticsChanges(STATISTICS_IMPORT_SOURCE);
+    for (final Record record : records) {
+      final IncidentRecordValue recordValue = (IncidentRecordValue) record.getValue();
+      // incidents of the process instance itself are not shown on any flow node
+      if (recordValue.getElementInstanceKey() == recordValue.getProcessInstanceKey()) {
+        continue;
+      }
+      final String intentStr = record.getIntent().name();
+      final String tenantId = tenantOrDefault(recordValue.getTenantId());
+      if (intentStr.equals(IncidentIntent.CREATED.name())) {
+        changes.onIncidentCreated(
+            record.getPartitionId(),
+            record.getPosition(),
+            recordValue.getProcessDefinitionKey(),
+            recordValue.getBpmnProcessId(),
+            recordValue.getElementId(),
+            tenantId);
+      } else if (intentStr.equals(IncidentIntent.RESOLVED.name())) {
+        changes.onIncidentResolved(
+            record.getPartitionId(),
+            record.getPosition(),
+            recordValue.getProcessDefinitionKey(),
+            recordValue.getBpmnProcessId(),
+            recordValue.getElementId(),
+            tenantId);
+      }
+    }
+    if (!changes.isEmpty()) {
+      flowNodeStatisticsWriter.write(changes, batchRequest);
+    }
   }
 
   public void processIncidentRecord(
@@ -13,9 +13,12 @@ import io.camunda.operate.entities.SequenceFlowEntity;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.schema.templates.SequenceFlowTemplate;
 import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.zeebeimport.FinishedInstanceIndexResolver;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import java.time.OffsetDateTime;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,18 +33,28 @@ public class SequenceFlowZeebeRecordProcessor {
 
   @Autowired private SequenceFlowTemplate sequenceFlowTemplate;
 
-  public void processSequenceFlowRecord(final Record record, final BatchRequest batchRequest)
+  @Autowired private FinishedInstanceIndexResolver finishedInstanceIndexResolver;
+
+  public void processSequenceFlowRecord(
+      final Record record,
+      final Map<Long, OffsetDateTime> finishedProcessInstances,
+      final BatchRequest batchRequest)
       throws PersistenceException {
     final String intentStr = record.getIntent().name();
     if (intentStr.equals(ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN.name())) {
       final ProcessInstanceRecordValue recordValue = (ProcessInstanceRecordValue) record.getValue();
-      persistSequenceFlow(record, recordValue, batchRequest);
+      persistSequenceFlow(
+          record,
+          recordValue,
+          finishedProcessInstances.get(recordValue.getProcessInstanceKey()),
+          batchRequest);
     }
   }
 
   private void persistSequenceFlow(
       final Record record,
       final ProcessInstanceRecordValue recordValue,
+      final OffsetDateTime processInstanceEndDate,
       final BatchRequest batchRequest)
       throws PersistenceException {
     final SequenceFlowEntity entity =
@@ -56,6 +69,11 @@ public class SequenceFlowZeebeRecordProcessor {
             .setTenantId(tenantOrDefault(recordValue.getTenantId()));
 
     LOGGER.debug("Index sequence flow: id {}", entity.getId());
-    batchRequest.add(sequenceFlowTemplate.getFullQualifiedName(), entity);
+    // a sequence flow taken again has the same id and content, so it doesn't matter if the
+    // archiver later moves an earlier copy from the runtime index over this one
+    batchRequest.add(
+        finishedInstanceIndexResolver.resolveIndexName(
+            sequenceFlowTemplate, processInstanceEndDate),
+        entity);
   }
 }
@@ -21,6 +21,9 @@ import io.camunda.operate.store.FlowNodeStore;
 import io.camunda.operate.util.ConversionUtils;
 import io.camunda.operate.util.DateUtil;
 import io.camunda.operate.util.SoftHashMap;
+import io.camunda.operate.zeebeimport.FinishedInstanceIndexResolver;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsWriter;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
@@ -29,10 +32,12 @@ import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,9 +52,12 @@ public class FlowNodeInstanceZeebeRecordProcessor {
   private static final Set<String> AI_FINISH_STATES =
       Set.of(ELEMENT_COMPLETED.name(), ELEMENT_TERMINATED.name());
   private static final Set<String> AI_START_STATES = Set.of(ELEMENT_ACTIVATING.name());
+  private static final String STATISTICS_IMPORT_SOURCE = "processInstance";
   @Autowired protected FlowNodeStore flowNodeStore;
   @Autowired private FlowNodeInstanceTemplate flowNodeInstanceTemplate;
   @Autowired private OperateProperties operateProperties;
+  @Autowired private FlowNodeStatisticsWriter flowNodeStatisticsWriter;
+  @Autowired private FinishedInstanceIndexResolver finishedInstanceIndexResolver;
 
   // treePath by flowNodeInstanceKey cache
   private Map<String, String> treePathCache;
@@ -59,7 +67,37 @@ public class FlowNodeInstanceZeebeRecordProcessor {
     treePathCache = new SoftHashMap<>(operateProperties.getImporter().getFlowNodeTreeCacheSize());
   }
 
-  public void processIncidentRecord(final Record record, final BatchRequest batchRequest)
+  /**
+   * Updates the incident of the flow node instances. If flow node instances may be written to the
+   * dated indices right away, the flow node instance of an incident may already be there, so the
+   * update goes to the index which holds the flow node instance, not to create a partial copy of
+   * it in the runtime index.
+   */
+  public void processIncidentRecords(final List<Record> records, final BatchRequest batchRequest)
+      throws PersistenceException {
+    final Map<String, String> flowNodeInstanceIndices;
+    if (finishedInstanceIndexResolver.isEnabled()) {
+      final Set<String> flowNodeInstanceIds =
+          records.stream()
+              .map(
+                  record ->
+                      ConversionUtils.toStringOrNull(
+                          ((IncidentRecordValue) record.getValue()).getElementInstanceKey()))
+              .collect(Collectors.toSet());
+      flowNodeInstanceIndices = flowNodeStore.getIndicesForFlowNodeInstances(flowNodeInstanceIds);
+    } else {
+      flowNodeInstanceIndices = Map.of();
+    }
+
+    for (final Record record : records) {
+      processIncidentRecord(record, flowNodeInstanceIndices, batchRequest);
+    }
+  }
+
+  private void processIncidentRecord(
+      final Record record,
+      final Map<String, String> flowNodeInstanceIndices,
+      final BatchRequest batchRequest)
       throws PersistenceException {
     final String intentStr = record.getIntent().name();
     final IncidentRecordValue recordValue = (IncidentRecordValue) record.getValue();
@@ -84,16 +122,22 @@ public class FlowNodeInstanceZeebeRecordProcessor {
     LOGGER.debug("Flow node instance: id {}", entity.getId());
     final Map<String, Object> updateFields = new HashMap<>();
     updateFields.put(FlowNodeInstanceTemplate.INCIDENT_KEY, entity.getIncidentKey());
-    batchRequest.upsert(
-        flowNodeInstanceTemplate.getFullQualifiedName(), entity.getId(), entity, updateFields);
+    final String indexName =
+        flowNodeInstanceIndices.getOrDefault(
+            entity.getId(), flowNodeInstanceTemplate.getFullQualifiedName());
+    batchRequest.upsert(indexName, entity.getId(), entity, updateFields);
   }
 
   public void processProcessInstanceRecord(
       final Map<Long, List<Record<ProcessInstanceRecordValue>>> records,
       final List<Long> flowNodeInstanceKeysOrdered,
+      final Map<Long, OffsetDateTime> finishedProcessInstances,
       final BatchRequest batchRequest)
       throws PersistenceException {
 
+    final boolean collectStatistics = flowNodeStatisticsWriter.isEnabled();
+    final FlowNodeStatisticsChanges statisticsChanges =
+        new FlowNodeStatisticsChanges(STATISTICS_IMPORT_SOURCE);
     for (final Long key : flowNodeInstanceKeysOrdered) {
       final List<Record<ProcessInstanceRecordValue>> wiRecords = records.get(key);
       FlowNodeInstanceEntity fniEntity = null;
@@ -101,12 +145,21 @@ public class FlowNodeInstanceZeebeRecordProcessor {
 
         if (shouldProcessProcessInstanceRecord(record)) {
           fniEntity = updateFlowNodeInstance(record, fniEntity);
+          if (collectStatistics) {
+            collectStatisticsChange(record, statisticsChanges);
+          }
         }
       }
       if (fniEntity != null) {
         LOGGER.debug("Flow node instance: id {}", fniEntity.getId());
         if (canOptimizeFlowNodeInstanceIndexing(fniEntity)) {
-          batchRequest.add(flowNodeInstanceTemplate.getFullQualifiedName(), fniEntity);
+          // the flow node instance is complete, so it can go to the dated index of its process
+          // instance right away, if that finished as well
+          final String indexName =
+              finishedInstanceIndexResolver.resolveIndexName(
+                  flowNodeInstanceTemplate,
+                  finishedProcessInstances.get(fniEntity.getProcessInstanceKey()));
+          batchRequest.add(indexName, fniEntity);
         } else {
           final Map<String, Object> updateFields = new HashMap<>();
           updateFields.put(FlowNodeInstanceTemplate.ID, fniEntity.getId());
@@ -136,6 +189,44 @@ public class FlowNodeInstanceZeebeRecordProcessor {
         }
       }
     }
+    if (!collectStatistics) {
+      flowNodeStatisticsWriter.markDisabled(batchRequest);
+    } else if (!statisticsChanges.isEmpty()) {
+      flowNodeStatisticsWriter.write(statisticsChanges, batchRequest);
+    }
+  }
+
+  private void collectStatisticsChange(
+      final Record<ProcessInstanceRecordValue> record, final FlowNodeStatisticsChanges changes) {
+    final var recordValue = record.getValue();
+    // the instances of a multi-instance activity share its element id, so only count those
+    if (isOfType(recordValue, BpmnElementType.MULTI_INSTANCE_BODY)) {
+      return;
+    }
+    final var processDefinitionKey = recordValue.getProcessDefinitionKey();
+    final var bpmnProcessId = recordValue.getBpmnProcessId();
+    final var flowNodeId = recordValue.getElementId();
+    final var tenantId = tenantOrDefault(recordValue.getTenantId());
+    final var partitionId = record.getPartitionId();
+    final var position = record.getPosition();
+    final var intentStr = record.getIntent().name();
+    if (intentStr.equals(ELEMENT_ACTIVATING.name())) {
+      changes.onActivated(
+          partitionId, position, processDefinitionKey, bpmnProcessId, flowNodeId, tenantId);
+    } else if (intentStr.equals(ELEMENT_COMPLETED.name())) {
+      changes.onCompleted(
+          partitionId,
+          position,
+          processDefinitionKey,
+          bpmnProcessId,
+          flowNodeId,
+          tenantId,
+          isOfType(recordValue, BpmnElementType.END_EVENT));
+    } else if (intentStr.equals(ELEMENT_TERMINATED.name())) {
+      changes.onTerminated(
+          partitionId, position, processDefinitionKey, bpmnProcessId, flowNodeId, tenantId);
+    }
+    // migrated flow node instances stay counted for the flow node they were activated in
   }
 
   private boolean shouldProcessProcessInstanceRecord(
@@ -9,25 +9,35 @@ package io.camunda.operate.zeebeimport.processors;
 
 import static io.camunda.operate.util.CollectionUtil.map;
 
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.SimpleType;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.entities.listview.VariableForListViewEntity;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.store.VariableStore;
 import io.camunda.operate.util.CollectionUtil;
+import io.camunda.operate.util.DateUtil;
+import io.camunda.operate.util.PayloadUtil;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.AbstractImportBatchProcessor;
+import io.camunda.operate.zeebeimport.FinishedInstanceIndexResolver;
 import io.camunda.operate.zeebeimport.ImportBatch;
 import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.protocol.record.value.*;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -67,42 +77,53 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
 
   @Autowired private UserTaskZeebeRecordProcessor userTaskZeebeRecordProcessor;
 
+  @Autowired private FinishedInstanceIndexResolver finishedInstanceIndexResolver;
+
   @Autowired private Metrics metrics;
 
+  @Autowired private VariableStore variableStore;
+
+  @Autowired private PayloadUtil payloadUtil;
+
   @Autowired
   @Qualifier("operateObjectMapper")
   private ObjectMapper objectMapper;
 
-  private ObjectMapper localObjectMapper;
+  // reader bound to the record type, so that the deserializer is looked up once and not per hit
+  private ObjectReader recordReader;
 
-  private static <T> T fromSearchHit(
-      final String searchHitString, final ObjectMapper objectMapper, final JavaType valueType) {
+  private static <T> T fromSearchHit(final String searchHitString, final ObjectReader reader) {
     final T entity;
     try {
-      entity = objectMapper.readValue(searchHitString, valueType);
+      entity = reader.readValue(searchHitString);
     } catch (final IOException e) {
       LOGGER.error(
           String.format(
-              "Error while reading entity of type %s from indices!", valueType.toString()),
+              "Error while reading entity of type %s from indices!", reader.getValueType()),
           e);
       throw new OperateRuntimeException(
-          String.format("Error while reading entity of type %s from indices!", valueType), e);
+          String.format(
+              "Error while reading entity of type %s from indices!", reader.getValueType()),
+          e);
     }
     return entity;
   }
 
+  private static Record fromSearchHit(
+      final String searchHitString, final ProcessInstanceRecordParser parser) {
+    try {
+      return parser.parse(searchHitString);
+    } catch (final IOException | IllegalArgumentException e) {
+      LOGGER.error("Error while reading process instance record from indices!", e);
+      throw new OperateRuntimeException(
+          "Error while reading process instance record from indices!", e);
+    }
+  }
+
   @Override
   protected void processZeebeRecords(final ImportBatch importBatch, final BatchRequest batchRequest)
       throws PersistenceException {
-    final List<HitEntity> hits = importBatch.getHits();
-    final List<Record> zeebeRecords =
-        map(
-            hits,
-            hit ->
-                fromSearchHit(
-                    hit.getSourceAsString(),
-                    getLocalObjectMapper(),
-                    SimpleType.constructUnsafe(Record.class)));
+    final List<Record> zeebeRecords = readRecords(importBatch);
 
     LOGGER.debug(
         "Writing {} Zeebe records to indices, version={}, importValueType={}, partition={}",
@@ -154,6 +175,16 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
     recordRecordImportTime(zeebeRecords);
   }
 
+  private List<Record> readRecords(final ImportBatch importBatch) {
+    final List<HitEntity> hits = importBatch.getHits();
+    if (importBatch.getImportValueType() == ImportValueType.PROCESS_INSTANCE) {
+      // most imported records are process instance records, stream them into reused builders
+      final var parser = new ProcessInstanceRecordParser(objectMapper);
+      return map(hits, hit -> fromSearchHit(hit.getSourceAsString(), parser));
+    }
+    return map(hits, hit -> fromSearchHit(hit.getSourceAsString(), getRecordReader()));
+  }
+
   private void recordRecordImportTime(final List<Record> zeebeRecords) {
     final var currentTime = OffsetDateTime.now().toInstant().toEpochMilli();
     zeebeRecords.forEach(
@@ -181,11 +212,12 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
         groupedRecordsPerFlowNodeInst, batchRequest);
   }
 
-  private ObjectMapper getLocalObjectMapper() {
-    if (localObjectMapper == null) {
-      localObjectMapper = objectMapper.copy().registerModule(new ZeebeProtocolModule());
+  private ObjectReader getRecordReader() {
+    if (recordReader == null) {
+      recordReader =
+          objectMapper.copy().registerModule(new ZeebeProtocolModule()).readerFor(Record.class);
     }
-    return localObjectMapper;
+    return recordReader;
   }
 
   private void processDecisionRecords(
@@ -251,11 +283,56 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
         zeebeRecords.stream()
             .map(obj -> (Record<VariableRecordValue>) obj)
             .collect(Collectors.groupingBy(obj -> obj.getValue().getScopeKey()));
+    resolvePatchedVariables(variablesGroupedByScopeKey);
 
     listViewZeebeRecordProcessor.processVariableRecords(variablesGroupedByScopeKey, batchRequest);
     variableZeebeRecordProcessor.processVariableRecords(variablesGroupedByScopeKey, batchRequest);
   }
 
+  /**
+   * PATCHED records only contain the merge patch of a variable. They are replaced by records with
+   * the patched value, so that the processors can import them like UPDATED records. The patch is
+   * applied to the value of an earlier record of this batch or, if there is none, to the value
+   * already stored in the variable index.
+   */
+  private void resolvePatchedVariables(
+      final Map<Long, List<Record<VariableRecordValue>>> variablesGroupedByScopeKey)
+      throws PersistenceException {
+    for (final var scopedVariables : variablesGroupedByScopeKey.values()) {
+      final Map<String, String> variableValues = new HashMap<>();
+      final ListIterator<Record<VariableRecordValue>> iterator = scopedVariables.listIterator();
+      while (iterator.hasNext()) {
+        final var record = iterator.next();
+        final var recordValue = record.getValue();
+        if (record.getIntent() != VariableIntent.PATCHED) {
+          variableValues.put(recordValue.getName(), recordValue.getValue());
+          continue;
+        }
+
+        final String previousValue =
+            variableValues.containsKey(recordValue.getName())
+                ? variableValues.get(recordValue.getName())
+                : variableStore.getVariableFullValue(
+                    VariableForListViewEntity.getIdBy(
+                        recordValue.getScopeKey(), recordValue.getName()));
+        final String value;
+        try {
+          value = payloadUtil.applyMergePatch(previousValue, recordValue.getValue());
+        } catch (final IOException e) {
+          throw new PersistenceException(
+              String.format(
+                  "Error applying the patch of variable [%s] in scope [%d]",
+                  recordValue.getName(), recordValue.getScopeKey()),
+              e);
+        }
+        variableValues.put(recordValue.getName(), value);
+        iterator.set(
+            ImmutableRecord.copyOf(record)
+                .withValue(ImmutableVariableRecordValue.copyOf(recordValue).withValue(value)));
+      }
+    }
+  }
+
   private void processIncidentRecords(
       final BatchRequest batchRequest, final List<Record> zeebeRecords)
       throws PersistenceException {
@@ -263,8 +340,8 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
     incidentZeebeRecordProcessor.processIncidentRecord(zeebeRecords, batchRequest);
     for (final Record record : zeebeRecords) {
       listViewZeebeRecordProcessor.processIncidentRecord(record, batchRequest);
-      flowNodeInstanceZeebeRecordProcessor.processIncidentRecord(record, batchRequest);
     }
+    flowNodeInstanceZeebeRecordProcessor.processIncidentRecords(zeebeRecords, batchRequest);
     final Map<Long, List<Record<IncidentRecordValue>>> groupedIncidentRecordsPerActivityInst =
         zeebeRecords.stream()
             .map(obj -> (Record<IncidentRecordValue>) obj)
@@ -294,13 +371,39 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
             .collect(Collectors.groupingBy(obj -> obj.getKey()));
     final List<Long> flowNodeInstanceKeysOrdered =
         zeebeRecords.stream().map(Record::getKey).distinct().collect(Collectors.toList());
+    final Map<Long, OffsetDateTime> finishedProcessInstances =
+        getFinishedProcessInstances(zeebeRecords);
     flowNodeInstanceZeebeRecordProcessor.processProcessInstanceRecord(
-        groupedWIRecordsPerActivityInst, flowNodeInstanceKeysOrdered, batchRequest);
+        groupedWIRecordsPerActivityInst,
+        flowNodeInstanceKeysOrdered,
+        finishedProcessInstances,
+        batchRequest);
     eventZeebeRecordProcessor.processProcessInstanceRecords(
         groupedWIRecordsPerActivityInst, batchRequest);
     for (final Record record : zeebeRecords) {
-      sequenceFlowZeebeRecordProcessor.processSequenceFlowRecord(record, batchRequest);
+      sequenceFlowZeebeRecordProcessor.processSequenceFlowRecord(
+          record, finishedProcessInstances, batchRequest);
+    }
+  }
+
+  /** Returns the end dates of the process instances which finished within this batch. */
+  private Map<Long, OffsetDateTime> getFinishedProcessInstances(final List<Record> zeebeRecords) {
+    if (!finishedInstanceIndexResolver.isEnabled()) {
+      return Map.of();
+    }
+    final Map<Long, OffsetDateTime> finishedProcessInstances = new HashMap<>();
+    for (final Record record : zeebeRecords) {
+      final var recordValue = (ProcessInstanceRecordValue) record.getValue();
+      final String intentStr = record.getIntent().name();
+      if (recordValue.getBpmnElementType() == BpmnElementType.PROCESS
+          && (intentStr.equals(ProcessInstanceIntent.ELEMENT_COMPLETED.name())
+              || intentStr.equals(ProcessInstanceIntent.ELEMENT_TERMINATED.name()))) {
+        finishedProcessInstances.put(
+            record.getKey(),
+            DateUtil.toOffsetDateTime(Instant.ofEpochMilli(record.getTimestamp())));
+      }
     }
+    return finishedProcessInstances;
   }
 
   private void processUserTask(final BatchRequest batchRequest, final List<Record> zeebeRecords)
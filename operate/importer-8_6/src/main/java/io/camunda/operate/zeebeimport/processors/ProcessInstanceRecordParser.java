@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.processors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Reads process instance records from their exported JSON with a streaming parser, instead of
+ * binding them through the polymorphic {@link Record} deserializer, which resolves the intent and
+ * value types per record. The builders are cleared and reused for every record, so one parser must
+ * not be shared between threads.
+ */
+public class ProcessInstanceRecordParser {
+
+  private static final TypeReference<Map<String, Object>> AUTHORIZATIONS_TYPE =
+      new TypeReference<>() {};
+
+  private final ObjectMapper objectMapper;
+  private final ImmutableRecord.Builder<ProcessInstanceRecordValue> recordBuilder =
+      ImmutableRecord.builder();
+  private final ImmutableProcessInstanceRecordValue.Builder valueBuilder =
+      ImmutableProcessInstanceRecordValue.builder();
+
+  public ProcessInstanceRecordParser(final ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public Record<ProcessInstanceRecordValue> parse(final String source) throws IOException {
+    recordBuilder.clear();
+    valueBuilder.clear();
+
+    try (final JsonParser parser = objectMapper.createParser(source)) {
+      parser.nextToken();
+      expectObject(parser);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.currentName();
+        if (parser.nextToken() == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        switch (field) {
+          case "position" -> recordBuilder.withPosition(parser.getLongValue());
+          case "sourceRecordPosition" ->
+              recordBuilder.withSourceRecordPosition(parser.getLongValue());
+          case "key" -> recordBuilder.withKey(parser.getLongValue());
+          case "timestamp" -> recordBuilder.withTimestamp(parser.getLongValue());
+          case "intent" ->
+              recordBuilder.withIntent(ProcessInstanceIntent.valueOf(parser.getText()));
+          case "partitionId" -> recordBuilder.withPartitionId(parser.getIntValue());
+          case "recordType" -> recordBuilder.withRecordType(RecordType.valueOf(parser.getText()));
+          case "rejectionType" ->
+              recordBuilder.withRejectionType(RejectionType.valueOf(parser.getText()));
+          case "rejectionReason" -> recordBuilder.withRejectionReason(parser.getText());
+          case "brokerVersion" -> recordBuilder.withBrokerVersion(parser.getText());
+          case "authorizations" ->
+              recordBuilder.withAuthorizations(parser.readValueAs(AUTHORIZATIONS_TYPE));
+          case "recordVersion" -> recordBuilder.withRecordVersion(parser.getIntValue());
+          case "valueType" -> recordBuilder.withValueType(ValueType.valueOf(parser.getText()));
+          case "operationReference" -> recordBuilder.withOperationReference(parser.getLongValue());
+          case "value" -> parseValue(parser);
+          default -> parser.skipChildren();
+        }
+      }
+    }
+
+    return recordBuilder.withValue(valueBuilder.build()).build();
+  }
+
+  private void parseValue(final JsonParser parser) throws IOException {
+    expectObject(parser);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.currentName();
+      if (parser.nextToken() == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "bpmnProcessId" -> valueBuilder.withBpmnProcessId(parser.getText());
+        case "version" -> valueBuilder.withVersion(parser.getIntValue());
+        case "processDefinitionKey" -> valueBuilder.withProcessDefinitionKey(parser.getLongValue());
+        case "processInstanceKey" -> valueBuilder.withProcessInstanceKey(parser.getLongValue());
+        case "elementId" -> valueBuilder.withElementId(parser.getText());
+        case "flowScopeKey" -> valueBuilder.withFlowScopeKey(parser.getLongValue());
+        case "bpmnElementType" ->
+            valueBuilder.withBpmnElementType(BpmnElementType.valueOf(parser.getText()));
+        case "parentProcessInstanceKey" ->
+            valueBuilder.withParentProcessInstanceKey(parser.getLongValue());
+        case "parentElementInstanceKey" ->
+            valueBuilder.withParentElementInstanceKey(parser.getLongValue());
+        case "bpmnEventType" ->
+            valueBuilder.withBpmnEventType(BpmnEventType.valueOf(parser.getText()));
+        case "tenantId" -> valueBuilder.withTenantId(parser.getText());
+        default -> parser.skipChildren();
+      }
+    }
+  }
+
+  private static void expectObject(final JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw new IOException(
+          String.format(
+              "Expected a JSON object at %s, but got %s",
+              parser.currentLocation(), parser.currentToken()));
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_6.processors;
+
+import static io.camunda.operate.schema.indices.IndexDescriptor.DEFAULT_TENANT_ID;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_COMPLETED;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_TERMINATED;
+import static io.camunda.zeebe.protocol.record.value.BpmnElementType.END_EVENT;
+import static io.camunda.zeebe.protocol.record.value.BpmnElementType.MULTI_INSTANCE_BODY;
+import static io.camunda.zeebe.protocol.record.value.BpmnElementType.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.FlowNodeInstanceTemplate;
+import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.store.FlowNodeStore;
+import io.camunda.operate.zeebeimport.FinishedInstanceIndexResolver;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges.RecordChange;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsWriter;
+import io.camunda.operate.zeebeimport.processors.FlowNodeInstanceZeebeRecordProcessor;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableIncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.IncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FlowNodeInstanceZeebeRecordProcessorTest {
+
+  private static final long PROCESS_INSTANCE_KEY = 1L;
+  private static final long PROCESS_DEFINITION_KEY = 2L;
+
+  @Mock private FlowNodeStore flowNodeStore;
+  @Mock private FlowNodeInstanceTemplate flowNodeInstanceTemplate;
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private FlowNodeStatisticsWriter flowNodeStatisticsWriter;
+  @Mock private FinishedInstanceIndexResolver finishedInstanceIndexResolver;
+  @Captor private ArgumentCaptor<FlowNodeStatisticsChanges> changesCaptor;
+
+  @InjectMocks private FlowNodeInstanceZeebeRecordProcessor flowNodeInstanceZeebeRecordProcessor;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // the tree path cache is initialized by Spring, after the dependencies are injected
+    final Method init = FlowNodeInstanceZeebeRecordProcessor.class.getDeclaredMethod("init");
+    init.setAccessible(true);
+    init.invoke(flowNodeInstanceZeebeRecordProcessor);
+  }
+
+  @Test
+  void shouldCollectFlowNodeStatisticsChanges() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(true);
+    final var taskRecords =
+        List.of(
+            record(10L, 1L, ELEMENT_ACTIVATING, "task", TASK),
+            record(10L, 2L, ELEMENT_TERMINATED, "task", TASK));
+    final var endRecords =
+        List.of(
+            record(11L, 3L, ELEMENT_ACTIVATING, "end", END_EVENT),
+            record(11L, 4L, ELEMENT_COMPLETED, "end", END_EVENT));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processProcessInstanceRecord(
+        Map.of(10L, taskRecords, 11L, endRecords), List.of(10L, 11L), Map.of(), batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter).write(changesCaptor.capture(), any());
+    final var changes = changesCaptor.getValue();
+    assertThat(changes.getChanges())
+        .extracting(
+            FlowNodeStatisticsEntity::getFlowNodeId,
+            FlowNodeStatisticsEntity::getActive,
+            FlowNodeStatisticsEntity::getCanceled,
+            FlowNodeStatisticsEntity::getCompleted)
+        .containsExactly(tuple("task", 0L, 1L, 0L), tuple("end", 0L, 0L, 1L));
+    assertThat(
+            changes.getRecordChanges(
+                FlowNodeStatisticsEntity.createId(PROCESS_DEFINITION_KEY, "end")))
+        .containsExactly(
+            new RecordChange("processInstance-1", 3L, 1, 0, 0, 0),
+            new RecordChange("processInstance-1", 4L, -1, 0, 0, 1));
+  }
+
+  @Test
+  void shouldNotCountMultiInstanceBody() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(true);
+    final var bodyRecords =
+        List.of(record(10L, 1L, ELEMENT_ACTIVATING, "task", MULTI_INSTANCE_BODY));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processProcessInstanceRecord(
+        Map.of(10L, bodyRecords), List.of(10L), Map.of(), batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter, never()).write(any(), any());
+  }
+
+  @Test
+  void shouldNotCollectFlowNodeStatisticsIfDisabled() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(false);
+    final var taskRecords = List.of(record(10L, 1L, ELEMENT_ACTIVATING, "task", TASK));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processProcessInstanceRecord(
+        Map.of(10L, taskRecords), List.of(10L), Map.of(), batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter, never()).write(any(), any());
+    verify(flowNodeStatisticsWriter).markDisabled(batchRequest);
+  }
+
+  @Test
+  void shouldUpdateIncidentInIndexHoldingFlowNodeInstance() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    final String datedIndex = "operate-flownode-instance-8.3.1_2024-01-01";
+    when(finishedInstanceIndexResolver.isEnabled()).thenReturn(true);
+    when(flowNodeStore.getIndicesForFlowNodeInstances(Set.of("10")))
+        .thenReturn(Map.of("10", datedIndex));
+    final List<Record> records = List.of(incidentRecord(20L, IncidentIntent.RESOLVED, 10L));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processIncidentRecords(records, batchRequest);
+
+    // then
+    verify(batchRequest).upsert(eq(datedIndex), eq("10"), any(), any());
+  }
+
+  @Test
+  void shouldUpdateIncidentInRuntimeIndexIfFlowNodeInstanceNotFound()
+      throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(finishedInstanceIndexResolver.isEnabled()).thenReturn(true);
+    when(flowNodeInstanceTemplate.getFullQualifiedName())
+        .thenReturn("operate-flownode-instance-8.3.1_");
+    when(flowNodeStore.getIndicesForFlowNodeInstances(Set.of("10"))).thenReturn(Map.of());
+    final List<Record> records = List.of(incidentRecord(20L, IncidentIntent.CREATED, 10L));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processIncidentRecords(records, batchRequest);
+
+    // then
+    verify(batchRequest).upsert(eq("operate-flownode-instance-8.3.1_"), eq("10"), any(), any());
+  }
+
+  @Test
+  void shouldNotLookUpFlowNodeInstancesIfNotWrittenToDatedIndices() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(finishedInstanceIndexResolver.isEnabled()).thenReturn(false);
+    final List<Record> records = List.of(incidentRecord(20L, IncidentIntent.CREATED, 10L));
+
+    // when
+    flowNodeInstanceZeebeRecordProcessor.processIncidentRecords(records, batchRequest);
+
+    // then
+    verify(flowNodeStore, never()).getIndicesForFlowNodeInstances(any());
+  }
+
+  private static Record<IncidentRecordValue> incidentRecord(
+      final long key, final IncidentIntent intent, final long elementInstanceKey) {
+    return ImmutableRecord.<IncidentRecordValue>builder()
+        .withKey(key)
+        .withPartitionId(1)
+        .withIntent(intent)
+        .withValueType(ValueType.INCIDENT)
+        .withValue(
+            ImmutableIncidentRecordValue.builder()
+                .withProcessInstanceKey(PROCESS_INSTANCE_KEY)
+                .withProcessDefinitionKey(PROCESS_DEFINITION_KEY)
+                .withBpmnProcessId("process")
+                .withElementInstanceKey(elementInstanceKey)
+                .withElementId("task")
+                .withTenantId(DEFAULT_TENANT_ID)
+                .build())
+        .build();
+  }
+
+  private static Record<ProcessInstanceRecordValue> record(
+      final long key,
+      final long position,
+      final ProcessInstanceIntent intent,
+      final String elementId,
+      final BpmnElementType elementType) {
+    return ImmutableRecord.<ProcessInstanceRecordValue>builder()
+        .withKey(key)
+        .withPosition(position)
+        .withPartitionId(1)
+        .withIntent(intent)
+        .withValueType(ValueType.PROCESS_INSTANCE)
+        .withValue(
+            ImmutableProcessInstanceRecordValue.builder()
+                .withProcessInstanceKey(PROCESS_INSTANCE_KEY)
+                .withFlowScopeKey(PROCESS_INSTANCE_KEY)
+                .withProcessDefinitionKey(PROCESS_DEFINITION_KEY)
+                .withBpmnProcessId("process")
+                .withElementId(elementId)
+                .withBpmnElementType(elementType)
+                .withTenantId(DEFAULT_TENANT_ID)
+                .build())
+        .build();
+  }
+}
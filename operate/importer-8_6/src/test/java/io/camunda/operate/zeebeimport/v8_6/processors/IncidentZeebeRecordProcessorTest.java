@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_6.processors;
+
+import static io.camunda.operate.schema.indices.IndexDescriptor.DEFAULT_TENANT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.IncidentTemplate;
+import io.camunda.operate.schema.templates.PostImporterQueueTemplate;
+import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.store.ImportStore;
+import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges.RecordChange;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsWriter;
+import io.camunda.operate.zeebeimport.IncidentNotifier;
+import io.camunda.operate.zeebeimport.processors.IncidentZeebeRecordProcessor;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.value.ImmutableIncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.IncidentRecordValue;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IncidentZeebeRecordProcessorTest {
+
+  private static final long PROCESS_INSTANCE_KEY = 1L;
+  private static final long PROCESS_DEFINITION_KEY = 2L;
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private IncidentTemplate incidentTemplate;
+  @Mock private ImportStore importStore;
+  @Mock private PostImporterQueueTemplate postImporterQueueTemplate;
+  @Mock private OperationsManager operationsManager;
+  @Mock private IncidentNotifier incidentNotifier;
+  @Mock private FlowNodeStatisticsWriter flowNodeStatisticsWriter;
+  @Captor private ArgumentCaptor<FlowNodeStatisticsChanges> changesCaptor;
+
+  @InjectMocks private IncidentZeebeRecordProcessor incidentZeebeRecordProcessor;
+
+  @Test
+  void shouldCollectFlowNodeStatisticsChanges() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(true);
+    final List<Record> records =
+        List.of(
+            record(20L, 1L, IncidentIntent.CREATED, 10L, "task"),
+            record(21L, 2L, IncidentIntent.CREATED, 11L, "other-task"),
+            record(20L, 3L, IncidentIntent.RESOLVED, 10L, "task"));
+
+    // when
+    incidentZeebeRecordProcessor.processIncidentRecord(records, batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter).write(changesCaptor.capture(), any());
+    final var changes = changesCaptor.getValue();
+    assertThat(changes.getChanges())
+        .extracting(
+            FlowNodeStatisticsEntity::getFlowNodeId,
+            FlowNodeStatisticsEntity::getActive,
+            FlowNodeStatisticsEntity::getIncidents)
+        .containsExactly(tuple("task", 0L, 0L), tuple("other-task", -1L, 1L));
+    assertThat(
+            changes.getRecordChanges(
+                FlowNodeStatisticsEntity.createId(PROCESS_DEFINITION_KEY, "task")))
+        .containsExactly(
+            new RecordChange("incident-1", 1L, -1, 1, 0, 0),
+            new RecordChange("incident-1", 3L, 1, -1, 0, 0));
+  }
+
+  @Test
+  void shouldNotCountIncidentsOfProcessInstance() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(true);
+    final List<Record> records =
+        List.of(record(20L, 1L, IncidentIntent.CREATED, PROCESS_INSTANCE_KEY, "process"));
+
+    // when
+    incidentZeebeRecordProcessor.processIncidentRecord(records, batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter, never()).write(any(), any());
+  }
+
+  @Test
+  void shouldMarkFlowNodeStatisticsDisabled() throws PersistenceException {
+    // given
+    final var batchRequest = mock(BatchRequest.class);
+    when(flowNodeStatisticsWriter.isEnabled()).thenReturn(false);
+    final List<Record> records =
+        List.of(record(20L, 1L, IncidentIntent.CREATED, 10L, "task"));
+
+    // when
+    incidentZeebeRecordProcessor.processIncidentRecord(records, batchRequest);
+
+    // then
+    verify(flowNodeStatisticsWriter, never()).write(any(), any());
+    verify(flowNodeStatisticsWriter).markDisabled(batchRequest);
+  }
+
+  private static Record<IncidentRecordValue> record(
+      final long key,
+      final long position,
+      final IncidentIntent intent,
+      final long elementInstanceKey,
+      final String elementId) {
+    return ImmutableRecord.<IncidentRecordValue>builder()
+        .withKey(key)
+        .withPosition(position)
+        .withPartitionId(1)
+        .withIntent(intent)
+        .withValueType(ValueType.INCIDENT)
+        .withValue(
+            ImmutableIncidentRecordValue.builder()
+                .withProcessInstanceKey(PROCESS_INSTANCE_KEY)
+                .withProcessDefinitionKey(PROCESS_DEFINITION_KEY)
+                .withBpmnProcessId("process")
+                .withElementInstanceKey(elementInstanceKey)
+                .withElementId(elementId)
+                .withTenantId(DEFAULT_TENANT_ID)
+                .build())
+        .build();
+  }
+}
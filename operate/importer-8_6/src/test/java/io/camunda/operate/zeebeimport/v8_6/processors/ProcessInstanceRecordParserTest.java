@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.v8_6.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.zeebeimport.processors.ProcessInstanceRecordParser;
+import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class ProcessInstanceRecordParserTest {
+
+  private static final String RECORD =
+      """
+      {
+        "partitionId": 2,
+        "value": {
+          "bpmnProcessId": "demoProcess",
+          "version": 3,
+          "processDefinitionKey": 2251799813685249,
+          "processInstanceKey": 4503599627370497,
+          "elementId": "taskA",
+          "flowScopeKey": 4503599627370497,
+          "bpmnElementType": "SERVICE_TASK",
+          "bpmnEventType": "UNSPECIFIED",
+          "parentProcessInstanceKey": -1,
+          "parentElementInstanceKey": -1,
+          "tenantId": "tenant1"
+        },
+        "intent": "ELEMENT_ACTIVATED",
+        "key": 4503599627370502,
+        "position": 42,
+        "sourceRecordPosition": 41,
+        "timestamp": 1700000000000,
+        "recordType": "EVENT",
+        "valueType": "PROCESS_INSTANCE",
+        "rejectionType": "NULL_VAL",
+        "rejectionReason": "",
+        "brokerVersion": "8.6.0",
+        "authorizations": {"authorized_tenants": ["tenant1"]},
+        "recordVersion": 1,
+        "operationReference": -1
+      }
+      """;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ProcessInstanceRecordParser parser = new ProcessInstanceRecordParser(objectMapper);
+
+  @Test
+  void shouldParseLikeRecordDeserializer() throws IOException {
+    // given
+    final Record<?> expected =
+        objectMapper
+            .copy()
+            .registerModule(new ZeebeProtocolModule())
+            .readValue(RECORD, Record.class);
+
+    // when
+    final Record<ProcessInstanceRecordValue> record = parser.parse(RECORD);
+
+    // then
+    assertThat(record).isEqualTo(expected);
+    assertThat(record.getIntent()).isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    assertThat(record.getValue().getBpmnElementType()).isEqualTo(BpmnElementType.SERVICE_TASK);
+    assertThat(record.getValue().getTenantId()).isEqualTo("tenant1");
+  }
+
+  @Test
+  void shouldNotKeepFieldsOfPreviousRecord() throws IOException {
+    // given
+    parser.parse(RECORD);
+
+    // when
+    final Record<ProcessInstanceRecordValue> record =
+        parser.parse(
+            """
+            {"position": 43, "intent": "ELEMENT_COMPLETED", "value": {"elementId": "taskB"}}
+            """);
+
+    // then
+    assertThat(record.getPosition()).isEqualTo(43);
+    assertThat(record.getKey()).isZero();
+    assertThat(record.getIntent()).isEqualTo(ProcessInstanceIntent.ELEMENT_COMPLETED);
+    assertThat(record.getValue().getElementId()).isEqualTo("taskB");
+    assertThat(record.getValue().getBpmnProcessId()).isNull();
+    assertThat(record.getAuthorizations()).isEmpty();
+  }
+
+  @Test
+  void shouldSkipUnknownFields() throws IOException {
+    // when
+    final Record<ProcessInstanceRecordValue> record =
+        parser.parse(
+            """
+            {"unknown": {"nested": [1, 2]}, "key": 7, "value": {"other": [], "version": 2}}
+            """);
+
+    // then
+    assertThat(record.getKey()).isEqualTo(7);
+    assertThat(record.getValue().getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldFailOnNonObjectValue() {
+    assertThatThrownBy(() -> parser.parse("{\"value\": 5}")).isInstanceOf(IOException.class);
+  }
+}
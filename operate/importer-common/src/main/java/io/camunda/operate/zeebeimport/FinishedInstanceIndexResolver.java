@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import io.camunda.operate.property.ArchiverProperties;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.TemplateDescriptor;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the index to which the importer writes documents of a process instance. Documents of
+ * finished process instances are written directly into the dated index, to which the archiver
+ * would otherwise move them, if {@link ArchiverProperties#isArchiveOnImport()} is enabled.
+ *
+ * <p>The archiver still moves the remaining documents of these instances, as it finds them by
+ * their process instance in the runtime list view index, and the readers already search the
+ * runtime and the dated indices of a template together.
+ */
+@Component
+public class FinishedInstanceIndexResolver {
+
+  @Autowired private OperateProperties operateProperties;
+
+  private DateTimeFormatter dateFormatter;
+
+  public boolean isEnabled() {
+    final ArchiverProperties archiverProperties = operateProperties.getArchiver();
+    return archiverProperties.isRolloverEnabled() && archiverProperties.isArchiveOnImport();
+  }
+
+  /**
+   * @param processInstanceEndDate the end date of the process instance, or null if it is not
+   *     finished
+   */
+  public String resolveIndexName(
+      final TemplateDescriptor template, final OffsetDateTime processInstanceEndDate) {
+    if (processInstanceEndDate == null || !isEnabled()) {
+      return template.getFullQualifiedName();
+    }
+    return template.getFullQualifiedName() + getDateFormatter().format(processInstanceEndDate);
+  }
+
+  private DateTimeFormatter getDateFormatter() {
+    if (dateFormatter == null) {
+      // the archiver's date histogram groups the finished instances in UTC
+      dateFormatter =
+          DateTimeFormatter.ofPattern(operateProperties.getArchiver().getRolloverDateFormat())
+              .withZone(ZoneOffset.UTC);
+    }
+    return dateFormatter;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the changes of the flow node statistics within one import batch, so that each flow node
+ * is only updated once per batch. The counters of the collected entities are the sums of the
+ * changes, which are stored as they are if the flow node wasn't counted yet. Otherwise, {@link
+ * FlowNodeStatisticsWriter} adds the change of each record to the stored counters, unless the
+ * record was already applied before, e.g. because a batch is imported again after a failure.
+ *
+ * <p>As all changes are additive, the order in which process instance and incident records are
+ * imported doesn't matter; the counters converge once both were imported.
+ */
+public class FlowNodeStatisticsChanges {
+
+  private final String importSource;
+  private final Map<String, FlowNodeStatisticsEntity> changes = new LinkedHashMap<>();
+  private final Map<String, List<RecordChange>> recordChanges = new HashMap<>();
+
+  /**
+   * @param importSource the kind of records the changes are collected from. Each kind is imported
+   *     independently, so the position of the last applied record is tracked per kind.
+   */
+  public FlowNodeStatisticsChanges(final String importSource) {
+    this.importSource = importSource;
+  }
+
+  public void onActivated(
+      final int partitionId,
+      final long position,
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId) {
+    add(
+        get(processDefinitionKey, bpmnProcessId, flowNodeId, tenantId),
+        new RecordChange(importKey(partitionId), position, 1, 0, 0, 0));
+  }
+
+  /**
+   * Only completed end events are counted as completed, as the diagram shows how many instances
+   * ended in which end event. All other flow nodes are only no longer active.
+   */
+  public void onCompleted(
+      final int partitionId,
+      final long position,
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId,
+      final boolean endEvent) {
+    add(
+        get(processDefinitionKey, bpmnProcessId, flowNodeId, tenantId),
+        new RecordChange(importKey(partitionId), position, -1, 0, 0, endEvent ? 1 : 0));
+  }
+
+  public void onTerminated(
+      final int partitionId,
+      final long position,
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId) {
+    add(
+        get(processDefinitionKey, bpmnProcessId, flowNodeId, tenantId),
+        new RecordChange(importKey(partitionId), position, -1, 0, 1, 0));
+  }
+
+  /**
+   * A flow node instance with an incident is counted as incident instead of active. The active
+   * counter is decreased, as the instance is still active until it is completed or terminated.
+   */
+  public void onIncidentCreated(
+      final int partitionId,
+      final long position,
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId) {
+    add(
+        get(processDefinitionKey, bpmnProcessId, flowNodeId, tenantId),
+        new RecordChange(importKey(partitionId), position, -1, 1, 0, 0));
+  }
+
+  public void onIncidentResolved(
+      final int partitionId,
+      final long position,
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId) {
+    add(
+        get(processDefinitionKey, bpmnProcessId, flowNodeId, tenantId),
+        new RecordChange(importKey(partitionId), position, 1, -1, 0, 0));
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  public Collection<FlowNodeStatisticsEntity> getChanges() {
+    return changes.values();
+  }
+
+  /**
+   * @return the changes of the given flow node by each record, ordered by their position
+   */
+  public List<RecordChange> getRecordChanges(final String id) {
+    return recordChanges.getOrDefault(id, List.of()).stream()
+        .sorted(Comparator.comparingLong(RecordChange::position))
+        .toList();
+  }
+
+  private String importKey(final int partitionId) {
+    return importSource + "-" + partitionId;
+  }
+
+  private void add(final FlowNodeStatisticsEntity entity, final RecordChange change) {
+    entity
+        .setActive(entity.getActive() + change.active())
+        .setIncidents(entity.getIncidents() + change.incidents())
+        .setCanceled(entity.getCanceled() + change.canceled())
+        .setCompleted(entity.getCompleted() + change.completed());
+    entity.getImportPositions().merge(change.importKey(), change.position(), Math::max);
+    recordChanges.computeIfAbsent(entity.getId(), id -> new ArrayList<>()).add(change);
+  }
+
+  private FlowNodeStatisticsEntity get(
+      final Long processDefinitionKey,
+      final String bpmnProcessId,
+      final String flowNodeId,
+      final String tenantId) {
+    return changes.computeIfAbsent(
+        FlowNodeStatisticsEntity.createId(processDefinitionKey, flowNodeId),
+        id ->
+            new FlowNodeStatisticsEntity()
+                .setId(id)
+                .setProcessDefinitionKey(processDefinitionKey)
+                .setBpmnProcessId(bpmnProcessId)
+                .setFlowNodeId(flowNodeId)
+                .setTenantId(tenantId));
+  }
+
+  /**
+   * The change of a flow node's counters by a single record.
+   *
+   * @param importKey identifies the kind of the record and its partition
+   * @param position the position of the record within its partition
+   */
+  public record RecordChange(
+      String importKey,
+      long position,
+      long active,
+      long incidents,
+      long canceled,
+      long completed) {}
+}
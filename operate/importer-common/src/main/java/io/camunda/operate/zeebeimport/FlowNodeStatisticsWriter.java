@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.ACTIVE;
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.CANCELED;
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.COMPLETED;
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.ENABLED_SINCE;
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.IMPORT_POSITIONS;
+import static io.camunda.operate.schema.indices.FlowNodeStatisticsIndex.INCIDENTS;
+
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.indices.FlowNodeStatisticsIndex;
+import io.camunda.operate.store.BatchRequest;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges.RecordChange;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the collected {@link FlowNodeStatisticsChanges} to the flow node statistics index.
+ *
+ * <p>The importer may import a batch again, e.g. if it failed to store its position after the
+ * batch was written. To not count those records twice, each document keeps the position of the
+ * last record it applied per kind of record and partition, and the update only applies the changes
+ * of later records.
+ *
+ * <p>Records imported while the statistics are disabled are not counted. To let readers know which
+ * statistics are complete, the document {@link FlowNodeStatisticsEntity#ENABLED_SINCE_ID} records
+ * since when the statistics are maintained, and is reset once the importer runs with the
+ * statistics disabled.
+ */
+@Component
+public class FlowNodeStatisticsWriter {
+
+  private static final String CHANGES = "changes";
+  private static final String IMPORT_KEY = "importKey";
+  private static final String POSITION = "position";
+
+  private static final String SCRIPT =
+      String.format(
+          "if (ctx._source.%1$s == null) { ctx._source.%1$s = [:]; } "
+              + "boolean changed = false; "
+              + "for (def change : params.%2$s) { "
+              + "def lastPosition = ctx._source.%1$s[change.%3$s]; "
+              + "if (lastPosition == null || change.%4$s > lastPosition) { "
+              + "ctx._source.%5$s += change.%5$s; "
+              + "ctx._source.%6$s += change.%6$s; "
+              + "ctx._source.%7$s += change.%7$s; "
+              + "ctx._source.%8$s += change.%8$s; "
+              + "ctx._source.%1$s[change.%3$s] = change.%4$s; "
+              + "changed = true; "
+              + "} } "
+              + "if (!changed) { ctx.op = 'none'; }",
+          IMPORT_POSITIONS,
+          CHANGES,
+          IMPORT_KEY,
+          POSITION,
+          ACTIVE,
+          INCIDENTS,
+          CANCELED,
+          COMPLETED);
+
+  private static final String ENABLE_SCRIPT =
+      String.format(
+          "if (ctx._source.%1$s == null) { ctx._source.%1$s = params.%1$s; } "
+              + "else { ctx.op = 'none'; }",
+          ENABLED_SINCE);
+
+  private static final String DISABLE_SCRIPT =
+      String.format(
+          "if (ctx._source.%1$s != null) { ctx._source.%1$s = null; } else { ctx.op = 'none'; }",
+          ENABLED_SINCE);
+
+  // records imported before were imported by an earlier run, with the statistics maybe disabled
+  private final long startTime = System.currentTimeMillis();
+  private final AtomicBoolean isMarkedDisabled = new AtomicBoolean();
+
+  @Autowired private OperateProperties operateProperties;
+
+  @Autowired private FlowNodeStatisticsIndex flowNodeStatisticsIndex;
+
+  public boolean isEnabled() {
+    return operateProperties.getImporter().isFlowNodeStatisticsEnabled();
+  }
+
+  public void write(final FlowNodeStatisticsChanges changes, final BatchRequest batchRequest)
+      throws PersistenceException {
+    markEnabled(batchRequest);
+    for (final FlowNodeStatisticsEntity change : changes.getChanges()) {
+      final List<Map<String, Object>> recordChanges =
+          changes.getRecordChanges(change.getId()).stream()
+              .map(FlowNodeStatisticsWriter::toParams)
+              .toList();
+      final Map<String, Object> params = new HashMap<>();
+      params.put(CHANGES, recordChanges);
+      // if the document doesn't exist yet, the summed changes are the initial counters
+      batchRequest.upsertWithScript(
+          flowNodeStatisticsIndex.getFullQualifiedName(), change.getId(), change, SCRIPT, params);
+    }
+  }
+
+  /**
+   * Resets the time since when the statistics are maintained, as the records imported from now on
+   * are not counted. Only done once per run.
+   */
+  public void markDisabled(final BatchRequest batchRequest) throws PersistenceException {
+    if (isMarkedDisabled.compareAndSet(false, true)) {
+      final FlowNodeStatisticsEntity marker =
+          new FlowNodeStatisticsEntity().setId(FlowNodeStatisticsEntity.ENABLED_SINCE_ID);
+      batchRequest.upsertWithScript(
+          flowNodeStatisticsIndex.getFullQualifiedName(),
+          marker.getId(),
+          marker,
+          DISABLE_SCRIPT,
+          new HashMap<>());
+    }
+  }
+
+  /** Records the start of this run as the start of the statistics, unless enabled before. */
+  private void markEnabled(final BatchRequest batchRequest) throws PersistenceException {
+    final FlowNodeStatisticsEntity marker =
+        new FlowNodeStatisticsEntity()
+            .setId(FlowNodeStatisticsEntity.ENABLED_SINCE_ID)
+            .setEnabledSince(startTime);
+    final Map<String, Object> params = new HashMap<>();
+    params.put(ENABLED_SINCE, startTime);
+    batchRequest.upsertWithScript(
+        flowNodeStatisticsIndex.getFullQualifiedName(),
+        marker.getId(),
+        marker,
+        ENABLE_SCRIPT,
+        params);
+  }
+
+  private static Map<String, Object> toParams(final RecordChange change) {
+    final Map<String, Object> params = new HashMap<>();
+    params.put(IMPORT_KEY, change.importKey());
+    params.put(POSITION, change.position());
+    params.put(ACTIVE, change.active());
+    params.put(INCIDENTS, change.incidents());
+    params.put(CANCELED, change.canceled());
+    params.put(COMPLETED, change.completed());
+    return params;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.templates.TemplateDescriptor;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class FinishedInstanceIndexResolverTest {
+
+  private static final String RUNTIME_INDEX = "operate-flownode-instance-8.3.1_";
+  private static final OffsetDateTime END_DATE =
+      OffsetDateTime.of(2024, 3, 1, 23, 30, 0, 0, ZoneOffset.ofHours(-2));
+
+  private final OperateProperties operateProperties = new OperateProperties();
+  private final TemplateDescriptor template = mock(TemplateDescriptor.class);
+  private final FinishedInstanceIndexResolver resolver = new FinishedInstanceIndexResolver();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(resolver, "operateProperties", operateProperties);
+    when(template.getFullQualifiedName()).thenReturn(RUNTIME_INDEX);
+  }
+
+  @Test
+  public void shouldResolveRuntimeIndexByDefault() {
+    // when
+    final String indexName = resolver.resolveIndexName(template, END_DATE);
+
+    // then
+    assertThat(indexName).isEqualTo(RUNTIME_INDEX);
+  }
+
+  @Test
+  public void shouldResolveDatedIndexOfFinishedInstance() {
+    // given
+    operateProperties.getArchiver().setArchiveOnImport(true);
+
+    // when
+    final String indexName = resolver.resolveIndexName(template, END_DATE);
+
+    // then - the date is in UTC, like the buckets of the archiver
+    assertThat(indexName).isEqualTo(RUNTIME_INDEX + "2024-03-02");
+  }
+
+  @Test
+  public void shouldResolveRuntimeIndexOfRunningInstance() {
+    // given
+    operateProperties.getArchiver().setArchiveOnImport(true);
+
+    // when
+    final String indexName = resolver.resolveIndexName(template, null);
+
+    // then
+    assertThat(indexName).isEqualTo(RUNTIME_INDEX);
+  }
+
+  @Test
+  public void shouldResolveRuntimeIndexIfRolloverIsDisabled() {
+    // given
+    operateProperties.getArchiver().setArchiveOnImport(true);
+    operateProperties.getArchiver().setRolloverEnabled(false);
+
+    // when
+    final String indexName = resolver.resolveIndexName(template, END_DATE);
+
+    // then
+    assertThat(indexName).isEqualTo(RUNTIME_INDEX);
+  }
+}
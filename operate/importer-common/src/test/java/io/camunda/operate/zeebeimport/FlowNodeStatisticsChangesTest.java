@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
+import io.camunda.operate.zeebeimport.FlowNodeStatisticsChanges.RecordChange;
+import java.util.Map;
+import org.junit.Test;
+
+public class FlowNodeStatisticsChangesTest {
+
+  private static final Long PROCESS_KEY = 123L;
+  private static final String BPMN_PROCESS_ID = "process";
+  private static final String TENANT_ID = "<default>";
+  private static final int PARTITION_ID = 1;
+  private static final String IMPORT_KEY = "processInstance-1";
+
+  @Test
+  public void shouldCollectChangesPerFlowNode() {
+    // given
+    final FlowNodeStatisticsChanges changes = new FlowNodeStatisticsChanges("processInstance");
+
+    // when
+    changes.onActivated(PARTITION_ID, 1, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onActivated(PARTITION_ID, 2, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onIncidentCreated(PARTITION_ID, 3, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onTerminated(PARTITION_ID, 4, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onActivated(PARTITION_ID, 5, PROCESS_KEY, BPMN_PROCESS_ID, "end", TENANT_ID);
+    changes.onCompleted(PARTITION_ID, 6, PROCESS_KEY, BPMN_PROCESS_ID, "end", TENANT_ID, true);
+
+    // then
+    assertThat(changes.getChanges())
+        .containsExactly(
+            new FlowNodeStatisticsEntity()
+                .setId(FlowNodeStatisticsEntity.createId(PROCESS_KEY, "task"))
+                .setProcessDefinitionKey(PROCESS_KEY)
+                .setBpmnProcessId(BPMN_PROCESS_ID)
+                .setFlowNodeId("task")
+                .setTenantId(TENANT_ID)
+                .setActive(0)
+                .setIncidents(1)
+                .setCanceled(1)
+                .setImportPositions(Map.of(IMPORT_KEY, 4L)),
+            new FlowNodeStatisticsEntity()
+                .setId(FlowNodeStatisticsEntity.createId(PROCESS_KEY, "end"))
+                .setProcessDefinitionKey(PROCESS_KEY)
+                .setBpmnProcessId(BPMN_PROCESS_ID)
+                .setFlowNodeId("end")
+                .setTenantId(TENANT_ID)
+                .setCompleted(1)
+                .setImportPositions(Map.of(IMPORT_KEY, 6L)));
+  }
+
+  @Test
+  public void shouldNotCountCompletedFlowNodesOtherThanEndEvents() {
+    // given
+    final FlowNodeStatisticsChanges changes = new FlowNodeStatisticsChanges("processInstance");
+
+    // when
+    changes.onActivated(PARTITION_ID, 1, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onCompleted(PARTITION_ID, 2, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID, false);
+
+    // then
+    assertThat(changes.getChanges())
+        .singleElement()
+        .satisfies(
+            entity -> {
+              assertThat(entity.getActive()).isZero();
+              assertThat(entity.getCompleted()).isZero();
+            });
+  }
+
+  @Test
+  public void shouldKeepChangesOfEachRecordOrderedByPosition() {
+    // given
+    final FlowNodeStatisticsChanges changes = new FlowNodeStatisticsChanges("processInstance");
+    final String id = FlowNodeStatisticsEntity.createId(PROCESS_KEY, "task");
+
+    // when - the records are collected per flow node instance, not in the order of the log
+    changes.onActivated(PARTITION_ID, 1, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onTerminated(PARTITION_ID, 5, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onActivated(PARTITION_ID, 3, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+
+    // then
+    assertThat(changes.getRecordChanges(id))
+        .containsExactly(
+            new RecordChange(IMPORT_KEY, 1, 1, 0, 0, 0),
+            new RecordChange(IMPORT_KEY, 3, 1, 0, 0, 0),
+            new RecordChange(IMPORT_KEY, 5, -1, 0, 1, 0));
+  }
+
+  @Test
+  public void shouldTrackImportPositionPerSourceAndPartition() {
+    // given
+    final FlowNodeStatisticsChanges changes = new FlowNodeStatisticsChanges("incident");
+
+    // when
+    changes.onIncidentCreated(1, 7, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onIncidentCreated(2, 3, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+    changes.onIncidentResolved(1, 9, PROCESS_KEY, BPMN_PROCESS_ID, "task", TENANT_ID);
+
+    // then
+    assertThat(changes.getChanges())
+        .singleElement()
+        .extracting(FlowNodeStatisticsEntity::getImportPositions)
+        .isEqualTo(Map.of("incident-1", 9L, "incident-2", 3L));
+  }
+}
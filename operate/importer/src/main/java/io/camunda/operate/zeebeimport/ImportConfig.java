@@ -39,11 +39,12 @@ public class ImportConfig {
     return scheduler;
   }
 
+  /** Only delays the records readers, which are run by the {@link RecordsReaderScheduler}. */
   @Bean("recordsReaderThreadPoolExecutor")
   public ThreadPoolTaskScheduler getRecordsReaderTaskExecutor() {
     final ThreadPoolTaskScheduler executor = new ThreadPoolTaskScheduler();
-    executor.setPoolSize(operateProperties.getImporter().getReaderThreadsCount());
-    executor.setThreadNamePrefix("records_reader_");
+    executor.setPoolSize(1);
+    executor.setThreadNamePrefix("records_reader_delay_");
     executor.initialize();
     return executor;
   }
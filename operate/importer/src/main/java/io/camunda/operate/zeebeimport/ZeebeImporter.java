@@ -14,10 +14,8 @@ import java.util.Collection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -33,9 +31,7 @@ public class ZeebeImporter {
 
   @Autowired private RecordsReaderHolder recordsReaderHolder;
 
-  @Autowired
-  @Qualifier("recordsReaderThreadPoolExecutor")
-  private ThreadPoolTaskScheduler recordsReaderThreadPoolExecutor;
+  @Autowired private RecordsReaderScheduler recordsReaderScheduler;
 
   @Autowired private Metrics metrics;
 
@@ -50,7 +46,7 @@ public class ZeebeImporter {
   public void scheduleReaders() {
     LOGGER.info("INIT: Start importing data...");
     recordsReaderHolder.getAllRecordsReaders().stream()
-        .forEach(recordsReader -> recordsReaderThreadPoolExecutor.submit(recordsReader));
+        .forEach(recordsReader -> recordsReaderScheduler.submit(recordsReader));
   }
 
   public void performOneRoundOfImportFor(final Collection<RecordsReader> readers) {
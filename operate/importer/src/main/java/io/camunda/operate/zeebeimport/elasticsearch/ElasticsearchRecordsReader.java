@@ -31,10 +31,8 @@ import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -60,7 +58,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 /**
@@ -103,9 +100,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
   @Qualifier("importThreadPoolExecutor")
   private ThreadPoolTaskExecutor importExecutor;
 
-  @Autowired
-  @Qualifier("recordsReaderThreadPoolExecutor")
-  private ThreadPoolTaskScheduler readersExecutor;
+  @Autowired private RecordsReaderScheduler readerScheduler;
 
   @Autowired private ImportPositionHolder importPositionHolder;
 
@@ -179,6 +174,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
       }
       Integer nextRunDelay = null;
       if (importBatch == null || importBatch.getHits() == null || importBatch.getHits().isEmpty()) {
+        readerScheduler.recordCaughtUp(this);
         nextRunDelay = readerBackoff;
       } else {
         final var importJob = createImportJob(latestPosition, importBatch);
@@ -403,10 +399,9 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   private void rescheduleReader(final Integer readerDelay) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      readerScheduler.schedule(this, readerDelay);
     } else {
-      readersExecutor.submit(this);
+      readerScheduler.submit(this);
     }
   }
 
@@ -438,6 +433,11 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
     notifyImportListenersAsScheduled(batch);
     job.recordLatestScheduledPosition();
+
+    final var readPosition = job.getLastProcessedPosition();
+    if (readPosition != null) {
+      readerScheduler.recordReadPosition(this, readPosition.getPosition());
+    }
   }
 
   private void notifyImportListenersAsScheduled(final ImportBatch importBatch) {
@@ -596,7 +596,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
         () -> {
           if (hasPendingImportJobToReschedule() && shouldReschedulePendingImportJob()) {
             startRescheduling();
-            readersExecutor.submit(this::reschedulePendingImportJob);
+            readerScheduler.submit(this, this::reschedulePendingImportJob);
           }
         });
   }
@@ -613,7 +613,7 @@ public class ElasticsearchRecordsReader implements RecordsReader {
           () -> {
             pendingImportJob = null;
             completeRescheduling();
-            readersExecutor.submit(this);
+            readerScheduler.submit(this);
           });
     }
   }
@@ -39,14 +39,12 @@ import io.camunda.operate.zeebeimport.ImportJob;
 import io.camunda.operate.zeebeimport.ImportListener;
 import io.camunda.operate.zeebeimport.ImportPositionHolder;
 import io.camunda.operate.zeebeimport.RecordsReader;
+import io.camunda.operate.zeebeimport.RecordsReaderScheduler;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
@@ -66,7 +64,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Conditional(OpensearchCondition.class)
@@ -76,6 +73,9 @@ public class OpensearchRecordsReader implements RecordsReader {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchRecordsReader.class);
 
+  /** Serializes the sources, which the client returns as maps, back to the JSON of the hits. */
+  private static final ObjectMapper SOURCE_MAPPER = new ObjectMapper();
+
   /** Partition id. */
   private final int partitionId;
 
@@ -104,9 +104,7 @@ public class OpensearchRecordsReader implements RecordsReader {
   @Qualifier("importThreadPoolExecutor")
   private ThreadPoolTaskExecutor importExecutor;
 
-  @Autowired
-  @Qualifier("recordsReaderThreadPoolExecutor")
-  private ThreadPoolTaskScheduler readersExecutor;
+  @Autowired private RecordsReaderScheduler readerScheduler;
 
   @Autowired private ImportPositionHolder importPositionHolder;
 
@@ -180,6 +178,7 @@ public class OpensearchRecordsReader implements RecordsReader {
       if (importBatch == null
           || importBatch.getHits() == null
           || importBatch.getHits().size() == 0) {
+        readerScheduler.recordCaughtUp(this);
         nextRunDelay = readerBackoff;
       } else {
         final var importJob = createImportJob(latestPosition, importBatch);
@@ -407,10 +406,9 @@ public class OpensearchRecordsReader implements RecordsReader {
 
   private void rescheduleReader(final Integer readerDelay) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+      readerScheduler.schedule(this, readerDelay);
     } else {
-      readersExecutor.submit(this);
+      readerScheduler.submit(this);
     }
   }
 
@@ -418,13 +416,12 @@ public class OpensearchRecordsReader implements RecordsReader {
     if (searchHit.source() == null) {
       return null;
     }
-    final var stringWriter = new StringWriter();
+    final String jsonString;
     try {
-      new ObjectMapper().writeValue(stringWriter, searchHit.source());
+      jsonString = SOURCE_MAPPER.writeValueAsString(searchHit.source());
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
-    final var jsonString = stringWriter.toString();
     return new HitEntity().setIndex(searchHit.index()).setSourceAsString(jsonString);
   }
 
@@ -456,6 +453,11 @@ public class OpensearchRecordsReader implements RecordsReader {
 
     notifyImportListenersAsScheduled(batch);
     job.recordLatestScheduledPosition();
+
+    final var readPosition = job.getLastProcessedPosition();
+    if (readPosition != null) {
+      readerScheduler.recordReadPosition(this, readPosition.getPosition());
+    }
   }
 
   private void notifyImportListenersAsScheduled(final ImportBatch importBatch) {
@@ -557,7 +559,7 @@ public class OpensearchRecordsReader implements RecordsReader {
         () -> {
           if (hasPendingImportJobToReschedule() && shouldReschedulePendingImportJob()) {
             startRescheduling();
-            readersExecutor.submit(this::reschedulePendingImportJob);
+            readerScheduler.submit(this, this::reschedulePendingImportJob);
           }
         });
   }
@@ -574,7 +576,7 @@ public class OpensearchRecordsReader implements RecordsReader {
           () -> {
             pendingImportJob = null;
             completeRescheduling();
-            readersExecutor.submit(this);
+            readerScheduler.submit(this);
           });
     }
   }
@@ -7,20 +7,31 @@
  */
 package io.camunda.operate.zeebeimport.post;
 
+import static io.camunda.operate.Metrics.GAUGE_POST_IMPORT_PENDING_INCIDENTS;
+import static io.camunda.operate.Metrics.TAG_KEY_PARTITION;
+import static io.camunda.operate.Metrics.TIMER_NAME_POST_IMPORT_INCIDENTS;
 import static java.time.temporal.ChronoUnit.MILLIS;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.IncidentEntity;
 import io.camunda.operate.entities.meta.ImportPositionEntity;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.util.BackoffIdleStrategy;
+import io.camunda.operate.util.TreePath;
 import io.camunda.operate.zeebe.ImportValueType;
 import io.camunda.operate.zeebeimport.ImportPositionHolder;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,13 +53,25 @@ public abstract class AbstractIncidentPostImportAction implements PostImportActi
 
   @Autowired protected ImportPositionHolder importPositionHolder;
   protected ImportPositionEntity lastProcessedPosition;
+  @Autowired private Metrics metrics;
   private final BackoffIdleStrategy errorStrategy;
+  private final AtomicLong pendingIncidentsCount = new AtomicLong();
 
   public AbstractIncidentPostImportAction(final int partitionId) {
     this.partitionId = partitionId;
     errorStrategy = new BackoffIdleStrategy(BACKOFF, 1.2f, 10_000);
   }
 
+  @PostConstruct
+  public void registerMetrics() {
+    metrics.registerGauge(
+        GAUGE_POST_IMPORT_PENDING_INCIDENTS,
+        pendingIncidentsCount,
+        AtomicLong::get,
+        TAG_KEY_PARTITION,
+        String.valueOf(partitionId));
+  }
+
   @Override
   public boolean performOneRound() throws IOException {
     final List<IncidentEntity> pendingIncidents = processPendingIncidents();
@@ -101,8 +124,10 @@ public abstract class AbstractIncidentPostImportAction implements PostImportActi
 
     final AdditionalData data = new AdditionalData();
 
+    final Timer.Sample timer = Timer.start();
     final PendingIncidentsBatch batch =
         getPendingIncidents(data, lastProcessedPosition.getPostImporterPosition());
+    pendingIncidentsCount.set(batch.getPendingIncidentsCount());
 
     if (batch.getIncidents().isEmpty()) {
       return new ArrayList<>();
@@ -122,6 +147,9 @@ public abstract class AbstractIncidentPostImportAction implements PostImportActi
         lastProcessedPosition.setPostImporterPosition(batch.getLastProcessedPosition());
         importPositionHolder.recordLatestPostImportedPosition(lastProcessedPosition);
       }
+      timer.stop(
+          metrics.getTimer(
+              TIMER_NAME_POST_IMPORT_INCIDENTS, TAG_KEY_PARTITION, String.valueOf(partitionId)));
 
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Finished processing");
@@ -135,4 +163,17 @@ public abstract class AbstractIncidentPostImportAction implements PostImportActi
     }
     return batch.getIncidents();
   }
+
+  /**
+   * Returns the distinct tree path terms of all incidents of the batch, i.e. the terms under which
+   * the list view documents of their instances are indexed. They are computed locally, as an
+   * analyze request for the whole batch may exceed the maximum token count of the search engine.
+   */
+  protected static List<String> getTreePathTerms(final Collection<String> treePaths) {
+    final Set<String> treePathTerms = new LinkedHashSet<>();
+    for (final String treePath : treePaths) {
+      treePathTerms.addAll(new TreePath(treePath).extractPrefixes());
+    }
+    return new ArrayList<>(treePathTerms);
+  }
 }
@@ -18,6 +18,7 @@ public class PendingIncidentsBatch {
   private List<IncidentEntity> incidents = new ArrayList<>();
   private Map<Long, IncidentState> newIncidentStates = new HashMap<>();
   private Long lastProcessedPosition;
+  private long pendingIncidentsCount;
 
   public List<IncidentEntity> getIncidents() {
     return incidents;
@@ -53,4 +54,13 @@ public class PendingIncidentsBatch {
     }
     return this;
   }
+
+  public long getPendingIncidentsCount() {
+    return pendingIncidentsCount;
+  }
+
+  public PendingIncidentsBatch setPendingIncidentsCount(long pendingIncidentsCount) {
+    this.pendingIncidentsCount = pendingIncidentsCount;
+    return this;
+  }
 }
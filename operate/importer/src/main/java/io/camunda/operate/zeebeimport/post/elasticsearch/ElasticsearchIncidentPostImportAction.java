@@ -43,9 +43,6 @@ import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.client.indices.AnalyzeRequest;
-import org.elasticsearch.client.indices.AnalyzeResponse;
-import org.elasticsearch.client.indices.AnalyzeResponse.AnalyzeToken;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.script.Script;
@@ -58,6 +55,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Conditional(ElasticsearchCondition.class)
 @Component
@@ -120,7 +118,8 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
                             partitionQ))
                     .fetchSource(new String[] {KEY, POSITION, INTENT}, null)
                     .sort(POSITION)
-                    .size(operateProperties.getZeebeElasticsearch().getBatchSize()));
+                    .size(operateProperties.getImporter().getPostImportBatchSize())
+                    .trackTotalHits(true));
     try {
       final SearchResponse response = esClient.search(listViewRequest, RequestOptions.DEFAULT);
       incidents2Process =
@@ -133,7 +132,9 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
                       // when both CREATED adn RESOLVED are present, we overwrite CREATED with
                       // RESOLVED as we can at once resolve the incident
                       (existing, replacement) -> replacement));
-      pendingIncidentsBatch.setNewIncidentStates(incidents2Process);
+      pendingIncidentsBatch
+          .setNewIncidentStates(incidents2Process)
+          .setPendingIncidentsCount(response.getHits().getTotalHits().value);
       if (incidents2Process.size() > 0) {
         pendingIncidentsBatch.setLastProcessedPosition(
             response
@@ -169,7 +170,7 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
                                     .map(String::valueOf)
                                     .toArray(String[]::new)))
                     .sort(KEY)
-                    .size(operateProperties.getZeebeElasticsearch().getBatchSize()));
+                    .size(operateProperties.getImporter().getPostImportBatchSize()));
     final SearchResponse response;
     final List<IncidentEntity> incidents;
     try {
@@ -258,12 +259,9 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
     final ElasticsearchPostImporterRequests updateRequests =
         new ElasticsearchPostImporterRequests();
 
-    final List<String> treePathTerms =
-        data.getIncidentTreePaths().values().stream()
-            .map(s -> getTreePathTerms(s))
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
+    final List<String> treePathTerms = getTreePathTerms(data.getIncidentTreePaths().values());
     getTreePathsWithIncidents(treePathTerms, data);
+    collectInstanceIndices(batch.getIncidents(), data);
 
     for (final IncidentEntity incident : batch.getIncidents()) {
       if (instanceExists(
@@ -317,23 +315,6 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
     return false;
   }
 
-  private List<String> getTreePathTerms(final String treePath) {
-    final AnalyzeRequest request =
-        AnalyzeRequest.withField(
-            listViewTemplate.getFullQualifiedName(), ListViewTemplate.TREE_PATH, treePath);
-    try {
-      final AnalyzeResponse analyzeResponse =
-          esClient.indices().analyze(request, RequestOptions.DEFAULT);
-
-      return analyzeResponse.getTokens().stream()
-          .map(AnalyzeToken::getTerm)
-          .collect(Collectors.toList());
-    } catch (final IOException e) {
-      throw new OperateRuntimeException(
-          "Exception occurred when requesting term vectors for tree_path");
-    }
-  }
-
   private void getTreePathsWithIncidents(
       final List<String> treePathTerms, final AdditionalData data) {
 
@@ -373,6 +354,41 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
     }
   }
 
+  /**
+   * Looks up the indices of all process instances and flow node instances the incidents of the
+   * batch belong to, so that they are not queried per incident.
+   */
+  private void collectInstanceIndices(
+      final List<IncidentEntity> incidents, final AdditionalData data) {
+    final Set<String> piIds = new HashSet<>();
+    final Set<String> fniIds = new HashSet<>();
+    for (final IncidentEntity incident : incidents) {
+      final String incidentTreePath = data.getIncidentTreePaths().get(incident.getId());
+      if (incidentTreePath != null
+          && instanceExists(
+              incident.getProcessInstanceKey(), data.getProcessInstanceTreePaths().keySet())) {
+        piIds.addAll(new TreePath(incidentTreePath).extractProcessInstanceIds());
+        fniIds.addAll(new TreePath(incidentTreePath).extractFlowNodeInstanceIds());
+      }
+    }
+
+    piIds.removeAll(data.getProcessInstanceIndices().keySet());
+    if (!piIds.isEmpty()) {
+      data.getProcessInstanceIndices().putAll(getIndexNames(listViewTemplate, piIds, esClient));
+    }
+    final Set<String> fniIdsWithoutIndices = new HashSet<>(fniIds);
+    fniIdsWithoutIndices.removeAll(data.getFlowNodeInstanceIndices().keySet());
+    if (!fniIdsWithoutIndices.isEmpty()) {
+      data.getFlowNodeInstanceIndices()
+          .putAll(getIndexNamesAsList(flowNodeInstanceTemplate, fniIdsWithoutIndices, esClient));
+    }
+    fniIds.removeAll(data.getFlowNodeInstanceInListViewIndices().keySet());
+    if (!fniIds.isEmpty()) {
+      data.getFlowNodeInstanceInListViewIndices()
+          .putAll(getIndexNamesAsList(listViewTemplate, fniIds, esClient));
+    }
+  }
+
   private void updateProcessInstancesState(
       final String incidentId,
       final IncidentState newState,
@@ -585,12 +601,18 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
       final boolean ignoreMissingData)
       throws IOException {
     int countMissingInstance = 0;
+    final Set<Long> deletedProcessInstanceKeys =
+        getDeletedProcessInstanceKeys(
+            incidents.stream()
+                .map(IncidentEntity::getProcessInstanceKey)
+                .filter(key -> !StringUtils.hasLength(data.getProcessInstanceTreePaths().get(key)))
+                .collect(Collectors.toSet()));
     for (final Iterator<IncidentEntity> iterator = incidents.iterator(); iterator.hasNext(); ) {
       final IncidentEntity i = iterator.next();
       String piTreePath = data.getProcessInstanceTreePaths().get(i.getProcessInstanceKey());
       if (piTreePath == null || piTreePath.isEmpty()) {
         // check whether DELETE_PROCESS_INSTANCE operation exists
-        if (processInstanceWasDeleted(i.getProcessInstanceKey())) {
+        if (deletedProcessInstanceKeys.contains(i.getProcessInstanceKey())) {
           LOGGER.debug(
               "Process instance with the key {} was deleted. Incident post processing will be skipped for id {}.",
               i.getProcessInstanceKey(),
@@ -633,19 +655,35 @@ public class ElasticsearchIncidentPostImportAction extends AbstractIncidentPostI
     }
   }
 
-  private boolean processInstanceWasDeleted(final long processInstanceKey) throws IOException {
+  /** Returns those of the given process instances, for which a deletion was sent or completed. */
+  private Set<Long> getDeletedProcessInstanceKeys(final Set<Long> processInstanceKeys)
+      throws IOException {
+    final Set<Long> deletedProcessInstanceKeys = new HashSet<>();
+    if (processInstanceKeys.isEmpty()) {
+      return deletedProcessInstanceKeys;
+    }
     final SearchRequest request =
         ElasticsearchUtil.createSearchRequest(operationTemplate)
             .source(
                 new SearchSourceBuilder()
                     .query(
                         joinWithAnd(
-                            termQuery(OperationTemplate.PROCESS_INSTANCE_KEY, processInstanceKey),
+                            termsQuery(OperationTemplate.PROCESS_INSTANCE_KEY, processInstanceKeys),
                             termQuery(OperationTemplate.TYPE, DELETE_PROCESS_INSTANCE.name()),
                             termsQuery(OperationTemplate.STATE, SENT.name(), COMPLETED.name())))
-                    .size(0));
-    final SearchResponse response = esClient.search(request, RequestOptions.DEFAULT);
-    return response.getHits().getTotalHits().value > 0;
+                    .fetchSource(OperationTemplate.PROCESS_INSTANCE_KEY, null));
+    scroll(
+        request,
+        shs ->
+            Arrays.stream(shs.getHits())
+                .forEach(
+                    sh ->
+                        deletedProcessInstanceKeys.add(
+                            ((Number)
+                                    sh.getSourceAsMap().get(OperationTemplate.PROCESS_INSTANCE_KEY))
+                                .longValue())),
+        esClient);
+    return deletedProcessInstanceKeys;
   }
 
   private void createUpdateRequestFor(
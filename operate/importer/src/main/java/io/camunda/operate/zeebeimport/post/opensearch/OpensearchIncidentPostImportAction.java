@@ -47,8 +47,6 @@ import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 import org.opensearch.client.opensearch.core.search.Hit;
-import org.opensearch.client.opensearch.indices.AnalyzeRequest;
-import org.opensearch.client.opensearch.indices.analyze.AnalyzeToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,6 +54,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Conditional(OpensearchCondition.class)
 @Component
@@ -111,7 +110,8 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
                     partitionQuery))
             .source(sourceInclude(KEY, POSITION, INTENT))
             .sort(sortOptions(POSITION, SortOrder.Asc))
-            .size(operateProperties.getZeebeOpensearch().getBatchSize());
+            .size(operateProperties.getImporter().getPostImportBatchSize())
+            .trackTotalHits(t -> t.enabled(true));
 
     final var response = richOpenSearchClient.doc().search(postImporterQueueRequest, Result.class);
     incidents2Process =
@@ -125,7 +125,9 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
                     // RESOLVED as we can at once resolve the incident
                     (existing, replacement) -> replacement));
 
-    pendingIncidentsBatch.setNewIncidentStates(incidents2Process);
+    pendingIncidentsBatch
+        .setNewIncidentStates(incidents2Process)
+        .setPendingIncidentsCount(response.hits().total().value());
     if (!incidents2Process.isEmpty()) {
       pendingIncidentsBatch.setLastProcessedPosition(
           response.hits().hits().get(response.hits().hits().size() - 1).source().position());
@@ -140,7 +142,7 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
         searchRequestBuilder(incidentTemplate)
             .query(ids(incidents2Process.keySet().stream().map(String::valueOf).toList()))
             .sort(sortOptions(KEY, SortOrder.Asc))
-            .size(operateProperties.getZeebeOpensearch().getBatchSize());
+            .size(operateProperties.getImporter().getPostImportBatchSize());
 
     final var incidentsResponse =
         richOpenSearchClient.doc().search(incidentSearchRequest, IncidentEntity.class);
@@ -217,12 +219,9 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
 
     final OpensearchPostImporterRequests updateRequests = new OpensearchPostImporterRequests();
 
-    final List<String> treePathTerms =
-        data.getIncidentTreePaths().values().stream()
-            .map(this::getTreePathTerms)
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
+    final List<String> treePathTerms = getTreePathTerms(data.getIncidentTreePaths().values());
     getTreePathsWithIncidents(treePathTerms, data);
+    collectInstanceIndices(batch.getIncidents(), data);
 
     for (final IncidentEntity incident : batch.getIncidents()) {
       if (instanceExists(
@@ -276,24 +275,6 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
     return false;
   }
 
-  private List<String> getTreePathTerms(final String treePath) {
-    final var analyzeRequest =
-        AnalyzeRequest.of(
-            ar ->
-                ar.field(ListViewTemplate.TREE_PATH)
-                    .index(listViewTemplate.getFullQualifiedName())
-                    .text(treePath));
-    try {
-      final var analyzeResponse = richOpenSearchClient.index().analyze(analyzeRequest);
-      return analyzeResponse.tokens().stream()
-          .map(AnalyzeToken::token)
-          .collect(Collectors.toList());
-    } catch (final IOException e) {
-      throw new OperateRuntimeException(
-          "Exception occurred when requesting term vectors for tree_path");
-    }
-  }
-
   private void getTreePathsWithIncidents(
       final List<String> treePathTerms, final AdditionalData data) {
     record Result(String treePath) {}
@@ -319,6 +300,41 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
             });
   }
 
+  /**
+   * Looks up the indices of all process instances and flow node instances the incidents of the
+   * batch belong to, so that they are not queried per incident.
+   */
+  private void collectInstanceIndices(
+      final List<IncidentEntity> incidents, final AdditionalData data) {
+    final Set<String> piIds = new HashSet<>();
+    final Set<String> fniIds = new HashSet<>();
+    for (final IncidentEntity incident : incidents) {
+      final String incidentTreePath = data.getIncidentTreePaths().get(incident.getId());
+      if (incidentTreePath != null
+          && instanceExists(
+              incident.getProcessInstanceKey(), data.getProcessInstanceTreePaths().keySet())) {
+        piIds.addAll(new TreePath(incidentTreePath).extractProcessInstanceIds());
+        fniIds.addAll(new TreePath(incidentTreePath).extractFlowNodeInstanceIds());
+      }
+    }
+
+    piIds.removeAll(data.getProcessInstanceIndices().keySet());
+    if (!piIds.isEmpty()) {
+      data.getProcessInstanceIndices().putAll(getIndexNamesForIds(listViewTemplate, piIds));
+    }
+    final Set<String> fniIdsWithoutIndices = new HashSet<>(fniIds);
+    fniIdsWithoutIndices.removeAll(data.getFlowNodeInstanceIndices().keySet());
+    if (!fniIdsWithoutIndices.isEmpty()) {
+      data.getFlowNodeInstanceIndices()
+          .putAll(getIndexNamesAsList(flowNodeInstanceTemplate, fniIdsWithoutIndices));
+    }
+    fniIds.removeAll(data.getFlowNodeInstanceInListViewIndices().keySet());
+    if (!fniIds.isEmpty()) {
+      data.getFlowNodeInstanceInListViewIndices()
+          .putAll(getIndexNamesAsList(listViewTemplate, fniIds));
+    }
+  }
+
   private void updateProcessInstancesState(
       final String incidentId,
       final IncidentState newState,
@@ -573,12 +589,18 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
       final boolean ignoreMissingData)
       throws IOException {
     int countMissingInstance = 0;
+    final Set<Long> deletedProcessInstanceKeys =
+        getDeletedProcessInstanceKeys(
+            incidents.stream()
+                .map(IncidentEntity::getProcessInstanceKey)
+                .filter(key -> !StringUtils.hasLength(data.getProcessInstanceTreePaths().get(key)))
+                .collect(Collectors.toSet()));
     for (final Iterator<IncidentEntity> iterator = incidents.iterator(); iterator.hasNext(); ) {
       final IncidentEntity i = iterator.next();
       String piTreePath = data.getProcessInstanceTreePaths().get(i.getProcessInstanceKey());
       if (piTreePath == null || piTreePath.isEmpty()) {
         // check whether DELETE_PROCESS_INSTANCE operation exists
-        if (processInstanceWasDeleted(i.getProcessInstanceKey())) {
+        if (deletedProcessInstanceKeys.contains(i.getProcessInstanceKey())) {
           LOGGER.debug(
               "Process instance with the key {} was deleted. Incident post processing will be skipped for id {}.",
               i.getProcessInstanceKey(),
@@ -621,16 +643,30 @@ public class OpensearchIncidentPostImportAction extends AbstractIncidentPostImpo
     }
   }
 
-  private boolean processInstanceWasDeleted(final long processInstanceKey) throws IOException {
+  /** Returns those of the given process instances, for which a deletion was sent or completed. */
+  private Set<Long> getDeletedProcessInstanceKeys(final Set<Long> processInstanceKeys) {
+    final Set<Long> deletedProcessInstanceKeys = new HashSet<>();
+    if (processInstanceKeys.isEmpty()) {
+      return deletedProcessInstanceKeys;
+    }
+    record Result(Long processInstanceKey) {}
     final var request =
         searchRequestBuilder(operationTemplate)
             .query(
                 and(
-                    term(OperationTemplate.PROCESS_INSTANCE_KEY, processInstanceKey),
+                    longTerms(OperationTemplate.PROCESS_INSTANCE_KEY, processInstanceKeys),
                     term(OperationTemplate.TYPE, DELETE_PROCESS_INSTANCE.name()),
                     stringTerms(OperationTemplate.STATE, List.of(SENT.name(), COMPLETED.name()))))
-            .size(0);
-    return richOpenSearchClient.doc().search(request, Void.class).hits().total().value() > 0;
+            .source(sourceInclude(OperationTemplate.PROCESS_INSTANCE_KEY));
+    richOpenSearchClient
+        .doc()
+        .scrollWith(
+            request,
+            Result.class,
+            hits ->
+                hits.forEach(
+                    hit -> deletedProcessInstanceKeys.add(hit.source().processInstanceKey())));
+    return deletedProcessInstanceKeys;
   }
 
   private void createUpdateRequestFor(
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.Metrics;
+import io.camunda.operate.zeebe.ImportValueType;
+import io.camunda.operate.zeebeimport.RecordsReaderScheduler.PrioritizedTask;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class RecordsReaderSchedulerTest {
+
+  private RecordsReaderScheduler scheduler;
+
+  @Before
+  public void setup() {
+    scheduler = new RecordsReaderScheduler();
+    ReflectionTestUtils.setField(scheduler, "metrics", mock(Metrics.class));
+  }
+
+  @Test
+  public void testPositionsBehindHighestPositionReadOnPartition() {
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader jobReader = reader(1, ImportValueType.JOB);
+    final RecordsReader otherPartitionReader = reader(2, ImportValueType.JOB);
+
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(jobReader, 40);
+    scheduler.recordReadPosition(otherPartitionReader, 10);
+
+    assertEquals(0, scheduler.getPositionsBehind(variableReader));
+    assertEquals(60, scheduler.getPositionsBehind(jobReader));
+    assertEquals(0, scheduler.getPositionsBehind(otherPartitionReader));
+  }
+
+  @Test
+  public void testNotBehindAfterReaderCaughtUp() {
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader jobReader = reader(1, ImportValueType.JOB);
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(jobReader, 40);
+
+    scheduler.recordCaughtUp(jobReader);
+
+    assertEquals(0, scheduler.getPositionsBehind(jobReader));
+  }
+
+  @Test
+  public void testHeadStartOfPriorityValueTypesAndReadersBehind() {
+    final RecordsReader incidentReader = reader(1, ImportValueType.INCIDENT);
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader jobReader = reader(1, ImportValueType.JOB);
+    scheduler.recordReadPosition(incidentReader, 40);
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(jobReader, 40);
+
+    assertEquals(
+        RecordsReaderScheduler.MAX_HEAD_START_MS, scheduler.getHeadStartMs(incidentReader));
+    assertEquals(0, scheduler.getHeadStartMs(variableReader));
+    assertEquals(RecordsReaderScheduler.BEHIND_HEAD_START_MS, scheduler.getHeadStartMs(jobReader));
+  }
+
+  @Test
+  public void testRunTasksByDueTimeThenSubmission() {
+    final PrioritizedTask first = new PrioritizedTask(() -> {}, 1_000, 4);
+    final PrioritizedTask second = new PrioritizedTask(() -> {}, 2_000, 1);
+    final PrioritizedTask third = new PrioritizedTask(() -> {}, 2_000, 2);
+    final List<PrioritizedTask> tasks = new ArrayList<>(List.of(third, second, first));
+
+    Collections.sort(tasks);
+
+    assertEquals(List.of(first, second, third), tasks);
+  }
+
+  @Test
+  public void testPriorityValueTypesDoNotStarveOtherReaders() {
+    // a variable reader waits while incident readers keep being submitted
+    final long submittedAt = 10_000;
+    final PrioritizedTask variableTask = new PrioritizedTask(() -> {}, submittedAt, 1);
+    final PrioritizedTask earlyIncidentTask =
+        new PrioritizedTask(() -> {}, dueTime(submittedAt + 100), 2);
+    final PrioritizedTask lateIncidentTask =
+        new PrioritizedTask(
+            () -> {}, dueTime(submittedAt + RecordsReaderScheduler.MAX_HEAD_START_MS + 100), 3);
+    final List<PrioritizedTask> tasks =
+        new ArrayList<>(List.of(lateIncidentTask, variableTask, earlyIncidentTask));
+
+    Collections.sort(tasks);
+
+    assertEquals(List.of(earlyIncidentTask, variableTask, lateIncidentTask), tasks);
+  }
+
+  private static long dueTime(final long incidentSubmittedAt) {
+    return incidentSubmittedAt - RecordsReaderScheduler.MAX_HEAD_START_MS;
+  }
+
+  private static RecordsReader reader(final int partitionId, final ImportValueType type) {
+    final RecordsReader reader = mock(RecordsReader.class);
+    when(reader.getPartitionId()).thenReturn(partitionId);
+    when(reader.getImportValueType()).thenReturn(type);
+    return reader;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.post;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class AbstractIncidentPostImportActionTest {
+
+  @Test
+  public void testTreePathTermsOfSeveralProcessInstances() {
+    // incidents of two unrelated instances and of a called instance with two incidents
+    final List<String> treePaths =
+        List.of(
+            "PI_1/FN_task/FNI_11",
+            "PI_2/FN_task/FNI_21",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_task/FNI_41",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_otherTask/FNI_42");
+
+    final List<String> treePathTerms = AbstractIncidentPostImportAction.getTreePathTerms(treePaths);
+
+    assertEquals(treePathTerms.size(), Set.copyOf(treePathTerms).size());
+    assertEquals(
+        Set.of(
+            "PI_1",
+            "PI_1/FN_task",
+            "PI_1/FN_task/FNI_11",
+            "PI_2",
+            "PI_2/FN_task",
+            "PI_2/FN_task/FNI_21",
+            "PI_3",
+            "PI_3/FN_callActivity",
+            "PI_3/FN_callActivity/FNI_31",
+            "PI_3/FN_callActivity/FNI_31/PI_4",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_task",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_task/FNI_41",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_otherTask",
+            "PI_3/FN_callActivity/FNI_31/PI_4/FN_otherTask/FNI_42"),
+        Set.copyOf(treePathTerms));
+  }
+
+  @Test
+  public void testNoTreePathTermsWithoutTreePaths() {
+    assertTrue(AbstractIncidentPostImportAction.getTreePathTerms(List.of()).isEmpty());
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.elasticsearch;
+
+import static io.camunda.operate.qa.util.RestAPITestUtil.createGetAllProcessInstancesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.util.OperateZeebeAbstractIT;
+import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
+import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import java.util.List;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(
+    properties = {OperateProperties.PREFIX + ".importer.flowNodeStatisticsEnabled = true"})
+public class FlowNodeStatisticsFromIndexZeebeIT extends OperateZeebeAbstractIT {
+
+  @Autowired private FlowNodeStatisticsReader flowNodeStatisticsReader;
+
+  @Test
+  public void shouldReadStatisticsMaintainedByImporter() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess("process")
+            .startEvent("start")
+            .serviceTask("task")
+            .zeebeJobType("taskA")
+            .endEvent("end")
+            .done();
+    final Long processDefinitionKey =
+        tester
+            .deployProcess(process, "process.bpmn")
+            .waitUntil()
+            .processIsDeployed()
+            .getProcessDefinitionKey();
+    tester
+        .startProcessInstance("process")
+        .waitUntil()
+        .flowNodeIsActive("task")
+        .then()
+        .completeTask("task", "taskA")
+        .waitUntil()
+        .processInstanceIsCompleted();
+    tester.startProcessInstance("process").waitUntil().flowNodeIsActive("task");
+    searchTestRule.refreshSerchIndexes();
+
+    // when
+    final var statistics =
+        flowNodeStatisticsReader.getFlowNodeStatistics(
+            createGetAllProcessInstancesQuery(
+                q -> q.setProcessIds(List.of(String.valueOf(processDefinitionKey)))));
+
+    // then
+    assertThat(statistics)
+        .extracting(
+            FlowNodeStatisticsDto::getActivityId,
+            FlowNodeStatisticsDto::getActive,
+            FlowNodeStatisticsDto::getCompleted)
+        .containsExactlyInAnyOrder(tuple("task", 1L, 0L), tuple("end", 0L, 1L));
+  }
+
+  @Test
+  public void shouldCountIncidentsInsteadOfActiveFlowNodes() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess("process")
+            .startEvent("start")
+            .serviceTask("task")
+            .zeebeJobType("taskA")
+            .endEvent("end")
+            .done();
+    final Long processDefinitionKey =
+        tester
+            .deployProcess(process, "process.bpmn")
+            .waitUntil()
+            .processIsDeployed()
+            .getProcessDefinitionKey();
+    tester
+        .startProcessInstance("process")
+        .waitUntil()
+        .flowNodeIsActive("task")
+        .then()
+        .failTask("taskA", "failed")
+        .waitUntil()
+        .incidentIsActive();
+    searchTestRule.refreshSerchIndexes();
+
+    // when
+    final var statistics =
+        flowNodeStatisticsReader.getFlowNodeStatistics(
+            createGetAllProcessInstancesQuery(
+                q -> q.setProcessIds(List.of(String.valueOf(processDefinitionKey)))));
+
+    // then
+    assertThat(statistics)
+        .extracting(
+            FlowNodeStatisticsDto::getActivityId,
+            FlowNodeStatisticsDto::getActive,
+            FlowNodeStatisticsDto::getIncidents)
+        .containsExactly(tuple("task", 0L, 1L));
+  }
+}
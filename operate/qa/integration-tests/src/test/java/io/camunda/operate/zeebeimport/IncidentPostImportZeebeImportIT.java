@@ -27,6 +27,7 @@ import io.camunda.operate.webapp.rest.dto.listview.ListViewResponseDto;
 import io.camunda.operate.webapp.rest.dto.listview.ProcessInstanceStateDto;
 import io.camunda.operate.webapp.zeebe.operation.CancelProcessInstanceHandler;
 import io.camunda.operate.zeebe.ImportValueType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import org.junit.Before;
@@ -151,6 +152,41 @@ public class IncidentPostImportZeebeImportIT extends OperateZeebeAbstractIT {
     assertThat(flowNodeInstances.get(1).isIncident()).isTrue();
   }
 
+  @Test
+  public void testPostImporterProcessesIncidentsOfSeveralInstancesInOneBatch() {
+    // having
+    final String processId = "process";
+    final String taskId = "task";
+    final String errorMessage = "Some error";
+    tester.deployProcess("single-task.bpmn");
+    final List<Long> processInstanceKeys = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      processInstanceKeys.add(
+          tester
+              .startProcessInstance(processId, null)
+              .and()
+              .failTask(taskId, errorMessage)
+              .getProcessInstanceKey());
+    }
+    processAllRecordsWithoutPostImporterAndWait(postImporterQueueCountCheck, 3);
+
+    // when
+    // run with post importer
+    processImportTypeAndWait(ImportValueType.INCIDENT, incidentsInAnyInstanceAreActiveCheck, 3L);
+
+    // then
+    for (final Long processInstanceKey : processInstanceKeys) {
+      final ProcessInstanceForListViewEntity processInstanceEntity =
+          processInstanceReader.getProcessInstanceByKey(processInstanceKey);
+      assertThat(processInstanceEntity.isIncident()).isTrue();
+      // and
+      final List<FlowNodeInstanceEntity> flowNodeInstances =
+          getFlowNodeInstances(processInstanceKey);
+      assertThat(flowNodeInstances).hasSize(2);
+      assertThat(flowNodeInstances.get(1).isIncident()).isTrue();
+    }
+  }
+
   private Tuple<Long, Long> findSingleZeebeIncidentData(final Long processInstanceKey) {
     record Value(Long jobKey) {}
     record Result(Long key, Value value) {}
@@ -11,17 +11,24 @@ import static io.camunda.operate.util.ThreadUtil.sleepFor;
 
 import io.camunda.operate.entities.ProcessEntity;
 import io.camunda.operate.entities.ProcessFlowNodeEntity;
+import io.camunda.operate.store.NotFoundException;
 import io.camunda.operate.store.ProcessStore;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * Keeps the most recently used processes, including their diagram and flow node names, so that
+ * readers and importers don't load and parse them on every request. Processes are added when they
+ * are read the first time, i.e. only once they are stored, and removed when they are deleted.
+ */
 @Component
 public class ProcessCache {
 
@@ -29,12 +36,22 @@ public class ProcessCache {
   private static final int CACHE_MAX_SIZE = 100;
   private static final int MAX_ATTEMPTS = 5;
   private static final long WAIT_TIME = 200;
-  private final Map<Long, ProcessEntity> cache = new ConcurrentHashMap<>();
+
+  // access ordered, so that the least recently used process is evicted first
+  private final Map<Long, CachedProcess> cache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Long, CachedProcess>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, CachedProcess> eldest) {
+              return size() > CACHE_MAX_SIZE;
+            }
+          });
+
   @Autowired private ProcessStore processStore;
 
   public String getProcessNameOrDefaultValue(Long processDefinitionKey, String defaultValue) {
     final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+        getCachedProcess(processDefinitionKey).map(CachedProcess::process).orElse(null);
     String processName = defaultValue;
     if (cachedProcessData != null) {
       processName = cachedProcessData.getName();
@@ -48,7 +65,7 @@ public class ProcessCache {
 
   public String getProcessNameOrBpmnProcessId(Long processDefinitionKey, String defaultValue) {
     final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+        getCachedProcess(processDefinitionKey).map(CachedProcess::process).orElse(null);
     String processName = null;
     if (cachedProcessData != null) {
       processName = cachedProcessData.getName();
@@ -65,18 +82,12 @@ public class ProcessCache {
 
   public String getFlowNodeNameOrDefaultValue(
       Long processDefinitionKey, String flowNodeId, String defaultValue) {
-    final ProcessEntity cachedProcessData =
-        getCachedProcessEntity(processDefinitionKey).orElse(null);
+    final CachedProcess cachedProcessData = getCachedProcess(processDefinitionKey).orElse(null);
     String flowNodeName = defaultValue;
-    if (cachedProcessData != null && flowNodeId != null) {
-      final ProcessFlowNodeEntity flowNodeEntity =
-          cachedProcessData.getFlowNodes().stream()
-              .filter(x -> flowNodeId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
-      if (flowNodeEntity != null) {
-        flowNodeName = flowNodeEntity.getName();
-      }
+    if (cachedProcessData != null
+        && flowNodeId != null
+        && cachedProcessData.flowNodeNames().containsKey(flowNodeId)) {
+      flowNodeName = cachedProcessData.flowNodeNames().get(flowNodeId);
     }
     if (!StringUtils.hasText(flowNodeName)) {
       LOGGER.debug("FlowNodeName is empty, use default value: {} ", defaultValue);
@@ -85,14 +96,29 @@ public class ProcessCache {
     return flowNodeName;
   }
 
-  private Optional<ProcessEntity> getCachedProcessEntity(Long processDefinitionKey) {
-    ProcessEntity cachedProcessData = cache.get(processDefinitionKey);
+  /**
+   * Returns the process including its diagram. In contrast to the names, a process which is not
+   * imported yet is not waited for, but results in a {@link NotFoundException} right away. The
+   * process may have been cached for a user of another tenant, so callers must check its tenant.
+   */
+  public ProcessEntity getProcess(Long processDefinitionKey) {
+    final CachedProcess cachedProcessData = cache.get(processDefinitionKey);
+    if (cachedProcessData != null && cachedProcessData.process().getBpmnXml() != null) {
+      return cachedProcessData.process();
+    }
+    final ProcessEntity process = processStore.getProcessByKey(processDefinitionKey);
+    putToCache(processDefinitionKey, process);
+    return process;
+  }
+
+  private Optional<CachedProcess> getCachedProcess(Long processDefinitionKey) {
+    CachedProcess cachedProcessData = cache.get(processDefinitionKey);
     if (cachedProcessData == null) {
       final Optional<ProcessEntity> processMaybe =
           findOrWaitProcess(processDefinitionKey, MAX_ATTEMPTS, WAIT_TIME);
       if (processMaybe.isPresent()) {
-        cachedProcessData = processMaybe.get();
-        putToCache(processDefinitionKey, cachedProcessData);
+        cachedProcessData = CachedProcess.of(processMaybe.get());
+        cache.put(processDefinitionKey, cachedProcessData);
       }
     }
     return Optional.ofNullable(cachedProcessData);
@@ -132,18 +158,28 @@ public class ProcessCache {
   }
 
   public void putToCache(Long processDefinitionKey, ProcessEntity process) {
-    if (cache.size() >= CACHE_MAX_SIZE) {
-      // remove 1st element
-      final Iterator<Long> iterator = cache.keySet().iterator();
-      if (iterator.hasNext()) {
-        iterator.next();
-        iterator.remove();
-      }
-    }
-    cache.put(processDefinitionKey, process);
+    cache.put(processDefinitionKey, CachedProcess.of(process));
+  }
+
+  public void removeFromCache(Long processDefinitionKey) {
+    cache.remove(processDefinitionKey);
   }
 
   public void clearCache() {
     cache.clear();
   }
+
+  /** The process with its flow node names by flow node id, to look them up without a scan. */
+  private record CachedProcess(ProcessEntity process, Map<String, String> flowNodeNames) {
+
+    private static CachedProcess of(final ProcessEntity process) {
+      final Map<String, String> flowNodeNames = new HashMap<>();
+      if (process.getFlowNodes() != null) {
+        for (final ProcessFlowNodeEntity flowNode : process.getFlowNodes()) {
+          flowNodeNames.putIfAbsent(flowNode.getId(), flowNode.getName());
+        }
+      }
+      return new CachedProcess(process, flowNodeNames);
+    }
+  }
 }
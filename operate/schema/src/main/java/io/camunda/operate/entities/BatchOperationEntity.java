@@ -22,6 +22,7 @@ public class BatchOperationEntity extends OperateEntity<BatchOperationEntity> {
   private Integer instancesCount = 0;
   private Integer operationsTotalCount = 0;
   private Integer operationsFinishedCount = 0;
+  private Integer operationsSentCount = 0;
 
   @JsonIgnore private Object[] sortValues;
 
@@ -97,6 +98,15 @@ public class BatchOperationEntity extends OperateEntity<BatchOperationEntity> {
     return this;
   }
 
+  public Integer getOperationsSentCount() {
+    return operationsSentCount;
+  }
+
+  public BatchOperationEntity setOperationsSentCount(Integer operationsSentCount) {
+    this.operationsSentCount = operationsSentCount;
+    return this;
+  }
+
   public Object[] getSortValues() {
     return sortValues;
   }
@@ -122,6 +132,7 @@ public class BatchOperationEntity extends OperateEntity<BatchOperationEntity> {
     result = 31 * result + (operationsTotalCount != null ? operationsTotalCount.hashCode() : 0);
     result =
         31 * result + (operationsFinishedCount != null ? operationsFinishedCount.hashCode() : 0);
+    result = 31 * result + (operationsSentCount != null ? operationsSentCount.hashCode() : 0);
     return result;
   }
 
@@ -164,8 +175,13 @@ public class BatchOperationEntity extends OperateEntity<BatchOperationEntity> {
         : that.operationsTotalCount != null) {
       return false;
     }
-    return operationsFinishedCount != null
-        ? operationsFinishedCount.equals(that.operationsFinishedCount)
-        : that.operationsFinishedCount == null;
+    if (operationsFinishedCount != null
+        ? !operationsFinishedCount.equals(that.operationsFinishedCount)
+        : that.operationsFinishedCount != null) {
+      return false;
+    }
+    return operationsSentCount != null
+        ? operationsSentCount.equals(that.operationsSentCount)
+        : that.operationsSentCount == null;
   }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class FlowNodeStatisticsEntity extends OperateEntity<FlowNodeStatisticsEntity> {
+
+  /** The id of the document which records since when the statistics are maintained. */
+  public static final String ENABLED_SINCE_ID = "enabled-since";
+
+  private Long processDefinitionKey;
+  private String bpmnProcessId;
+  private String flowNodeId;
+  private String tenantId;
+  private long active;
+  private long incidents;
+  private long canceled;
+  private long completed;
+
+  /**
+   * The position of the last record applied to the counters, per kind of record and partition, so
+   * that records which are imported again are not counted twice.
+   */
+  private Map<String, Long> importPositions = new HashMap<>();
+
+  /**
+   * Only set on the document with the id {@link #ENABLED_SINCE_ID}: the time in epoch millis since
+   * which the importer maintains the statistics without interruption, or null if it doesn't.
+   */
+  private Long enabledSince;
+
+  public static String createId(final Long processDefinitionKey, final String flowNodeId) {
+    return String.format("%d-%s", processDefinitionKey, flowNodeId);
+  }
+
+  public Long getProcessDefinitionKey() {
+    return processDefinitionKey;
+  }
+
+  public FlowNodeStatisticsEntity setProcessDefinitionKey(final Long processDefinitionKey) {
+    this.processDefinitionKey = processDefinitionKey;
+    return this;
+  }
+
+  public String getBpmnProcessId() {
+    return bpmnProcessId;
+  }
+
+  public FlowNodeStatisticsEntity setBpmnProcessId(final String bpmnProcessId) {
+    this.bpmnProcessId = bpmnProcessId;
+    return this;
+  }
+
+  public String getFlowNodeId() {
+    return flowNodeId;
+  }
+
+  public FlowNodeStatisticsEntity setFlowNodeId(final String flowNodeId) {
+    this.flowNodeId = flowNodeId;
+    return this;
+  }
+
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public FlowNodeStatisticsEntity setTenantId(final String tenantId) {
+    this.tenantId = tenantId;
+    return this;
+  }
+
+  public long getActive() {
+    return active;
+  }
+
+  public FlowNodeStatisticsEntity setActive(final long active) {
+    this.active = active;
+    return this;
+  }
+
+  public long getIncidents() {
+    return incidents;
+  }
+
+  public FlowNodeStatisticsEntity setIncidents(final long incidents) {
+    this.incidents = incidents;
+    return this;
+  }
+
+  public long getCanceled() {
+    return canceled;
+  }
+
+  public FlowNodeStatisticsEntity setCanceled(final long canceled) {
+    this.canceled = canceled;
+    return this;
+  }
+
+  public long getCompleted() {
+    return completed;
+  }
+
+  public FlowNodeStatisticsEntity setCompleted(final long completed) {
+    this.completed = completed;
+    return this;
+  }
+
+  public Map<String, Long> getImportPositions() {
+    return importPositions;
+  }
+
+  public FlowNodeStatisticsEntity setImportPositions(final Map<String, Long> importPositions) {
+    this.importPositions = importPositions;
+    return this;
+  }
+
+  public Long getEnabledSince() {
+    return enabledSince;
+  }
+
+  public FlowNodeStatisticsEntity setEnabledSince(final Long enabledSince) {
+    this.enabledSince = enabledSince;
+    return this;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+    final FlowNodeStatisticsEntity that = (FlowNodeStatisticsEntity) o;
+    return active == that.active
+        && incidents == that.incidents
+        && canceled == that.canceled
+        && completed == that.completed
+        && Objects.equals(importPositions, that.importPositions)
+        && Objects.equals(enabledSince, that.enabledSince)
+        && Objects.equals(processDefinitionKey, that.processDefinitionKey)
+        && Objects.equals(bpmnProcessId, that.bpmnProcessId)
+        && Objects.equals(flowNodeId, that.flowNodeId)
+        && Objects.equals(tenantId, that.tenantId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        super.hashCode(),
+        processDefinitionKey,
+        bpmnProcessId,
+        flowNodeId,
+        tenantId,
+        active,
+        incidents,
+        canceled,
+        completed,
+        importPositions,
+        enabledSince);
+  }
+
+  @Override
+  public String toString() {
+    return "FlowNodeStatisticsEntity{"
+        + "processDefinitionKey="
+        + processDefinitionKey
+        + ", flowNodeId='"
+        + flowNodeId
+        + '\''
+        + ", tenantId='"
+        + tenantId
+        + '\''
+        + ", active="
+        + active
+        + ", incidents="
+        + incidents
+        + ", canceled="
+        + canceled
+        + ", completed="
+        + completed
+        + ", importPositions="
+        + importPositions
+        + ", enabledSince="
+        + enabledSince
+        + '}';
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.schema.indices;
+
+import io.camunda.operate.schema.backup.Prio4Backup;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-aggregated number of flow node instances per process definition and flow node, which is
+ * maintained incrementally by the importer.
+ */
+@Component
+public class FlowNodeStatisticsIndex extends AbstractIndexDescriptor implements Prio4Backup {
+
+  public static final String INDEX_NAME = "flownode-statistics";
+  public static final String ID = "id";
+  public static final String PROCESS_DEFINITION_KEY = "processDefinitionKey";
+  public static final String BPMN_PROCESS_ID = "bpmnProcessId";
+  public static final String FLOW_NODE_ID = "flowNodeId";
+  public static final String ACTIVE = "active";
+  public static final String INCIDENTS = "incidents";
+  public static final String CANCELED = "canceled";
+  public static final String COMPLETED = "completed";
+  public static final String IMPORT_POSITIONS = "importPositions";
+  public static final String ENABLED_SINCE = "enabledSince";
+
+  @Override
+  public String getIndexName() {
+    return INDEX_NAME;
+  }
+
+  @Override
+  public String getVersion() {
+    return "8.6.0";
+  }
+}
@@ -24,6 +24,7 @@ public class BatchOperationTemplate extends AbstractTemplateDescriptor implement
   public static final String INSTANCES_COUNT = "instancesCount";
   public static final String OPERATIONS_TOTAL_COUNT = "operationsTotalCount";
   public static final String OPERATIONS_FINISHED_COUNT = "operationsFinishedCount";
+  public static final String OPERATIONS_SENT_COUNT = "operationsSentCount";
   public static final String FAILED_OPERATIONS_COUNT = "failedOperationsCount";
   public static final String COMPLETED_OPERATIONS_COUNT = "completedOperationsCount";
 
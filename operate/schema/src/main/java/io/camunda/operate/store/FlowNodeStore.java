@@ -17,4 +17,10 @@ public interface FlowNodeStore {
   Map<String, String> getFlowNodeIdsForFlowNodeInstances(Set<String> flowNodeInstances);
 
   String findParentTreePathFor(final long parentFlowNodeInstanceKey);
+
+  /**
+   * @return the name of the runtime or dated index holding each of the given flow node instances,
+   *     by id; flow node instances which were not found are omitted
+   */
+  Map<String, String> getIndicesForFlowNodeInstances(Set<String> flowNodeInstanceIds);
 }
@@ -17,6 +17,8 @@ public interface ImportStore {
   ImportPositionEntity getImportPositionByAliasAndPartitionId(String alias, int partitionId)
       throws IOException;
 
+  List<ImportPositionEntity> getImportPositions() throws IOException;
+
   Either<Throwable, Boolean> updateImportPositions(
       List<ImportPositionEntity> positions, List<ImportPositionEntity> postImportPositionUpdates);
 
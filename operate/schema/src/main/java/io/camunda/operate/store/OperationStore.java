@@ -11,6 +11,7 @@ import io.camunda.operate.entities.BatchOperationEntity;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.exceptions.PersistenceException;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -30,4 +31,10 @@ public interface OperationStore {
       String index, String batchOperationId, String script, Map<String, Object> parameters);
 
   BatchRequest newBatchRequest();
+
+  /**
+   * Returns the sum of the scheduled and the finished operations of all batch operations. It
+   * changes whenever operations are scheduled or finished, on whichever node this happened.
+   */
+  long getBatchOperationsProgress() throws IOException;
 }
@@ -0,0 +1,18 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.store;
+
+public interface VariableStore {
+
+  /**
+   * Returns the full (not truncated) value of the runtime variable with the given id, or {@code
+   * null} if it does not exist. The document is read by id, so that values written by the previous
+   * import batch are visible without waiting for an index refresh.
+   */
+  String getVariableFullValue(String variableId);
+}
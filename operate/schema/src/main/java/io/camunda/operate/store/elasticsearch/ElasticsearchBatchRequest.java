@@ -67,7 +67,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
       bulkRequest.add(
           new IndexRequest(index)
               .id(id)
-              .source(objectMapper.writeValueAsString(entity), XContentType.JSON));
+              .source(objectMapper.writeValueAsBytes(entity), XContentType.JSON));
     } catch (final JsonProcessingException e) {
       throw new PersistenceException(
           String.format(
@@ -88,7 +88,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
       bulkRequest.add(
           new IndexRequest(index)
               .id(entity.getId())
-              .source(objectMapper.writeValueAsString(entity), XContentType.JSON)
+              .source(objectMapper.writeValueAsBytes(entity), XContentType.JSON)
               .routing(routing));
     } catch (final JsonProcessingException e) {
       throw new PersistenceException(
@@ -118,10 +118,8 @@ public class ElasticsearchBatchRequest implements BatchRequest {
           new UpdateRequest()
               .index(index)
               .id(id)
-              .doc(
-                  objectMapper.readValue(
-                      objectMapper.writeValueAsString(updateFields), HashMap.class)) // empty
-              .upsert(objectMapper.writeValueAsString(entity), XContentType.JSON));
+              .doc(objectMapper.writeValueAsBytes(updateFields), XContentType.JSON)
+              .upsert(objectMapper.writeValueAsBytes(entity), XContentType.JSON));
     } catch (final JsonProcessingException e) {
       throw new PersistenceException(
           String.format(
@@ -152,10 +150,8 @@ public class ElasticsearchBatchRequest implements BatchRequest {
           new UpdateRequest()
               .index(index)
               .id(id)
-              .doc(
-                  objectMapper.readValue(
-                      objectMapper.writeValueAsString(updateFields), HashMap.class))
-              .upsert(objectMapper.writeValueAsString(entity), XContentType.JSON)
+              .doc(objectMapper.writeValueAsBytes(updateFields), XContentType.JSON)
+              .upsert(objectMapper.writeValueAsBytes(entity), XContentType.JSON)
               .routing(routing)
               .retryOnConflict(UPDATE_RETRY_COUNT));
     } catch (final JsonProcessingException e) {
@@ -189,7 +185,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
               .index(index)
               .id(id)
               .script(getScriptWithParameters(script, parameters))
-              .upsert(objectMapper.writeValueAsString(entity), XContentType.JSON)
+              .upsert(objectMapper.writeValueAsBytes(entity), XContentType.JSON)
               .retryOnConflict(UPDATE_RETRY_COUNT));
     } catch (final JsonProcessingException e) {
       throw new PersistenceException(
@@ -224,7 +220,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
               .index(index)
               .id(id)
               .script(getScriptWithParameters(script, parameters))
-              .upsert(objectMapper.writeValueAsString(entity), XContentType.JSON)
+              .upsert(objectMapper.writeValueAsBytes(entity), XContentType.JSON)
               .routing(routing)
               .retryOnConflict(UPDATE_RETRY_COUNT));
     } catch (final JsonProcessingException e) {
@@ -248,9 +244,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
           new UpdateRequest()
               .index(index)
               .id(id)
-              .doc(
-                  objectMapper.readValue(
-                      objectMapper.writeValueAsString(updateFields), HashMap.class))
+              .doc(objectMapper.writeValueAsBytes(updateFields), XContentType.JSON)
               .retryOnConflict(UPDATE_RETRY_COUNT));
     } catch (final JsonProcessingException e) {
       throw new PersistenceException(
@@ -264,14 +258,21 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   @Override
   public BatchRequest update(final String index, final String id, final OperateEntity entity)
       throws PersistenceException {
+    LOGGER.debug("Add update request for index {} id {} and entity {}", index, id, entity);
     try {
-      return update(
-          index,
-          id,
-          objectMapper.readValue(objectMapper.writeValueAsString(entity), HashMap.class));
+      bulkRequest.add(
+          new UpdateRequest()
+              .index(index)
+              .id(id)
+              .doc(objectMapper.writeValueAsBytes(entity), XContentType.JSON)
+              .retryOnConflict(UPDATE_RETRY_COUNT));
     } catch (final JsonProcessingException e) {
-      throw new RuntimeException(e);
+      throw new PersistenceException(
+          String.format(
+              "Error preparing the query to update index [%s] document with id [%s]", index, id),
+          e);
     }
+    return this;
   }
 
   @Override
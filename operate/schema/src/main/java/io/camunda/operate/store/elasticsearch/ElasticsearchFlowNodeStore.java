@@ -9,6 +9,7 @@ package io.camunda.operate.store.elasticsearch;
 
 import static io.camunda.operate.schema.templates.ListViewTemplate.*;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_ID;
+import static io.camunda.operate.util.ElasticsearchUtil.QueryType.ALL;
 import static io.camunda.operate.util.ElasticsearchUtil.QueryType.ONLY_RUNTIME;
 import static io.camunda.operate.util.ElasticsearchUtil.joinWithAnd;
 import static io.camunda.operate.util.ElasticsearchUtil.scrollWith;
@@ -123,6 +124,30 @@ public class ElasticsearchFlowNodeStore implements FlowNodeStore {
     return flowNodeIdsMap;
   }
 
+  @Override
+  public Map<String, String> getIndicesForFlowNodeInstances(Set<String> flowNodeInstanceIds) {
+    final Map<String, String> indicesMap = new HashMap<>();
+    final SearchRequest request =
+        ElasticsearchUtil.createSearchRequest(flowNodeInstanceTemplate, ALL)
+            .source(
+                new SearchSourceBuilder()
+                    .query(termsQuery(FlowNodeInstanceTemplate.ID, flowNodeInstanceIds))
+                    .fetchSource(false));
+    try {
+      scrollWith(
+          request,
+          esClient,
+          searchHits ->
+              Arrays.stream(searchHits.getHits())
+                  .forEach(h -> indicesMap.put(h.getId(), h.getIndex())));
+    } catch (IOException e) {
+      throw new OperateRuntimeException(
+          "Exception occurred when searching for flow node instance indices: " + e.getMessage(),
+          e);
+    }
+    return indicesMap;
+  }
+
   @Override
   public String findParentTreePathFor(long parentFlowNodeInstanceKey) {
     return findParentTreePath(parentFlowNodeInstanceKey, 0);
@@ -94,6 +94,14 @@ public class ElasticsearchImportStore implements ImportStore {
     return position;
   }
 
+  @Override
+  public List<ImportPositionEntity> getImportPositions() throws IOException {
+    final SearchRequest searchRequest =
+        new SearchRequest(importPositionType.getAlias()).source(new SearchSourceBuilder());
+    return ElasticsearchUtil.scroll(
+        searchRequest, ImportPositionEntity.class, objectMapper, esClient);
+  }
+
   @Override
   public Either<Throwable, Boolean> updateImportPositions(
       List<ImportPositionEntity> positions, List<ImportPositionEntity> postImportPositions) {
@@ -12,6 +12,7 @@ import static io.camunda.operate.util.ElasticsearchUtil.joinWithAnd;
 import static io.camunda.operate.util.ElasticsearchUtil.scroll;
 import static org.elasticsearch.index.query.QueryBuilders.termQuery;
 import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+import static org.elasticsearch.search.aggregations.AggregationBuilders.sum;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.operate.conditions.ElasticsearchCondition;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
@@ -38,6 +40,7 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.TermQueryBuilder;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.aggregations.metrics.Sum;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.xcontent.XContentType;
 import org.slf4j.Logger;
@@ -181,6 +184,26 @@ public class ElasticsearchOperationStore implements OperationStore {
     return beanFactory.getBean(BatchRequest.class);
   }
 
+  @Override
+  public long getBatchOperationsProgress() throws IOException {
+    final SearchRequest searchRequest =
+        new SearchRequest(batchOperationTemplate.getAlias())
+            .source(
+                new SearchSourceBuilder()
+                    .size(0)
+                    .aggregation(
+                        sum(BatchOperationTemplate.OPERATIONS_TOTAL_COUNT)
+                            .field(BatchOperationTemplate.OPERATIONS_TOTAL_COUNT))
+                    .aggregation(
+                        sum(BatchOperationTemplate.OPERATIONS_FINISHED_COUNT)
+                            .field(BatchOperationTemplate.OPERATIONS_FINISHED_COUNT)));
+    final SearchResponse response = esClient.search(searchRequest, RequestOptions.DEFAULT);
+    final Sum total = response.getAggregations().get(BatchOperationTemplate.OPERATIONS_TOTAL_COUNT);
+    final Sum finished =
+        response.getAggregations().get(BatchOperationTemplate.OPERATIONS_FINISHED_COUNT);
+    return (long) (total.getValue() + finished.getValue());
+  }
+
   private Script getScriptWithParameters(String script, Map<String, Object> parameters)
       throws PersistenceException {
     try {
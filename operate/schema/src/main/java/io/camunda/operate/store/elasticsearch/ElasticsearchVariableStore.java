@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.store.elasticsearch;
+
+import io.camunda.operate.conditions.ElasticsearchCondition;
+import io.camunda.operate.schema.templates.VariableTemplate;
+import io.camunda.operate.store.VariableStore;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+@Conditional(ElasticsearchCondition.class)
+@Component
+public class ElasticsearchVariableStore implements VariableStore {
+
+  @Autowired private VariableTemplate variableTemplate;
+
+  @Autowired private RetryElasticsearchClient retryElasticsearchClient;
+
+  @Override
+  public String getVariableFullValue(final String variableId) {
+    final Map<String, Object> document =
+        retryElasticsearchClient.getDocument(variableTemplate.getFullQualifiedName(), variableId);
+    if (document == null) {
+      return null;
+    }
+    return (String)
+        (Boolean.TRUE.equals(document.get(VariableTemplate.IS_PREVIEW))
+            ? document.get(VariableTemplate.FULL_VALUE)
+            : document.get(VariableTemplate.VALUE));
+  }
+}
@@ -78,6 +78,13 @@ public class OpensearchFlowNodeStore implements FlowNodeStore {
     return flowNodeIdsMap;
   }
 
+  @Override
+  public Map<String, String> getIndicesForFlowNodeInstances(Set<String> flowNodeInstanceIds) {
+    return richOpenSearchClient
+        .doc()
+        .getIndexNames(flowNodeInstanceTemplate.getAlias(), flowNodeInstanceIds);
+  }
+
   @Override
   public String findParentTreePathFor(long parentFlowNodeInstanceKey) {
     return findParentTreePath(parentFlowNodeInstanceKey, 0);
@@ -81,6 +81,14 @@ public class OpensearchImportStore implements ImportStore {
     return importPositionEntity;
   }
 
+  @Override
+  public List<ImportPositionEntity> getImportPositions() {
+    return richOpenSearchClient
+        .doc()
+        .scrollValues(
+            searchRequestBuilder(importPositionType.getAlias()), ImportPositionEntity.class);
+  }
+
   @Override
   public Either<Throwable, Boolean> updateImportPositions(
       final List<ImportPositionEntity> positions,
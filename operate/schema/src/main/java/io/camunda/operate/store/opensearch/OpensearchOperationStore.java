@@ -8,6 +8,7 @@
 package io.camunda.operate.store.opensearch;
 
 import static io.camunda.operate.store.opensearch.client.sync.OpenSearchRetryOperation.UPDATE_RETRY_COUNT;
+import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.sumAggregation;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.and;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.script;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.stringTerms;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -151,4 +153,21 @@ public class OpensearchOperationStore implements OperationStore {
   public BatchRequest newBatchRequest() {
     return beanFactory.getBean(BatchRequest.class);
   }
+
+  @Override
+  public long getBatchOperationsProgress() {
+    final var searchRequestBuilder =
+        searchRequestBuilder(batchOperationTemplate.getAlias())
+            .aggregations(
+                BatchOperationTemplate.OPERATIONS_TOTAL_COUNT,
+                sumAggregation(BatchOperationTemplate.OPERATIONS_TOTAL_COUNT)._toAggregation())
+            .aggregations(
+                BatchOperationTemplate.OPERATIONS_FINISHED_COUNT,
+                sumAggregation(BatchOperationTemplate.OPERATIONS_FINISHED_COUNT)._toAggregation());
+    final Map<String, Aggregate> aggregations =
+        richOpenSearchClient.doc().searchAggregations(searchRequestBuilder);
+    return (long)
+        (aggregations.get(BatchOperationTemplate.OPERATIONS_TOTAL_COUNT).sum().value()
+            + aggregations.get(BatchOperationTemplate.OPERATIONS_FINISHED_COUNT).sum().value());
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.store.opensearch;
+
+import io.camunda.operate.conditions.OpensearchCondition;
+import io.camunda.operate.entities.VariableEntity;
+import io.camunda.operate.schema.templates.VariableTemplate;
+import io.camunda.operate.store.VariableStore;
+import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+@Conditional(OpensearchCondition.class)
+@Component
+public class OpensearchVariableStore implements VariableStore {
+
+  @Autowired private VariableTemplate variableTemplate;
+
+  @Autowired private RichOpenSearchClient richOpenSearchClient;
+
+  @Override
+  public String getVariableFullValue(final String variableId) {
+    return richOpenSearchClient
+        .doc()
+        .getWithRetries(variableTemplate.getFullQualifiedName(), variableId, VariableEntity.class)
+        .map(variable -> variable.getIsPreview() ? variable.getFullValue() : variable.getValue())
+        .orElse(null);
+  }
+}
@@ -65,6 +65,10 @@ public interface AggregationDSL {
     return FiltersAggregation.of(a -> a.filters(Buckets.of(b -> b.keyed(queries))));
   }
 
+  static SumAggregation sumAggregation(String field) {
+    return SumAggregation.of(a -> a.field(field));
+  }
+
   static TermsAggregation termAggregation(String field, int size) {
     return TermsAggregation.of(a -> a.field(field).size(size));
   }
@@ -132,6 +132,10 @@ public interface QueryDSL {
         ._toQuery();
   }
 
+  static <A> Query lt(final String field, final A lt) {
+    return RangeQuery.of(q -> q.field(field).lt(json(lt)))._toQuery();
+  }
+
   static <A> Query lte(final String field, final A lte) {
     return RangeQuery.of(q -> q.field(field).lte(json(lte)))._toQuery();
   }
@@ -61,6 +61,36 @@ public class OperationsManager {
     }
   }
 
+  /**
+   * Adds the operations, which were sent to Zeebe, to their batch operations with one bulk request,
+   * to track the progress of the batch operations before the operations are completed.
+   *
+   * @param sentCounts number of sent operations by batch operation id
+   */
+  public void updateSentInBatchOperations(final Map<String, Integer> sentCounts)
+      throws PersistenceException {
+    if (sentCounts.isEmpty()) {
+      return;
+    }
+    final Map<String, String> ids2indexNames =
+        getIndexNameForAliasAndIds(batchOperationTemplate.getAlias(), sentCounts.keySet());
+    // batch operations created before the counter was introduced don't have it yet
+    final String script =
+        String.format(
+            "if (ctx._source.%1$s == null) { ctx._source.%1$s = params.sent; }"
+                + " else { ctx._source.%1$s += params.sent; }",
+            BatchOperationTemplate.OPERATIONS_SENT_COUNT);
+    final BatchRequest batchRequest = newBatchRequest();
+    for (final Map.Entry<String, Integer> sentCount : sentCounts.entrySet()) {
+      final String index = ids2indexNames.get(sentCount.getKey());
+      if (index != null) {
+        batchRequest.updateWithScript(
+            index, sentCount.getKey(), script, Map.of("sent", sentCount.getValue()));
+      }
+    }
+    batchRequest.execute();
+  }
+
   public void updateInstancesInBatchOperation(String batchOperationId, long increment)
       throws PersistenceException {
     this.updateInstancesInBatchOperation(batchOperationId, null, increment);
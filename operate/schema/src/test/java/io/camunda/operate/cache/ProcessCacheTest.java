@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.entities.ProcessEntity;
+import io.camunda.operate.entities.ProcessFlowNodeEntity;
+import io.camunda.operate.store.ProcessStore;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessCacheTest {
+
+  @Mock private ProcessStore processStore;
+
+  @InjectMocks private ProcessCache processCache;
+
+  @Test
+  public void testServeImportedProcessWithoutLoadingIt() {
+    // given
+    processCache.putToCache(1L, process(1L));
+
+    // when
+    final String diagram = processCache.getProcess(1L).getBpmnXml();
+    final String flowNodeName = processCache.getFlowNodeNameOrDefaultValue(1L, "task", "default");
+
+    // then
+    assertThat(diagram).isEqualTo("<xml/>");
+    assertThat(flowNodeName).isEqualTo("Task");
+    verifyNoInteractions(processStore);
+  }
+
+  @Test
+  public void testLoadProcessOnce() {
+    // given
+    when(processStore.getProcessByKey(1L)).thenReturn(process(1L));
+
+    // when
+    processCache.getProcess(1L);
+    final String diagram = processCache.getProcess(1L).getBpmnXml();
+
+    // then
+    assertThat(diagram).isEqualTo("<xml/>");
+    verify(processStore, times(1)).getProcessByKey(1L);
+  }
+
+  @Test
+  public void testLoadProcessAgainAfterItWasRemoved() {
+    // given
+    processCache.putToCache(1L, process(1L));
+    when(processStore.getProcessByKey(1L)).thenReturn(process(1L));
+
+    // when
+    processCache.removeFromCache(1L);
+    processCache.getProcess(1L);
+
+    // then
+    verify(processStore, times(1)).getProcessByKey(1L);
+  }
+
+  @Test
+  public void testReturnDefaultForUnknownFlowNode() {
+    // given
+    processCache.putToCache(1L, process(1L));
+
+    // when
+    final String flowNodeName =
+        processCache.getFlowNodeNameOrDefaultValue(1L, "unknown", "default");
+
+    // then
+    assertThat(flowNodeName).isEqualTo("default");
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedProcess() {
+    // given
+    for (long key = 1; key <= 100; key++) {
+      processCache.putToCache(key, process(key));
+    }
+    processCache.getProcess(1L);
+
+    // when
+    processCache.putToCache(101L, process(101L));
+    when(processStore.getProcessByKey(2L)).thenReturn(process(2L));
+    processCache.getProcess(1L);
+    processCache.getProcess(2L);
+
+    // then
+    verify(processStore, times(1)).getProcessByKey(2L);
+    verify(processStore, times(0)).getProcessByKey(1L);
+  }
+
+  private static ProcessEntity process(final long key) {
+    return new ProcessEntity()
+        .setKey(key)
+        .setBpmnXml("<xml/>")
+        .setFlowNodes(List.of(new ProcessFlowNodeEntity("task", "Task")));
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.camunda.operate.Metrics;
+import io.camunda.operate.entities.meta.ImportPositionEntity;
+import io.camunda.operate.exceptions.OperateRuntimeException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ImportStore;
+import io.camunda.operate.store.OperationStore;
+import io.camunda.operate.webapp.security.identity.IdentityPermission;
+import io.camunda.operate.webapp.security.identity.PermissionsService;
+import io.camunda.operate.webapp.security.identity.PermissionsService.ResourcesAllowed;
+import io.camunda.operate.webapp.security.tenant.TenantService;
+import io.camunda.operate.webapp.security.tenant.TenantService.AuthenticatedTenants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the results of queries which are polled by the UI, like the list view and the statistics.
+ * The results are kept until the import positions move on, or until operations are scheduled or
+ * finished, instead of for a fixed time. Both are read from the stored data in the background, so
+ * a change made through any webapp node drops the results cached on all nodes. While the import
+ * progresses, results are kept for at least the configured refresh interval, so that they can be
+ * reused at all under constant load. They are cached per query and per scope of the user, i.e. the
+ * tenants and processes the user is allowed to read.
+ */
+@Component
+public class QueryResultCache {
+
+  /**
+   * Documents which were imported before the import positions were stored are visible to searches
+   * only after the next refresh of the indices. A new generation is therefore only started for
+   * progress which was read at least this interval ago, so that results cached in it can't miss
+   * such documents.
+   */
+  private static final long INDEX_REFRESH_INTERVAL_MS = 1000L;
+
+  private static final long UNKNOWN_PROGRESS = -1L;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryResultCache.class);
+
+  private Map<String, CachedResult> cache;
+
+  // null while the progress is unknown, then we can't tell whether results are outdated
+  private volatile Generation generation;
+  private long nextGenerationId;
+  private Observation lastObservation;
+  // serializes equal queries the same way, regardless of the order of properties and entries
+  private ObjectMapper keyMapper;
+  private ThreadPoolTaskScheduler progressCheckScheduler;
+  private LongSupplier clock = System::currentTimeMillis;
+
+  @Autowired private OperateProperties operateProperties;
+
+  @Autowired private ImportStore importStore;
+
+  @Autowired private OperationStore operationStore;
+
+  @Autowired private TenantService tenantService;
+
+  @Autowired(required = false)
+  private PermissionsService permissionsService;
+
+  @Autowired
+  @Qualifier("operateObjectMapper")
+  private ObjectMapper objectMapper;
+
+  @Autowired private Metrics metrics;
+
+  @PostConstruct
+  public void init() {
+    keyMapper =
+        objectMapper
+            .copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    cache =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(final Map.Entry<String, CachedResult> eldest) {
+                return size() > operateProperties.getQueryCache().getMaxEntries();
+              }
+            });
+    if (operateProperties.getQueryCache().isEnabled()) {
+      startProgressCheck();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (progressCheckScheduler != null) {
+      progressCheckScheduler.shutdown();
+    }
+  }
+
+  /**
+   * Returns the cached result of the query, or loads and caches it.
+   *
+   * @param name name of the query, used for the metrics
+   * @param query parameters of the query, which must be serializable to JSON; null if there are
+   *     none
+   * @param loader executes the query
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(final String name, final Object query, final Supplier<T> loader) {
+    if (!operateProperties.getQueryCache().isEnabled()) {
+      return loader.get();
+    }
+    final Generation current = generation;
+    if (current == null) {
+      return loader.get();
+    }
+
+    final String key = createKey(name, query);
+    final CachedResult cached = cache.get(key);
+    if (cached != null && cached.generation() == current.id()) {
+      recordCacheMetric(name, Metrics.TAG_VALUE_HIT);
+      return (T) cached.result();
+    }
+
+    recordCacheMetric(name, Metrics.TAG_VALUE_MISS);
+    final T result = loader.get();
+    // a result loaded while the generation changed may be outdated already
+    if (generation == current) {
+      cache.put(key, new CachedResult(current.id(), result));
+    }
+    return result;
+  }
+
+  /**
+   * Drops the results cached on this node right away, when this node changed the data. Other nodes
+   * drop their results when they see the changed operations progress.
+   */
+  public synchronized void invalidate() {
+    final Generation current = generation;
+    if (current != null) {
+      startGeneration(current.progress(), clock.getAsLong());
+    }
+  }
+
+  // Needed for tests
+  void setClock(final LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Reads the progress and starts a new generation if the progress read the previous time differs
+   * from the one of the current generation. Called by the scheduler, and by tests.
+   */
+  void checkProgress() {
+    final Observation observation = new Observation(readProgress(), clock.getAsLong());
+    synchronized (this) {
+      if (observation.progress() == UNKNOWN_PROGRESS) {
+        generation = null;
+        lastObservation = null;
+        cache.clear();
+        return;
+      }
+      final Observation visible = lastObservation;
+      if (visible != null
+          && observation.observedAt() - visible.observedAt() < INDEX_REFRESH_INTERVAL_MS) {
+        return;
+      }
+      lastObservation = observation;
+      if (visible == null) {
+        return;
+      }
+
+      final Generation current = generation;
+      if (current == null
+          || (visible.progress() != current.progress()
+              && observation.observedAt() - current.startedAt()
+                  >= operateProperties.getQueryCache().getRefreshInterval())) {
+        startGeneration(visible.progress(), observation.observedAt());
+      }
+    }
+  }
+
+  private void startProgressCheck() {
+    progressCheckScheduler = new ThreadPoolTaskScheduler();
+    progressCheckScheduler.setPoolSize(1);
+    progressCheckScheduler.setThreadNamePrefix("operate_query_cache_");
+    progressCheckScheduler.initialize();
+    progressCheckScheduler.scheduleWithFixedDelay(
+        this::checkProgress,
+        Duration.ofMillis(
+            Math.max(
+                operateProperties.getQueryCache().getImportProgressCheckInterval(),
+                INDEX_REFRESH_INTERVAL_MS)));
+  }
+
+  private void startGeneration(final long progress, final long now) {
+    generation = new Generation(nextGenerationId++, progress, now);
+    cache.clear();
+  }
+
+  /**
+   * Positions only grow while importing, so their sum changes whenever anything was imported. The
+   * operations progress covers the data that Operate changes itself, like deleted instances.
+   */
+  private long readProgress() {
+    try {
+      long sum = operationStore.getBatchOperationsProgress();
+      for (final ImportPositionEntity position : importStore.getImportPositions()) {
+        sum += position.getPosition();
+        if (position.getPostImporterPosition() != null) {
+          sum += position.getPostImporterPosition();
+        }
+      }
+      return sum;
+    } catch (final Exception ex) {
+      LOGGER.warn("Unable to read the progress, results won't be cached: {}", ex.getMessage());
+      return UNKNOWN_PROGRESS;
+    }
+  }
+
+  private String createKey(final String name, final Object query) {
+    try {
+      return String.join("\n", name, getUserScope(), keyMapper.writeValueAsString(query));
+    } catch (final JsonProcessingException ex) {
+      throw new OperateRuntimeException("Unable to serialize query: " + ex.getMessage(), ex);
+    }
+  }
+
+  private String getUserScope() {
+    final AuthenticatedTenants tenants = tenantService.getAuthenticatedTenants();
+    final StringBuilder scope = new StringBuilder(tenants.getTenantAccessType().name());
+    if (tenants.getTenantIds() != null) {
+      scope.append(new TreeSet<>(tenants.getTenantIds()));
+    }
+    if (permissionsService != null) {
+      final ResourcesAllowed processes =
+          permissionsService.getProcessesWithPermission(IdentityPermission.READ);
+      scope.append(processes.isAll() ? "*" : new TreeSet<>(processes.getIds()).toString());
+    }
+    return scope.toString();
+  }
+
+  private void recordCacheMetric(final String name, final String status) {
+    metrics.recordCounts(
+        Metrics.COUNTER_NAME_QUERY_CACHE,
+        1,
+        Metrics.TAG_KEY_NAME,
+        name,
+        Metrics.TAG_KEY_STATUS,
+        status);
+  }
+
+  private record Generation(long id, long progress, long startedAt) {}
+
+  private record Observation(long progress, long observedAt) {}
+
+  private record CachedResult(long generation, Object result) {}
+}
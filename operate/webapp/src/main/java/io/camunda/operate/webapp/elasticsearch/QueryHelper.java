@@ -110,7 +110,7 @@ public class QueryHelper {
         createReadPermissionQuery());
   }
 
-  private QueryBuilder createReadPermissionQuery() {
+  public QueryBuilder createReadPermissionQuery() {
     if (permissionsService == null) {
       return null;
     }
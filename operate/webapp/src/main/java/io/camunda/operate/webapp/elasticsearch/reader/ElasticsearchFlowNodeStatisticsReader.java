@@ -12,21 +12,31 @@ import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_ID;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_STATE;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_TYPE;
 import static io.camunda.operate.schema.templates.ListViewTemplate.INCIDENT;
+import static io.camunda.operate.schema.templates.ListViewTemplate.JOIN_RELATION;
+import static io.camunda.operate.schema.templates.ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION;
+import static io.camunda.operate.schema.templates.ListViewTemplate.PROCESS_KEY;
+import static io.camunda.operate.schema.templates.ListViewTemplate.START_DATE;
 import static io.camunda.operate.util.ElasticsearchUtil.QueryType.ALL;
 import static io.camunda.operate.util.ElasticsearchUtil.QueryType.ONLY_RUNTIME;
 import static io.camunda.operate.util.ElasticsearchUtil.joinWithAnd;
 import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
 import static org.elasticsearch.index.query.QueryBuilders.constantScoreQuery;
+import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 import static org.elasticsearch.join.aggregations.JoinAggregationBuilders.children;
 import static org.elasticsearch.join.aggregations.JoinAggregationBuilders.parent;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.filter;
+import static org.elasticsearch.search.aggregations.AggregationBuilders.sum;
 import static org.elasticsearch.search.aggregations.AggregationBuilders.terms;
 
 import io.camunda.operate.conditions.ElasticsearchCondition;
 import io.camunda.operate.entities.FlowNodeState;
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
 import io.camunda.operate.entities.FlowNodeType;
 import io.camunda.operate.exceptions.OperateRuntimeException;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.indices.FlowNodeStatisticsIndex;
 import io.camunda.operate.schema.templates.ListViewTemplate;
 import io.camunda.operate.tenant.TenantAwareElasticsearchClient;
 import io.camunda.operate.util.CollectionUtil;
@@ -36,11 +46,17 @@ import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
 import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.join.aggregations.Children;
 import org.elasticsearch.join.aggregations.ChildrenAggregationBuilder;
@@ -48,6 +64,8 @@ import org.elasticsearch.join.aggregations.Parent;
 import org.elasticsearch.search.aggregations.bucket.filter.Filter;
 import org.elasticsearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
 import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms.Bucket;
+import org.elasticsearch.search.aggregations.metrics.Sum;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,12 +82,23 @@ public class ElasticsearchFlowNodeStatisticsReader implements FlowNodeStatistics
 
   @Autowired private TenantAwareElasticsearchClient tenantAwareClient;
 
+  @Autowired private RestHighLevelClient esClient;
+
   @Autowired private ListViewTemplate listViewTemplate;
 
   @Autowired private QueryHelper queryHelper;
 
+  @Autowired private FlowNodeStatisticsIndex flowNodeStatisticsIndex;
+
+  @Autowired private OperateProperties operateProperties;
+
   @Override
   public Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(ListViewQueryDto query) {
+    if (operateProperties.getImporter().isFlowNodeStatisticsEnabled()
+        && FlowNodeStatisticsReader.isOnlyFilteredByProcess(query)
+        && isMaintainedSinceFirstInstance(query.getProcessIds())) {
+      return getFlowNodeStatisticsFromIndex(query);
+    }
 
     final SearchRequest searchRequest;
     if (!query.isFinished()) {
@@ -108,6 +137,113 @@ public class ElasticsearchFlowNodeStatisticsReader implements FlowNodeStatistics
     }
   }
 
+  /**
+   * The statistics maintained by the importer only count the records imported while they are
+   * enabled, so they are only complete for process definitions without any process instance
+   * started before.
+   */
+  private boolean isMaintainedSinceFirstInstance(Collection<String> processIds) {
+    try {
+      final GetResponse marker =
+          esClient.get(
+              new GetRequest(flowNodeStatisticsIndex.getFullQualifiedName())
+                  .id(FlowNodeStatisticsEntity.ENABLED_SINCE_ID),
+              RequestOptions.DEFAULT);
+      final Object enabledSince =
+          marker.isExists()
+              ? marker.getSourceAsMap().get(FlowNodeStatisticsIndex.ENABLED_SINCE)
+              : null;
+      if (enabledSince == null) {
+        return false;
+      }
+
+      final QueryBuilder startedBefore =
+          joinWithAnd(
+              termQuery(JOIN_RELATION, PROCESS_INSTANCE_JOIN_RELATION),
+              termsQuery(PROCESS_KEY, processIds),
+              rangeQuery(START_DATE).lt(enabledSince).format("epoch_millis"));
+      final SearchRequest searchRequest =
+          ElasticsearchUtil.createSearchRequest(listViewTemplate, ALL)
+              .source(
+                  new SearchSourceBuilder()
+                      .query(constantScoreQuery(startedBefore))
+                      .size(0)
+                      .terminateAfter(1));
+      final SearchResponse searchResponse = esClient.search(searchRequest, RequestOptions.DEFAULT);
+      return searchResponse.getHits().getTotalHits().value == 0;
+    } catch (IOException e) {
+      final String message =
+          String.format(
+              "Exception occurred, while checking the flow node statistics for completeness: %s",
+              e.getMessage());
+      LOGGER.error(message, e);
+      throw new OperateRuntimeException(message, e);
+    }
+  }
+
+  /**
+   * Reads the statistics from the index maintained by the importer. Unlike the aggregation over
+   * the list view, the counters are numbers of flow node instances, independent of the state of
+   * their process instance.
+   */
+  private Collection<FlowNodeStatisticsDto> getFlowNodeStatisticsFromIndex(
+      ListViewQueryDto query) {
+    final QueryBuilder q =
+        joinWithAnd(
+            termsQuery(FlowNodeStatisticsIndex.PROCESS_DEFINITION_KEY, query.getProcessIds()),
+            query.getTenantId() == null
+                ? null
+                : termQuery(FlowNodeStatisticsIndex.TENANT_ID, query.getTenantId()),
+            queryHelper.createReadPermissionQuery());
+    final var agg =
+        terms(AGG_UNIQUE_ACTIVITIES)
+            .field(FlowNodeStatisticsIndex.FLOW_NODE_ID)
+            .size(ElasticsearchUtil.TERMS_AGG_SIZE)
+            .subAggregation(
+                sum(FlowNodeStatisticsIndex.ACTIVE).field(FlowNodeStatisticsIndex.ACTIVE))
+            .subAggregation(
+                sum(FlowNodeStatisticsIndex.INCIDENTS).field(FlowNodeStatisticsIndex.INCIDENTS))
+            .subAggregation(
+                sum(FlowNodeStatisticsIndex.CANCELED).field(FlowNodeStatisticsIndex.CANCELED))
+            .subAggregation(
+                sum(FlowNodeStatisticsIndex.COMPLETED).field(FlowNodeStatisticsIndex.COMPLETED));
+    final SearchRequest searchRequest =
+        new SearchRequest(flowNodeStatisticsIndex.getAlias())
+            .source(
+                new SearchSourceBuilder().query(constantScoreQuery(q)).size(0).aggregation(agg));
+
+    try {
+      final SearchResponse searchResponse = tenantAwareClient.search(searchRequest);
+      final List<FlowNodeStatisticsDto> statistics = new ArrayList<>();
+      final Terms flowNodes = searchResponse.getAggregations().get(AGG_UNIQUE_ACTIVITIES);
+      for (final Bucket bucket : flowNodes.getBuckets()) {
+        final FlowNodeStatisticsDto flowNodeStatistics =
+            FlowNodeStatisticsReader.toFlowNodeStatistics(
+                query,
+                bucket.getKeyAsString(),
+                getSum(bucket, FlowNodeStatisticsIndex.ACTIVE),
+                getSum(bucket, FlowNodeStatisticsIndex.INCIDENTS),
+                getSum(bucket, FlowNodeStatisticsIndex.CANCELED),
+                getSum(bucket, FlowNodeStatisticsIndex.COMPLETED));
+        if (flowNodeStatistics != null) {
+          statistics.add(flowNodeStatistics);
+        }
+      }
+      return statistics;
+    } catch (IOException e) {
+      final String message =
+          String.format(
+              "Exception occurred, while obtaining statistics for activities: %s", e.getMessage());
+      LOGGER.error(message, e);
+      throw new OperateRuntimeException(message, e);
+    }
+  }
+
+  private static double getSum(Bucket bucket, String counter) {
+    final Sum sum = bucket.getAggregations().get(counter);
+    return sum.value();
+  }
+
   private SearchRequest createQuery(ListViewQueryDto query, ElasticsearchUtil.QueryType queryType) {
     final QueryBuilder q = constantScoreQuery(queryHelper.createQueryFragment(query));
 
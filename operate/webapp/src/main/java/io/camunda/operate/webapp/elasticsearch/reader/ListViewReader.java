@@ -11,6 +11,7 @@ import static io.camunda.operate.schema.templates.ListViewTemplate.PARENT_FLOW_N
 import static org.elasticsearch.index.query.QueryBuilders.termQuery;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.Metrics;
 import io.camunda.operate.conditions.ElasticsearchCondition;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
@@ -21,6 +22,7 @@ import io.camunda.operate.tenant.TenantAwareElasticsearchClient;
 import io.camunda.operate.util.CollectionUtil;
 import io.camunda.operate.util.ElasticsearchUtil;
 import io.camunda.operate.util.Tuple;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.elasticsearch.QueryHelper;
 import io.camunda.operate.webapp.reader.OperationReader;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewProcessInstanceDto;
@@ -69,6 +71,8 @@ public class ListViewReader implements io.camunda.operate.webapp.reader.ListView
 
   @Autowired private DateTimeFormatter dateTimeFormatter;
 
+  @Autowired private QueryResultCache queryResultCache;
+
   @Autowired private ListViewTemplate listViewTemplate;
 
   @Autowired(required = false)
@@ -85,8 +89,19 @@ public class ListViewReader implements io.camunda.operate.webapp.reader.ListView
       final ListViewRequestDto processInstanceRequest) {
     final ListViewResponseDto result = new ListViewResponseDto();
 
+    // operations are not cached, as they are changed by Operate and not by the importer
+    final Tuple<List<ProcessInstanceForListViewEntity>, Long> processInstances =
+        queryResultCache.get(
+            Metrics.TAG_VALUE_PROCESSINSTANCES,
+            processInstanceRequest,
+            () -> {
+              final ListViewResponseDto queried = new ListViewResponseDto();
+              return Tuple.of(
+                  queryListView(processInstanceRequest, queried), queried.getTotalCount());
+            });
+    result.setTotalCount(processInstances.getRight());
     final List<ProcessInstanceForListViewEntity> processInstanceEntities =
-        queryListView(processInstanceRequest, result);
+        processInstances.getLeft();
     final List<Long> processInstanceKeys =
         CollectionUtil.map(
             processInstanceEntities,
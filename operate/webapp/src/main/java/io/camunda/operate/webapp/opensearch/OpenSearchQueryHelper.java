@@ -298,7 +298,7 @@ public class OpenSearchQueryHelper {
         : null;
   }
 
-  private Query readPermissionQuery() {
+  public Query readPermissionQuery() {
     if (permissionsService == null) {
       return null;
     }
@@ -12,20 +12,30 @@ import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_ID;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_STATE;
 import static io.camunda.operate.schema.templates.ListViewTemplate.ACTIVITY_TYPE;
 import static io.camunda.operate.schema.templates.ListViewTemplate.INCIDENT;
+import static io.camunda.operate.schema.templates.ListViewTemplate.JOIN_RELATION;
+import static io.camunda.operate.schema.templates.ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION;
+import static io.camunda.operate.schema.templates.ListViewTemplate.PROCESS_KEY;
+import static io.camunda.operate.schema.templates.ListViewTemplate.START_DATE;
 import static io.camunda.operate.store.opensearch.client.sync.OpenSearchDocumentOperations.TERMS_AGG_SIZE;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.children;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.parent;
+import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.sumAggregation;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.termAggregation;
 import static io.camunda.operate.store.opensearch.dsl.AggregationDSL.withSubaggregations;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.and;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.constantScore;
+import static io.camunda.operate.store.opensearch.dsl.QueryDSL.lt;
+import static io.camunda.operate.store.opensearch.dsl.QueryDSL.stringTerms;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.term;
 import static io.camunda.operate.store.opensearch.dsl.QueryDSL.withTenantCheck;
 import static io.camunda.operate.store.opensearch.dsl.RequestDSL.searchRequestBuilder;
 
 import io.camunda.operate.conditions.OpensearchCondition;
 import io.camunda.operate.entities.FlowNodeState;
+import io.camunda.operate.entities.FlowNodeStatisticsEntity;
 import io.camunda.operate.entities.FlowNodeType;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.schema.indices.FlowNodeStatisticsIndex;
 import io.camunda.operate.schema.templates.ListViewTemplate;
 import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
 import io.camunda.operate.store.opensearch.dsl.RequestDSL;
@@ -36,12 +46,16 @@ import io.camunda.operate.webapp.opensearch.OpenSearchQueryHelper;
 import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
 import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
 import org.opensearch.client.opensearch._types.aggregations.Aggregation;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
@@ -57,8 +71,18 @@ public class OpensearchFlowNodeStatisticsReader implements FlowNodeStatisticsRea
 
   @Autowired private RichOpenSearchClient richOpenSearchClient;
 
+  @Autowired private FlowNodeStatisticsIndex flowNodeStatisticsIndex;
+
+  @Autowired private OperateProperties operateProperties;
+
   @Override
   public Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(ListViewQueryDto query) {
+    if (operateProperties.getImporter().isFlowNodeStatisticsEnabled()
+        && FlowNodeStatisticsReader.isOnlyFilteredByProcess(query)
+        && isMaintainedSinceFirstInstance(query.getProcessIds())) {
+      return getFlowNodeStatisticsFromIndex(query);
+    }
+
     final SearchRequest.Builder searchRequest;
 
     if (!query.isFinished()) {
@@ -71,6 +95,90 @@ public class OpensearchFlowNodeStatisticsReader implements FlowNodeStatisticsRea
     return statisticsMap.values();
   }
 
+  /**
+   * The statistics maintained by the importer only count the records imported while they are
+   * enabled, so they are only complete for process definitions without any process instance
+   * started before.
+   */
+  private boolean isMaintainedSinceFirstInstance(Collection<String> processIds) {
+    final Long enabledSince =
+        richOpenSearchClient
+            .doc()
+            .getWithRetries(
+                flowNodeStatisticsIndex.getFullQualifiedName(),
+                FlowNodeStatisticsEntity.ENABLED_SINCE_ID,
+                FlowNodeStatisticsEntity.class)
+            .map(FlowNodeStatisticsEntity::getEnabledSince)
+            .orElse(null);
+    if (enabledSince == null) {
+      return false;
+    }
+
+    final SearchRequest.Builder searchRequest =
+        searchRequestBuilder(listViewTemplate, RequestDSL.QueryType.ALL)
+            .query(
+                constantScore(
+                    and(
+                        term(JOIN_RELATION, PROCESS_INSTANCE_JOIN_RELATION),
+                        stringTerms(PROCESS_KEY, processIds),
+                        lt(START_DATE, enabledSince))))
+            .terminateAfter(1L);
+    return richOpenSearchClient.doc().docCount(searchRequest) == 0;
+  }
+
+  /**
+   * Reads the statistics from the index maintained by the importer. Unlike the aggregation over
+   * the list view, the counters are numbers of flow node instances, independent of the state of
+   * their process instance.
+   */
+  private Collection<FlowNodeStatisticsDto> getFlowNodeStatisticsFromIndex(
+      ListViewQueryDto query) {
+    final Query processQuery =
+        and(
+            stringTerms(FlowNodeStatisticsIndex.PROCESS_DEFINITION_KEY, query.getProcessIds()),
+            query.getTenantId() == null
+                ? null
+                : term(FlowNodeStatisticsIndex.TENANT_ID, query.getTenantId()),
+            openSearchQueryHelper.readPermissionQuery());
+    final Aggregation flowNodesAggregation =
+        withSubaggregations(
+            termAggregation(FlowNodeStatisticsIndex.FLOW_NODE_ID, TERMS_AGG_SIZE),
+            Map.of(
+                FlowNodeStatisticsIndex.ACTIVE,
+                sumAggregation(FlowNodeStatisticsIndex.ACTIVE)._toAggregation(),
+                FlowNodeStatisticsIndex.INCIDENTS,
+                sumAggregation(FlowNodeStatisticsIndex.INCIDENTS)._toAggregation(),
+                FlowNodeStatisticsIndex.CANCELED,
+                sumAggregation(FlowNodeStatisticsIndex.CANCELED)._toAggregation(),
+                FlowNodeStatisticsIndex.COMPLETED,
+                sumAggregation(FlowNodeStatisticsIndex.COMPLETED)._toAggregation()));
+    final SearchRequest.Builder searchRequest =
+        searchRequestBuilder(flowNodeStatisticsIndex.getAlias())
+            .query(withTenantCheck(constantScore(processQuery)))
+            .size(0)
+            .aggregations(AGG_UNIQUE_ACTIVITIES, flowNodesAggregation);
+
+    final Map<String, Aggregate> aggregates =
+        richOpenSearchClient.doc().searchAggregations(searchRequest);
+    final List<FlowNodeStatisticsDto> statistics = new ArrayList<>();
+    for (final StringTermsBucket bucket :
+        aggregates.get(AGG_UNIQUE_ACTIVITIES).sterms().buckets().array()) {
+      final Map<String, Aggregate> sums = bucket.aggregations();
+      final FlowNodeStatisticsDto flowNodeStatistics =
+          FlowNodeStatisticsReader.toFlowNodeStatistics(
+              query,
+              bucket.key(),
+              sums.get(FlowNodeStatisticsIndex.ACTIVE).sum().value(),
+              sums.get(FlowNodeStatisticsIndex.INCIDENTS).sum().value(),
+              sums.get(FlowNodeStatisticsIndex.CANCELED).sum().value(),
+              sums.get(FlowNodeStatisticsIndex.COMPLETED).sum().value());
+      if (flowNodeStatistics != null) {
+        statistics.add(flowNodeStatistics);
+      }
+    }
+    return statistics;
+  }
+
   private SearchRequest.Builder createQuery(
       ListViewQueryDto query, RequestDSL.QueryType queryType) {
     final Map<String, Aggregation> subAggregations = new HashMap<>();
@@ -16,6 +16,7 @@ import static io.camunda.operate.store.opensearch.dsl.RequestDSL.QueryType.ONLY_
 import static io.camunda.operate.store.opensearch.dsl.RequestDSL.searchRequestBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.Metrics;
 import io.camunda.operate.conditions.OpensearchCondition;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
@@ -24,6 +25,7 @@ import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
 import io.camunda.operate.store.opensearch.dsl.RequestDSL;
 import io.camunda.operate.util.CollectionUtil;
 import io.camunda.operate.util.Tuple;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.opensearch.OpenSearchQueryHelper;
 import io.camunda.operate.webapp.reader.ListViewReader;
 import io.camunda.operate.webapp.reader.OperationReader;
@@ -58,17 +60,21 @@ public class OpensearchListViewReader implements ListViewReader {
 
   private final OperationReader operationReader;
 
+  private final QueryResultCache queryResultCache;
+
   public OpensearchListViewReader(
       final RichOpenSearchClient richOpenSearchClient,
       final OpenSearchQueryHelper openSearchQueryHelper,
       final ObjectMapper objectMapper,
       final ListViewTemplate listViewTemplate,
-      final OperationReader operationReader) {
+      final OperationReader operationReader,
+      final QueryResultCache queryResultCache) {
     this.richOpenSearchClient = richOpenSearchClient;
     this.openSearchQueryHelper = openSearchQueryHelper;
     this.objectMapper = objectMapper;
     this.listViewTemplate = listViewTemplate;
     this.operationReader = operationReader;
+    this.queryResultCache = queryResultCache;
   }
 
   @Override
@@ -76,8 +82,19 @@ public class OpensearchListViewReader implements ListViewReader {
       final ListViewRequestDto processInstanceRequest) {
     final ListViewResponseDto result = new ListViewResponseDto();
 
+    // operations are not cached, as they are changed by Operate and not by the importer
+    final Tuple<List<ProcessInstanceForListViewEntity>, Long> processInstances =
+        queryResultCache.get(
+            Metrics.TAG_VALUE_PROCESSINSTANCES,
+            processInstanceRequest,
+            () -> {
+              final ListViewResponseDto queried = new ListViewResponseDto();
+              return Tuple.of(
+                  queryListView(processInstanceRequest, queried), queried.getTotalCount());
+            });
+    result.setTotalCount(processInstances.getRight());
     final List<ProcessInstanceForListViewEntity> processInstanceEntities =
-        queryListView(processInstanceRequest, result);
+        processInstances.getLeft();
     final List<Long> processInstanceKeys =
         CollectionUtil.map(
             processInstanceEntities,
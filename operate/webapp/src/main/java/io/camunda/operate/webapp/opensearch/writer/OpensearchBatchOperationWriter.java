@@ -113,17 +113,16 @@ public class OpensearchBatchOperationWriter
   @Autowired private PersistOperationHelper persistOperationHelper;
 
   /**
-   * Finds operation, which are scheduled or locked with expired timeout, in the amount of
-   * configured batch size, and locks them.
+   * Finds operation, which are scheduled or locked with expired timeout, in the amount of given
+   * batch size, and locks them.
    *
    * @return list of locked operations
    * @throws PersistenceException
    */
   @Override
-  public List<OperationEntity> lockBatch() throws PersistenceException {
+  public List<OperationEntity> lockBatch(final int batchSize) throws PersistenceException {
     final String workerId = operateProperties.getOperationExecutor().getWorkerId();
     final long lockTimeout = operateProperties.getOperationExecutor().getLockTimeout();
-    final int batchSize = operateProperties.getOperationExecutor().getBatchSize();
 
     // select process instances, which has scheduled operations, or locked with expired
     // lockExpirationTime
@@ -7,6 +7,7 @@
  */
 package io.camunda.operate.webapp.reader;
 
+import io.camunda.operate.util.CollectionUtil;
 import io.camunda.operate.webapp.rest.dto.FlowNodeStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
 import java.util.Collection;
@@ -21,4 +22,59 @@ public interface FlowNodeStatisticsReader {
   String AGG_FINISHED_ACTIVITIES = "finished_activities";
 
   Collection<FlowNodeStatisticsDto> getFlowNodeStatistics(ListViewQueryDto query);
+
+  /**
+   * The statistics which are maintained by the importer are only kept per process definition, so
+   * they can only serve queries which don't filter the process instances by anything else.
+   */
+  static boolean isOnlyFilteredByProcess(final ListViewQueryDto query) {
+    return CollectionUtil.isNotEmpty(query.getProcessIds())
+        && !query.isRetriesLeft()
+        && CollectionUtil.isEmpty(query.getIds())
+        && query.getErrorMessage() == null
+        && query.getActivityId() == null
+        && query.getStartDateAfter() == null
+        && query.getStartDateBefore() == null
+        && query.getEndDateAfter() == null
+        && query.getEndDateBefore() == null
+        && query.getBpmnProcessId() == null
+        && CollectionUtil.isEmpty(query.getExcludeIds())
+        && query.getVariable() == null
+        && query.getBatchOperationId() == null
+        && query.getParentInstanceId() == null;
+  }
+
+  /**
+   * Converts the summed counters of a flow node into its statistics. Counters can be temporarily
+   * negative, e.g. if an incident is imported before its flow node, so they are capped at zero.
+   *
+   * @return the statistics, or null if all requested counters are zero
+   */
+  static FlowNodeStatisticsDto toFlowNodeStatistics(
+      final ListViewQueryDto query,
+      final String flowNodeId,
+      final double active,
+      final double incidents,
+      final double canceled,
+      final double completed) {
+    final FlowNodeStatisticsDto statistics = new FlowNodeStatisticsDto(flowNodeId);
+    if (query.isActive()) {
+      statistics.setActive(Math.max(0L, (long) active));
+    }
+    if (query.isIncidents()) {
+      statistics.setIncidents(Math.max(0L, (long) incidents));
+    }
+    if (query.isCanceled()) {
+      statistics.setCanceled(Math.max(0L, (long) canceled));
+    }
+    if (query.isCompleted()) {
+      statistics.setCompleted(Math.max(0L, (long) completed));
+    }
+    final boolean isEmpty =
+        statistics.getActive() == 0
+            && statistics.getIncidents() == 0
+            && statistics.getCanceled() == 0
+            && statistics.getCompleted() == 0;
+    return isEmpty ? null : statistics;
+  }
 }
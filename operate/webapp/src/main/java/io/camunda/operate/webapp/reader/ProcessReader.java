@@ -7,11 +7,14 @@
  */
 package io.camunda.operate.webapp.reader;
 
+import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.ProcessEntity;
+import io.camunda.operate.store.NotFoundException;
 import io.camunda.operate.store.ProcessStore;
 import io.camunda.operate.webapp.rest.dto.ProcessRequestDto;
 import io.camunda.operate.webapp.security.identity.IdentityPermission;
 import io.camunda.operate.webapp.security.identity.PermissionsService;
+import io.camunda.operate.webapp.security.tenant.TenantService;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,11 +31,20 @@ public class ProcessReader {
 
   private final ProcessStore processStore;
 
+  private final ProcessCache processCache;
+
+  private final TenantService tenantService;
+
   private final PermissionsService permissionsService;
 
   public ProcessReader(
-      final ProcessStore processStore, @Nullable final PermissionsService permissionsService) {
+      final ProcessStore processStore,
+      final ProcessCache processCache,
+      final TenantService tenantService,
+      @Nullable final PermissionsService permissionsService) {
     this.processStore = processStore;
+    this.processCache = processCache;
+    this.tenantService = tenantService;
     this.permissionsService = permissionsService;
   }
 
@@ -43,17 +55,23 @@ public class ProcessReader {
    * @return
    */
   public String getDiagram(final Long processDefinitionKey) {
-    return processStore.getDiagramByKey(processDefinitionKey);
+    return getProcess(processDefinitionKey).getBpmnXml();
   }
 
   /**
-   * Gets the process by id.
+   * Gets the process by id, including its diagram, from the process cache if possible.
    *
    * @param processDefinitionKey
    * @return
    */
   public ProcessEntity getProcess(final Long processDefinitionKey) {
-    return processStore.getProcessByKey(processDefinitionKey);
+    final ProcessEntity processEntity = processCache.getProcess(processDefinitionKey);
+    // the process may have been cached by a request of a user of another tenant
+    if (!tenantService.isTenantValid(processEntity.getTenantId())) {
+      throw new NotFoundException(
+          String.format("Could not find process with key '%s'.", processDefinitionKey));
+    }
+    return processEntity;
   }
 
   /**
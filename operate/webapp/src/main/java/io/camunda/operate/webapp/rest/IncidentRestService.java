@@ -9,7 +9,9 @@ package io.camunda.operate.webapp.rest;
 
 import static io.camunda.operate.webapp.rest.IncidentRestService.INCIDENT_URL;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.webapp.InternalAPIErrorController;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.reader.IncidentStatisticsReader;
 import io.camunda.operate.webapp.rest.dto.incidents.IncidentsByErrorMsgStatisticsDto;
 import io.camunda.operate.webapp.rest.dto.incidents.IncidentsByProcessGroupStatisticsDto;
@@ -30,15 +32,23 @@ public class IncidentRestService extends InternalAPIErrorController {
 
   @Autowired private IncidentStatisticsReader incidentStatisticsReader;
 
+  @Autowired private QueryResultCache queryResultCache;
+
   @Operation(summary = "Get incident statistics for processes")
   @GetMapping("/byProcess")
   public Collection<IncidentsByProcessGroupStatisticsDto> getProcessAndIncidentsStatistics() {
-    return incidentStatisticsReader.getProcessAndIncidentsStatistics();
+    return queryResultCache.get(
+        Metrics.TAG_VALUE_INCIDENTSBYPROCESS,
+        null,
+        incidentStatisticsReader::getProcessAndIncidentsStatistics);
   }
 
   @Operation(summary = "Get incident statistics by error message")
   @GetMapping("/byError")
   public Collection<IncidentsByErrorMsgStatisticsDto> getIncidentStatisticsByError() {
-    return incidentStatisticsReader.getIncidentStatisticsByError();
+    return queryResultCache.get(
+        Metrics.TAG_VALUE_INCIDENTSBYERROR,
+        null,
+        incidentStatisticsReader::getIncidentStatisticsByError);
   }
 }
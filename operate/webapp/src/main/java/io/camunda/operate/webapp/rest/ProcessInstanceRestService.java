@@ -16,6 +16,7 @@ import io.camunda.operate.entities.SequenceFlowEntity;
 import io.camunda.operate.store.SequenceFlowStore;
 import io.camunda.operate.util.rest.ValidLongId;
 import io.camunda.operate.webapp.InternalAPIErrorController;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.elasticsearch.reader.ProcessInstanceReader;
 import io.camunda.operate.webapp.reader.FlowNodeInstanceReader;
 import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
@@ -72,6 +73,7 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
   private final FlowNodeInstanceReader flowNodeInstanceReader;
   private final FlowNodeStatisticsReader flowNodeStatisticsReader;
   private final SequenceFlowStore sequenceFlowStore;
+  private final QueryResultCache queryResultCache;
 
   public ProcessInstanceRestService(
       @Nullable final PermissionsService permissionsService,
@@ -84,7 +86,8 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
       final VariableReader variableReader,
       final FlowNodeInstanceReader flowNodeInstanceReader,
       final FlowNodeStatisticsReader flowNodeStatisticsReader,
-      final SequenceFlowStore sequenceFlowStore) {
+      final SequenceFlowStore sequenceFlowStore,
+      final QueryResultCache queryResultCache) {
     this.permissionsService = permissionsService;
     this.processInstanceRequestValidator = processInstanceRequestValidator;
     this.modifyProcessInstanceRequestValidator = modifyProcessInstanceRequestValidator;
@@ -96,6 +99,7 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
     this.flowNodeInstanceReader = flowNodeInstanceReader;
     this.flowNodeStatisticsReader = flowNodeStatisticsReader;
     this.sequenceFlowStore = sequenceFlowStore;
+    this.queryResultCache = queryResultCache;
   }
 
   @Operation(summary = "Query process instances by different parameters")
@@ -129,7 +133,10 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
     } else {
       checkIdentityPermission(Long.valueOf(id), IdentityPermission.UPDATE_PROCESS_INSTANCE);
     }
-    return batchOperationWriter.scheduleSingleOperation(Long.parseLong(id), operationRequest);
+    final BatchOperationEntity batchOperation =
+        batchOperationWriter.scheduleSingleOperation(Long.parseLong(id), operationRequest);
+    queryResultCache.invalidate();
+    return batchOperation;
   }
 
   @Operation(summary = "Perform modify process instance operation")
@@ -141,7 +148,10 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
     modifyRequest.setProcessInstanceKey(id);
     modifyProcessInstanceRequestValidator.validate(modifyRequest);
     checkIdentityPermission(Long.valueOf(id), IdentityPermission.UPDATE_PROCESS_INSTANCE);
-    return batchOperationWriter.scheduleModifyProcessInstance(modifyRequest);
+    final BatchOperationEntity batchOperation =
+        batchOperationWriter.scheduleModifyProcessInstance(modifyRequest);
+    queryResultCache.invalidate();
+    return batchOperation;
   }
 
   @Operation(summary = "Create batch operation based on filter")
@@ -150,7 +160,11 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
   public BatchOperationEntity createBatchOperation(
       @RequestBody final CreateBatchOperationRequestDto batchOperationRequest) {
     processInstanceRequestValidator.validateCreateBatchOperationRequest(batchOperationRequest);
-    return batchOperationWriter.scheduleBatchOperation(batchOperationRequest);
+    final BatchOperationEntity batchOperation =
+        batchOperationWriter.scheduleBatchOperation(batchOperationRequest);
+    // the process instances were assigned to the batch operation, which can be filtered for
+    queryResultCache.invalidate();
+    return batchOperation;
   }
 
   @Operation(summary = "Get process instance by id")
@@ -230,7 +244,10 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
   public Collection<FlowNodeStatisticsDto> getStatistics(
       @RequestBody final ListViewQueryDto query) {
     processInstanceRequestValidator.validateFlowNodeStatisticsRequest(query);
-    return flowNodeStatisticsReader.getFlowNodeStatistics(query);
+    return queryResultCache.get(
+        Metrics.TAG_VALUE_FLOWNODESTATISTICS,
+        query,
+        () -> flowNodeStatisticsReader.getFlowNodeStatistics(query));
   }
 
   @Operation(summary = "Get process instance core statistics (aggregations)")
@@ -240,7 +257,8 @@ public class ProcessInstanceRestService extends InternalAPIErrorController {
       extraTags = {Metrics.TAG_KEY_NAME, Metrics.TAG_VALUE_CORESTATISTICS},
       description = "How long does it take to retrieve the core statistics.")
   public ProcessInstanceCoreStatisticsDto getCoreStatistics() {
-    return processInstanceReader.getCoreStatistics();
+    return queryResultCache.get(
+        Metrics.TAG_VALUE_CORESTATISTICS, null, processInstanceReader::getCoreStatistics);
   }
 
   @ExceptionHandler(ConstraintViolationException.class)
@@ -50,7 +50,7 @@ public class ProcessRestService extends InternalAPIErrorController {
     final Long processDefinitionKey = Long.valueOf(processId);
     final ProcessEntity processEntity = processReader.getProcess(processDefinitionKey);
     checkIdentityReadPermission(processEntity.getBpmnProcessId());
-    return processReader.getDiagram(processDefinitionKey);
+    return processEntity.getBpmnXml();
   }
 
   @Operation(summary = "Get process by id")
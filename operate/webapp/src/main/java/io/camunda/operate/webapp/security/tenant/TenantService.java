@@ -49,6 +49,19 @@ public class TenantService {
     }
   }
 
+  /**
+   * Returns whether the current user has access to the given tenant, in the same way the tenant
+   * check of the search requests filters documents.
+   */
+  public boolean isTenantValid(final String tenantId) {
+    final var tenants = getAuthenticatedTenants();
+    return switch (tenants.getTenantAccessType()) {
+      case TENANT_ACCESS_ALL -> true;
+      case TENANT_ACCESS_ASSIGNED -> tenants.getTenantIds().contains(tenantId);
+      case TENANT_ACCESS_NONE -> false;
+    };
+  }
+
   private TenantAwareAuthentication getCurrentTenantAwareAuthentication() {
     final var authentication = SecurityContextHolder.getContext().getAuthentication();
     final TenantAwareAuthentication currentAuthentication;
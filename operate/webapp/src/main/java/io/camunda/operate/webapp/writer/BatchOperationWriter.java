@@ -18,7 +18,7 @@ import io.camunda.operate.webapp.rest.dto.operation.ModifyProcessInstanceRequest
 import java.util.List;
 
 public interface BatchOperationWriter {
-  List<OperationEntity> lockBatch() throws PersistenceException;
+  List<OperationEntity> lockBatch(int batchSize) throws PersistenceException;
 
   void updateOperation(OperationEntity operation) throws PersistenceException;
 
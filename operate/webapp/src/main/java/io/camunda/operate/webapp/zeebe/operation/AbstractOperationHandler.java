@@ -15,10 +15,15 @@ import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.util.OperationsManager;
 import io.camunda.operate.webapp.writer.BatchOperationWriter;
 import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,33 +42,102 @@ public abstract class AbstractOperationHandler implements OperationHandler {
   @Autowired protected BatchOperationWriter batchOperationWriter;
   @Autowired protected OperateProperties operateProperties;
   @Autowired protected Metrics metrics;
+  @Autowired protected OperationConcurrencyLimiter concurrencyLimiter;
   @Autowired private OperationsManager operationsManager;
+  @Autowired private SentOperationsCounter sentOperationsCounter;
 
   @Override
   public void handle(OperationEntity operation) {
     try {
       handleWithException(operation);
     } catch (Exception ex) {
-      if (isExceptionRetriable(ex)) {
-        // leave the operation locked -> when it expires, operation will be retried
-        LOGGER.error(
-            String.format(
-                "Unable to process operation with id %s. Reason: %s. Will be retried.",
-                operation.getId(), ex.getMessage()),
-            ex);
-      } else {
-        try {
-          failOperation(
-              operation, String.format("Unable to process operation: %s", ex.getMessage()));
-        } catch (PersistenceException e) {
-          // noop
-        }
-        LOGGER.error(
-            String.format(
-                "Unable to process operation with id %s. Reason: %s. Will NOT be retried.",
-                operation.getId(), ex.getMessage()),
-            ex);
+      handleFailure(operation, ex);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> handleAsync(
+      final OperationEntity operation, final Executor executor) {
+    return CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return handleWithExceptionAsync(operation, executor);
+              } catch (final Exception ex) {
+                throw new CompletionException(ex);
+              }
+            },
+            executor)
+        .thenCompose(Function.identity())
+        .exceptionallyAsync(
+            ex -> {
+              handleFailure(operation, unwrapCompletionException(ex));
+              return null;
+            },
+            executor);
+  }
+
+  /**
+   * Asynchronous variant of {@link #handleWithException(OperationEntity)}. Handlers which send
+   * their commands with {@link #send(FinalCommandStep)} override it to not block a thread while
+   * waiting for Zeebe; everything that follows the command must run on the given executor, as the
+   * responses of Zeebe are completed on the threads of the client.
+   */
+  protected CompletableFuture<Void> handleWithExceptionAsync(
+      final OperationEntity operation, final Executor executor) throws Exception {
+    handleWithException(operation);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  protected <T> CompletableFuture<T> send(final FinalCommandStep<T> command) {
+    return command.send().toCompletableFuture();
+  }
+
+  /**
+   * Marks the operation as sent on the given executor, once the command was accepted. Zeebe
+   * accepted the command already, so the operation is not failed when it can't be marked as sent;
+   * it stays locked and is picked up again when the lock expired.
+   */
+  protected CompletableFuture<Void> thenMarkAsSent(
+      final CompletableFuture<?> command,
+      final OperationEntity operation,
+      final Executor executor) {
+    return command.thenAcceptAsync(
+        response -> {
+          try {
+            markAsSent(operation);
+          } catch (final Exception ex) {
+            LOGGER.error(
+                String.format(
+                    "Unable to mark operation with id %s as sent. Reason: %s",
+                    operation.getId(), ex.getMessage()),
+                ex);
+          }
+        },
+        executor);
+  }
+
+  private void handleFailure(final OperationEntity operation, final Throwable ex) {
+    if (isResourceExhausted(ex)) {
+      concurrencyLimiter.onOverload();
+    }
+    if (isExceptionRetriable(ex)) {
+      // leave the operation locked -> when it expires, operation will be retried
+      LOGGER.error(
+          String.format(
+              "Unable to process operation with id %s. Reason: %s. Will be retried.",
+              operation.getId(), ex.getMessage()),
+          ex);
+    } else {
+      try {
+        failOperation(operation, String.format("Unable to process operation: %s", ex.getMessage()));
+      } catch (PersistenceException e) {
+        // noop
       }
+      LOGGER.error(
+          String.format(
+              "Unable to process operation with id %s. Reason: %s. Will NOT be retried.",
+              operation.getId(), ex.getMessage()),
+          ex);
     }
   }
 
@@ -72,12 +146,28 @@ public abstract class AbstractOperationHandler implements OperationHandler {
     this.zeebeClient = zeebeClient;
   }
 
-  private boolean isExceptionRetriable(Exception ex) {
+  private boolean isExceptionRetriable(Throwable ex) {
     final StatusRuntimeException cause = extractStatusRuntimeException(ex);
     return cause != null && RETRY_STATUSES.contains(cause.getStatus().getCode());
   }
 
+  private boolean isResourceExhausted(Throwable ex) {
+    final StatusRuntimeException cause = extractStatusRuntimeException(ex);
+    return cause != null && cause.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED;
+  }
+
+  private Throwable unwrapCompletionException(Throwable ex) {
+    while (ex instanceof CompletionException && ex.getCause() != null) {
+      ex = ex.getCause();
+    }
+    return ex;
+  }
+
   private StatusRuntimeException extractStatusRuntimeException(Throwable ex) {
+    // failed futures of the client are completed with the status exception itself
+    if (ex instanceof StatusRuntimeException) {
+      return (StatusRuntimeException) ex;
+    }
     if (ex.getCause() != null) {
       if (ex.getCause() instanceof StatusRuntimeException) {
         return (StatusRuntimeException) ex.getCause();
@@ -137,8 +227,12 @@ public abstract class AbstractOperationHandler implements OperationHandler {
       operation.setLockOwner(null);
       operation.setZeebeCommandKey(zeebeCommandKey);
       batchOperationWriter.updateOperation(operation);
+      if (operation.getBatchOperationId() != null) {
+        sentOperationsCounter.count(operation.getBatchOperationId());
+      }
       LOGGER.debug("Operation {} was sent to Zeebe", operation.getId());
     }
+    concurrencyLimiter.onSuccess();
     recordCommandMetric(operation);
   }
 }
@@ -13,8 +13,11 @@ import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
 import io.camunda.operate.entities.listview.ProcessInstanceState;
+import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.webapp.elasticsearch.reader.ProcessInstanceReader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -27,9 +30,32 @@ public class CancelProcessInstanceHandler extends AbstractOperationHandler
 
   @Override
   public void handleWithException(OperationEntity operation) throws Exception {
+    final ProcessInstanceForListViewEntity processInstance = getProcessInstanceToCancel(operation);
+    if (processInstance == null) {
+      return;
+    }
+    zeebeClient.newCancelInstanceCommand(processInstance.getKey()).send().join();
+    // mark operation as sent
+    markAsSent(operation);
+  }
+
+  @Override
+  protected CompletableFuture<Void> handleWithExceptionAsync(
+      final OperationEntity operation, final Executor executor) throws Exception {
+    final ProcessInstanceForListViewEntity processInstance = getProcessInstanceToCancel(operation);
+    if (processInstance == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return thenMarkAsSent(
+        send(zeebeClient.newCancelInstanceCommand(processInstance.getKey())), operation, executor);
+  }
+
+  /** Returns the process instance, or null if the operation was failed as it can't be cancelled. */
+  private ProcessInstanceForListViewEntity getProcessInstanceToCancel(OperationEntity operation)
+      throws PersistenceException {
     if (operation.getProcessInstanceKey() == null) {
       failOperation(operation, "No process instance id is provided.");
-      return;
+      return null;
     }
     final ProcessInstanceForListViewEntity processInstance =
         processInstanceReader.getProcessInstanceByKey(operation.getProcessInstanceKey());
@@ -41,11 +67,9 @@ public class CancelProcessInstanceHandler extends AbstractOperationHandler
           String.format(
               "Unable to cancel %s process instance. Instance must be in ACTIVE or INCIDENT state.",
               processInstance.getState()));
-      return;
+      return null;
     }
-    zeebeClient.newCancelInstanceCommand(processInstance.getKey()).send().join();
-    // mark operation as sent
-    markAsSent(operation);
+    return processInstance;
   }
 
   @Override
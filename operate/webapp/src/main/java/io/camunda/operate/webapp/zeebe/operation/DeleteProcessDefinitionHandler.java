@@ -10,6 +10,7 @@ package io.camunda.operate.webapp.zeebe.operation;
 import static io.camunda.operate.schema.templates.ListViewTemplate.KEY;
 import static io.camunda.operate.schema.templates.ListViewTemplate.PROCESS_KEY;
 
+import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.OperateZeebeEntity;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
@@ -19,6 +20,7 @@ import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.schema.templates.ListViewTemplate;
 import io.camunda.operate.store.ProcessStore;
 import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.reader.ProcessReader;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,8 +41,12 @@ public class DeleteProcessDefinitionHandler extends AbstractOperationHandler
 
   @Autowired private OperationsManager operationsManager;
 
+  @Autowired private QueryResultCache queryResultCache;
+
   @Autowired private ProcessReader processReader;
 
+  @Autowired private ProcessCache processCache;
+
   @Autowired private ProcessStore processStore;
 
   @Autowired private ListViewTemplate listViewTemplate;
@@ -80,6 +86,8 @@ public class DeleteProcessDefinitionHandler extends AbstractOperationHandler
     cascadeDeleteProcessInstances(processDefinitionKey, operation);
 
     final long deleted = processStore.deleteProcessDefinitionsByKeys(processDefinitionKey);
+    // the deleted process must not be served from the cache anymore
+    processCache.removeFromCache(processDefinitionKey);
     LOGGER.info(
         String.format(
             "Operation [%s]: Total process definitions deleted: %s", operation.getId(), deleted));
@@ -147,6 +155,8 @@ public class DeleteProcessDefinitionHandler extends AbstractOperationHandler
 
   private void completeOperation(final OperationEntity operation) throws PersistenceException {
     operationsManager.completeOperation(operation);
+    // the deleted instances must not be served from the cache anymore
+    queryResultCache.invalidate();
   }
 
   private void updateInstancesInBatchOperation(final OperationEntity operation, long increment)
@@ -15,6 +15,7 @@ import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.elasticsearch.reader.ProcessInstanceReader;
 import io.camunda.operate.webapp.writer.ProcessInstanceWriter;
 import java.util.Set;
@@ -32,6 +33,8 @@ public class DeleteProcessInstanceHandler extends AbstractOperationHandler
 
   @Autowired private OperationsManager operationsManager;
 
+  @Autowired private QueryResultCache queryResultCache;
+
   @Override
   public void handleWithException(final OperationEntity operation) throws Exception {
     if (operation.getProcessInstanceKey() == null) {
@@ -58,5 +61,7 @@ public class DeleteProcessInstanceHandler extends AbstractOperationHandler
 
   private void completeOperation(final OperationEntity operation) throws PersistenceException {
     operationsManager.completeOperation(operation);
+    // the deleted instances must not be served from the cache anymore
+    queryResultCache.invalidate();
   }
 }
@@ -11,11 +11,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.webapp.rest.dto.operation.MigrationPlanDto;
+import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1.MigrateProcessInstanceCommandFinalStep;
 import io.camunda.zeebe.client.api.command.MigrationPlan;
 import io.camunda.zeebe.client.api.command.MigrationPlanBuilderImpl;
 import io.camunda.zeebe.client.api.command.MigrationPlanImpl;
 import java.util.ArrayList;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -56,12 +59,37 @@ public class MigrateProcessInstanceHandler extends AbstractOperationHandler
         processInstanceKey);
   }
 
+  @Override
+  protected CompletableFuture<Void> handleWithExceptionAsync(
+      final OperationEntity operation, final Executor executor) throws Exception {
+
+    final Long processInstanceKey = operation.getProcessInstanceKey();
+    if (processInstanceKey == null) {
+      failOperation(operation, "No process instance key is provided.");
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final MigrationPlanDto migrationPlanDto =
+        objectMapper.readValue(operation.getMigrationPlan(), MigrationPlanDto.class);
+    LOGGER.info(
+        "Operation [{}]: Sending Zeebe migrate command for processInstanceKey [{}]...",
+        operation.getId(),
+        processInstanceKey);
+    return thenMarkAsSent(
+        send(newMigrateCommand(processInstanceKey, migrationPlanDto)), operation, executor);
+  }
+
   @Override
   public Set<OperationType> getTypes() {
     return Set.of(OperationType.MIGRATE_PROCESS_INSTANCE);
   }
 
   public void migrate(final Long processInstanceKey, final MigrationPlanDto migrationPlanDto) {
+    newMigrateCommand(processInstanceKey, migrationPlanDto).send().join();
+  }
+
+  private MigrateProcessInstanceCommandFinalStep newMigrateCommand(
+      final Long processInstanceKey, final MigrationPlanDto migrationPlanDto) {
     final long targetProcessDefinitionKey =
         Long.parseLong(migrationPlanDto.getTargetProcessDefinitionKey());
 
@@ -77,10 +105,8 @@ public class MigrateProcessInstanceHandler extends AbstractOperationHandler
                         new MigrationPlanBuilderImpl.MappingInstruction(
                             mapping.getSourceElementId(), mapping.getTargetElementId())));
 
-    zeebeClient
+    return zeebeClient
         .newMigrateProcessInstanceCommand(processInstanceKey)
-        .migrationPlan(migrationPlan)
-        .send()
-        .join();
+        .migrationPlan(migrationPlan);
   }
 }
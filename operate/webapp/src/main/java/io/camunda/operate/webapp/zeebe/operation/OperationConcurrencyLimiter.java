@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.property.OperationExecutorProperties;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the number of operations that are executed concurrently. The limit adapts to the load of
+ * Zeebe: it grows by one for every limit operations that were accepted by Zeebe and is halved when
+ * Zeebe answers with RESOURCE_EXHAUSTED (additive increase, multiplicative decrease).
+ */
+@Component
+public class OperationConcurrencyLimiter {
+
+  /**
+   * All operations in flight when Zeebe starts rejecting commands will likely be rejected, so the
+   * limit is decreased at most once per interval.
+   */
+  private static final long DECREASE_INTERVAL_MS = 1000L;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final LongSupplier clock;
+
+  private double limit;
+  private int inFlight;
+  private long lastDecrease;
+
+  @Autowired
+  public OperationConcurrencyLimiter(final OperateProperties operateProperties) {
+    this(operateProperties.getOperationExecutor(), System::currentTimeMillis);
+  }
+
+  OperationConcurrencyLimiter(
+      final OperationExecutorProperties properties, final LongSupplier clock) {
+    minLimit = Math.max(1, properties.getMinConcurrentOperations());
+    maxLimit = Math.max(minLimit, properties.getMaxConcurrentOperations());
+    limit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialConcurrentOperations()));
+    lastDecrease = clock.getAsLong() - DECREASE_INTERVAL_MS;
+    this.clock = clock;
+  }
+
+  /** Blocks until one more operation may be executed. */
+  public void acquire() throws InterruptedException {
+    acquire(1);
+  }
+
+  /**
+   * Blocks until at least one more operation may be executed and acquires as many permits as are
+   * free, but not more than the given maximum.
+   *
+   * @return the number of acquired permits, at least one
+   */
+  public synchronized int acquire(final int maxPermits) throws InterruptedException {
+    while (inFlight >= getLimit()) {
+      wait();
+    }
+    final int permits = Math.max(1, Math.min(maxPermits, getLimit() - inFlight));
+    inFlight += permits;
+    return permits;
+  }
+
+  /** Must be called once for every acquired permit, when the operation has finished. */
+  public void release() {
+    release(1);
+  }
+
+  /** Releases the given number of permits, e.g. the ones which were not used. */
+  public synchronized void release(final int permits) {
+    if (permits > 0) {
+      inFlight -= permits;
+      notifyAll();
+    }
+  }
+
+  /** Called when Zeebe has accepted a command. */
+  public synchronized void onSuccess() {
+    limit = Math.min(maxLimit, limit + 1 / limit);
+    notifyAll();
+  }
+
+  /** Called when Zeebe has rejected a command with RESOURCE_EXHAUSTED. */
+  public synchronized void onOverload() {
+    final long now = clock.getAsLong();
+    if (now - lastDecrease >= DECREASE_INTERVAL_MS) {
+      limit = Math.max(minLimit, limit / 2);
+      lastDecrease = now;
+    }
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+}
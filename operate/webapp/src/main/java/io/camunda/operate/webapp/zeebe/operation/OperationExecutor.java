@@ -9,6 +9,7 @@ package io.camunda.operate.webapp.zeebe.operation;
 
 import static io.camunda.operate.util.ThreadUtil.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.exceptions.PersistenceException;
@@ -20,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +47,12 @@ public class OperationExecutor extends Thread {
 
   @Autowired private OperateProperties operateProperties;
 
+  @Autowired private OperationConcurrencyLimiter concurrencyLimiter;
+
+  @Autowired private SentOperationsCounter sentOperationsCounter;
+
+  @Autowired private Metrics metrics;
+
   private final BackoffIdleStrategy errorStrategy =
       new BackoffIdleStrategy(defaultBackoff, 1.2f, 10_000);
 
@@ -56,6 +64,14 @@ public class OperationExecutor extends Thread {
 
   public void startExecuting() {
     if (operateProperties.getOperationExecutor().isExecutorEnabled()) {
+      metrics.registerGauge(
+          Metrics.GAUGE_OPERATIONS_CONCURRENCY_LIMIT,
+          concurrencyLimiter,
+          OperationConcurrencyLimiter::getLimit);
+      metrics.registerGauge(
+          Metrics.GAUGE_OPERATIONS_IN_FLIGHT,
+          concurrencyLimiter,
+          OperationConcurrencyLimiter::getInFlight);
       start();
     }
   }
@@ -92,25 +108,56 @@ public class OperationExecutor extends Thread {
   public List<Future<?>> executeOneBatch() throws PersistenceException {
     final List<Future<?>> futures = new ArrayList<>();
 
-    // lock the operations
-    final List<OperationEntity> lockedOperations = batchOperationWriter.lockBatch();
-
-    // execute all locked operations
-    for (OperationEntity operation : lockedOperations) {
-      final OperationHandler handler = getOperationHandlers().get(operation.getType());
-      if (handler == null) {
-        LOGGER.info(
-            "Operation {} on worflowInstanceId {} won't be processed, as no suitable handler was found.",
-            operation.getType(),
-            operation.getProcessInstanceKey());
-      } else {
-        final OperationCommand operationCommand = new OperationCommand(operation, handler);
-        futures.add(operationsTaskExecutor.submit(operationCommand));
+    // add the operations sent since the previous batch to their batch operations at once
+    sentOperationsCounter.flush();
+
+    // wait until the limit of concurrent operations allows more, before locking them, so that
+    // locked operations don't wait for their execution while their lock expires
+    final int permits;
+    try {
+      permits =
+          concurrencyLimiter.acquire(operateProperties.getOperationExecutor().getBatchSize());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return futures;
+    }
+
+    int unusedPermits = permits;
+    try {
+      // lock only as many operations as may be executed right away
+      final List<OperationEntity> lockedOperations = batchOperationWriter.lockBatch(permits);
+
+      // execute all locked operations
+      for (OperationEntity operation : lockedOperations) {
+        final OperationHandler handler = getOperationHandlers().get(operation.getType());
+        if (handler == null) {
+          LOGGER.info(
+              "Operation {} on worflowInstanceId {} won't be processed, as no suitable handler was found.",
+              operation.getType(),
+              operation.getProcessInstanceKey());
+        } else {
+          unusedPermits--;
+          futures.add(execute(operation, handler));
+        }
       }
+    } finally {
+      concurrencyLimiter.release(unusedPermits);
     }
     return futures;
   }
 
+  private CompletableFuture<Void> execute(
+      final OperationEntity operation, final OperationHandler handler) {
+    try {
+      return handler
+          .handleAsync(operation, operationsTaskExecutor)
+          .whenComplete((result, ex) -> concurrencyLimiter.release());
+    } catch (RuntimeException ex) {
+      concurrencyLimiter.release();
+      throw ex;
+    }
+  }
+
   @Bean
   public Map<OperationType, OperationHandler> getOperationHandlers() {
     // populate handlers map
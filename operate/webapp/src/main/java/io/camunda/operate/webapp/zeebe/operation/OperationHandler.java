@@ -11,6 +11,8 @@ import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.zeebe.client.ZeebeClient;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface OperationHandler {
 
@@ -18,6 +20,16 @@ public interface OperationHandler {
 
   void handleWithException(OperationEntity operation) throws Exception;
 
+  /**
+   * Handles the operation on the given executor. The returned future completes when the operation
+   * is finished, which for handlers that send their commands asynchronously is after Zeebe
+   * answered. Like {@link #handle(OperationEntity)}, failures are handled and not propagated.
+   */
+  default CompletableFuture<Void> handleAsync(
+      final OperationEntity operation, final Executor executor) {
+    return CompletableFuture.runAsync(() -> handle(operation), executor);
+  }
+
   Set<OperationType> getTypes();
 
   // Needed for tests
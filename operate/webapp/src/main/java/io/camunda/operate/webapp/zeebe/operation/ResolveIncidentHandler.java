@@ -13,9 +13,12 @@ import static io.camunda.operate.entities.OperationType.RESOLVE_INCIDENT;
 import io.camunda.operate.entities.IncidentEntity;
 import io.camunda.operate.entities.OperationEntity;
 import io.camunda.operate.entities.OperationType;
+import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.webapp.reader.IncidentReader;
 import io.camunda.operate.webapp.rest.exception.NotFoundException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -27,17 +30,8 @@ public class ResolveIncidentHandler extends AbstractOperationHandler implements
 
   @Override
   public void handleWithException(OperationEntity operation) throws Exception {
-
-    if (operation.getIncidentKey() == null) {
-      failOperation(operation, "Incident key must be defined.");
-      return;
-    }
-
-    final IncidentEntity incident;
-    try {
-      incident = incidentReader.getIncidentById(operation.getIncidentKey());
-    } catch (NotFoundException ex) {
-      failOperation(operation, "No appropriate incidents found: " + ex.getMessage());
+    final IncidentEntity incident = getIncidentToResolve(operation);
+    if (incident == null) {
       return;
     }
 
@@ -49,6 +43,41 @@ public class ResolveIncidentHandler extends AbstractOperationHandler implements
     markAsSent(operation);
   }
 
+  @Override
+  protected CompletableFuture<Void> handleWithExceptionAsync(
+      final OperationEntity operation, final Executor executor) throws Exception {
+    final IncidentEntity incident = getIncidentToResolve(operation);
+    if (incident == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final CompletableFuture<?> retriesUpdated =
+        incident.getErrorType().equals(JOB_NO_RETRIES)
+            ? send(zeebeClient.newUpdateRetriesCommand(incident.getJobKey()).retries(1))
+            : CompletableFuture.completedFuture(null);
+    return thenMarkAsSent(
+        retriesUpdated.thenCompose(
+            response -> send(zeebeClient.newResolveIncidentCommand(incident.getKey()))),
+        operation,
+        executor);
+  }
+
+  /** Returns the incident, or null if the operation was failed as it can't be resolved. */
+  private IncidentEntity getIncidentToResolve(OperationEntity operation)
+      throws PersistenceException {
+    if (operation.getIncidentKey() == null) {
+      failOperation(operation, "Incident key must be defined.");
+      return null;
+    }
+
+    try {
+      return incidentReader.getIncidentById(operation.getIncidentKey());
+    } catch (NotFoundException ex) {
+      failOperation(operation, "No appropriate incidents found: " + ex.getMessage());
+      return null;
+    }
+  }
+
   @Override
   public Set<OperationType> getTypes() {
     return Set.of(RESOLVE_INCIDENT);
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import io.camunda.operate.util.OperationsManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the operations sent to Zeebe per batch operation and adds them to the batch operations
+ * once per executed batch. Updating the batch operation document for every sent operation would
+ * make concurrently sent operations of the same batch operation conflict on it.
+ */
+@Component
+public class SentOperationsCounter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SentOperationsCounter.class);
+
+  private final Map<String, Integer> sentCounts = new ConcurrentHashMap<>();
+
+  @Autowired private OperationsManager operationsManager;
+
+  public void count(final String batchOperationId) {
+    sentCounts.merge(batchOperationId, 1, Integer::sum);
+  }
+
+  /**
+   * Adds the operations counted so far to their batch operations. When this fails, they are kept
+   * and added with the next flush; the operations themselves are not affected.
+   */
+  public void flush() {
+    final Map<String, Integer> counts = new HashMap<>();
+    for (final String batchOperationId : sentCounts.keySet()) {
+      final Integer count = sentCounts.remove(batchOperationId);
+      if (count != null) {
+        counts.put(batchOperationId, count);
+      }
+    }
+    if (counts.isEmpty()) {
+      return;
+    }
+    try {
+      operationsManager.updateSentInBatchOperations(counts);
+    } catch (final Exception ex) {
+      LOGGER.warn(
+          "Unable to update the sent operations of {} batch operations, will be retried: {}",
+          counts.size(),
+          ex.getMessage());
+      counts.forEach(
+          (batchOperationId, count) -> sentCounts.merge(batchOperationId, count, Integer::sum));
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.Metrics;
+import io.camunda.operate.entities.meta.ImportPositionEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ImportStore;
+import io.camunda.operate.store.OperationStore;
+import io.camunda.operate.webapp.security.tenant.TenantService;
+import io.camunda.operate.webapp.security.tenant.TenantService.AuthenticatedTenants;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class QueryResultCacheTest {
+
+  private static final long CHECK_INTERVAL = 1000L;
+  private static final long REFRESH_INTERVAL = 5000L;
+
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private ImportStore importStore;
+  @Mock private OperationStore operationStore;
+  @Mock private TenantService tenantService;
+  @Mock private Metrics metrics;
+
+  @InjectMocks private QueryResultCache queryResultCache;
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  public void setup() throws IOException {
+    ReflectionTestUtils.setField(queryResultCache, "objectMapper", new ObjectMapper());
+    // initialized while disabled, so that the progress is checked by the tests, not a scheduler
+    queryResultCache.init();
+    queryResultCache.setClock(clock::get);
+    operateProperties.getQueryCache().setEnabled(true);
+    when(tenantService.getAuthenticatedTenants()).thenReturn(AuthenticatedTenants.allTenants());
+    givenImportPosition(10);
+    queryResultCache.checkProgress();
+    checkProgressLater();
+  }
+
+  @Test
+  public void testReturnCachedResultWhileImportDoesNotProgress() {
+    // given
+    query("a");
+    checkProgressLater();
+    query("a");
+
+    // when
+    checkProgressLater();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  public void testLoadResultAfterImportProgressed() throws IOException {
+    // given
+    query("a");
+    query("a");
+
+    // when
+    givenImportPosition(20);
+    clock.addAndGet(REFRESH_INTERVAL);
+    checkProgressLater();
+    checkProgressLater();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testKeepResultsForRefreshIntervalWhileImportProgresses() throws IOException {
+    // given
+    query("a");
+
+    // when
+    givenImportPosition(20);
+    checkProgressLater();
+    checkProgressLater();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  public void testDoNotStartGenerationBeforeProgressIsVisibleToSearches() throws IOException {
+    // given
+    query("a");
+    clock.addAndGet(REFRESH_INTERVAL);
+
+    // when - the progress was read only once since it changed
+    givenImportPosition(20);
+    checkProgressLater();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  public void testDoNotCacheResultLoadedWhileGenerationChanged() {
+    // given
+    queryResultCache.get(
+        "test",
+        Map.of("filter", "a"),
+        () -> {
+          queryResultCache.invalidate();
+          return loads.incrementAndGet();
+        });
+
+    // when
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testCacheResultsPerQuery() {
+    // when
+    query("a");
+    query("b");
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedResult() {
+    // given
+    operateProperties.getQueryCache().setMaxEntries(2);
+    query("a");
+    query("b");
+    query("a");
+
+    // when
+    query("c");
+    query("a");
+    query("b");
+
+    // then
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  public void testLoadResultAfterInvalidate() {
+    // given
+    query("a");
+    query("a");
+
+    // when
+    queryResultCache.invalidate();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testLoadResultAfterOperationsProgressedOnAnyNode() throws IOException {
+    // given
+    query("a");
+    query("a");
+
+    // when - e.g. an instance was deleted by the operation executor of another node
+    when(operationStore.getBatchOperationsProgress()).thenReturn(1L);
+    clock.addAndGet(REFRESH_INTERVAL);
+    checkProgressLater();
+    checkProgressLater();
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  public void testDoNotCacheWhenImportPositionsCannotBeRead() throws IOException {
+    // given
+    when(importStore.getImportPositions()).thenThrow(new IOException("unavailable"));
+    checkProgressLater();
+
+    // when
+    query("a");
+    query("a");
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  private void checkProgressLater() {
+    clock.addAndGet(CHECK_INTERVAL);
+    queryResultCache.checkProgress();
+  }
+
+  private void givenImportPosition(final long position) throws IOException {
+    when(importStore.getImportPositions())
+        .thenReturn(List.of(new ImportPositionEntity().setPosition(position)));
+  }
+
+  private Object query(final String filter) {
+    return queryResultCache.get("test", Map.of("filter", filter), loads::incrementAndGet);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.operate.webapp.rest.dto.listview.ListViewQueryDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FlowNodeStatisticsReaderTest {
+
+  @Test
+  void shouldServeQueriesOnlyFilteredByProcessAndTenant() {
+    // given
+    final var query = allStatesQuery().setProcessIds(List.of("123")).setTenantId("tenant");
+
+    // when
+    final boolean onlyFilteredByProcess = FlowNodeStatisticsReader.isOnlyFilteredByProcess(query);
+
+    // then
+    assertThat(onlyFilteredByProcess).isTrue();
+  }
+
+  @Test
+  void shouldNotServeQueriesWithoutProcess() {
+    // when
+    final boolean onlyFilteredByProcess =
+        FlowNodeStatisticsReader.isOnlyFilteredByProcess(allStatesQuery());
+
+    // then
+    assertThat(onlyFilteredByProcess).isFalse();
+  }
+
+  @Test
+  void shouldNotServeQueriesFilteredByProcessInstance() {
+    // given
+    final var query = allStatesQuery().setProcessIds(List.of("123")).setIds(List.of("456"));
+
+    // when
+    final boolean onlyFilteredByProcess = FlowNodeStatisticsReader.isOnlyFilteredByProcess(query);
+
+    // then
+    assertThat(onlyFilteredByProcess).isFalse();
+  }
+
+  @Test
+  void shouldNotServeQueriesFilteredByErrorMessage() {
+    // given
+    final var query = allStatesQuery().setProcessIds(List.of("123")).setErrorMessage("failed");
+
+    // when
+    final boolean onlyFilteredByProcess = FlowNodeStatisticsReader.isOnlyFilteredByProcess(query);
+
+    // then
+    assertThat(onlyFilteredByProcess).isFalse();
+  }
+
+  @Test
+  void shouldOnlyReturnRequestedCounters() {
+    // given
+    final var query = allStatesQuery().setCanceled(false).setCompleted(false);
+
+    // when
+    final var statistics = FlowNodeStatisticsReader.toFlowNodeStatistics(query, "task", 3, 2, 1, 4);
+
+    // then
+    assertThat(statistics.getActivityId()).isEqualTo("task");
+    assertThat(statistics.getActive()).isEqualTo(3);
+    assertThat(statistics.getIncidents()).isEqualTo(2);
+    assertThat(statistics.getCanceled()).isZero();
+    assertThat(statistics.getCompleted()).isZero();
+  }
+
+  @Test
+  void shouldNotReturnNegativeCounters() {
+    // given - the incident was imported before its flow node was activated
+    final var query = allStatesQuery();
+
+    // when
+    final var statistics =
+        FlowNodeStatisticsReader.toFlowNodeStatistics(query, "task", -1, 1, 0, 0);
+
+    // then
+    assertThat(statistics.getActive()).isZero();
+    assertThat(statistics.getIncidents()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOmitFlowNodesWithoutRequestedCounters() {
+    // given
+    final var query = allStatesQuery().setCanceled(false);
+
+    // when
+    final var statistics = FlowNodeStatisticsReader.toFlowNodeStatistics(query, "task", 0, 0, 5, 0);
+
+    // then
+    assertThat(statistics).isNull();
+  }
+
+  private static ListViewQueryDto allStatesQuery() {
+    return new ListViewQueryDto()
+        .setRunning(true)
+        .setActive(true)
+        .setIncidents(true)
+        .setFinished(true)
+        .setCompleted(true)
+        .setCanceled(true);
+  }
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 import io.camunda.operate.entities.OperationType;
 import io.camunda.operate.entities.listview.ProcessInstanceForListViewEntity;
 import io.camunda.operate.store.SequenceFlowStore;
+import io.camunda.operate.webapp.cache.QueryResultCache;
 import io.camunda.operate.webapp.elasticsearch.reader.ProcessInstanceReader;
 import io.camunda.operate.webapp.reader.FlowNodeInstanceReader;
 import io.camunda.operate.webapp.reader.FlowNodeStatisticsReader;
@@ -51,6 +52,7 @@ public class ProcessInstanceRestServiceTest {
   @Mock private FlowNodeInstanceReader flowNodeInstanceReader;
   @Mock private FlowNodeStatisticsReader flowNodeStatisticsReader;
   @Mock private SequenceFlowStore sequenceFlowStore;
+  @Mock private QueryResultCache queryResultCache;
 
   private ProcessInstanceRestService underTest;
 
@@ -68,7 +70,8 @@ public class ProcessInstanceRestServiceTest {
             variableReader,
             flowNodeInstanceReader,
             flowNodeStatisticsReader,
-            sequenceFlowStore);
+            sequenceFlowStore,
+            queryResultCache);
 
     when(permissionsService.hasPermissionForProcess(any(), any())).thenReturn(true);
   }
@@ -8,18 +8,22 @@
 package io.camunda.operate.webapp.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.ProcessEntity;
+import io.camunda.operate.store.NotFoundException;
 import io.camunda.operate.store.ProcessStore;
 import io.camunda.operate.webapp.reader.ProcessReader;
 import io.camunda.operate.webapp.rest.dto.ProcessRequestDto;
 import io.camunda.operate.webapp.security.identity.IdentityPermission;
 import io.camunda.operate.webapp.security.identity.PermissionsService;
 import io.camunda.operate.webapp.security.identity.PermissionsService.ResourcesAllowed;
+import io.camunda.operate.webapp.security.tenant.TenantService;
 import java.util.HashMap;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -32,38 +36,63 @@ public class ProcessReaderTest {
 
   @Mock private ProcessStore mockProcessStore;
 
+  @Mock private ProcessCache mockProcessCache;
+
+  @Mock private TenantService mockTenantService;
+
   @Mock private PermissionsService mockPermissionsService;
 
   @Test
   public void testGetDiagram() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, mockPermissionsService);
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
 
     final String expectedString = "diagram";
-    when(mockProcessStore.getDiagramByKey(1L)).thenReturn(expectedString);
+    when(mockProcessCache.getProcess(1L))
+        .thenReturn(new ProcessEntity().setBpmnXml(expectedString).setTenantId("tenantA"));
+    when(mockTenantService.isTenantValid("tenantA")).thenReturn(true);
 
     final var response = underTest.getDiagram(1L);
 
     assertThat(response).isEqualTo(expectedString);
-    verifyNoInteractions(mockPermissionsService);
-    verify(mockProcessStore, times(1)).getDiagramByKey(1L);
+    verifyNoInteractions(mockPermissionsService, mockProcessStore);
+    verify(mockProcessCache, times(1)).getProcess(1L);
   }
 
   @Test
   public void testGetProcess() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, mockPermissionsService);
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
 
-    when(mockProcessStore.getProcessByKey(1L)).thenReturn(new ProcessEntity());
+    when(mockProcessCache.getProcess(1L)).thenReturn(new ProcessEntity().setTenantId("tenantA"));
+    when(mockTenantService.isTenantValid("tenantA")).thenReturn(true);
 
     final var response = underTest.getProcess(1L);
 
     assertThat(response).isNotNull();
-    verifyNoInteractions(mockPermissionsService);
-    verify(mockProcessStore, times(1)).getProcessByKey(1L);
+    verifyNoInteractions(mockPermissionsService, mockProcessStore);
+    verify(mockProcessCache, times(1)).getProcess(1L);
+  }
+
+  @Test
+  public void testGetProcessOfOtherTenantFromCacheIsNotFound() {
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
+
+    when(mockProcessCache.getProcess(1L)).thenReturn(new ProcessEntity().setTenantId("tenantB"));
+    when(mockTenantService.isTenantValid("tenantB")).thenReturn(false);
+
+    assertThatThrownBy(() -> underTest.getDiagram(1L)).isInstanceOf(NotFoundException.class);
+    verifyNoInteractions(mockProcessStore);
   }
 
   @Test
   public void testGetProcessesGroupedWithNoPermissionsService() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, null);
+    final ProcessReader underTest =
+        new ProcessReader(mockProcessStore, mockProcessCache, mockTenantService, null);
 
     final String tenantId = "tenantId";
     when(mockProcessStore.getProcessesGrouped(tenantId, null)).thenReturn(new HashMap<>());
@@ -80,7 +109,9 @@ public class ProcessReaderTest {
 
   @Test
   public void testGetProcessesGroupedWithNullPermissions() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, mockPermissionsService);
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
 
     when(mockPermissionsService.getProcessesWithPermission(IdentityPermission.READ))
         .thenReturn(null);
@@ -100,7 +131,9 @@ public class ProcessReaderTest {
 
   @Test
   public void testGetProcessesGroupedWithAllPermissions() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, mockPermissionsService);
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
 
     when(mockPermissionsService.getProcessesWithPermission(IdentityPermission.READ))
         .thenReturn(ResourcesAllowed.all());
@@ -120,7 +153,9 @@ public class ProcessReaderTest {
 
   @Test
   public void testGetProcessesGroupedWithSomePermissions() {
-    final ProcessReader underTest = new ProcessReader(mockProcessStore, mockPermissionsService);
+    final ProcessReader underTest =
+        new ProcessReader(
+            mockProcessStore, mockProcessCache, mockTenantService, mockPermissionsService);
 
     final Set<String> allowedProcessIds = Set.of("p1, p2");
     when(mockPermissionsService.getProcessesWithPermission(IdentityPermission.READ))
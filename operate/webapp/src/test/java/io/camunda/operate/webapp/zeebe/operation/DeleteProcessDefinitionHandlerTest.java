@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import static org.mockito.Mockito.inOrder;
+
+import io.camunda.operate.Metrics;
+import io.camunda.operate.cache.ProcessCache;
+import io.camunda.operate.entities.OperationEntity;
+import io.camunda.operate.entities.OperationState;
+import io.camunda.operate.entities.OperationType;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.store.ProcessStore;
+import io.camunda.operate.util.OperationsManager;
+import io.camunda.operate.webapp.cache.QueryResultCache;
+import io.camunda.operate.webapp.writer.BatchOperationWriter;
+import io.camunda.zeebe.client.ZeebeClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteProcessDefinitionHandlerTest {
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private ZeebeClient zeebeClient;
+
+  @Mock private BatchOperationWriter batchOperationWriter;
+  @Spy private OperateProperties operateProperties = new OperateProperties();
+  @Mock private Metrics metrics;
+  @Mock private OperationConcurrencyLimiter concurrencyLimiter;
+  @Mock private SentOperationsCounter sentOperationsCounter;
+  @Mock private OperationsManager operationsManager;
+  @Mock private QueryResultCache queryResultCache;
+  @Mock private ProcessStore processStore;
+  @Mock private ProcessCache processCache;
+
+  @InjectMocks private DeleteProcessDefinitionHandler handler;
+
+  @Test
+  public void testEvictDeletedProcessFromCache() throws Exception {
+    // given
+    final OperationEntity operation =
+        new OperationEntity()
+            .setId("1")
+            .setType(OperationType.DELETE_PROCESS_DEFINITION)
+            .setState(OperationState.SENT)
+            .setProcessDefinitionKey(123L);
+
+    // when
+    handler.handleWithException(operation);
+
+    // then
+    final InOrder inOrder = inOrder(processStore, processCache);
+    inOrder.verify(processStore).deleteProcessDefinitionsByKeys(123L);
+    inOrder.verify(processCache).removeFromCache(123L);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.operate.property.OperationExecutorProperties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OperationConcurrencyLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private OperationConcurrencyLimiter limiter;
+
+  @BeforeEach
+  public void setup() {
+    final OperationExecutorProperties properties = new OperationExecutorProperties();
+    properties.setMinConcurrentOperations(1);
+    properties.setInitialConcurrentOperations(4);
+    properties.setMaxConcurrentOperations(5);
+    limiter = new OperationConcurrencyLimiter(properties, clock::get);
+  }
+
+  @Test
+  public void testIncreaseLimitAfterLimitSuccesses() {
+    // when
+    for (int i = 0; i < 4; i++) {
+      limiter.onSuccess();
+    }
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  public void testDoNotIncreaseLimitAboveMax() {
+    // when
+    for (int i = 0; i < 100; i++) {
+      limiter.onSuccess();
+    }
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  public void testHalveLimitOnOverload() {
+    // when
+    limiter.onOverload();
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  public void testDecreaseLimitOnlyOncePerInterval() {
+    // when
+    limiter.onOverload();
+    limiter.onOverload();
+    clock.addAndGet(1000);
+    limiter.onOverload();
+    limiter.onOverload();
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(1);
+  }
+
+  @Test
+  public void testBlockAcquireUntilReleased() throws Exception {
+    // given
+    for (int i = 0; i < 4; i++) {
+      limiter.acquire();
+    }
+
+    // when
+    final CompletableFuture<Void> acquired =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                limiter.acquire();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    // then
+    Thread.sleep(100);
+    assertThat(acquired).isNotDone();
+    limiter.release();
+    acquired.get(5, TimeUnit.SECONDS);
+    assertThat(limiter.getInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  public void testAcquireOnlyFreePermits() throws Exception {
+    // given
+    limiter.acquire();
+
+    // when
+    final int permits = limiter.acquire(10);
+
+    // then
+    assertThat(permits).isEqualTo(3);
+    assertThat(limiter.getInFlight()).isEqualTo(4);
+  }
+
+  @Test
+  public void testAcquireNotMoreThanRequestedPermits() throws Exception {
+    // when
+    final int permits = limiter.acquire(2);
+    limiter.release(1);
+
+    // then
+    assertThat(permits).isEqualTo(2);
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+  }
+}
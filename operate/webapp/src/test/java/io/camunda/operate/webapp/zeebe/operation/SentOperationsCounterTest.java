@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.webapp.zeebe.operation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.util.OperationsManager;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SentOperationsCounterTest {
+
+  @Mock private OperationsManager operationsManager;
+
+  @InjectMocks private SentOperationsCounter sentOperationsCounter;
+
+  @Test
+  public void testUpdateBatchOperationsOncePerFlush() throws PersistenceException {
+    // given
+    sentOperationsCounter.count("batch1");
+    sentOperationsCounter.count("batch1");
+    sentOperationsCounter.count("batch2");
+
+    // when
+    sentOperationsCounter.flush();
+
+    // then
+    verify(operationsManager).updateSentInBatchOperations(Map.of("batch1", 2, "batch2", 1));
+  }
+
+  @Test
+  public void testNotUpdateWithoutSentOperations() {
+    // when
+    sentOperationsCounter.flush();
+
+    // then
+    verifyNoInteractions(operationsManager);
+  }
+
+  @Test
+  public void testKeepCountsWhenUpdateFailed() throws PersistenceException {
+    // given
+    sentOperationsCounter.count("batch1");
+    doThrow(new PersistenceException("conflict"))
+        .doNothing()
+        .when(operationsManager)
+        .updateSentInBatchOperations(any());
+    sentOperationsCounter.flush();
+
+    // when
+    sentOperationsCounter.count("batch1");
+    sentOperationsCounter.flush();
+
+    // then
+    verify(operationsManager).updateSentInBatchOperations(Map.of("batch1", 2));
+  }
+}
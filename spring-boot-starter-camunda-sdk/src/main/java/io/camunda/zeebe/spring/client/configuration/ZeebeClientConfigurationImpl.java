@@ -302,6 +302,11 @@ public class ZeebeClientConfigurationImpl
         configCache);
   }
 
+  @Override
+  public boolean getDefaultJobWorkerVirtualThreadsEnabled() {
+    return DEFAULT.getDefaultJobWorkerVirtualThreadsEnabled();
+  }
+
   @Override
   public boolean useDefaultRetryPolicy() {
     return false;
@@ -7,8 +7,10 @@
  */
 package io.camunda.tasklist;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.function.ToDoubleFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +45,9 @@ public class Metrics {
 
   public static final String COUNTER_NAME_CLAIMED_TASKS = "claimed.tasks";
   public static final String COUNTER_NAME_COMPLETED_TASKS = "completed.tasks";
+  // Gauges:
+  public static final String GAUGE_IMPORT_READER_POSITIONS_BEHIND =
+      "import.reader.positions.behind";
   // Tags
   // -----
   //  Keys:
@@ -77,6 +82,13 @@ public class Metrics {
     registry.counter(TASKLIST_NAMESPACE + name, tags).increment(count);
   }
 
+  public <T> void registerGauge(
+      String name, T stateObject, ToDoubleFunction<T> valueFunction, String... tags) {
+    Gauge.builder(TASKLIST_NAMESPACE + name, stateObject, valueFunction)
+        .tags(tags)
+        .register(registry);
+  }
+
   public Timer getTimer(String name, String... tags) {
     return registry.timer(name, tags);
   }
@@ -11,6 +11,12 @@ public class FeatureFlagProperties {
 
   private Boolean processPublicEndpoints = true;
 
+  /**
+   * Keeps the variables of each task on the task document, so that tasks can be searched by
+   * variable values with a single query.
+   */
+  private Boolean taskSearchVariables = false;
+
   public Boolean getProcessPublicEndpoints() {
     return processPublicEndpoints;
   }
@@ -19,4 +25,13 @@ public class FeatureFlagProperties {
     this.processPublicEndpoints = processPublicEndpoints;
     return this;
   }
+
+  public Boolean getTaskSearchVariables() {
+    return taskSearchVariables;
+  }
+
+  public FeatureFlagProperties setTaskSearchVariables(Boolean taskSearchVariables) {
+    this.taskSearchVariables = taskSearchVariables;
+    return this;
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.tasklist.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -48,6 +50,35 @@ public class PayloadUtil {
     }
   }
 
+  /**
+   * Applies a JSON merge patch (RFC 7396) to the given value and returns the merged value. A
+   * {@code null} value is treated like a missing one, i.e. the patch without its null members is
+   * returned.
+   */
+  public String applyMergePatch(final String value, final String patch) throws IOException {
+    final JsonNode valueNode = value == null ? null : objectMapper.readTree(value);
+    return objectMapper.writeValueAsString(mergePatch(valueNode, objectMapper.readTree(patch)));
+  }
+
+  private JsonNode mergePatch(final JsonNode value, final JsonNode patch) {
+    if (!patch.isObject()) {
+      return patch;
+    }
+    final ObjectNode result =
+        value != null && value.isObject() ? (ObjectNode) value : objectMapper.createObjectNode();
+    final Iterator<Entry<String, JsonNode>> patchFields = patch.fields();
+    while (patchFields.hasNext()) {
+      final Entry<String, JsonNode> patchField = patchFields.next();
+      final String name = patchField.getKey();
+      if (patchField.getValue().isNull()) {
+        result.remove(name);
+      } else {
+        result.set(name, mergePatch(result.get(name), patchField.getValue()));
+      }
+    }
+    return result;
+  }
+
   private void traverseTheTree(JsonNode jsonNode, Map<String, Object> map, String path) {
     if (jsonNode.isValueNode()) {
 
@@ -12,6 +12,8 @@ public interface ZeebeESConstants {
 
   String POSITION_FIELD_NAME = "position";
   String SEQUENCE_FIELD_NAME = "sequence";
+  String VALUE_FIELD_NAME = "value";
+  String PROCESS_INSTANCE_KEY_FIELD_NAME = "processInstanceKey";
   String PROCESS_INSTANCE_INDEX_NAME = "process-instance";
   String JOB_INDEX_NAME = "job";
   String PROCESS_INDEX_NAME = "process";
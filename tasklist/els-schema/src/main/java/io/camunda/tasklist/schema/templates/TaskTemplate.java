@@ -36,6 +36,10 @@ public class TaskTemplate extends AbstractTemplateDescriptor
   public static final String FOLLOW_UP_DATE = "followUpDate";
   public static final String TENANT_ID = "tenantId";
   public static final String IMPLEMENTATION = "implementation";
+  public static final String VARIABLES = "variables";
+  public static final String VARIABLE_NAME = "name";
+  public static final String VARIABLE_VALUE = "value";
+  public static final String VARIABLES_INDEXED = "variablesIndexed";
 
   @Override
   public String getIndexName() {
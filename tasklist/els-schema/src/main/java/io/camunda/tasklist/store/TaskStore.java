@@ -37,4 +37,31 @@ public interface TaskStore {
   TaskEntity persistTaskUnclaim(TaskEntity task);
 
   List<TaskEntity> getTasksById(List<String> ids);
+
+  /** Returns the tasks of the given process instances, which were not archived yet. */
+  List<TaskEntity> getRuntimeTasksByProcessInstanceIds(List<String> processInstanceIds);
+
+  /**
+   * Returns the next page of tasks, which were created more than a minute ago and don't have search
+   * variables yet or whose search variables are outdated, ordered by id and grouped by the index
+   * they are stored in.
+   *
+   * @param searchAfterId id of the last task of the previous page, or null for the first page
+   */
+  Map<String, List<TaskEntity>> getTasksWithoutSearchVariables(String searchAfterId, int size);
+
+  /**
+   * Marks the search variables of the not archived tasks of the given process instances as
+   * outdated, so that they are rebuilt by the backfill if the pending update gets lost.
+   */
+  void markTaskSearchVariablesOutdated(List<String> processInstanceIds);
+
+  /**
+   * Replaces the variables by which the tasks can be searched.
+   *
+   * @param index the index the tasks are stored in
+   * @param variablesPerTaskId variable values by variable name, for each task id
+   */
+  void persistTaskSearchVariables(
+      String index, Map<String, Map<String, String>> variablesPerTaskId);
 }
@@ -27,6 +27,12 @@ public interface VariableStore {
 
   public VariableEntity getRuntimeVariable(final String variableId, Set<String> fieldNames);
 
+  /**
+   * Reads the full value of the runtime variable by id, so that values written by the previous
+   * import batch are visible without an index refresh. Returns {@code null} if it does not exist.
+   */
+  public String getRuntimeVariableFullValue(final String variableId);
+
   public TaskVariableEntity getTaskVariable(final String variableId, Set<String> fieldNames);
 
   public List<String> getProcessInstanceIdsWithMatchingVars(
@@ -12,6 +12,7 @@ import static io.camunda.tasklist.util.CollectionUtil.asMap;
 import static io.camunda.tasklist.util.CollectionUtil.getOrDefaultFromMap;
 import static io.camunda.tasklist.util.ElasticsearchUtil.QueryType.ALL;
 import static io.camunda.tasklist.util.ElasticsearchUtil.SCROLL_KEEP_ALIVE_MS;
+import static io.camunda.tasklist.util.ElasticsearchUtil.UPDATE_RETRY_COUNT;
 import static io.camunda.tasklist.util.ElasticsearchUtil.fromSearchHit;
 import static io.camunda.tasklist.util.ElasticsearchUtil.getRawResponseWithTenantCheck;
 import static io.camunda.tasklist.util.ElasticsearchUtil.joinWithAnd;
@@ -25,7 +26,9 @@ import io.camunda.tasklist.data.conditionals.ElasticSearchCondition;
 import io.camunda.tasklist.entities.TaskEntity;
 import io.camunda.tasklist.entities.TaskState;
 import io.camunda.tasklist.exceptions.NotFoundException;
+import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.queries.Sort;
 import io.camunda.tasklist.queries.TaskByVariables;
 import io.camunda.tasklist.queries.TaskOrderBy;
@@ -46,12 +49,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.lucene.search.join.ScoreMode;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -64,6 +70,7 @@ import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.IdsQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.reindex.UpdateByQueryRequest;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
@@ -82,6 +89,7 @@ import org.springframework.stereotype.Component;
 @Conditional(ElasticSearchCondition.class)
 public class TaskStoreElasticSearch implements TaskStore {
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskStoreElasticSearch.class);
+  private static final String SEARCH_VARIABLES_MISSING_BEFORE = "now-1m";
   private static final Map<TaskState, String> SORT_FIELD_PER_STATE =
       Map.of(
           TaskState.CREATED, TaskTemplate.CREATION_TIME,
@@ -102,10 +110,14 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   @Autowired private TaskVariableTemplate taskVariableTemplate;
 
+  @Autowired private TasklistProperties tasklistProperties;
+
   @Autowired
   @Qualifier("tasklistObjectMapper")
   private ObjectMapper objectMapper;
 
+  private volatile boolean searchVariablesComplete = false;
+
   @Override
   public TaskEntity getTask(final String id) {
     try {
@@ -172,6 +184,142 @@ public class TaskStoreElasticSearch implements TaskStore {
     }
   }
 
+  @Override
+  public List<TaskEntity> getRuntimeTasksByProcessInstanceIds(
+      final List<String> processInstanceIds) {
+    final SearchRequest searchRequest =
+        ElasticsearchUtil.createSearchRequest(
+                taskTemplate, ElasticsearchUtil.QueryType.ONLY_RUNTIME)
+            .source(
+                SearchSourceBuilder.searchSource()
+                    .query(termsQuery(PROCESS_INSTANCE_ID, processInstanceIds))
+                    .fetchSource(null, TaskTemplate.VARIABLES));
+    try {
+      return ElasticsearchUtil.scroll(searchRequest, TaskEntity.class, objectMapper, esClient);
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Map<String, List<TaskEntity>> getTasksWithoutSearchVariables(
+      final String searchAfterId, final int size) {
+    final SearchSourceBuilder sourceBuilder =
+        SearchSourceBuilder.searchSource()
+            .query(tasksWithoutSearchVariablesQuery(true))
+            .fetchSource(null, TaskTemplate.VARIABLES)
+            .sort(TaskTemplate.ID, SortOrder.ASC)
+            .size(size);
+    if (searchAfterId != null) {
+      sourceBuilder.searchAfter(new Object[] {searchAfterId});
+    }
+    final SearchRequest searchRequest =
+        ElasticsearchUtil.createSearchRequest(taskTemplate, ALL).source(sourceBuilder);
+    try {
+      final SearchResponse response = esClient.search(searchRequest, RequestOptions.DEFAULT);
+      final Map<String, List<TaskEntity>> tasksPerIndex = new LinkedHashMap<>();
+      for (SearchHit hit : response.getHits().getHits()) {
+        tasksPerIndex
+            .computeIfAbsent(hit.getIndex(), k -> new ArrayList<>())
+            .add(fromSearchHit(hit.getSourceAsString(), objectMapper, TaskEntity.class));
+      }
+      return tasksPerIndex;
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void persistTaskSearchVariables(
+      final String index, final Map<String, Map<String, String>> variablesPerTaskId) {
+    final BulkRequest bulkRequest = new BulkRequest();
+    variablesPerTaskId.forEach(
+        (taskId, variables) -> {
+          final List<Map<String, String>> searchVariables =
+              variables.entrySet().stream()
+                  .map(
+                      v ->
+                          Map.of(
+                              TaskTemplate.VARIABLE_NAME,
+                              v.getKey(),
+                              TaskTemplate.VARIABLE_VALUE,
+                              v.getValue()))
+                  .collect(toList());
+          final Map<String, Object> doc = new HashMap<>();
+          doc.put(TaskTemplate.VARIABLES, searchVariables);
+          doc.put(TaskTemplate.VARIABLES_INDEXED, true);
+          bulkRequest.add(
+              new UpdateRequest()
+                  .index(index)
+                  .id(taskId)
+                  .doc(doc)
+                  .retryOnConflict(UPDATE_RETRY_COUNT));
+        });
+    try {
+      ElasticsearchUtil.processBulkRequest(esClient, bulkRequest);
+    } catch (PersistenceException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void markTaskSearchVariablesOutdated(final List<String> processInstanceIds) {
+    final UpdateByQueryRequest request =
+        new UpdateByQueryRequest(taskTemplate.getFullQualifiedName())
+            .setQuery(
+                boolQuery()
+                    .filter(termsQuery(PROCESS_INSTANCE_ID, processInstanceIds))
+                    .filter(termQuery(TaskTemplate.VARIABLES_INDEXED, true)))
+            .setScript(new Script("ctx._source." + TaskTemplate.VARIABLES_INDEXED + " = false"))
+            .setAbortOnVersionConflict(false);
+    try {
+      esClient.updateByQuery(request, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Tasks can be searched by the variables stored on them only when the feature is enabled and all
+   * tasks, apart from the just created ones, got their search variables, including the ones which
+   * existed before the feature was enabled. Until then, the variable indices are queried.
+   */
+  private boolean areSearchVariablesComplete() {
+    if (!tasklistProperties.getFeatureFlag().getTaskSearchVariables()) {
+      return false;
+    }
+    if (!searchVariablesComplete) {
+      final SearchRequest searchRequest =
+          ElasticsearchUtil.createSearchRequest(taskTemplate, ALL)
+              .source(
+                  SearchSourceBuilder.searchSource()
+                      .query(tasksWithoutSearchVariablesQuery(false))
+                      .fetchSource(false)
+                      .trackTotalHits(false)
+                      .size(1));
+      try {
+        final SearchResponse response = esClient.search(searchRequest, RequestOptions.DEFAULT);
+        searchVariablesComplete = response.getHits().getHits().length == 0;
+      } catch (IOException e) {
+        LOGGER.warn("Could not check whether all tasks have search variables", e);
+      }
+    }
+    return searchVariablesComplete;
+  }
+
+  /**
+   * @param includeOutdated whether to include the tasks, whose search variables are rebuilt after a
+   *     change of their process instance
+   */
+  private QueryBuilder tasksWithoutSearchVariablesQuery(final boolean includeOutdated) {
+    return boolQuery()
+        .mustNot(
+            includeOutdated
+                ? termQuery(TaskTemplate.VARIABLES_INDEXED, true)
+                : existsQuery(TaskTemplate.VARIABLES_INDEXED))
+        .filter(rangeQuery(TaskTemplate.CREATION_TIME).lt(SEARCH_VARIABLES_MISSING_BEFORE));
+  }
+
   private List<TaskSearchView> mapTasksFromEntity(SearchResponse response) {
     return ElasticsearchUtil.mapSearchHits(
         response.getHits().getHits(),
@@ -249,7 +397,13 @@ public class TaskStoreElasticSearch implements TaskStore {
 
   private List<TaskSearchView> queryTasks(final TaskQuery query, String taskId) {
     List<String> tasksIds = null;
-    if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+    final boolean searchVariablesInTasks =
+        query.getTaskVariables() != null
+            && query.getTaskVariables().length > 0
+            && areSearchVariablesComplete();
+    if (query.getTaskVariables() != null
+        && query.getTaskVariables().length > 0
+        && !searchVariablesInTasks) {
       tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
       if (tasksIds.isEmpty()) {
         return new ArrayList<>();
@@ -257,7 +411,7 @@ public class TaskStoreElasticSearch implements TaskStore {
     }
 
     if (taskId != null && !taskId.isEmpty()) {
-      if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+      if (tasksIds != null) {
         tasksIds = tasksIds.stream().filter(id -> !id.equals(taskId)).collect(toList());
         if (tasksIds.isEmpty()) {
           return new ArrayList<>();
@@ -268,12 +422,13 @@ public class TaskStoreElasticSearch implements TaskStore {
       }
     }
 
-    final QueryBuilder esQuery = buildQuery(query, tasksIds);
+    final QueryBuilder esQuery = buildQuery(query, tasksIds, searchVariablesInTasks);
     // TODO #104 define list of fields
 
     // TODO we can play around with query type here (2nd parameter), e.g. when we select for only
     // active tasks
-    final SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(esQuery);
+    final SearchSourceBuilder sourceBuilder =
+        new SearchSourceBuilder().query(esQuery).fetchSource(null, TaskTemplate.VARIABLES);
     applySorting(sourceBuilder, query);
 
     final SearchRequest searchRequest =
@@ -332,7 +487,8 @@ public class TaskStoreElasticSearch implements TaskStore {
     }
   }
 
-  private QueryBuilder buildQuery(TaskQuery query, List<String> taskIds) {
+  private QueryBuilder buildQuery(
+      TaskQuery query, List<String> taskIds, boolean searchVariablesInTasks) {
     QueryBuilder stateQ = boolQuery().mustNot(termQuery(TaskTemplate.STATE, TaskState.CANCELED));
     if (query.getState() != null) {
       stateQ = termQuery(TaskTemplate.STATE, query.getState());
@@ -424,6 +580,15 @@ public class TaskStoreElasticSearch implements TaskStore {
       implementationQ = termQuery(TaskTemplate.IMPLEMENTATION, query.getImplementation());
     }
 
+    QueryBuilder variablesQ = null;
+    if (searchVariablesInTasks) {
+      variablesQ =
+          joinWithAnd(
+              Arrays.stream(query.getTaskVariables())
+                  .map(this::buildVariableQuery)
+                  .toArray(QueryBuilder[]::new));
+    }
+
     QueryBuilder jointQ =
         joinWithAnd(
             stateQ,
@@ -441,13 +606,28 @@ public class TaskStoreElasticSearch implements TaskStore {
             processDefinitionIdQ,
             followUpQ,
             dueDateQ,
-            implementationQ);
+            implementationQ,
+            variablesQ);
     if (jointQ == null) {
       jointQ = matchAllQuery();
     }
     return constantScoreQuery(jointQ);
   }
 
+  private QueryBuilder buildVariableQuery(final TaskByVariables variable) {
+    return nestedQuery(
+        TaskTemplate.VARIABLES,
+        boolQuery()
+            .must(
+                termQuery(
+                    TaskTemplate.VARIABLES + "." + TaskTemplate.VARIABLE_NAME, variable.getName()))
+            .must(
+                termQuery(
+                    TaskTemplate.VARIABLES + "." + TaskTemplate.VARIABLE_VALUE,
+                    variable.getValue())),
+        ScoreMode.None);
+  }
+
   /**
    * In case of searchAfterOrEqual and searchBeforeOrEqual, this method will ignore "orEqual" part.
    *
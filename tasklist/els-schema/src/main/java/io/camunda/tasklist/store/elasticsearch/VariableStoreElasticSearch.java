@@ -55,6 +55,8 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -68,6 +70,7 @@ import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.TermsQueryBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortOrder;
 import org.elasticsearch.xcontent.XContentType;
 import org.slf4j.Logger;
@@ -265,6 +268,23 @@ public class VariableStoreElasticSearch implements VariableStore {
     }
   }
 
+  public String getRuntimeVariableFullValue(final String variableId) {
+    final GetRequest request =
+        new GetRequest(variableIndex.getFullQualifiedName(), variableId)
+            .fetchSourceContext(
+                new FetchSourceContext(true, new String[] {VariableIndex.FULL_VALUE}, null));
+    try {
+      final GetResponse response = esClient.get(request, RequestOptions.DEFAULT);
+      return response.isExists()
+          ? (String) response.getSourceAsMap().get(VariableIndex.FULL_VALUE)
+          : null;
+    } catch (IOException e) {
+      final String message =
+          String.format("Exception occurred, while obtaining variable: %s", e.getMessage());
+      throw new TasklistRuntimeException(message, e);
+    }
+  }
+
   public TaskVariableEntity getTaskVariable(final String variableId, Set<String> fieldNames) {
     final SearchSourceBuilder searchSourceBuilder =
         new SearchSourceBuilder().query(idsQuery().addIds(variableId));
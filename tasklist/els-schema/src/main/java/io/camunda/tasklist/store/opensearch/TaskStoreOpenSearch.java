@@ -22,7 +22,9 @@ import io.camunda.tasklist.entities.TaskEntity;
 import io.camunda.tasklist.entities.TaskState;
 import io.camunda.tasklist.entities.TaskVariableEntity;
 import io.camunda.tasklist.exceptions.NotFoundException;
+import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
+import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.queries.Sort;
 import io.camunda.tasklist.queries.TaskByVariables;
 import io.camunda.tasklist.queries.TaskOrderBy;
@@ -42,6 +44,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +53,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Conflicts;
 import org.opensearch.client.opensearch._types.FieldSort;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch._types.Refresh;
@@ -58,12 +62,17 @@ import org.opensearch.client.opensearch._types.ScriptSortType;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.query_dsl.ChildScoreMode;
 import org.opensearch.client.opensearch._types.query_dsl.MatchAllQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.BulkRequest;
 import org.opensearch.client.opensearch.core.ScrollRequest;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.UpdateByQueryRequest;
 import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +85,7 @@ import org.springframework.stereotype.Component;
 @Conditional(OpenSearchCondition.class)
 public class TaskStoreOpenSearch implements TaskStore {
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskStoreOpenSearch.class);
+  private static final String SEARCH_VARIABLES_MISSING_BEFORE = "now-1m";
   private static final Map<TaskState, String> SORT_FIELD_PER_STATE =
       Map.of(
           TaskState.CREATED, TaskTemplate.CREATION_TIME,
@@ -100,6 +110,10 @@ public class TaskStoreOpenSearch implements TaskStore {
 
   @Autowired private TaskVariableSearchUtil taskVariableSearchUtil;
 
+  @Autowired private TasklistProperties tasklistProperties;
+
+  private volatile boolean searchVariablesComplete = false;
+
   @Override
   public TaskEntity getTask(final String id) {
     try {
@@ -209,13 +223,202 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
   }
 
+  @Override
+  public List<TaskEntity> getRuntimeTasksByProcessInstanceIds(
+      final List<String> processInstanceIds) {
+    final SearchRequest.Builder searchRequest =
+        OpenSearchUtil.createSearchRequest(taskTemplate, OpenSearchUtil.QueryType.ONLY_RUNTIME)
+            .query(
+                q ->
+                    q.terms(
+                        terms ->
+                            terms
+                                .field(PROCESS_INSTANCE_ID)
+                                .terms(
+                                    t ->
+                                        t.value(
+                                            processInstanceIds.stream()
+                                                .map(m -> FieldValue.of(m))
+                                                .toList()))))
+            .source(s -> s.filter(f -> f.excludes(TaskTemplate.VARIABLES)));
+    try {
+      return OpenSearchUtil.scroll(searchRequest, TaskEntity.class, osClient);
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Map<String, List<TaskEntity>> getTasksWithoutSearchVariables(
+      final String searchAfterId, final int size) {
+    final SearchRequest.Builder searchRequest =
+        OpenSearchUtil.createSearchRequest(taskTemplate, ALL)
+            .query(tasksWithoutSearchVariablesQuery(true))
+            .source(s -> s.filter(f -> f.excludes(TaskTemplate.VARIABLES)))
+            .sort(s -> s.field(f -> f.field(TaskTemplate.ID).order(SortOrder.Asc)))
+            .size(size);
+    if (searchAfterId != null) {
+      searchRequest.searchAfter(List.of(searchAfterId));
+    }
+    try {
+      final SearchResponse<TaskEntity> response =
+          osClient.search(searchRequest.build(), TaskEntity.class);
+      final Map<String, List<TaskEntity>> tasksPerIndex = new LinkedHashMap<>();
+      for (Hit<TaskEntity> hit : response.hits().hits()) {
+        tasksPerIndex.computeIfAbsent(hit.index(), k -> new ArrayList<>()).add(hit.source());
+      }
+      return tasksPerIndex;
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void persistTaskSearchVariables(
+      final String index, final Map<String, Map<String, String>> variablesPerTaskId) {
+    final List<BulkOperation> operations = new ArrayList<>();
+    variablesPerTaskId.forEach(
+        (taskId, variables) -> {
+          final List<Map<String, String>> searchVariables =
+              variables.entrySet().stream()
+                  .map(
+                      v ->
+                          Map.of(
+                              TaskTemplate.VARIABLE_NAME,
+                              v.getKey(),
+                              TaskTemplate.VARIABLE_VALUE,
+                              v.getValue()))
+                  .collect(toList());
+          final Map<String, Object> doc = new HashMap<>();
+          doc.put(TaskTemplate.VARIABLES, searchVariables);
+          doc.put(TaskTemplate.VARIABLES_INDEXED, true);
+          operations.add(
+              new BulkOperation.Builder()
+                  .update(
+                      UpdateOperation.of(
+                          u ->
+                              u.index(index)
+                                  .id(taskId)
+                                  .document(doc)
+                                  .retryOnConflict(OpenSearchUtil.UPDATE_RETRY_COUNT)))
+                  .build());
+        });
+    try {
+      OpenSearchUtil.processBulkRequest(
+          osClient, new BulkRequest.Builder().operations(operations).build());
+    } catch (PersistenceException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void markTaskSearchVariablesOutdated(final List<String> processInstanceIds) {
+    final UpdateByQueryRequest request =
+        new UpdateByQueryRequest.Builder()
+            .index(taskTemplate.getFullQualifiedName())
+            .query(
+                q ->
+                    q.bool(
+                        b ->
+                            b.filter(
+                                    f ->
+                                        f.terms(
+                                            terms ->
+                                                terms
+                                                    .field(PROCESS_INSTANCE_ID)
+                                                    .terms(
+                                                        t ->
+                                                            t.value(
+                                                                processInstanceIds.stream()
+                                                                    .map(FieldValue::of)
+                                                                    .toList()))))
+                                .filter(
+                                    f ->
+                                        f.term(
+                                            t ->
+                                                t.field(TaskTemplate.VARIABLES_INDEXED)
+                                                    .value(FieldValue.of(true))))))
+            .script(
+                s ->
+                    s.inline(
+                        i ->
+                            i.lang("painless")
+                                .source(
+                                    "ctx._source." + TaskTemplate.VARIABLES_INDEXED + " = false")))
+            .conflicts(Conflicts.Proceed)
+            .build();
+    try {
+      osClient.updateByQuery(request);
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Tasks can be searched by the variables stored on them only when the feature is enabled and all
+   * tasks, apart from the just created ones, got their search variables, including the ones which
+   * existed before the feature was enabled. Until then, the variable indices are queried.
+   */
+  private boolean areSearchVariablesComplete() {
+    if (!tasklistProperties.getFeatureFlag().getTaskSearchVariables()) {
+      return false;
+    }
+    if (!searchVariablesComplete) {
+      final SearchRequest.Builder searchRequest =
+          OpenSearchUtil.createSearchRequest(taskTemplate, ALL)
+              .query(tasksWithoutSearchVariablesQuery(false))
+              .source(s -> s.fetch(false))
+              .trackTotalHits(t -> t.enabled(false))
+              .size(1);
+      try {
+        final SearchResponse<TaskEntity> response =
+            osClient.search(searchRequest.build(), TaskEntity.class);
+        searchVariablesComplete = response.hits().hits().isEmpty();
+      } catch (IOException e) {
+        LOGGER.warn("Could not check whether all tasks have search variables", e);
+      }
+    }
+    return searchVariablesComplete;
+  }
+
+  /**
+   * @param includeOutdated whether to include the tasks, whose search variables are rebuilt after a
+   *     change of their process instance
+   */
+  private Query tasksWithoutSearchVariablesQuery(final boolean includeOutdated) {
+    final Query indexedQuery =
+        includeOutdated
+            ? Query.of(
+                q ->
+                    q.term(
+                        t -> t.field(TaskTemplate.VARIABLES_INDEXED).value(FieldValue.of(true))))
+            : Query.of(q -> q.exists(e -> e.field(TaskTemplate.VARIABLES_INDEXED)));
+    return Query.of(
+        q ->
+            q.bool(
+                b ->
+                    b.mustNot(indexedQuery)
+                        .filter(
+                            f ->
+                                f.range(
+                                    r ->
+                                        r.field(TaskTemplate.CREATION_TIME)
+                                            .lt(JsonData.of(SEARCH_VARIABLES_MISSING_BEFORE))))));
+  }
+
   private List<TaskSearchView> queryTasks(final TaskQuery query) {
     return queryTasks(query, null);
   }
 
   private List<TaskSearchView> queryTasks(final TaskQuery query, String taskId) {
     List<String> tasksIds = null;
-    if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+    final boolean searchVariablesInTasks =
+        query.getTaskVariables() != null
+            && query.getTaskVariables().length > 0
+            && areSearchVariablesComplete();
+    if (query.getTaskVariables() != null
+        && query.getTaskVariables().length > 0
+        && !searchVariablesInTasks) {
       tasksIds = getTasksContainsVarNameAndValue(query.getTaskVariables());
       if (tasksIds.isEmpty()) {
         return new ArrayList<>();
@@ -223,7 +426,7 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
 
     if (taskId != null && !taskId.isEmpty()) {
-      if (query.getTaskVariables() != null && query.getTaskVariables().length > 0) {
+      if (tasksIds != null) {
         tasksIds = tasksIds.stream().filter(id -> !id.equals(taskId)).collect(toList());
         if (tasksIds.isEmpty()) {
           return new ArrayList<>();
@@ -234,14 +437,16 @@ public class TaskStoreOpenSearch implements TaskStore {
       }
     }
 
-    final Query.Builder esQuery = buildQuery(query, tasksIds);
+    final Query.Builder esQuery = buildQuery(query, tasksIds, searchVariablesInTasks);
     // TODO #104 define list of fields
 
     // TODO we can play around with query type here (2nd parameter), e.g. when we select for only
     // active tasks
     final SearchRequest.Builder sourceBuilder =
         OpenSearchUtil.createSearchRequest(taskTemplate, getQueryTypeByTaskState(query.getState()));
-    sourceBuilder.query(esQuery.build());
+    sourceBuilder
+        .query(esQuery.build())
+        .source(s -> s.filter(f -> f.excludes(TaskTemplate.VARIABLES)));
     applySorting(sourceBuilder, query);
 
     try {
@@ -326,7 +531,8 @@ public class TaskStoreOpenSearch implements TaskStore {
     }
   }
 
-  private Query.Builder buildQuery(TaskQuery query, List<String> taskIds) {
+  private Query.Builder buildQuery(
+      TaskQuery query, List<String> taskIds, boolean searchVariablesInTasks) {
     final Query.Builder stateQ = new Query.Builder();
     stateQ.bool(
         b ->
@@ -481,6 +687,14 @@ public class TaskStoreOpenSearch implements TaskStore {
                   .value(FieldValue.of(query.getImplementation().name())));
     }
 
+    Query.Builder variablesQ = null;
+    if (searchVariablesInTasks) {
+      final List<Query> variableQueries =
+          Arrays.stream(query.getTaskVariables()).map(this::buildVariableQuery).toList();
+      variablesQ = new Query.Builder();
+      variablesQ.bool(b -> b.must(variableQueries));
+    }
+
     final Query.Builder jointQ =
         joinQueryBuilderWithAnd(
             stateQ,
@@ -498,7 +712,8 @@ public class TaskStoreOpenSearch implements TaskStore {
             processDefinitionIdQ,
             followUpQ,
             dueDateQ,
-            implementationQ);
+            implementationQ,
+            variablesQ);
 
     if (jointQ == null) {
       jointQ.matchAll(new MatchAllQuery.Builder().build());
@@ -508,6 +723,28 @@ public class TaskStoreOpenSearch implements TaskStore {
     return result;
   }
 
+  private Query buildVariableQuery(final TaskByVariables variable) {
+    final Query.Builder nameQ = new Query.Builder();
+    nameQ.term(
+        t ->
+            t.field(TaskTemplate.VARIABLES + "." + TaskTemplate.VARIABLE_NAME)
+                .value(FieldValue.of(variable.getName())));
+    final Query.Builder valueQ = new Query.Builder();
+    valueQ.term(
+        t ->
+            t.field(TaskTemplate.VARIABLES + "." + TaskTemplate.VARIABLE_VALUE)
+                .value(FieldValue.of(variable.getValue())));
+    final Query nameAndValueQ = OpenSearchUtil.joinWithAnd(nameQ, valueQ);
+
+    final Query.Builder variableQ = new Query.Builder();
+    variableQ.nested(
+        n ->
+            n.path(TaskTemplate.VARIABLES)
+                .query(nameAndValueQ)
+                .scoreMode(ChildScoreMode.None));
+    return variableQ.build();
+  }
+
   private Query.Builder returnUserGroupBoolQuery(List<String> userGroups, String userName) {
     final Query.Builder userNameAssigneeQ = new Query.Builder();
     userNameAssigneeQ.term(t -> t.field(TaskTemplate.ASSIGNEE).value(FieldValue.of(userName)));
@@ -289,6 +289,23 @@ public class VariableStoreOpenSearch implements VariableStore {
     }
   }
 
+  public String getRuntimeVariableFullValue(final String variableId) {
+    try {
+      final GetResponse<VariableEntity> response =
+          osClient.get(
+              g ->
+                  g.index(variableIndex.getFullQualifiedName())
+                      .id(variableId)
+                      .sourceIncludes(VariableIndex.FULL_VALUE),
+              VariableEntity.class);
+      return response.found() ? response.source().getFullValue() : null;
+    } catch (IOException e) {
+      final String message =
+          String.format("Exception occurred, while obtaining variable: %s", e.getMessage());
+      throw new TasklistRuntimeException(message, e);
+    }
+  }
+
   public TaskVariableEntity getTaskVariable(final String variableId, Set<String> fieldNames) {
 
     final SearchRequest.Builder request = createSearchRequest(taskVariableTemplate);
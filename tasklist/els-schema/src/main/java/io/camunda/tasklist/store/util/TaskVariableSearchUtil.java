@@ -33,29 +33,7 @@ public class TaskVariableSearchUtil {
   public Boolean checkIfVariablesExistInTask(
       List<VariableStore.GetVariablesRequest> requests, Map<String, String> variableNameAndVar) {
 
-    // build flow node trees (for each process instance)
-    final Map<String, VariableStore.FlowNodeTree> flowNodeTrees = buildFlowNodeTrees(requests);
-
-    // build local variable map  (for each flow node instance)
-    final List<String> flowNodeInstanceIds =
-        flowNodeTrees.values().stream()
-            .flatMap(f -> f.getFlowNodeInstanceIds().stream())
-            .collect(Collectors.toList());
-    final Map<String, VariableStore.VariableMap> variableMaps =
-        buildVariableMaps(
-            flowNodeInstanceIds,
-            requests.stream()
-                .map(VariableStore.GetVariablesRequest::getVarNames)
-                .filter(Objects::nonNull)
-                .flatMap(List::stream)
-                .distinct()
-                .collect(toList()),
-            requests
-                .get(0)
-                .getFieldNames()); // we assume here that all requests has the same list of  fields
-
-    final Map<String, List<VariableEntity>> variables =
-        buildResponse(flowNodeTrees, variableMaps, requests);
+    final Map<String, List<VariableEntity>> variables = getVariablesPerTaskId(requests);
 
     for (Map.Entry<String, List<VariableEntity>> taskEntry : variables.entrySet()) {
       final List<VariableEntity> taskVariables = taskEntry.getValue();
@@ -81,6 +59,40 @@ public class TaskVariableSearchUtil {
     return true;
   }
 
+  /**
+   * Returns the variables visible to each of the given created tasks, i.e. the variables of the
+   * task's scope and of all its parent scopes, where inner scopes override outer ones.
+   */
+  public Map<String, List<VariableEntity>> getVariablesPerTaskId(
+      List<VariableStore.GetVariablesRequest> requests) {
+    if (requests.isEmpty()) {
+      return new HashMap<>();
+    }
+
+    // build flow node trees (for each process instance)
+    final Map<String, VariableStore.FlowNodeTree> flowNodeTrees = buildFlowNodeTrees(requests);
+
+    // build local variable map  (for each flow node instance)
+    final List<String> flowNodeInstanceIds =
+        flowNodeTrees.values().stream()
+            .flatMap(f -> f.getFlowNodeInstanceIds().stream())
+            .collect(Collectors.toList());
+    final Map<String, VariableStore.VariableMap> variableMaps =
+        buildVariableMaps(
+            flowNodeInstanceIds,
+            requests.stream()
+                .map(VariableStore.GetVariablesRequest::getVarNames)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .collect(toList()),
+            requests
+                .get(0)
+                .getFieldNames()); // we assume here that all requests has the same list of  fields
+
+    return buildResponse(flowNodeTrees, variableMaps, requests);
+  }
+
   private Map<String, VariableStore.FlowNodeTree> buildFlowNodeTrees(
       List<VariableStore.GetVariablesRequest> requests) {
     final List<String> processInstanceIds =
@@ -51,6 +51,7 @@ import org.elasticsearch.action.support.WriteRequest.RefreshPolicy;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -333,7 +334,22 @@ public abstract class ElasticsearchUtil {
       SearchHit[] searchHits, ObjectMapper objectMapper, JavaType valueType) {
     return map(
         searchHits,
-        (searchHit) -> fromSearchHit(searchHit.getSourceAsString(), objectMapper, valueType));
+        (searchHit) -> fromSearchHit(searchHit.getSourceRef(), objectMapper, valueType));
+  }
+
+  /** Reads the entity from the source bytes, without decoding them to a string first. */
+  public static <T> T fromSearchHit(
+      BytesReference source, ObjectMapper objectMapper, JavaType valueType) {
+    final T entity;
+    try {
+      entity = objectMapper.readValue(source.streamInput(), valueType);
+    } catch (IOException e) {
+      throw new TasklistRuntimeException(
+          String.format(
+              "Error while reading entity of type %s from Elasticsearch!", valueType.toString()),
+          e);
+    }
+    return entity;
   }
 
   public static <T> T fromSearchHit(
@@ -27,7 +27,9 @@ import io.camunda.tasklist.zeebeimport.v860.record.value.deployment.FormRecordIm
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordValue;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.slf4j.Logger;
@@ -81,13 +83,15 @@ public class BulkProcessorElasticSearch extends AbstractImportBatchProcessorElas
 
     LOGGER.debug("Writing [{}] Zeebe records to Elasticsearch", zeebeRecords.size());
 
+    // full variable values imported by this batch, to which later PATCHED records are applied
+    final Map<String, String> variableValues = new HashMap<>();
     for (final Record record : zeebeRecords) {
       switch (importValueType) {
         case PROCESS_INSTANCE:
           processInstanceZeebeRecordProcessor.processProcessInstanceRecord(record, bulkRequest);
           break;
         case VARIABLE:
-          variableZeebeRecordProcessor.processVariableRecord(record, bulkRequest);
+          variableZeebeRecordProcessor.processVariableRecord(record, bulkRequest, variableValues);
           break;
         case JOB:
           jobZeebeRecordProcessor.processJobRecord(record, bulkRequest);
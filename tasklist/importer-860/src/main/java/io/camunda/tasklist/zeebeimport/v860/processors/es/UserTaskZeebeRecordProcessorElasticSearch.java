@@ -81,15 +81,12 @@ public class UserTaskZeebeRecordProcessorElasticSearch {
       final Map<String, Object> updateFields =
           userTaskRecordToTaskEntityMapper.getUpdateFieldsMap(entity, record);
 
-      // format date fields properly
-      final Map<String, Object> jsonMap =
-          objectMapper.readValue(objectMapper.writeValueAsString(updateFields), HashMap.class);
-
       return new UpdateRequest()
           .index(taskTemplate.getFullQualifiedName())
           .id(entity.getId())
           .upsert(objectMapper.writeValueAsString(entity), XContentType.JSON)
-          .doc(jsonMap)
+          // serialized by the object mapper to format date fields properly
+          .doc(objectMapper.writeValueAsString(updateFields), XContentType.JSON)
           .retryOnConflict(UPDATE_RETRY_COUNT);
 
     } catch (final IOException e) {
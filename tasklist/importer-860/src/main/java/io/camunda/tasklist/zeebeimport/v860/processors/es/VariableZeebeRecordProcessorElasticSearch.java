@@ -14,6 +14,8 @@ import io.camunda.tasklist.entities.VariableEntity;
 import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.property.TasklistProperties;
 import io.camunda.tasklist.schema.indices.VariableIndex;
+import io.camunda.tasklist.store.VariableStore;
+import io.camunda.tasklist.util.PayloadUtil;
 import io.camunda.tasklist.zeebeimport.v860.record.Intent;
 import io.camunda.tasklist.zeebeimport.v860.record.value.VariableRecordValueImpl;
 import io.camunda.zeebe.protocol.record.Record;
@@ -43,18 +45,26 @@ public class VariableZeebeRecordProcessorElasticSearch {
 
   @Autowired private TasklistProperties tasklistProperties;
 
-  public void processVariableRecord(final Record record, final BulkRequest bulkRequest)
+  @Autowired private VariableStore variableStore;
+
+  @Autowired private PayloadUtil payloadUtil;
+
+  public void processVariableRecord(
+      final Record record, final BulkRequest bulkRequest, final Map<String, String> variableValues)
       throws PersistenceException {
     final VariableRecordValueImpl recordValue = (VariableRecordValueImpl) record.getValue();
 
     // update variable
     if (record.getIntent().name() != Intent.MIGRATED.name()) {
-      bulkRequest.add(persistVariable(record, recordValue));
+      bulkRequest.add(persistVariable(record, recordValue, variableValues));
     }
   }
 
   private UpdateRequest persistVariable(
-      final Record record, final VariableRecordValueImpl recordValue) throws PersistenceException {
+      final Record record,
+      final VariableRecordValueImpl recordValue,
+      final Map<String, String> variableValues)
+      throws PersistenceException {
     final VariableEntity entity = new VariableEntity();
     entity.setId(
         VariableEntity.getIdBy(String.valueOf(recordValue.getScopeKey()), recordValue.getName()));
@@ -63,21 +73,44 @@ public class VariableZeebeRecordProcessorElasticSearch {
     entity.setScopeFlowNodeId(String.valueOf(recordValue.getScopeKey()));
     entity.setProcessInstanceId(String.valueOf(recordValue.getProcessInstanceKey()));
     entity.setName(recordValue.getName());
-    if (recordValue.getValue().length()
-        > tasklistProperties.getImporter().getVariableSizeThreshold()) {
+    final String value =
+        record.getIntent().name() == Intent.PATCHED.name()
+            ? applyPatch(entity.getId(), recordValue, variableValues)
+            : recordValue.getValue();
+    variableValues.put(entity.getId(), value);
+    if (value.length() > tasklistProperties.getImporter().getVariableSizeThreshold()) {
       // store preview
       entity.setValue(
-          recordValue
-              .getValue()
-              .substring(0, tasklistProperties.getImporter().getVariableSizeThreshold()));
+          value.substring(0, tasklistProperties.getImporter().getVariableSizeThreshold()));
       entity.setIsPreview(true);
     } else {
-      entity.setValue(recordValue.getValue());
+      entity.setValue(value);
     }
-    entity.setFullValue(recordValue.getValue());
+    entity.setFullValue(value);
     return getVariableQuery(entity);
   }
 
+  /**
+   * PATCHED records only contain the merge patch, so it is applied to the value imported by an
+   * earlier record of this batch or, if there is none, to the value already stored in the index.
+   */
+  private String applyPatch(
+      final String id,
+      final VariableRecordValueImpl recordValue,
+      final Map<String, String> variableValues)
+      throws PersistenceException {
+    final String previousValue =
+        variableValues.containsKey(id)
+            ? variableValues.get(id)
+            : variableStore.getRuntimeVariableFullValue(id);
+    try {
+      return payloadUtil.applyMergePatch(previousValue, recordValue.getValue());
+    } catch (final IOException e) {
+      throw new PersistenceException(
+          String.format("Error applying the patch of variable instance [%s]", id), e);
+    }
+  }
+
   private UpdateRequest getVariableQuery(final VariableEntity entity) throws PersistenceException {
     try {
       LOGGER.debug("Variable instance for list view: id {}", entity.getId());
@@ -27,7 +27,9 @@ import io.camunda.tasklist.zeebeimport.v860.record.value.deployment.FormRecordIm
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordValue;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.slf4j.Logger;
@@ -79,13 +81,15 @@ public class OpenSearchBulkProcessor extends AbstractImportBatchProcessorOpenSea
     final ImportValueType importValueType = importBatch.getImportValueType();
 
     LOGGER.debug("Writing [{}] Zeebe records to OpenSearch", zeebeRecords.size());
+    // full variable values imported by this batch, to which later PATCHED records are applied
+    final Map<String, String> variableValues = new HashMap<>();
     for (final Record record : zeebeRecords) {
       switch (importValueType) {
         case PROCESS_INSTANCE:
           processInstanceZeebeRecordProcessor.processProcessInstanceRecord(record, operations);
           break;
         case VARIABLE:
-          variableZeebeRecordProcessor.processVariableRecord(record, operations);
+          variableZeebeRecordProcessor.processVariableRecord(record, operations, variableValues);
           break;
         case JOB:
           jobZeebeRecordProcessor.processJobRecord(record, operations);
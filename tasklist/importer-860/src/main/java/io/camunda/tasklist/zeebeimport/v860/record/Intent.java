@@ -41,6 +41,7 @@ public enum Intent implements io.camunda.zeebe.protocol.record.intent.Intent {
 
   // VARIABLE
   UPDATED,
+  PATCHED,
 
   // FORM, PROCESS
   DELETED,
@@ -10,6 +10,7 @@ package io.camunda.tasklist.zeebeimport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.zeebe.ImportValueType;
 import java.util.List;
+import java.util.Set;
 
 public interface ImportBatch {
 
@@ -39,6 +40,9 @@ public interface ImportBatch {
 
   public Long getLastProcessedSequence(ObjectMapper objectMapper);
 
+  /** Returns the ids of the process instances the records of the batch belong to. */
+  public Set<String> getProcessInstanceIds(ObjectMapper objectMapper);
+
   public String getAliasName();
 
   public Boolean hasMoreThanOneUniqueHitId();
@@ -0,0 +1,241 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.common;
+
+import io.camunda.tasklist.entities.TaskEntity;
+import io.camunda.tasklist.entities.TaskState;
+import io.camunda.tasklist.entities.TaskVariableEntity;
+import io.camunda.tasklist.entities.VariableEntity;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.schema.templates.TaskTemplate;
+import io.camunda.tasklist.store.TaskStore;
+import io.camunda.tasklist.store.VariableStore;
+import io.camunda.tasklist.store.VariableStore.GetVariablesRequest;
+import io.camunda.tasklist.store.util.TaskVariableSearchUtil;
+import io.camunda.tasklist.zeebe.ImportValueType;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/*
+  Stores the variables of the tasks on the task documents, so that tasks can be searched by
+  variables with one query, when the taskSearchVariables feature flag is enabled:
+  - created tasks get the variables visible in their scope, inner scopes overriding outer ones
+  - completed tasks get the variables stored on completion
+  - canceled tasks get no variables, as they are not searched by variables
+  The import batches which may change them mark the search variables of the tasks of the affected
+  process instances as outdated and queue the process instances. Their not archived tasks are
+  rebuilt in the background, once the imported data became visible to searches, so that the
+  import never waits for a refresh. Tasks which don't have search variables yet, e.g. the ones
+  imported or archived before the flag was enabled, and outdated ones, whose update was lost on a
+  restart, dropped from a full queue or failed, are backfilled in pages. Until the initial
+  backfill is done, the task stores keep searching the variable indices instead.
+*/
+@Component
+public class TaskSearchVariablesProcessor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskSearchVariablesProcessor.class);
+
+  // flow node instances form the scopes of the variables, jobs and user tasks create the tasks
+  private static final Set<ImportValueType> AFFECTING_VALUE_TYPES =
+      EnumSet.of(
+          ImportValueType.PROCESS_INSTANCE,
+          ImportValueType.VARIABLE,
+          ImportValueType.JOB,
+          ImportValueType.USER_TASK);
+
+  // the default refresh interval, after which the imported data is visible to searches
+  private static final long UPDATE_DELAY_MS = 1_000L;
+  private static final int BACKFILL_BATCH_SIZE = 100;
+  private static final long BACKFILL_INTERVAL_MS = 5 * 60 * 1_000L;
+  // process instances beyond it are left to the backfill
+  private static final int MAX_PENDING_PROCESS_INSTANCES = 10_000;
+
+  @Autowired private TasklistProperties tasklistProperties;
+
+  @Autowired private TaskStore taskStore;
+
+  @Autowired private VariableStore variableStore;
+
+  @Autowired private TaskVariableSearchUtil taskVariableSearchUtil;
+
+  @Autowired private TaskTemplate taskTemplate;
+
+  @Autowired
+  @Qualifier("tasklistTaskSearchVariablesThreadPoolExecutor")
+  private ThreadPoolTaskScheduler taskScheduler;
+
+  // the time at which each process instance was queued last
+  private final Map<String, Long> pendingProcessInstanceIds = new ConcurrentHashMap<>();
+
+  // only accessed by the scheduler thread
+  private String backfillSearchAfterId;
+  private long nextBackfillTime;
+
+  @PostConstruct
+  public void startUpdating() {
+    if (isEnabled()) {
+      taskScheduler.scheduleWithFixedDelay(
+          this::updatePendingTaskVariables, Duration.ofMillis(UPDATE_DELAY_MS));
+    }
+  }
+
+  public boolean isEnabled() {
+    return tasklistProperties.getFeatureFlag().getTaskSearchVariables();
+  }
+
+  /** Returns whether the feature is enabled and records of the given type may change it. */
+  public boolean isAffectedBy(final ImportValueType importValueType) {
+    return isEnabled() && AFFECTING_VALUE_TYPES.contains(importValueType);
+  }
+
+  /**
+   * Marks the task variables of the process instances as outdated and queues the process
+   * instances, whose task variables are rebuilt once the current import became visible to
+   * searches.
+   */
+  public void scheduleUpdate(final Set<String> processInstanceIds) {
+    if (processInstanceIds.isEmpty()) {
+      return;
+    }
+    taskStore.markTaskSearchVariablesOutdated(new ArrayList<>(processInstanceIds));
+    final long queuedAt = System.currentTimeMillis();
+    for (String id : processInstanceIds) {
+      if (pendingProcessInstanceIds.size() >= MAX_PENDING_PROCESS_INSTANCES
+          && !pendingProcessInstanceIds.containsKey(id)) {
+        LOGGER.debug(
+            "Too many pending search variable updates, leaving the remaining ones to the backfill");
+        return;
+      }
+      pendingProcessInstanceIds.put(id, queuedAt);
+    }
+  }
+
+  private void updatePendingTaskVariables() {
+    updatePendingTaskVariables(System.currentTimeMillis());
+  }
+
+  void updatePendingTaskVariables(final long now) {
+    final Set<String> dueProcessInstanceIds = new HashSet<>();
+    pendingProcessInstanceIds.forEach(
+        (id, queuedAt) -> {
+          if (now - queuedAt >= UPDATE_DELAY_MS && pendingProcessInstanceIds.remove(id, queuedAt)) {
+            dueProcessInstanceIds.add(id);
+          }
+        });
+    if (!dueProcessInstanceIds.isEmpty()) {
+      try {
+        updateTaskVariables(dueProcessInstanceIds);
+      } catch (Exception e) {
+        // the tasks stay marked as outdated and are picked up by the backfill
+        LOGGER.error(
+            String.format(
+                "Could not update search variables of tasks of %d process instances, "
+                    + "leaving them to the backfill",
+                dueProcessInstanceIds.size()),
+            e);
+      }
+    }
+
+    if (now >= nextBackfillTime) {
+      try {
+        backfillTaskVariables(now);
+      } catch (Exception e) {
+        LOGGER.error("Could not backfill search variables of tasks", e);
+      }
+    }
+  }
+
+  void updateTaskVariables(final Set<String> processInstanceIds) {
+    final List<TaskEntity> tasks =
+        taskStore.getRuntimeTasksByProcessInstanceIds(new ArrayList<>(processInstanceIds));
+    if (tasks.isEmpty()) {
+      return;
+    }
+    LOGGER.debug(
+        "Updating search variables of {} tasks of {} process instances",
+        tasks.size(),
+        processInstanceIds.size());
+    taskStore.persistTaskSearchVariables(
+        taskTemplate.getFullQualifiedName(), getSearchVariablesPerTaskId(tasks));
+  }
+
+  private void backfillTaskVariables(final long now) {
+    final Map<String, List<TaskEntity>> tasksPerIndex =
+        taskStore.getTasksWithoutSearchVariables(backfillSearchAfterId, BACKFILL_BATCH_SIZE);
+    if (tasksPerIndex.isEmpty()) {
+      // start over later, to pick up the tasks whose update was lost in the meantime
+      backfillSearchAfterId = null;
+      nextBackfillTime = now + BACKFILL_INTERVAL_MS;
+      return;
+    }
+    for (Map.Entry<String, List<TaskEntity>> indexTasks : tasksPerIndex.entrySet()) {
+      LOGGER.debug(
+          "Backfilling search variables of {} tasks in {}",
+          indexTasks.getValue().size(),
+          indexTasks.getKey());
+      taskStore.persistTaskSearchVariables(
+          indexTasks.getKey(), getSearchVariablesPerTaskId(indexTasks.getValue()));
+      for (TaskEntity task : indexTasks.getValue()) {
+        if (backfillSearchAfterId == null || task.getId().compareTo(backfillSearchAfterId) > 0) {
+          backfillSearchAfterId = task.getId();
+        }
+      }
+    }
+  }
+
+  private Map<String, Map<String, String>> getSearchVariablesPerTaskId(
+      final List<TaskEntity> tasks) {
+    final Map<String, Map<String, String>> variablesPerTaskId = new HashMap<>();
+    final List<GetVariablesRequest> createdTasks = new ArrayList<>();
+    final List<GetVariablesRequest> completedTasks = new ArrayList<>();
+    for (TaskEntity task : tasks) {
+      variablesPerTaskId.put(task.getId(), new HashMap<>());
+      if (task.getState() == TaskState.CREATED) {
+        createdTasks.add(GetVariablesRequest.createFrom(task));
+      } else if (task.getState() == TaskState.COMPLETED) {
+        completedTasks.add(GetVariablesRequest.createFrom(task));
+      }
+    }
+
+    if (!createdTasks.isEmpty()) {
+      taskVariableSearchUtil
+          .getVariablesPerTaskId(createdTasks)
+          .forEach(
+              (taskId, variables) -> {
+                for (VariableEntity variable : variables) {
+                  variablesPerTaskId.get(taskId).put(variable.getName(), variable.getValue());
+                }
+              });
+    }
+    if (!completedTasks.isEmpty()) {
+      variableStore
+          .getTaskVariablesPerTaskId(completedTasks)
+          .forEach(
+              (taskId, variables) -> {
+                for (TaskVariableEntity variable : variables) {
+                  variablesPerTaskId.get(taskId).put(variable.getName(), variable.getValue());
+                }
+              });
+    }
+    return variablesPerTaskId;
+  }
+}
@@ -7,11 +7,13 @@
  */
 package io.camunda.tasklist.zeebeimport.es;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.util.ElasticsearchUtil;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import io.camunda.tasklist.zeebeimport.ImportBatchProcessor;
+import io.camunda.tasklist.zeebeimport.common.TaskSearchVariablesProcessor;
 import java.util.concurrent.Callable;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -26,6 +28,12 @@ public abstract class AbstractImportBatchProcessorElasticSearch implements Impor
 
   @Autowired private Metrics metrics;
 
+  @Autowired private TaskSearchVariablesProcessor taskSearchVariablesProcessor;
+
+  @Autowired
+  @Qualifier("tasklistObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Override
   public void performImport(ImportBatch importBatchElasticSearch) throws PersistenceException {
     final BulkRequest bulkRequest = new BulkRequest();
@@ -36,6 +44,11 @@ public abstract class AbstractImportBatchProcessorElasticSearch implements Impor
             ElasticsearchUtil.processBulkRequest(esClient, bulkRequest);
             return null;
           });
+      if (taskSearchVariablesProcessor.isAffectedBy(
+          importBatchElasticSearch.getImportValueType())) {
+        taskSearchVariablesProcessor.scheduleUpdate(
+            importBatchElasticSearch.getProcessInstanceIds(objectMapper));
+      }
     } catch (Exception e) {
       throw new PersistenceException(e);
     }
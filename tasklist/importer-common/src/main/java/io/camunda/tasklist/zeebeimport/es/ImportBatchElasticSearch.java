@@ -7,13 +7,18 @@
  */
 package io.camunda.tasklist.zeebeimport.es;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.camunda.tasklist.zeebe.ImportValueType;
 import io.camunda.tasklist.zeebe.ZeebeESConstants;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.elasticsearch.search.SearchHit;
 import org.slf4j.Logger;
@@ -119,6 +124,55 @@ public class ImportBatchElasticSearch implements ImportBatch {
     return defaultValue;
   }
 
+  public Set<String> getProcessInstanceIds(ObjectMapper objectMapper) {
+    final Set<String> processInstanceIds = new HashSet<>();
+    try {
+      for (SearchHit hit : hits) {
+        final long processInstanceKey = readProcessInstanceKey(objectMapper.getFactory(), hit);
+        if (processInstanceKey > 0) {
+          processInstanceIds.add(String.valueOf(processInstanceKey));
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.warn(
+          String.format(
+              "Unable to parse Zeebe object for getting process instance ids: %s", e.getMessage()),
+          e);
+    }
+    return processInstanceIds;
+  }
+
+  /**
+   * Streams the source of the hit up to the process instance key of the record value, skipping all
+   * other fields instead of building a tree of the whole record.
+   */
+  private static long readProcessInstanceKey(final JsonFactory jsonFactory, final SearchHit hit)
+      throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(hit.getSourceRef().streamInput())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return 0;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        final JsonToken token = parser.nextToken();
+        if (ZeebeESConstants.VALUE_FIELD_NAME.equals(fieldName)
+            && token == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String valueFieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_NUMBER_INT
+                && ZeebeESConstants.PROCESS_INSTANCE_KEY_FIELD_NAME.equals(valueFieldName)) {
+              return parser.getLongValue();
+            }
+            parser.skipChildren();
+          }
+          return 0;
+        }
+        parser.skipChildren();
+      }
+    }
+    return 0;
+  }
+
   public String getAliasName() {
     return importValueType.getAliasTemplate();
   }
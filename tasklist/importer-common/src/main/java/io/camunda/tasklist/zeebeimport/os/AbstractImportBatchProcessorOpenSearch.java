@@ -7,11 +7,13 @@
  */
 package io.camunda.tasklist.zeebeimport.os;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.Metrics;
 import io.camunda.tasklist.exceptions.PersistenceException;
 import io.camunda.tasklist.util.OpenSearchUtil;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
 import io.camunda.tasklist.zeebeimport.ImportBatchProcessor;
+import io.camunda.tasklist.zeebeimport.common.TaskSearchVariablesProcessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -29,6 +31,12 @@ public abstract class AbstractImportBatchProcessorOpenSearch implements ImportBa
 
   @Autowired private Metrics metrics;
 
+  @Autowired private TaskSearchVariablesProcessor taskSearchVariablesProcessor;
+
+  @Autowired
+  @Qualifier("tasklistObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Override
   public void performImport(ImportBatch importBatch) throws PersistenceException {
     final List<BulkOperation> operations = new ArrayList<BulkOperation>();
@@ -40,6 +48,10 @@ public abstract class AbstractImportBatchProcessorOpenSearch implements ImportBa
                 osClient, new BulkRequest.Builder().operations(operations).build());
             return null;
           });
+      if (taskSearchVariablesProcessor.isAffectedBy(importBatch.getImportValueType())) {
+        taskSearchVariablesProcessor.scheduleUpdate(
+            importBatch.getProcessInstanceIds(objectMapper));
+      }
     } catch (Exception e) {
       throw new PersistenceException(e);
     }
@@ -12,7 +12,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.camunda.tasklist.zeebe.ImportValueType;
 import io.camunda.tasklist.zeebe.ZeebeESConstants;
 import io.camunda.tasklist.zeebeimport.ImportBatch;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.slf4j.Logger;
@@ -115,6 +118,20 @@ public class ImportBatchOpenSearch implements ImportBatch {
     return defaultValue;
   }
 
+  public Set<String> getProcessInstanceIds(ObjectMapper objectMapper) {
+    final Set<String> processInstanceIds = new HashSet<>();
+    // sources are read as maps already, so the key is looked up without converting them
+    for (Hit hit : hits) {
+      if (hit.source() instanceof Map<?, ?> source
+          && source.get(ZeebeESConstants.VALUE_FIELD_NAME) instanceof Map<?, ?> value
+          && value.get(ZeebeESConstants.PROCESS_INSTANCE_KEY_FIELD_NAME) instanceof Number key
+          && key.longValue() > 0) {
+        processInstanceIds.add(String.valueOf(key.longValue()));
+      }
+    }
+    return processInstanceIds;
+  }
+
   public String getAliasName() {
     return importValueType.getAliasTemplate();
   }
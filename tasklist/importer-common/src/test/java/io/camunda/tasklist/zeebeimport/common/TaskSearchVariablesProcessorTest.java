@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.tasklist.entities.TaskEntity;
+import io.camunda.tasklist.entities.TaskState;
+import io.camunda.tasklist.entities.TaskVariableEntity;
+import io.camunda.tasklist.entities.VariableEntity;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.schema.templates.TaskTemplate;
+import io.camunda.tasklist.store.TaskStore;
+import io.camunda.tasklist.store.VariableStore;
+import io.camunda.tasklist.store.util.TaskVariableSearchUtil;
+import io.camunda.tasklist.zeebe.ImportValueType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchVariablesProcessorTest {
+
+  @InjectMocks private TaskSearchVariablesProcessor taskSearchVariablesProcessor;
+
+  @Mock private TaskStore taskStore;
+
+  @Mock private VariableStore variableStore;
+
+  @Mock private TaskVariableSearchUtil taskVariableSearchUtil;
+
+  @Mock private TaskTemplate taskTemplate;
+
+  @Spy private TasklistProperties tasklistProperties = new TasklistProperties();
+
+  @BeforeEach
+  void setUp() {
+    tasklistProperties.getFeatureFlag().setTaskSearchVariables(true);
+  }
+
+  @Test
+  void isAffectedByRecordsOfTasksAndTheirScopes() {
+    assertTrue(taskSearchVariablesProcessor.isAffectedBy(ImportValueType.VARIABLE));
+    assertTrue(taskSearchVariablesProcessor.isAffectedBy(ImportValueType.PROCESS_INSTANCE));
+    assertFalse(taskSearchVariablesProcessor.isAffectedBy(ImportValueType.FORM));
+  }
+
+  @Test
+  void isNotAffectedWhenDisabled() {
+    tasklistProperties.getFeatureFlag().setTaskSearchVariables(false);
+
+    assertFalse(taskSearchVariablesProcessor.isAffectedBy(ImportValueType.VARIABLE));
+  }
+
+  @Test
+  void updateTaskVariablesPerTaskState() {
+    final TaskEntity createdTask = task("created", TaskState.CREATED);
+    final TaskEntity completedTask = task("completed", TaskState.COMPLETED);
+    final TaskEntity canceledTask = task("canceled", TaskState.CANCELED);
+    when(taskTemplate.getFullQualifiedName()).thenReturn("tasklist-task-8.5.0_");
+    when(taskStore.getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId")))
+        .thenReturn(List.of(createdTask, completedTask, canceledTask));
+    when(taskVariableSearchUtil.getVariablesPerTaskId(any()))
+        .thenReturn(
+            Map.of("created", List.of(new VariableEntity().setName("a").setValue("\"x\""))));
+    when(variableStore.getTaskVariablesPerTaskId(any()))
+        .thenReturn(
+            Map.of(
+                "completed",
+                List.of(new TaskVariableEntity().setName("b").setValue("1"))));
+
+    taskSearchVariablesProcessor.updateTaskVariables(Set.of("processInstanceId"));
+
+    verify(taskStore)
+        .persistTaskSearchVariables(
+            "tasklist-task-8.5.0_",
+            Map.of(
+                "created", Map.of("a", "\"x\""),
+                "completed", Map.of("b", "1"),
+                "canceled", Map.of()));
+  }
+
+  @Test
+  void skipProcessInstancesWithoutTasks() {
+    when(taskStore.getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId")))
+        .thenReturn(List.of());
+
+    taskSearchVariablesProcessor.updateTaskVariables(Set.of("processInstanceId"));
+
+    verify(taskStore, never()).persistTaskSearchVariables(any(), any());
+    verifyNoInteractions(variableStore, taskVariableSearchUtil);
+  }
+
+  @Test
+  void updateQueuedTaskVariablesOnlyAfterTheRefreshInterval() {
+    final long now = System.currentTimeMillis();
+    when(taskStore.getTasksWithoutSearchVariables(any(), anyInt())).thenReturn(Map.of());
+    taskSearchVariablesProcessor.scheduleUpdate(Set.of("processInstanceId"));
+
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now - 1_000L);
+    verify(taskStore, never()).getRuntimeTasksByProcessInstanceIds(any());
+
+    when(taskStore.getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId")))
+        .thenReturn(List.of());
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 2_000L);
+    verify(taskStore).getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId"));
+
+    // the process instance is not updated twice
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 3_000L);
+    verify(taskStore).getRuntimeTasksByProcessInstanceIds(any());
+  }
+
+  @Test
+  void markTaskVariablesOutdatedWhenQueued() {
+    taskSearchVariablesProcessor.scheduleUpdate(Set.of("processInstanceId"));
+
+    verify(taskStore).markTaskSearchVariablesOutdated(List.of("processInstanceId"));
+  }
+
+  @Test
+  void leaveFailedTaskVariablesToTheBackfill() {
+    final long now = System.currentTimeMillis();
+    when(taskStore.getTasksWithoutSearchVariables(any(), anyInt())).thenReturn(Map.of());
+    when(taskStore.getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId")))
+        .thenThrow(new RuntimeException("expected"));
+    taskSearchVariablesProcessor.scheduleUpdate(Set.of("processInstanceId"));
+
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 2_000L);
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 3_000L);
+
+    verify(taskStore).getRuntimeTasksByProcessInstanceIds(List.of("processInstanceId"));
+  }
+
+  @Test
+  void leaveProcessInstancesBeyondTheQueueLimitToTheBackfill() {
+    final long now = System.currentTimeMillis();
+    when(taskStore.getTasksWithoutSearchVariables(any(), anyInt())).thenReturn(Map.of());
+    when(taskStore.getRuntimeTasksByProcessInstanceIds(any())).thenReturn(List.of());
+    taskSearchVariablesProcessor.scheduleUpdate(
+        IntStream.range(0, 10_001).mapToObj(String::valueOf).collect(Collectors.toSet()));
+
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 2_000L);
+
+    final ArgumentCaptor<List<String>> processInstanceIds = ArgumentCaptor.forClass(List.class);
+    verify(taskStore).markTaskSearchVariablesOutdated(processInstanceIds.capture());
+    assertEquals(10_001, processInstanceIds.getValue().size());
+    verify(taskStore).getRuntimeTasksByProcessInstanceIds(processInstanceIds.capture());
+    assertEquals(10_000, processInstanceIds.getValue().size());
+  }
+
+  @Test
+  void backfillTasksWithoutSearchVariablesPerIndex() {
+    final TaskEntity runtimeTask = task("1", TaskState.CREATED);
+    final TaskEntity archivedTask = task("2", TaskState.COMPLETED);
+    when(taskStore.getTasksWithoutSearchVariables(isNull(), anyInt()))
+        .thenReturn(
+            Map.of(
+                "tasklist-task-8.5.0_", List.of(runtimeTask),
+                "tasklist-task-8.5.0_2024-01-01", List.of(archivedTask)));
+    when(taskVariableSearchUtil.getVariablesPerTaskId(any())).thenReturn(Map.of());
+    when(variableStore.getTaskVariablesPerTaskId(any()))
+        .thenReturn(Map.of("2", List.of(new TaskVariableEntity().setName("b").setValue("1"))));
+    when(taskStore.getTasksWithoutSearchVariables(eq("2"), anyInt())).thenReturn(Map.of());
+
+    taskSearchVariablesProcessor.updatePendingTaskVariables(System.currentTimeMillis());
+    taskSearchVariablesProcessor.updatePendingTaskVariables(System.currentTimeMillis());
+
+    verify(taskStore).persistTaskSearchVariables("tasklist-task-8.5.0_", Map.of("1", Map.of()));
+    verify(taskStore)
+        .persistTaskSearchVariables(
+            "tasklist-task-8.5.0_2024-01-01", Map.of("2", Map.of("b", "1")));
+    // the backfill continues after the last task of the previous page
+    verify(taskStore).getTasksWithoutSearchVariables(eq("2"), anyInt());
+  }
+
+  @Test
+  void backfillStartsOverLaterWhenDone() {
+    final long now = System.currentTimeMillis();
+    when(taskStore.getTasksWithoutSearchVariables(isNull(), anyInt())).thenReturn(Map.of());
+
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now);
+    taskSearchVariablesProcessor.updatePendingTaskVariables(now + 2_000L);
+
+    verify(taskStore).getTasksWithoutSearchVariables(isNull(), anyInt());
+    verify(taskStore, never()).persistTaskSearchVariables(anyString(), any());
+  }
+
+  private static TaskEntity task(final String id, final TaskState state) {
+    return new TaskEntity()
+        .setId(id)
+        .setState(state)
+        .setProcessInstanceId("processInstanceId")
+        .setFlowNodeInstanceId(id + "FlowNode");
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.tasklist.zeebeimport;
 
 import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.zeebeimport.common.TaskSearchVariablesProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,11 +30,12 @@ public class ImportConfig {
     return executor;
   }
 
+  /** Only delays the records readers, which are run by the {@link RecordsReaderScheduler}. */
   @Bean("tasklistRecordsReaderThreadPoolExecutor")
   public ThreadPoolTaskScheduler getRecordsReaderTaskExecutor() {
     final var executor = new ThreadPoolTaskScheduler();
-    executor.setPoolSize(tasklistProperties.getImporter().getReaderThreadsCount());
-    executor.setThreadNamePrefix("records_reader_");
+    executor.setPoolSize(1);
+    executor.setThreadNamePrefix("records_reader_delay_");
     executor.initialize();
     return executor;
   }
@@ -46,4 +48,14 @@ public class ImportConfig {
     executor.initialize();
     return executor;
   }
+
+  /** Rebuilds the search variables of tasks, see {@link TaskSearchVariablesProcessor}. */
+  @Bean("tasklistTaskSearchVariablesThreadPoolExecutor")
+  public ThreadPoolTaskScheduler getTaskSearchVariablesTaskExecutor() {
+    final var executor = new ThreadPoolTaskScheduler();
+    executor.setPoolSize(1);
+    executor.setThreadNamePrefix("task_search_variables_");
+    executor.initialize();
+    return executor;
+  }
 }
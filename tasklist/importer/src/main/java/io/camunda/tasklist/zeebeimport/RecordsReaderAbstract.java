@@ -19,7 +19,6 @@ import io.camunda.tasklist.zeebe.ImportValueType;
 import io.camunda.zeebe.protocol.Protocol;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -31,7 +30,6 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
 
@@ -49,9 +47,7 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
   @Autowired private ImportPositionHolder importPositionHolder;
   @Autowired private BeanFactory beanFactory;
 
-  @Autowired
-  @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
-  private ThreadPoolTaskScheduler readersExecutor;
+  @Autowired private RecordsReaderScheduler readerScheduler;
 
   @Autowired
   @Qualifier("tasklistImportThreadPoolExecutor")
@@ -96,6 +92,7 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
       }
       Integer nextRunDelay = null;
       if (importBatch.getHits().size() == 0) {
+        readerScheduler.recordCaughtUp(this);
         nextRunDelay = readerBackoff;
       } else {
         final var importJob = createImportJob(latestPosition, importBatch);
@@ -181,10 +178,9 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
 
   private void rescheduleReader(final Integer readerDelay) {
     if (readerDelay != null) {
-      readersExecutor.schedule(
-          this, OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant());
+      readerScheduler.schedule(this, readerDelay);
     } else {
-      readersExecutor.submit(this);
+      readerScheduler.submit(this);
     }
   }
 
@@ -206,6 +202,11 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
             String.valueOf(partitionId))
         .record(Duration.between(job.getCreationTime(), OffsetDateTime.now()));
     job.recordLatestScheduledPosition();
+
+    final var readPosition = job.getLastProcessedPosition();
+    if (readPosition != null) {
+      readerScheduler.recordReadPosition(this, readPosition.getPosition());
+    }
   }
 
   private Callable<Boolean> executeJob(final ImportJob job) {
@@ -251,7 +252,7 @@ public abstract class RecordsReaderAbstract implements RecordsReader, Runnable {
         () -> {
           if (hasPendingImportJobToReschedule() && shouldReschedulePendingImportJob()) {
             startRescheduling();
-            readersExecutor.submit(this::reschedulePendingImportJob);
+            readerScheduler.submit(this, this::reschedulePendingImportJob);
           }
         });
   }
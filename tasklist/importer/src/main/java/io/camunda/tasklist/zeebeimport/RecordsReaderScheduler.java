@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport;
+
+import static io.camunda.tasklist.Metrics.GAUGE_IMPORT_READER_POSITIONS_BEHIND;
+import static io.camunda.tasklist.Metrics.TAG_KEY_PARTITION;
+import static io.camunda.tasklist.Metrics.TAG_KEY_TYPE;
+
+import io.camunda.tasklist.Metrics;
+import io.camunda.tasklist.property.TasklistProperties;
+import io.camunda.tasklist.zeebe.ImportValueType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the records readers. Readers which are ready to read wait in a priority queue, so that when
+ * all reader threads are busy, e.g. while catching up after an outage, readers of priority value
+ * types and readers which are behind the others go first.
+ *
+ * <p>The queue is ordered by the time each reader was submitted, minus a head start for priority
+ * value types and for readers which are behind. As the head start is bounded, a reader never waits
+ * behind readers submitted more than {@link #MAX_HEAD_START_MS} after it, so no value type starves.
+ *
+ * <p>A reader is behind by the distance between the highest position read on its partition by any
+ * reader and the position it has read up to, or 0 once it read an empty batch. This is not the lag
+ * behind the exporter, which is not known without querying the exported records. The number of
+ * reader threads follows the number of readers which are behind, between 1 and the configured
+ * reader threads count.
+ */
+@Component
+public class RecordsReaderScheduler {
+
+  /** Value types creating the tasks, imported before all others. */
+  static final Set<ImportValueType> PRIORITY_VALUE_TYPES =
+      EnumSet.of(ImportValueType.USER_TASK, ImportValueType.JOB);
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecordsReaderScheduler.class);
+
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+  static final long PRIORITY_HEAD_START_MS = 5_000L;
+  static final long BEHIND_HEAD_START_MS = 1_000L;
+  static final long MAX_HEAD_START_MS = PRIORITY_HEAD_START_MS + BEHIND_HEAD_START_MS;
+
+  private final Map<Integer, AtomicLong> readPositionPerPartition = new ConcurrentHashMap<>();
+  private final Map<RecordsReader, ReaderProgress> readerProgress = new ConcurrentHashMap<>();
+  private final AtomicLong submissionCounter = new AtomicLong();
+  private ThreadPoolExecutor readersExecutor;
+
+  @Autowired private TasklistProperties tasklistProperties;
+
+  @Autowired
+  @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
+  private ThreadPoolTaskScheduler delayScheduler;
+
+  @Autowired private Metrics metrics;
+
+  @PostConstruct
+  public void init() {
+    readersExecutor =
+        new ThreadPoolExecutor(
+            1,
+            Math.max(1, tasklistProperties.getImporter().getReaderThreadsCount()),
+            THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(),
+            new CustomizableThreadFactory("records_reader_"));
+    readersExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    readersExecutor.shutdownNow();
+  }
+
+  /** Runs the reader as soon as a reader thread is available. */
+  public void submit(final RecordsReader reader) {
+    submit(reader, reader);
+  }
+
+  /** Runs a task of the reader as soon as a reader thread is available. */
+  public void submit(final RecordsReader reader, final Runnable task) {
+    adjustPoolSize();
+    // must not use submit(), which would wrap the task in a non-comparable future
+    readersExecutor.execute(
+        new PrioritizedTask(
+            task,
+            System.currentTimeMillis() - getHeadStartMs(reader),
+            submissionCounter.incrementAndGet()));
+  }
+
+  /** Runs the reader after the given delay. */
+  public void schedule(final RecordsReader reader, final long delayMs) {
+    delayScheduler.schedule(() -> submit(reader), Instant.now().plusMillis(delayMs));
+  }
+
+  /** Records that the reader has read and scheduled the records up to the given position. */
+  public void recordReadPosition(final RecordsReader reader, final long position) {
+    readPositionPerPartition
+        .computeIfAbsent(reader.getPartitionId(), p -> new AtomicLong())
+        .accumulateAndGet(position, Math::max);
+    final ReaderProgress progress = getReaderProgress(reader);
+    progress.position = position;
+    progress.caughtUp = false;
+  }
+
+  /** Records that the reader found no more records to read. */
+  public void recordCaughtUp(final RecordsReader reader) {
+    getReaderProgress(reader).caughtUp = true;
+  }
+
+  long getHeadStartMs(final RecordsReader reader) {
+    long headStartMs = 0;
+    if (PRIORITY_VALUE_TYPES.contains(reader.getImportValueType())) {
+      headStartMs += PRIORITY_HEAD_START_MS;
+    }
+    if (getPositionsBehind(reader) > 0) {
+      headStartMs += BEHIND_HEAD_START_MS;
+    }
+    return headStartMs;
+  }
+
+  /**
+   * Returns how many positions the reader is behind the reader of its partition, which read the
+   * furthest.
+   */
+  public long getPositionsBehind(final RecordsReader reader) {
+    final ReaderProgress progress = readerProgress.get(reader);
+    if (progress == null || progress.caughtUp) {
+      return 0;
+    }
+    final AtomicLong readPosition = readPositionPerPartition.get(reader.getPartitionId());
+    return readPosition == null ? 0 : Math.max(0, readPosition.get() - progress.position);
+  }
+
+  private ReaderProgress getReaderProgress(final RecordsReader reader) {
+    return readerProgress.computeIfAbsent(
+        reader,
+        r -> {
+          metrics.registerGauge(
+              GAUGE_IMPORT_READER_POSITIONS_BEHIND,
+              r,
+              this::getPositionsBehind,
+              TAG_KEY_PARTITION,
+              String.valueOf(r.getPartitionId()),
+              TAG_KEY_TYPE,
+              r.getImportValueType().name());
+          return new ReaderProgress();
+        });
+  }
+
+  private void adjustPoolSize() {
+    final int readersBehind =
+        (int) readerProgress.keySet().stream().filter(r -> getPositionsBehind(r) > 0).count();
+    final int poolSize =
+        Math.max(1, Math.min(readersBehind, readersExecutor.getMaximumPoolSize()));
+    if (poolSize != readersExecutor.getCorePoolSize()) {
+      LOGGER.debug("Resize records reader pool to {} threads", poolSize);
+      readersExecutor.setCorePoolSize(poolSize);
+    }
+  }
+
+  private static final class ReaderProgress {
+    private volatile long position;
+    private volatile boolean caughtUp;
+  }
+
+  /**
+   * @param dueTime the submission time minus the head start of the reader, which is fixed on
+   *     submission, so that the order of the queued tasks does not change while they wait
+   */
+  record PrioritizedTask(Runnable task, long dueTime, long submission)
+      implements Runnable, Comparable<PrioritizedTask> {
+
+    private static final Comparator<PrioritizedTask> ORDER =
+        Comparator.comparingLong(PrioritizedTask::dueTime)
+            .thenComparingLong(PrioritizedTask::submission);
+
+    @Override
+    public void run() {
+      task.run();
+    }
+
+    @Override
+    public int compareTo(final PrioritizedTask other) {
+      return ORDER.compare(this, other);
+    }
+  }
+}
@@ -14,10 +14,8 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,9 +29,7 @@ public class ZeebeImporter {
 
   @Autowired private RecordsReaderHolder recordsReaderHolder;
 
-  @Autowired
-  @Qualifier("tasklistRecordsReaderThreadPoolExecutor")
-  private ThreadPoolTaskScheduler readersExecutor;
+  @Autowired private RecordsReaderScheduler readerScheduler;
 
   @PostConstruct
   public void startImportingData() {
@@ -45,7 +41,7 @@ public class ZeebeImporter {
   public void scheduleReaders() {
     final Set<RecordsReader> allRecordsReaders = recordsReaderHolder.getAllRecordsReaders();
     LOGGER.info("INIT: Start importing data by '{}' importers", allRecordsReaders.size());
-    allRecordsReaders.forEach(recordsReader -> readersExecutor.submit(recordsReader));
+    allRecordsReaders.forEach(recordsReader -> readerScheduler.submit(recordsReader));
   }
 
   public int performOneRoundOfImportFor(final Collection<RecordsReader> readers) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.tasklist.zeebeimport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.tasklist.Metrics;
+import io.camunda.tasklist.zeebe.ImportValueType;
+import io.camunda.tasklist.zeebeimport.RecordsReaderScheduler.PrioritizedTask;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RecordsReaderSchedulerTest {
+
+  private RecordsReaderScheduler scheduler;
+
+  @BeforeEach
+  void setup() {
+    scheduler = new RecordsReaderScheduler();
+    ReflectionTestUtils.setField(scheduler, "metrics", mock(Metrics.class));
+  }
+
+  @Test
+  void positionsBehindHighestPositionReadOnPartition() {
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader jobReader = reader(1, ImportValueType.JOB);
+    final RecordsReader otherPartitionReader = reader(2, ImportValueType.JOB);
+
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(jobReader, 40);
+    scheduler.recordReadPosition(otherPartitionReader, 10);
+
+    assertEquals(0, scheduler.getPositionsBehind(variableReader));
+    assertEquals(60, scheduler.getPositionsBehind(jobReader));
+    assertEquals(0, scheduler.getPositionsBehind(otherPartitionReader));
+  }
+
+  @Test
+  void notBehindAfterReaderCaughtUp() {
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader jobReader = reader(1, ImportValueType.JOB);
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(jobReader, 40);
+
+    scheduler.recordCaughtUp(jobReader);
+
+    assertEquals(0, scheduler.getPositionsBehind(jobReader));
+  }
+
+  @Test
+  void headStartOfPriorityValueTypesAndReadersBehind() {
+    final RecordsReader userTaskReader = reader(1, ImportValueType.USER_TASK);
+    final RecordsReader variableReader = reader(1, ImportValueType.VARIABLE);
+    final RecordsReader processInstanceReader = reader(1, ImportValueType.PROCESS_INSTANCE);
+    scheduler.recordReadPosition(userTaskReader, 40);
+    scheduler.recordReadPosition(variableReader, 100);
+    scheduler.recordReadPosition(processInstanceReader, 40);
+
+    assertEquals(
+        RecordsReaderScheduler.MAX_HEAD_START_MS, scheduler.getHeadStartMs(userTaskReader));
+    assertEquals(0, scheduler.getHeadStartMs(variableReader));
+    assertEquals(
+        RecordsReaderScheduler.BEHIND_HEAD_START_MS,
+        scheduler.getHeadStartMs(processInstanceReader));
+  }
+
+  @Test
+  void runTasksByDueTimeThenSubmission() {
+    final PrioritizedTask first = new PrioritizedTask(() -> {}, 1_000, 4);
+    final PrioritizedTask second = new PrioritizedTask(() -> {}, 2_000, 1);
+    final PrioritizedTask third = new PrioritizedTask(() -> {}, 2_000, 2);
+    final List<PrioritizedTask> tasks = new ArrayList<>(List.of(third, second, first));
+
+    Collections.sort(tasks);
+
+    assertEquals(List.of(first, second, third), tasks);
+  }
+
+  @Test
+  void priorityValueTypesDoNotStarveOtherReaders() {
+    // a variable reader waits while job readers keep being submitted
+    final long submittedAt = 10_000;
+    final PrioritizedTask variableTask = new PrioritizedTask(() -> {}, submittedAt, 1);
+    final PrioritizedTask earlyJobTask =
+        new PrioritizedTask(() -> {}, dueTime(submittedAt + 100), 2);
+    final PrioritizedTask lateJobTask =
+        new PrioritizedTask(
+            () -> {}, dueTime(submittedAt + RecordsReaderScheduler.MAX_HEAD_START_MS + 100), 3);
+    final List<PrioritizedTask> tasks =
+        new ArrayList<>(List.of(lateJobTask, variableTask, earlyJobTask));
+
+    Collections.sort(tasks);
+
+    assertEquals(List.of(earlyJobTask, variableTask, lateJobTask), tasks);
+  }
+
+  private static long dueTime(final long jobSubmittedAt) {
+    return jobSubmittedAt - RecordsReaderScheduler.MAX_HEAD_START_MS;
+  }
+
+  private static RecordsReader reader(final int partitionId, final ImportValueType type) {
+    final RecordsReader reader = mock(RecordsReader.class);
+    when(reader.getPartitionId()).thenReturn(partitionId);
+    when(reader.getImportValueType()).thenReturn(type);
+    return reader;
+  }
+}
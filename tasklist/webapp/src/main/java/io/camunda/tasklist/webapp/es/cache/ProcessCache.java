@@ -10,21 +10,36 @@ package io.camunda.tasklist.webapp.es.cache;
 import io.camunda.tasklist.entities.ProcessEntity;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
 import io.camunda.tasklist.store.ProcessStore;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Keeps the most recently used processes with their flow node names and diagram, so that they are
+ * not loaded from the store for every task or process view.
+ */
 @Component
 public class ProcessCache {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCache.class);
   private static final int CACHE_MAX_SIZE = 100;
-  private Map<String, ProcessCacheEntity> cache = new ConcurrentHashMap<>();
+
+  // access ordered, so that the least recently used process is evicted first
+  private final Map<String, ProcessCacheEntity> cache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<String, ProcessCacheEntity>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                final Map.Entry<String, ProcessCacheEntity> eldest) {
+              return size() > CACHE_MAX_SIZE;
+            }
+          });
+
   @Autowired private ProcessStore processStore;
 
   private ProcessCacheEntity getProcessCacheEntity(String processId) {
@@ -56,6 +71,21 @@ public class ProcessCache {
     }
   }
 
+  /**
+   * Returns the process including its diagram. The process is read with the tenant check of the
+   * current user when it is not cached yet, so callers must check the tenant of cached processes.
+   */
+  public ProcessEntity getProcess(String processDefinitionKey) {
+    final ProcessCacheEntity cachedProcessData = cache.get(processDefinitionKey);
+    if (cachedProcessData != null) {
+      return cachedProcessData.getProcess();
+    }
+    final ProcessEntity process =
+        processStore.getProcessByProcessDefinitionKey(processDefinitionKey);
+    putToCache(processDefinitionKey, process);
+    return process;
+  }
+
   private Optional<ProcessEntity> readProcessByKey(String processId) {
     try {
       return Optional.of(processStore.getProcess(processId));
@@ -65,14 +95,6 @@ public class ProcessCache {
   }
 
   public void putToCache(String processId, ProcessEntity process) {
-    if (cache.size() >= CACHE_MAX_SIZE) {
-      // remove 1st element
-      final Iterator<String> iterator = cache.keySet().iterator();
-      if (iterator.hasNext()) {
-        iterator.next();
-        iterator.remove();
-      }
-    }
     cache.put(processId, ProcessCacheEntity.createFrom(process));
   }
 
@@ -12,13 +12,13 @@ import io.camunda.tasklist.entities.ProcessFlowNodeEntity;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class ProcessCacheEntity {
 
   private String name;
 
   private Map<String, String> flowNodeNames = new HashMap<>();
+  private ProcessEntity process;
 
   public String getName() {
     return name;
@@ -38,14 +38,25 @@ public class ProcessCacheEntity {
     return this;
   }
 
+  public ProcessEntity getProcess() {
+    return process;
+  }
+
+  public ProcessCacheEntity setProcess(ProcessEntity process) {
+    this.process = process;
+    return this;
+  }
+
   public static ProcessCacheEntity createFrom(ProcessEntity processEntity) {
+    // flow nodes without a name are kept as well, so the map can't be collected with toMap
+    final Map<String, String> flowNodeNames = new HashMap<>();
+    for (ProcessFlowNodeEntity flowNode : processEntity.getFlowNodes()) {
+      flowNodeNames.putIfAbsent(flowNode.getId(), flowNode.getName());
+    }
     return new ProcessCacheEntity()
         .setName(processEntity.getName())
-        .setFlowNodeNames(
-            processEntity.getFlowNodes().stream()
-                .collect(
-                    Collectors.toMap(
-                        ProcessFlowNodeEntity::getId, ProcessFlowNodeEntity::getName)));
+        .setFlowNodeNames(flowNodeNames)
+        .setProcess(processEntity);
   }
 
   @Override
@@ -62,6 +73,9 @@ public class ProcessCacheEntity {
     if (name != null ? !name.equals(that.name) : that.name != null) {
       return false;
     }
+    if (!Objects.equals(process, that.process)) {
+      return false;
+    }
     return flowNodeNames != null
         ? flowNodeNames.equals(that.flowNodeNames)
         : that.flowNodeNames == null;
@@ -69,6 +83,6 @@ public class ProcessCacheEntity {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, flowNodeNames);
+    return Objects.hash(name, flowNodeNames, process);
   }
 }
@@ -69,7 +69,10 @@ public class TasklistGraphQLContextBuilder implements GraphQLServletContextBuild
                     CompletableFuture.supplyAsync(() -> userReader.getUsersByUsernames(usernames))))
         .register(
             VARIABLE_DATA_LOADER,
-            DataLoaderFactory.<VariableStore.GetVariablesRequest, List<VariableDTO>>newDataLoader(
-                req -> CompletableFuture.supplyAsync(() -> variableService.getVariables(req))));
+            DataLoaderFactory
+                .<VariableStore.GetVariablesRequest, List<VariableDTO>>newMappedDataLoader(
+                    requests ->
+                        CompletableFuture.supplyAsync(
+                            () -> variableService.getVariablesPerRequest(requests))));
   }
 }
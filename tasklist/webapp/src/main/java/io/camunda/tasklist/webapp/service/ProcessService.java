@@ -9,9 +9,10 @@ package io.camunda.tasklist.webapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.tasklist.entities.ProcessEntity;
+import io.camunda.tasklist.exceptions.NotFoundException;
 import io.camunda.tasklist.exceptions.TasklistRuntimeException;
 import io.camunda.tasklist.property.IdentityProperties;
-import io.camunda.tasklist.store.ProcessStore;
+import io.camunda.tasklist.webapp.es.cache.ProcessCache;
 import io.camunda.tasklist.webapp.graphql.entity.ProcessInstanceDTO;
 import io.camunda.tasklist.webapp.graphql.entity.VariableInputDTO;
 import io.camunda.tasklist.webapp.rest.exception.ForbiddenActionException;
@@ -55,13 +56,17 @@ public class ProcessService {
 
   @Autowired private UserReader userReader;
 
-  @Autowired private ProcessStore processStore;
+  @Autowired private ProcessCache processCache;
 
   public ProcessEntity getProcessByProcessDefinitionKeyAndAccessRestriction(
       final String processDefinitionKey) {
 
-    final ProcessEntity processEntity =
-        processStore.getProcessByProcessDefinitionKey(processDefinitionKey);
+    final ProcessEntity processEntity = processCache.getProcess(processDefinitionKey);
+    // the process may have been cached by a request of a user of another tenant
+    if (!tenantService.isTenantValid(processEntity.getTenantId())) {
+      throw new NotFoundException(
+          String.format("Process with key %s not found", processDefinitionKey));
+    }
 
     final List<String> processReadAuthorizations =
         identityAuthorizationService.getProcessReadFromAuthorization();
@@ -34,6 +34,7 @@ import io.camunda.tasklist.webapp.rest.exception.InvalidRequestException;
 import io.camunda.tasklist.webapp.rest.exception.NotFoundApiException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -445,14 +446,27 @@ public class VariableService {
     return vars;
   }
 
-  public List<List<VariableDTO>> getVariables(List<GetVariablesRequest> requests) {
-    final Map<String, List<VariableDTO>> variablesPerTaskId = getVariablesPerTaskId(requests);
-    final List<List<VariableDTO>> result = new ArrayList<>();
-    for (GetVariablesRequest req : requests) {
-      result.add(
-          variablesPerTaskId.getOrDefault(req.getTaskId(), Collections.emptyList()).stream()
-              .sorted(Comparator.comparing(VariableDTO::getName))
-              .toList());
+  /**
+   * Returns the variables for each of the requests, sorted by name. Requests for the same variable
+   * names and fields are resolved together, so that variables of any number of tasks are loaded
+   * with a constant number of searches.
+   */
+  public Map<GetVariablesRequest, List<VariableDTO>> getVariablesPerRequest(
+      Collection<GetVariablesRequest> requests) {
+    final Map<GetVariablesRequest, List<VariableDTO>> result = new HashMap<>();
+    final Map<List<Object>, List<GetVariablesRequest>> groupByRequestedData =
+        requests.stream()
+            .collect(
+                groupingBy(req -> Arrays.<Object>asList(req.getVarNames(), req.getFieldNames())));
+    for (List<GetVariablesRequest> group : groupByRequestedData.values()) {
+      final Map<String, List<VariableDTO>> variablesPerTaskId = getVariablesPerTaskId(group);
+      for (GetVariablesRequest req : group) {
+        result.put(
+            req,
+            variablesPerTaskId.getOrDefault(req.getTaskId(), Collections.emptyList()).stream()
+                .sorted(Comparator.comparing(VariableDTO::getName))
+                .toList());
+      }
     }
     return result;
   }
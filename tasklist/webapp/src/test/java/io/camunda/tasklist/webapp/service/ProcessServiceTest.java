@@ -13,6 +13,9 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.camunda.tasklist.entities.ProcessEntity;
+import io.camunda.tasklist.exceptions.NotFoundException;
+import io.camunda.tasklist.webapp.es.cache.ProcessCache;
 import io.camunda.tasklist.webapp.graphql.entity.ProcessInstanceDTO;
 import io.camunda.tasklist.webapp.graphql.entity.VariableInputDTO;
 import io.camunda.tasklist.webapp.rest.exception.ForbiddenActionException;
@@ -47,6 +50,8 @@ public class ProcessServiceTest {
 
   @Mock private ZeebeClient zeebeClient;
 
+  @Mock private ProcessCache processCache;
+
   @Spy
   private IdentityAuthorizationService identityAuthorizationService =
       new IdentityAuthorizationService();
@@ -205,4 +210,33 @@ public class ProcessServiceTest {
     assertThat(response).isInstanceOf(ProcessInstanceDTO.class);
     assertThat(response.getId()).isEqualTo(processInstanceEvent.getProcessInstanceKey());
   }
+
+  @Test
+  void getProcessOfOtherTenantFromCacheIsNotFound() {
+    when(processCache.getProcess("processDefinitionKey"))
+        .thenReturn(new ProcessEntity().setTenantId("tenantB"));
+    when(tenantService.isTenantValid("tenantB")).thenReturn(false);
+
+    assertThatThrownBy(
+            () ->
+                instance.getProcessByProcessDefinitionKeyAndAccessRestriction(
+                    "processDefinitionKey"))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  @Test
+  void getProcessFromCache() {
+    final ProcessEntity process =
+        new ProcessEntity().setBpmnProcessId("bpmnProcessId").setTenantId("tenantA");
+    when(processCache.getProcess("processDefinitionKey")).thenReturn(process);
+    when(tenantService.isTenantValid("tenantA")).thenReturn(true);
+    doReturn(List.of("bpmnProcessId"))
+        .when(identityAuthorizationService)
+        .getProcessReadFromAuthorization();
+
+    final ProcessEntity response =
+        instance.getProcessByProcessDefinitionKeyAndAccessRestriction("processDefinitionKey");
+
+    assertThat(response).isSameAs(process);
+  }
 }
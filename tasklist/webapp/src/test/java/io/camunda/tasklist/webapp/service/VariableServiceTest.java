@@ -333,6 +333,55 @@ class VariableServiceTest {
                 .setPreviewValue("[\"val1\", \"val2\","));
   }
 
+  @Test
+  void getVariablesPerRequestLoadsRequestsForSameDataTogether() {
+    // given
+    final var allVariablesOfTask1 = completedTaskRequest("task1", null);
+    final var allVariablesOfTask2 = completedTaskRequest("task2", null);
+    final var variableBOfTask1 = completedTaskRequest("task1", List.of("B"));
+    when(variableStore.getTaskVariablesPerTaskId(List.of(allVariablesOfTask1, allVariablesOfTask2)))
+        .thenReturn(
+            Map.of(
+                "task1",
+                List.of(taskVariable("task1", "B"), taskVariable("task1", "A")),
+                "task2",
+                List.of(taskVariable("task2", "A"))));
+    when(variableStore.getTaskVariablesPerTaskId(List.of(variableBOfTask1)))
+        .thenReturn(Map.of("task1", List.of(taskVariable("task1", "B"))));
+
+    // when
+    final var result =
+        instance.getVariablesPerRequest(
+            List.of(allVariablesOfTask1, allVariablesOfTask2, variableBOfTask1));
+
+    // then
+    assertThat(result.get(allVariablesOfTask1))
+        .extracting(VariableDTO::getName)
+        .containsExactly("A", "B");
+    assertThat(result.get(allVariablesOfTask2))
+        .extracting(VariableDTO::getName)
+        .containsExactly("A");
+    assertThat(result.get(variableBOfTask1)).extracting(VariableDTO::getName).containsExactly("B");
+  }
+
+  private static VariableStore.GetVariablesRequest completedTaskRequest(
+      final String taskId, final List<String> varNames) {
+    return new VariableStore.GetVariablesRequest()
+        .setTaskId(taskId)
+        .setFlowNodeInstanceId(taskId + "FlowNode")
+        .setState(TaskState.COMPLETED)
+        .setVarNames(varNames);
+  }
+
+  private static TaskVariableEntity taskVariable(final String taskId, final String name) {
+    return new TaskVariableEntity()
+        .setId(taskId + "-" + name)
+        .setTaskId(taskId)
+        .setName(name)
+        .setValue("1")
+        .setFullValue("1");
+  }
+
   @Test
   void getVariableResponseWhenOnlyOriginalVariableExists() {
     // given
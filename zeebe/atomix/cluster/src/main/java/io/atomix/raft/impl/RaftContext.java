@@ -208,6 +208,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
             () ->
                 createThreadContext(
                     "raft-log", partitionId, threadContextFactory, localMemberId.id()));
+    raftLog.setFlushListener(() -> threadContext.execute(() -> role.onLogFlushed()));
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -524,8 +525,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
+      if (isLeader() && !raftLog.holdsBackAcknowledgements()) {
+        // leader counts itself in quorum, so in order to commit the leader must persist; if
+        // acknowledgements are held back, the committed entries are already flushed
         raftLog.flush();
       }
       final long configurationIndex = cluster.getConfiguration().index();
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class FlushMetrics extends RaftMetrics {
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_batch_size")
+          .help("Number of log entries made durable by a single flush of the Raft log")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500)
+          .register();
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_latency")
+          .help(
+              "Time in seconds between the first flush request of a batch and the end of the flush")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, .0025, .005, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
+  private static final Gauge FLUSH_DELAY =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("log_flush_delay")
+          .help("Current delay in seconds used by the adaptive flusher to group appends")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private final Histogram.Child batchSize;
+  private final Histogram.Child latency;
+  private final Gauge.Child delay;
+
+  public FlushMetrics(final String partitionName) {
+    super(partitionName);
+    batchSize = FLUSH_BATCH_SIZE.labels(partitionGroupName, partition);
+    latency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+    delay = FLUSH_DELAY.labels(partitionGroupName, partition);
+  }
+
+  public void observeFlush(final long entries, final long latencyNanos) {
+    batchSize.observe(entries);
+    latency.observe(latencyNanos / 1e9);
+  }
+
+  public void setFlushDelay(final long delayNanos) {
+    delay.set(delayNanos / 1e9);
+  }
+}
@@ -553,6 +553,10 @@ final class LeaderAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().isSingleMemberCluster()) {
+      if (raft.getLog().holdsBackAcknowledgements() && index > raft.getLog().getFlushedIndex()) {
+        // committed once the log is flushed, see onLogFlushed()
+        return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+      }
       raft.setCommitIndex(index);
       completeCommits(index);
       return CompletableFuture.completedFuture(index);
@@ -994,15 +998,30 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Commits entries which were held back until the leader flushed them, see {@link
+   * io.atomix.raft.storage.log.RaftLogFlusher#holdsBackAcknowledgements()}.
+   */
+  void onLogFlushed() {
+    if (open) {
+      commitEntries();
+    }
+  }
+
   /** Checks whether any futures can be completed. */
   private void commitEntries() {
     raft.checkThread();
 
-    final long commitIndex =
+    final long quorumIndex =
         raft.getCluster()
             .getQuorumFor(RaftMemberContext::getMatchIndex)
             // If there are no remote members, commit up to the last log index.
             .orElseGet(() -> raft.getLog().getLastIndex());
+    // the leader counts itself towards the quorum, so it must have flushed the entries too
+    final long commitIndex =
+        raft.getLog().holdsBackAcknowledgements()
+            ? Math.min(quorumIndex, raft.getLog().getFlushedIndex())
+            : quorumIndex;
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
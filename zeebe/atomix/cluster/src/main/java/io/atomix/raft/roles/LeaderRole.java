@@ -129,6 +129,12 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     return RaftServer.Role.LEADER;
   }
 
+  @Override
+  public void onLogFlushed() {
+    super.onLogFlushed();
+    appender.onLogFlushed();
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -663,6 +669,11 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
 
   private IndexedRaftLogEntry append(final RaftLogEntry entry) {
     final var indexedEntry = raft.getLog().append(entry);
+    if (raft.getLog().holdsBackAcknowledgements()) {
+      // the entry only counts towards the commit index once it is flushed, so flush it while it is
+      // replicated instead of when it is committed
+      raft.getLog().flush();
+    }
     raft.getReplicationMetrics().setAppendIndex(indexedEntry.index());
     log.trace("Appended {}", indexedEntry);
     appender.observeNonCommittedEntries(raft.getCommitIndex());
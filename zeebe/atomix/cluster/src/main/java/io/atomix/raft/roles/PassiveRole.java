@@ -55,6 +55,8 @@ import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsExcepti
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -65,6 +67,7 @@ public class PassiveRole extends InactiveRole {
 
   private final ThrottledLogger throttledLogger = new ThrottledLogger(log, Duration.ofSeconds(5));
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
+  private final Deque<PendingAppend> pendingAppends = new ArrayDeque<>();
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
@@ -85,6 +88,7 @@ public class PassiveRole extends InactiveRole {
   @Override
   public CompletableFuture<Void> stop() {
     abortPendingSnapshots();
+    failPendingAppends();
 
     // as a safe guard, we clean up any orphaned pending snapshots
     try {
@@ -684,10 +688,41 @@ public class PassiveRole extends InactiveRole {
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
     flush(lastLogIndex, request.prevLogIndex());
 
+    if (raft.getLog().holdsBackAcknowledgements()
+        && lastLogIndex > raft.getLog().getFlushedIndex()) {
+      // the flusher holds back acknowledgements, so respond once the entries are flushed
+      pendingAppends.add(new PendingAppend(lastLogIndex, future));
+      return;
+    }
+
     // Return a successful append response.
     succeedAppend(lastLogIndex, future);
   }
 
+  @Override
+  public void onLogFlushed() {
+    final long flushedIndex = raft.getLog().getFlushedIndex();
+    final var iterator = pendingAppends.iterator();
+    while (iterator.hasNext()) {
+      final var pendingAppend = iterator.next();
+      if (pendingAppend.lastLogIndex() <= flushedIndex) {
+        iterator.remove();
+        succeedAppend(pendingAppend.lastLogIndex(), pendingAppend.future());
+      }
+    }
+  }
+
+  private void failPendingAppends() {
+    if (pendingAppends.isEmpty()) {
+      return;
+    }
+
+    // let the leader resend whatever was not flushed yet
+    final long flushedIndex = raft.getLog().getFlushedIndex();
+    pendingAppends.forEach(pendingAppend -> failAppend(flushedIndex, pendingAppend.future()));
+    pendingAppends.clear();
+  }
+
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
     if (lastFlushedIndex > previousEntryIndex) {
       raft.getLog().flush();
@@ -875,4 +910,6 @@ public class PassiveRole extends InactiveRole {
         snapshotIndex + 1);
     raftLog.reset(snapshotIndex + 1);
   }
+
+  private record PendingAppend(long lastLogIndex, CompletableFuture<AppendResponse> future) {}
 }
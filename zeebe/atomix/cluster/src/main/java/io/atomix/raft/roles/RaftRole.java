@@ -53,6 +53,13 @@ public interface RaftRole extends Managed<RaftRole> {
    */
   RaftServer.Role role();
 
+  /**
+   * Called on the Raft thread when the {@link io.atomix.raft.storage.log.RaftLog#getFlushedIndex()
+   * flushed index} of the log increased asynchronously, i.e. when entries which were held back can
+   * be acknowledged.
+   */
+  default void onLogFlushed() {}
+
   /**
    * Handles a configure request.
    *
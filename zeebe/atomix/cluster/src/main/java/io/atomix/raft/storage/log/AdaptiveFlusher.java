@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.FlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which groups concurrent appends into a single flush,
+ * i.e. a group commit. Like the {@link DelayedFlusher}, calls to {@link #flush(Journal)} are only
+ * signals that there is data to be flushed, and the flush itself is performed asynchronously.
+ * Unlike it, this flusher {@link #holdsBackAcknowledgements() holds back acknowledgements}: the
+ * callbacks passed to {@link #flush(Journal, Runnable)} only run once a flush which started after
+ * the call completed, so entries are never acknowledged before they are durable. Instead of waiting
+ * for a fixed delay, the flusher adapts the delay to the disk it runs on:
+ *
+ * <ul>
+ *   <li>The delay is the moving average of the measured flush durations, bounded by the configured
+ *       maximum delay. Appends arriving within that window are flushed together, which at most
+ *       doubles the time until an entry is durable. On fast disks under light load, this means
+ *       flushing almost immediately.
+ *   <li>Appends arriving while a flush is in progress are flushed together right after it.
+ *   <li>If the number of unflushed entries reaches the maximum batch size, the flush is performed
+ *       immediately, regardless of the delay.
+ * </ul>
+ *
+ * <p>The size of each batch and the time between the first signal of a batch and the end of its
+ * flush are reported via {@link FlushMetrics}.
+ *
+ * <p>If a flush fails, its callbacks run with the next successful flush. Callbacks which are
+ * still pending when the flusher is closed never run.
+ */
+public final class AdaptiveFlusher implements RaftLogFlusher {
+
+  /** The default upper bound for the delay between a signal and the flush. */
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(10);
+
+  /** The default number of unflushed entries after which a flush is triggered immediately. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveFlusher.class);
+
+  /** Weight of the latest measurement in the moving average of the flush duration. */
+  private static final double SMOOTHING_FACTOR = 0.2;
+
+  private static final long NO_PENDING_FLUSH = -1;
+  private static final long UNKNOWN_FLUSHED_INDEX = Long.MIN_VALUE;
+
+  private final Scheduler scheduler;
+  private final long maxDelayNanos;
+  private final int maxBatchSize;
+  private final FlushMetrics metrics;
+  private final LongSupplier nanoClock;
+
+  private final Object monitor = new Object();
+  private List<Runnable> pendingCallbacks = new ArrayList<>();
+  private Scheduled scheduledFlush;
+  private boolean immediateFlushScheduled;
+  private boolean flushInProgress;
+  private long firstSignalNanos = NO_PENDING_FLUSH;
+  // read from the journal with the first signal, as the flusher is created before the log
+  private long lastFlushedIndex = UNKNOWN_FLUSHED_INDEX;
+  private double averageFlushNanos;
+  private boolean closed;
+
+  public AdaptiveFlusher(
+      final Scheduler scheduler,
+      final Duration maxDelay,
+      final int maxBatchSize,
+      final FlushMetrics metrics) {
+    this(scheduler, maxDelay, maxBatchSize, metrics, System::nanoTime);
+  }
+
+  AdaptiveFlusher(
+      final Scheduler scheduler,
+      final Duration maxDelay,
+      final int maxBatchSize,
+      final FlushMetrics metrics,
+      final LongSupplier nanoClock) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    maxDelayNanos = Objects.requireNonNull(maxDelay, "must specify a maximum delay").toNanos();
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    this.nanoClock = Objects.requireNonNull(nanoClock, "must specify a clock");
+
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected maximum batch size to be at least 1, but was %d".formatted(maxBatchSize));
+    }
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Returns a factory for flushers with the given configuration, which report their metrics for the
+   * partition of the log they flush.
+   */
+  public static RaftLogFlusher.Factory factory(final Duration maxDelay, final int maxBatchSize) {
+    return new Factory() {
+      @Override
+      public RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory) {
+        return createFlusher(threadFactory, "");
+      }
+
+      @Override
+      public RaftLogFlusher createFlusher(
+          final ThreadContextFactory threadFactory, final String partitionName) {
+        return new AdaptiveFlusher(
+            threadFactory.createContext(), maxDelay, maxBatchSize, new FlushMetrics(partitionName));
+      }
+    };
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    flush(journal, null);
+  }
+
+  @Override
+  public void flush(final Journal journal, final Runnable onFlushed) {
+    synchronized (monitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (onFlushed != null) {
+        pendingCallbacks.add(onFlushed);
+      }
+
+      if (lastFlushedIndex == UNKNOWN_FLUSHED_INDEX) {
+        lastFlushedIndex = journal.getLastFlushedIndex();
+      }
+
+      if (firstSignalNanos == NO_PENDING_FLUSH) {
+        firstSignalNanos = nanoClock.getAsLong();
+      }
+
+      // a flush in progress will schedule the next one once it's done
+      if (flushInProgress || immediateFlushScheduled) {
+        return;
+      }
+
+      final boolean batchIsFull = journal.getLastIndex() - lastFlushedIndex >= maxBatchSize;
+      if (scheduledFlush != null && batchIsFull) {
+        LOGGER.trace("Maximum batch size reached, flushing immediately");
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+
+      if (scheduledFlush == null) {
+        scheduleFlush(journal, batchIsFull ? 0 : remainingDelayNanos());
+      }
+    }
+  }
+
+  @Override
+  public boolean holdsBackAcknowledgements() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+    synchronized (monitor) {
+      closed = true;
+      pendingCallbacks.clear();
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal, final long delayNanos) {
+    immediateFlushScheduled = delayNanos == 0;
+    scheduledFlush = scheduler.schedule(Duration.ofNanos(delayNanos), () -> asyncFlush(journal));
+  }
+
+  private long remainingDelayNanos() {
+    final long delay = Math.min(maxDelayNanos, Math.round(averageFlushNanos));
+    final long waited = nanoClock.getAsLong() - firstSignalNanos;
+    return Math.max(0, delay - waited);
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final long batchFirstSignalNanos;
+    final long flushIndex;
+    final List<Runnable> callbacks;
+    synchronized (monitor) {
+      scheduledFlush = null;
+      immediateFlushScheduled = false;
+      if (closed) {
+        return;
+      }
+
+      flushInProgress = true;
+      batchFirstSignalNanos = firstSignalNanos;
+      firstSignalNanos = NO_PENDING_FLUSH;
+      flushIndex = journal.getLastIndex();
+      callbacks = pendingCallbacks;
+      pendingCallbacks = new ArrayList<>();
+    }
+
+    final long startNanos = nanoClock.getAsLong();
+    boolean flushed = false;
+    try {
+      journal.flush();
+      flushed = true;
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn(
+          "Failed to flush journal, operation will be retried after {}",
+          Duration.ofNanos(maxDelayNanos),
+          e);
+    }
+
+    final long endNanos = nanoClock.getAsLong();
+    final boolean notify;
+    synchronized (monitor) {
+      flushInProgress = false;
+      notify = flushed && !closed;
+
+      if (flushed) {
+        onFlushed(flushIndex, endNanos - startNanos, endNanos - batchFirstSignalNanos);
+      } else {
+        // the callbacks are retried with the next flush, ahead of the ones added in the meantime
+        callbacks.addAll(pendingCallbacks);
+        pendingCallbacks = callbacks;
+        if (firstSignalNanos == NO_PENDING_FLUSH) {
+          firstSignalNanos = batchFirstSignalNanos;
+        }
+      }
+
+      if (!closed && firstSignalNanos != NO_PENDING_FLUSH) {
+        scheduleFlush(journal, flushed ? remainingDelayNanos() : maxDelayNanos);
+      }
+    }
+
+    if (notify) {
+      callbacks.forEach(Runnable::run);
+    }
+  }
+
+  private void onFlushed(final long flushIndex, final long flushNanos, final long latencyNanos) {
+    // the log may have been truncated in the meantime, in which case the whole batch is counted
+    final long entries = Math.max(1, flushIndex - lastFlushedIndex);
+    lastFlushedIndex = flushIndex;
+
+    averageFlushNanos =
+        averageFlushNanos == 0
+            ? flushNanos
+            : SMOOTHING_FACTOR * flushNanos + (1 - SMOOTHING_FACTOR) * averageFlushNanos;
+
+    metrics.observeFlush(entries, latencyNanos);
+    metrics.setFlushDelay(Math.min(maxDelayNanos, Math.round(averageFlushNanos)));
+    LOGGER.trace("Flushed {} entries up to index {} in {}ns", entries, flushIndex, flushNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxDelay="
+        + Duration.ofNanos(maxDelayNanos)
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", averageFlushNanos="
+        + averageFlushNanos
+        + '}';
+  }
+}
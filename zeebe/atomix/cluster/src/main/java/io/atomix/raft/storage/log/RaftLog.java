@@ -38,12 +38,19 @@ public final class RaftLog implements Closeable {
   private final RaftEntrySerializer serializer = new RaftEntrySBESerializer();
   private final Journal journal;
   private final RaftLogFlusher flusher;
+  private final Object flushMonitor = new Object();
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
 
+  // guarded by the flush monitor, as flushes may complete on the flusher's thread
+  private long flushedIndex;
+  private long truncations;
+  private volatile Runnable flushListener = () -> {};
+
   RaftLog(final Journal journal, final RaftLogFlusher flusher) {
     this.journal = journal;
     this.flusher = flusher;
+    flushedIndex = journal.getLastIndex();
   }
 
   /**
@@ -111,6 +118,38 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * @return true if entries may only be acknowledged up to the {@link #getFlushedIndex() flushed
+   *     index}, see {@link RaftLogFlusher#holdsBackAcknowledgements()}
+   */
+  public boolean holdsBackAcknowledgements() {
+    return flusher.holdsBackAcknowledgements();
+  }
+
+  /**
+   * Returns the index up to which entries may be acknowledged, i.e. counted towards the commit
+   * index by a leader or acknowledged to the leader by a follower. If the configured flusher {@link
+   * RaftLogFlusher#holdsBackAcknowledgements() holds back acknowledgements}, this is the last index
+   * covered by a completed flush; otherwise it is the last index of the log.
+   */
+  public long getFlushedIndex() {
+    if (!flusher.holdsBackAcknowledgements()) {
+      return journal.getLastIndex();
+    }
+
+    synchronized (flushMonitor) {
+      return Math.min(flushedIndex, journal.getLastIndex());
+    }
+  }
+
+  /**
+   * Sets a listener which is called whenever the {@link #getFlushedIndex() flushed index}
+   * increases asynchronously. It may be called on any thread.
+   */
+  public void setFlushListener(final Runnable flushListener) {
+    this.flushListener = flushListener;
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -169,6 +208,7 @@ public final class RaftLog implements Closeable {
   public void reset(final long index) {
     journal.reset(index);
     lastAppendedEntry = null;
+    onTruncated(index - 1);
   }
 
   public void deleteAfter(final long index) {
@@ -180,6 +220,7 @@ public final class RaftLog implements Closeable {
     }
     journal.deleteAfter(index);
     lastAppendedEntry = null;
+    onTruncated(index);
 
     // we have to flush here to ensure the truncated log is represented properly
     flush();
@@ -190,7 +231,17 @@ public final class RaftLog implements Closeable {
    * the configured {@link RaftLogFlusher}.
    */
   public void flush() {
-    flusher.flush(journal);
+    if (!flusher.holdsBackAcknowledgements()) {
+      flusher.flush(journal);
+      return;
+    }
+
+    final long index = journal.getLastIndex();
+    final long truncationsBeforeFlush;
+    synchronized (flushMonitor) {
+      truncationsBeforeFlush = truncations;
+    }
+    flusher.flush(journal, () -> onFlushed(index, truncationsBeforeFlush));
   }
 
   /**
@@ -201,7 +252,31 @@ public final class RaftLog implements Closeable {
    * guarantees are required.
    */
   public void forceFlush() {
+    final long index = journal.getLastIndex();
     Factory.DIRECT.flush(journal);
+
+    synchronized (flushMonitor) {
+      flushedIndex = Math.max(flushedIndex, index);
+    }
+  }
+
+  private void onFlushed(final long index, final long truncationsBeforeFlush) {
+    synchronized (flushMonitor) {
+      // entries up to the index may have been replaced by the time the flush completed
+      if (truncationsBeforeFlush != truncations || index <= flushedIndex) {
+        return;
+      }
+      flushedIndex = index;
+    }
+
+    flushListener.run();
+  }
+
+  private void onTruncated(final long lastIndex) {
+    synchronized (flushMonitor) {
+      truncations++;
+      flushedIndex = Math.min(flushedIndex, lastIndex);
+    }
   }
 
   @Override
@@ -27,6 +27,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link AdaptiveFlusher} also defers flushes, grouping appends based on the measured flush
+ * duration, but holds back the acknowledgement of entries until they are flushed. It is as safe as
+ * {@link DirectFlusher}, and trades commit latency for fewer flushes under load.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +43,31 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and runs the given callback once the
+   * data appended before this call is flushed. The callback may run on any thread.
+   *
+   * <p>By default, this signals {@link #flush(Journal)} and runs the callback right away, which is
+   * only accurate for direct implementations.
+   *
+   * @param journal the journal to flush
+   * @param onFlushed the callback to run once the data is flushed
+   */
+  default void flush(final Journal journal, final Runnable onFlushed) {
+    flush(journal);
+    onFlushed.run();
+  }
+
+  /**
+   * If this returns true, appended entries are only acknowledged, i.e. counted towards the commit
+   * index by a leader or acknowledged to the leader by a follower, once the callback passed to
+   * {@link #flush(Journal, Runnable)} ran for them. Otherwise, they may be acknowledged as soon as
+   * they are appended.
+   */
+  default boolean holdsBackAcknowledgements() {
+    return false;
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
@@ -102,6 +131,20 @@ public interface RaftLogFlusher extends CloseableSilently {
      */
     RaftLogFlusher createFlusher(final ThreadContextFactory threadFactory);
 
+    /**
+     * Creates a new {@link RaftLogFlusher} for the log of the given partition. Implementations
+     * which report metrics can override this to label them with the partition; by default, this
+     * delegates to {@link #createFlusher(ThreadContextFactory)}.
+     *
+     * @param threadFactory the thread context factory for asynchronous operations
+     * @param partitionName the name of the partition whose log is flushed
+     * @return a configured Flusher
+     */
+    default RaftLogFlusher createFlusher(
+        final ThreadContextFactory threadFactory, final String partitionName) {
+      return createFlusher(threadFactory);
+    }
+
     /** Preset factory method which returns a shared {@link DirectFlusher} instance. */
     static DirectFlusher direct(final ThreadContextFactory ignored) {
       return DIRECT;
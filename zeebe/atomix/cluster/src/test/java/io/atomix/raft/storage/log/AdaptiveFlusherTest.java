@@ -0,0 +1,315 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.metrics.FlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class AdaptiveFlusherTest {
+  private static final Duration MAX_DELAY = Duration.ofMillis(10);
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final AtomicLong clock = new AtomicLong();
+  private final Journal journal = Mockito.mock(Journal.class);
+  private final AdaptiveFlusher flusher =
+      new AdaptiveFlusher(
+          scheduler, MAX_DELAY, MAX_BATCH_SIZE, new FlushMetrics("raft-partition-1"), clock::get);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWithoutMeasurements() {
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ZERO);
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldFlushWhenScheduledTaskIsRun() {
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldDelayByMeasuredFlushDuration() {
+    // given
+    measureFlushDuration(Duration.ofMillis(2));
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ofMillis(2));
+  }
+
+  @Test
+  void shouldNotDelayLongerThanMaxDelay() {
+    // given
+    measureFlushDuration(Duration.ofMillis(50));
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(MAX_DELAY);
+  }
+
+  @Test
+  void shouldNotScheduleIfAlreadyScheduled() {
+    // given
+    measureFlushDuration(Duration.ofMillis(2));
+
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+  }
+
+  @Test
+  void shouldGroupSignalsReceivedWhileFlushing() {
+    // given
+    flusher.flush(journal);
+    Mockito.doAnswer(
+            invocation -> {
+              flusher.flush(journal);
+              flusher.flush(journal);
+              assertThat(scheduler.operations).isEmpty();
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenBatchIsFull() {
+    // given
+    measureFlushDuration(Duration.ofMillis(2));
+    flusher.flush(journal);
+    final var delayedFlush = scheduler.operations.get(0);
+
+    // when
+    Mockito.when(journal.getLastIndex()).thenReturn((long) MAX_BATCH_SIZE);
+    flusher.flush(journal);
+
+    // then
+    assertThat(delayedFlush.cancelled).isTrue();
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.get(1).delay).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldCountFirstBatchFromLastFlushedIndexOfJournal() {
+    // given
+    final var metrics = Mockito.mock(FlushMetrics.class);
+    final var reopenedFlusher =
+        new AdaptiveFlusher(scheduler, MAX_DELAY, MAX_BATCH_SIZE, metrics, clock::get);
+    Mockito.when(journal.getLastFlushedIndex()).thenReturn(5_000L);
+    Mockito.when(journal.getLastIndex()).thenReturn(5_010L);
+
+    // when
+    reopenedFlusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(metrics).observeFlush(Mockito.eq(10L), Mockito.anyLong());
+  }
+
+  @Test
+  void shouldRetryAfterMaxDelayOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(MAX_DELAY);
+
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldHoldBackAcknowledgements() {
+    assertThat(flusher.holdsBackAcknowledgements()).isTrue();
+  }
+
+  @Test
+  void shouldRunCallbackOnlyOnceFlushed() {
+    // given
+    final var onFlushed = Mockito.mock(Runnable.class);
+
+    // when
+    flusher.flush(journal, onFlushed);
+
+    // then
+    Mockito.verify(onFlushed, Mockito.never()).run();
+    scheduler.runNext();
+    final var inOrder = Mockito.inOrder(journal, onFlushed);
+    inOrder.verify(journal).flush();
+    inOrder.verify(onFlushed).run();
+  }
+
+  @Test
+  void shouldNotRunCallbackOfSignalReceivedWhileFlushing() {
+    // given
+    final var onFlushed = Mockito.mock(Runnable.class);
+    flusher.flush(journal);
+    Mockito.doAnswer(
+            invocation -> {
+              flusher.flush(journal, onFlushed);
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(onFlushed, Mockito.never()).run();
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    Mockito.verify(onFlushed, Mockito.times(1)).run();
+  }
+
+  @Test
+  void shouldRunCallbackWithNextFlushOnFlushError() {
+    // given
+    final var onFlushed = Mockito.mock(Runnable.class);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal, onFlushed);
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(onFlushed, Mockito.never()).run();
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    Mockito.verify(onFlushed, Mockito.times(1)).run();
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // when
+    flusher.flush(journal);
+    flusher.close();
+
+    // then
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // when
+    flusher.close();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private void measureFlushDuration(final Duration duration) {
+    Mockito.doAnswer(invocation -> clock.addAndGet(duration.toNanos())).when(journal).flush();
+    flusher.flush(journal);
+    scheduler.runNext();
+    Mockito.doNothing().when(journal).flush();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final Duration delay, final Runnable callback) {
+      final var scheduled = new TestScheduled(delay, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("Expected only delayed operations to be scheduled");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
@@ -17,6 +17,7 @@ package io.atomix.raft.storage.log;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.when;
 import io.atomix.cluster.MemberId;
 import io.atomix.raft.cluster.RaftMember.Type;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.metrics.FlushMetrics;
 import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.NoopFlusher;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
@@ -34,13 +36,17 @@ import io.atomix.raft.storage.log.entry.ConfigurationEntry;
 import io.atomix.raft.storage.log.entry.InitialEntry;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Set;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
@@ -304,5 +310,40 @@ class RaftLogTest {
       verify(flusher, times(1)).flush(journal);
       verify(journal, never()).flush();
     }
+
+    @Test
+    void shouldNotAcknowledgeEntriesBeforeTheyAreFlushed() {
+      // given
+      final var journal = mock(Journal.class);
+      final var scheduler = mock(Scheduler.class);
+      final var scheduledFlushes = new ArrayList<Runnable>();
+      when(scheduler.schedule(any(Duration.class), any(Runnable.class)))
+          .thenAnswer(
+              invocation -> {
+                scheduledFlushes.add(invocation.getArgument(1));
+                return mock(Scheduled.class);
+              });
+      final var log =
+          new RaftLog(
+              journal,
+              new AdaptiveFlusher(
+                  scheduler, Duration.ofMillis(10), 100, new FlushMetrics("raft-partition-1")));
+      final var flushListener = mock(Runnable.class);
+      log.setFlushListener(flushListener);
+      when(journal.getLastIndex()).thenReturn(3L);
+
+      // when
+      log.flush();
+
+      // then
+      assertThat(log.getFlushedIndex()).isZero();
+      verify(journal, never()).flush();
+      verify(flushListener, never()).run();
+
+      scheduledFlushes.forEach(Runnable::run);
+      verify(journal, times(1)).flush();
+      assertThat(log.getFlushedIndex()).isEqualTo(3L);
+      verify(flushListener, times(1)).run();
+    }
   }
 }
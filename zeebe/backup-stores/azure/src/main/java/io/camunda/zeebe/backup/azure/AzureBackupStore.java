@@ -18,13 +18,16 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.Manifest;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -46,7 +49,12 @@ public final class AzureBackupStore implements BackupStore {
   public static final String SNAPSHOT_FILESET_NAME = "snapshot";
   public static final String SEGMENTS_FILESET_NAME = "segments";
   private static final Logger LOG = LoggerFactory.getLogger(AzureBackupStore.class);
+
+  /** The files of a backup are uploaded and downloaded by at most this many threads. */
+  private static final int MAX_CONCURRENT_TRANSFERS = 4;
+
   private final ExecutorService executor;
+  private final ExecutorService transferExecutor;
   private final FileSetManager fileSetManager;
   private final ManifestManager manifestManager;
 
@@ -56,10 +64,11 @@ public final class AzureBackupStore implements BackupStore {
 
   public AzureBackupStore(final AzureBackupConfig config, final BlobServiceClient client) {
     executor = Executors.newVirtualThreadPerTaskExecutor();
+    transferExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_TRANSFERS);
     final BlobContainerClient blobContainerClient =
         client.getBlobContainerClient(config.containerName());
 
-    fileSetManager = new FileSetManager(blobContainerClient);
+    fileSetManager = new FileSetManager(blobContainerClient, transferExecutor);
     manifestManager = new ManifestManager(blobContainerClient);
   }
 
@@ -96,10 +105,17 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          // hashes are part of the initial manifest, so that concurrent deletions of other
+          // backups of this partition keep the content this backup is going to reference
+          final var snapshot = ContentAddressedFiles.fileSetOf(backup.snapshot());
+          final var segments = ContentAddressedFiles.segmentsFileSetOf(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(backup, snapshot, segments);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            fileSetManager.saveContent(
+                backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), snapshot);
+            fileSetManager.saveContent(
+                backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), segments);
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest().id(), e.getMessage());
@@ -133,9 +149,24 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+
+          if (manifest != null) {
+            // read before listing, so that content claimed by new backups in between is kept
+            final var contentETags =
+                fileSetManager.contentETags(id.partitionId(), manifest.contentHashes());
+            final var remaining =
+                manifestManager.listManifests(
+                    new BackupIdentifierWildcardImpl(
+                        Optional.empty(), Optional.of(id.partitionId()), Optional.empty()));
+            fileSetManager.deleteContent(
+                id.partitionId(),
+                contentETags,
+                ContentAddressedFiles.unreferencedContent(manifest, remaining));
+          }
         },
         executor);
   }
@@ -189,6 +220,7 @@ public final class AzureBackupStore implements BackupStore {
               LOG.warn("Failed to orderly shutdown Azure Store Executor within one minute.");
               executor.shutdownNow();
             }
+            transferExecutor.shutdownNow();
           } catch (final Exception e) {
             LOG.error("Failed to shutdown of Azure Store Executor.");
             throw new RuntimeException(e);
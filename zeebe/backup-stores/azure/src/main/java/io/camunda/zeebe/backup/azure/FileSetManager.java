@@ -8,52 +8,237 @@
 package io.camunda.zeebe.backup.azure;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.azure.AzureBackupStoreException.BlobAlreadyExists;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
   // The path format is constructed by contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "contents/%s/%s/%s/%s/";
+  // Content addressed files are shared by all backups of a partition: objects/partitionId/hash
+  private static final String CONTENT_PATH_FORMAT = "objects/%s/%s";
+  // Metadata set by each backup which reuses a content addressed file, to change its ETag
+  private static final String REFERENCED_BY_METADATA = "referencedBy";
   private final BlobContainerClient containerClient;
+  private final Executor transferExecutor;
   private boolean containerCreated = false;
 
   FileSetManager(final BlobContainerClient containerClient) {
+    this(containerClient, Runnable::run);
+  }
+
+  /**
+   * @param transferExecutor the bounded executor on which the files of a file set are uploaded
+   *     and downloaded; files are transferred concurrently up to its number of threads. Its tasks
+   *     never wait for each other, but it must not be the executor of the calling thread.
+   */
+  FileSetManager(final BlobContainerClient containerClient, final Executor transferExecutor) {
     this.containerClient = containerClient;
+    this.transferExecutor = transferExecutor;
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
     assureContainerCreated();
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var fileName = namedFile.getKey();
-      final var filePath = namedFile.getValue();
-      final String fileSetPath = fileSetPath(id, fileSetName);
+    final String fileSetPath = fileSetPath(id, fileSetName);
+    final var uploads =
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                namedFile ->
+                    CompletableFuture.runAsync(
+                        () ->
+                            saveFile(fileSetPath + namedFile.getKey(), namedFile.getValue()),
+                        transferExecutor))
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(uploads);
+  }
+
+  private void saveFile(final String blobName, final Path filePath) {
+    final BlobClient blobClient = containerClient.getBlobClient(blobName);
+
+    try {
+      final BinaryData binaryData = BinaryData.fromFile(filePath);
+      blobClient.upload(binaryData, false);
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS) {
+        throw new BlobAlreadyExists("File already exists.", e.getCause());
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Saves the given files by their content hash, as listed in {@code contentAddressed}. Files whose
+   * content was already saved by a previous backup of the same partition are not uploaded again,
+   * but claimed, see {@link ContentAddressedFiles}. Files without content hash are saved under the
+   * path of the backup.
+   */
+  void saveContent(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet contentAddressed) {
+    assureContainerCreated();
+    final String fileSetPath = fileSetPath(id, fileSetName);
+    final var namedFiles = fileSet.namedFiles();
+    final var uploads =
+        contentAddressed.files().stream()
+            .map(
+                file ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          final var filePath = namedFiles.get(file.name());
+                          if (file.contentHash() != null) {
+                            saveContentFile(
+                                id, contentPath(id.partitionId(), file.contentHash()), filePath);
+                          } else {
+                            saveFile(fileSetPath + file.name(), filePath);
+                          }
+                        },
+                        transferExecutor))
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(uploads);
+  }
+
+  private void saveContentFile(
+      final BackupIdentifier id, final String blobName, final Path filePath) {
+    final BlobClient blobClient = containerClient.getBlobClient(blobName);
+    // retry while the content is deleted, claimed or uploaded concurrently
+    while (true) {
+      final String eTag = currentETag(blobClient);
+      if (eTag == null ? uploadContent(blobClient, filePath) : claimContent(id, blobClient, eTag)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return true if uploaded, false if the same content was uploaded concurrently; it must be
+   *     claimed nevertheless, as the backup which uploaded it may be deleted
+   */
+  private boolean uploadContent(final BlobClient blobClient, final Path filePath) {
+    try {
+      blobClient.upload(BinaryData.fromFile(filePath), false);
+      return true;
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Changes the ETag of the existing content, so that deletions which read it before the calling
+   * backup's manifest was written fail to delete it.
+   *
+   * @return true if claimed, false if the content was deleted or changed since it was read
+   */
+  private boolean claimContent(
+      final BackupIdentifier id, final BlobClient blobClient, final String eTag) {
+    try {
+      blobClient.setMetadataWithResponse(
+          Map.of(REFERENCED_BY_METADATA, id.checkpointId() + "-" + id.nodeId()),
+          new BlobRequestConditions().setIfMatch(eTag),
+          null,
+          Context.NONE);
+      return true;
+    } catch (final BlobStorageException e) {
+      if (isDeletedOrChanged(e)) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Reads the current ETags of the content addressed files with the given hashes. Must be called
+   * before listing the manifests which may still reference them, see {@link #deleteContent(int,
+   * Map, Collection)}.
+   *
+   * @return the ETags of the existing content objects by their hash
+   */
+  Map<String, String> contentETags(final int partitionId, final Collection<String> contentHashes) {
+    assureContainerCreated();
+    final Map<String, String> eTags = new HashMap<>();
+    for (final var contentHash : contentHashes) {
+      final var eTag =
+          currentETag(containerClient.getBlobClient(contentPath(partitionId, contentHash)));
+      if (eTag != null) {
+        eTags.put(contentHash, eTag);
+      }
+    }
+    return eTags;
+  }
 
-      final BlobClient blobClient = containerClient.getBlobClient(fileSetPath + fileName);
+  /**
+   * Deletes the content addressed files with the given hashes, unless they changed since their
+   * ETags were read. The caller must ensure that they are not referenced by any remaining backup
+   * anymore.
+   *
+   * @param contentETags the ETags read before listing the remaining backups, see {@link
+   *     #contentETags(int, Collection)}
+   */
+  void deleteContent(
+      final int partitionId,
+      final Map<String, String> contentETags,
+      final Collection<String> contentHashes) {
+    assureContainerCreated();
+    for (final var contentHash : contentHashes) {
+      final var eTag = contentETags.get(contentHash);
+      if (eTag == null) {
+        continue;
+      }
 
       try {
-        final BinaryData binaryData = BinaryData.fromFile(filePath);
-        blobClient.upload(binaryData, false);
+        containerClient
+            .getBlobClient(contentPath(partitionId, contentHash))
+            .deleteWithResponse(
+                null, new BlobRequestConditions().setIfMatch(eTag), null, Context.NONE);
       } catch (final BlobStorageException e) {
-        if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS) {
-          throw new BlobAlreadyExists("File already exists.", e.getCause());
+        // claimed by a new backup in the meantime, which still references it
+        if (!isDeletedOrChanged(e)) {
+          throw e;
         }
-        throw e;
       }
     }
   }
 
+  private static String currentETag(final BlobClient blobClient) {
+    try {
+      return blobClient.getProperties().getETag();
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.BLOB_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isDeletedOrChanged(final BlobStorageException e) {
+    return e.getErrorCode() == BlobErrorCode.BLOB_NOT_FOUND
+        || e.getErrorCode() == BlobErrorCode.CONDITION_NOT_MET;
+  }
+
   public void delete(final BackupIdentifier id, final String fileSetName) {
     assureContainerCreated();
     final ListBlobsOptions options = new ListBlobsOptions().setPrefix(fileSetPath(id, fileSetName));
@@ -74,20 +259,48 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-
-      final BlockBlobClient blobClient =
-          containerClient
-              .getBlobClient(fileSetPath(id, fileSetName) + fileName)
-              .getBlockBlobClient();
-      blobClient.downloadToFile(String.valueOf(filePath), true);
-    }
+    final String fileSetPath = fileSetPath(id, fileSetName);
+    final Map<String, String> contentHashByName = new HashMap<>();
+    fileSet.files().forEach(file -> contentHashByName.put(file.name(), file.contentHash()));
+    final var downloads =
+        pathByName.entrySet().stream()
+            .map(
+                entry ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          // files of backups taken before content addressing are stored per backup
+                          final var contentHash = contentHashByName.get(entry.getKey());
+                          final BlockBlobClient blobClient =
+                              containerClient
+                                  .getBlobClient(
+                                      contentHash != null
+                                          ? contentPath(id.partitionId(), contentHash)
+                                          : fileSetPath + entry.getKey())
+                                  .getBlockBlobClient();
+                          blobClient.downloadToFile(String.valueOf(entry.getValue()), true);
+                        },
+                        transferExecutor))
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(downloads);
 
     return new NamedFileSetImpl(pathByName);
   }
 
+  /**
+   * Waits until all given transfers are done. If any transfer failed, its error is rethrown as is,
+   * such that callers see the same exceptions as with sequential transfers.
+   */
+  private static void awaitTransfers(final CompletableFuture<?>[] transfers) {
+    try {
+      CompletableFuture.allOf(transfers).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
   void assureContainerCreated() {
     if (!containerCreated) {
       containerClient.createIfNotExists();
@@ -98,4 +311,8 @@ final class FileSetManager {
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
+
+  private String contentPath(final int partitionId, final String contentHash) {
+    return CONTENT_PATH_FORMAT.formatted(partitionId, contentHash);
+  }
 }
@@ -31,6 +31,7 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.backup.common.Manifest.StatusCode;
@@ -74,8 +75,13 @@ public final class ManifestManager {
   }
 
   PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(
+        backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
 
-    final var manifest = Manifest.createInProgress(backup);
+  PersistedManifest createInitialManifest(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
+    final var manifest = Manifest.createInProgress(backup, snapshot, segments);
     final byte[] serializedManifest;
     assureContainerCreated();
     try {
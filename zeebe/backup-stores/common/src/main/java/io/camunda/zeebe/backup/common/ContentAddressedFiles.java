@@ -0,0 +1,258 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Backup stores can store files by the hash of their content instead of under the path of the
+ * backup they belong to. Consecutive backups of the same partition share most of their files, e.g.
+ * unchanged RocksDB SST files and already backed up journal segments, so each content object only
+ * has to be uploaded once and is referenced by the {@link FileSet FileSets} of every {@link
+ * Manifest} containing it.
+ *
+ * <p>Only sealed files are stored by content, as the content of a file which is still written to
+ * may change between hashing and uploading it. Snapshot files never change, but the newest journal
+ * segments are still appended to, see {@link #segmentsFileSetOf(NamedFileSet)}. Files which are
+ * not sealed have no content hash and are stored under the path of their backup.
+ *
+ * <p>Content objects are shared between backups, so they must only be deleted once no manifest
+ * references them anymore, see {@link #unreferencedContent(Manifest, Collection)}. Stores compute
+ * the hashes before writing the initial manifest, such that in progress backups are already taken
+ * into account when another backup of the same partition is deleted.
+ *
+ * <p>A deletion may still have listed the manifests before the initial manifest of a new backup was
+ * written, and then remove content which the new backup skipped because it already existed. To
+ * make reusing and deleting content mutually exclusive, stores rely on the versions of the content
+ * objects:
+ *
+ * <ul>
+ *   <li>a backup claims existing content after writing its initial manifest, by updating the
+ *       object's metadata on the condition that its version did not change since it was read; if
+ *       the object was deleted in the meantime, it is uploaded again
+ *   <li>a deletion reads the versions of the content objects before listing the manifests, and
+ *       only deletes each object on the condition that its version is still the same
+ * </ul>
+ *
+ * A deletion which did not see the manifest of a new backup therefore either deletes the content
+ * before the backup claims it, or fails to delete it because the backup claimed it first.
+ */
+public final class ContentAddressedFiles {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The newest segment is appended to, and the journal may already have created the next segment,
+   * which it writes to next.
+   */
+  private static final int UNSEALED_SEGMENTS = 2;
+
+  private static final Pattern SEGMENT_FILE_NAME = Pattern.compile(".+-(\\d+)\\.log");
+
+  /**
+   * Files modified this shortly before they were hashed may be modified again without changing
+   * their size and modification time, which is only as precise as the timestamps of the file
+   * system. Their hashes are not cached.
+   */
+  private static final Duration MODIFICATION_TIME_PRECISION = Duration.ofSeconds(2);
+
+  private static final int MAX_CACHED_HASHES = 10_000;
+
+  /**
+   * Hashes of files which were hashed before, e.g. unchanged SST files and segments already part
+   * of the previous backup, so that they don't have to be read again.
+   */
+  private static final Map<FileVersion, String> HASH_CACHE =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<FileVersion, String> eldest) {
+              return size() > MAX_CACHED_HASHES;
+            }
+          });
+
+  private ContentAddressedFiles() {}
+
+  /**
+   * @param fileSet named files which are sealed, e.g. the files of a snapshot
+   * @return the file set of the given named files, with the content hash of each file
+   * @throws UncheckedIOException if any of the files cannot be read
+   */
+  public static FileSet fileSetOf(final NamedFileSet fileSet) {
+    return fileSetOf(fileSet, name -> true);
+  }
+
+  /**
+   * Returns the file set of the given journal segments, with the content hash of each sealed
+   * segment. The {@value #UNSEALED_SEGMENTS} segments with the highest ids may still be written to,
+   * as well as files which are not named like segments; they have no content hash.
+   *
+   * @throws UncheckedIOException if any of the sealed segments cannot be read
+   */
+  public static FileSet segmentsFileSetOf(final NamedFileSet segments) {
+    if (segments == null) {
+      return new FileSet(List.of());
+    }
+
+    final Set<Long> unsealedIds =
+        segments.namedFiles().keySet().stream()
+            .map(ContentAddressedFiles::segmentId)
+            .filter(id -> id >= 0)
+            .sorted(Comparator.reverseOrder())
+            .limit(UNSEALED_SEGMENTS)
+            .collect(Collectors.toSet());
+    return fileSetOf(
+        segments,
+        name -> {
+          final long id = segmentId(name);
+          return id >= 0 && !unsealedIds.contains(id);
+        });
+  }
+
+  private static FileSet fileSetOf(final NamedFileSet fileSet, final Predicate<String> isSealed) {
+    if (fileSet == null) {
+      return new FileSet(List.of());
+    }
+
+    final List<NamedFile> files =
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                file ->
+                    isSealed.test(file.getKey())
+                        ? new NamedFile(file.getKey(), contentHash(file.getValue()))
+                        : new NamedFile(file.getKey()))
+            .toList();
+    return new FileSet(files);
+  }
+
+  private static long segmentId(final String fileName) {
+    final var matcher = SEGMENT_FILE_NAME.matcher(fileName);
+    if (!matcher.matches()) {
+      return -1;
+    }
+
+    try {
+      return Long.parseLong(matcher.group(1));
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Returns the hex encoded SHA-256 hash of the file's content. The file is only read if its
+   * size, modification time or identity changed since it was last hashed.
+   *
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  public static String contentHash(final Path file) {
+    final var hashingStarted = Instant.now();
+    final FileVersion version;
+    try {
+      version = FileVersion.of(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Expected to compute content hash of file '%s', but failed to read its attributes"
+              .formatted(file),
+          e);
+    }
+
+    final var cachedHash = HASH_CACHE.get(version);
+    if (cachedHash != null) {
+      return cachedHash;
+    }
+
+    final var hash = computeHash(file);
+    if (version.lastModified().isBefore(hashingStarted.minus(MODIFICATION_TIME_PRECISION))) {
+      HASH_CACHE.put(version, hash);
+    }
+    return hash;
+  }
+
+  /**
+   * Returns the content hashes which are referenced by the deleted manifest, but by none of the
+   * remaining ones. The corresponding content objects can be deleted together with the manifest.
+   *
+   * @param deleted the manifest of the backup which is deleted
+   * @param remaining the manifests of all other backups which may share content with the deleted
+   *     one, in any state
+   */
+  public static Set<String> unreferencedContent(
+      final Manifest deleted, final Collection<Manifest> remaining) {
+    final Set<String> stillReferenced =
+        remaining.stream()
+            .filter(manifest -> !manifest.id().equals(deleted.id()))
+            .flatMap(manifest -> manifest.contentHashes().stream())
+            .collect(Collectors.toSet());
+
+    return deleted.contentHashes().stream()
+        .filter(hash -> !stillReferenced.contains(hash))
+        .collect(Collectors.toSet());
+  }
+
+  private static String computeHash(final Path file) {
+    final MessageDigest digest = newDigest();
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    try (final InputStream input = Files.newInputStream(file)) {
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Expected to compute content hash of file '%s', but failed to read it".formatted(file),
+          e);
+    }
+
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every JVM is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Identifies a version of a file. Hard links share the same file key, e.g. SST files which are
+   * part of consecutive snapshots; if the file system has no file keys, the path is used instead.
+   */
+  private record FileVersion(Object fileKey, long size, Instant lastModified) {
+    private static FileVersion of(final Path file) throws IOException {
+      final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      final Object fileKey =
+          attributes.fileKey() != null ? attributes.fileKey() : file.toAbsolutePath();
+      return new FileVersion(fileKey, attributes.size(), attributes.lastModifiedTime().toInstant());
+    }
+  }
+}
@@ -7,12 +7,19 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-/** FileSet use in Manifest serialization, in order to list all stored files. */
+/**
+ * FileSet use in Manifest serialization, in order to list all stored files. Unknown properties are
+ * ignored, so that manifests written by newer versions can still be read.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record FileSet(List<NamedFile> files) {
 
   public static final String ERROR_MSG_UNIQUE_FILES =
@@ -43,9 +50,30 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * @return the content hashes of all content addressed files in this set
+   */
+  public Set<String> contentHashes() {
+    return files.stream()
+        .map(NamedFile::contentHash)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param name the name of the file within its file set
+   * @param contentHash the hash of the file's content if the file is stored by content, see {@link
+   *     ContentAddressedFiles}; null if the file is stored under the path of its backup
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public record NamedFile(String name, String contentHash) {
+    @JsonCreator
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
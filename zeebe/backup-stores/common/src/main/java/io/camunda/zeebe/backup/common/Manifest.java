@@ -15,19 +15,29 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 @JsonSerialize(as = ManifestImpl.class)
 @JsonDeserialize(as = ManifestImpl.class)
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
+
+  /**
+   * Creates an in progress manifest with the given file sets, e.g. with content hashes computed via
+   * {@link ContentAddressedFiles#fileSetOf(io.camunda.zeebe.backup.api.NamedFileSet)}.
+   */
+  static InProgressManifest createInProgress(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
-        FileSet.of(backup.segments()),
+        snapshot,
+        segments,
         creationTime,
         creationTime);
   }
@@ -60,6 +70,12 @@ public sealed interface Manifest {
 
   FailedManifest asFailed();
 
+  /**
+   * @return the hashes of all content addressed files referenced by this manifest, regardless of
+   *     its state
+   */
+  Set<String> contentHashes();
+
   static BackupStatus toStatus(final Manifest manifest) {
     return switch (manifest.statusCode()) {
       case IN_PROGRESS ->
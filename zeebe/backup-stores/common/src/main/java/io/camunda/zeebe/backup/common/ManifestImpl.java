@@ -11,10 +11,14 @@ import static io.camunda.zeebe.backup.common.Manifest.StatusCode.COMPLETED;
 import static io.camunda.zeebe.backup.common.Manifest.StatusCode.FAILED;
 import static io.camunda.zeebe.backup.common.Manifest.StatusCode.IN_PROGRESS;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.camunda.zeebe.backup.common.BackupStoreException.InvalidPersistedManifestState;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record ManifestImpl(
     BackupIdentifierImpl id,
     BackupDescriptorImpl descriptor,
@@ -59,6 +63,18 @@ public record ManifestImpl(
         id, descriptor, FAILED, snapshot, segments, createdAt, Instant.now(), failureReason);
   }
 
+  @Override
+  public Set<String> contentHashes() {
+    final var hashes = new HashSet<String>();
+    if (snapshot != null) {
+      hashes.addAll(snapshot.contentHashes());
+    }
+    if (segments != null) {
+      hashes.addAll(segments.contentHashes());
+    }
+    return hashes;
+  }
+
   @Override
   public InProgressManifest asInProgress() {
     if (statusCode != IN_PROGRESS) {
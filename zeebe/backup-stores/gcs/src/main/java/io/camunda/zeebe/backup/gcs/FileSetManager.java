@@ -7,19 +7,30 @@
  */
 package io.camunda.zeebe.backup.gcs;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -37,25 +48,203 @@ final class FileSetManager {
    */
   private static final String PATH_FORMAT = "%scontents/%s/%s/%s/%s/";
 
+  /**
+   * Content addressed files are shared between all backups of a partition, see {@link
+   * io.camunda.zeebe.backup.common.ContentAddressedFiles}. The path format consists of the
+   * following elements:
+   *
+   * <ul>
+   *   <li>{@code basePath}
+   *   <li>{@code "objects"}
+   *   <li>{@code partitionId}
+   *   <li>{@code contentHash}
+   * </ul>
+   */
+  private static final String CONTENT_PATH_FORMAT = "%sobjects/%s/%s";
+
+  /** Metadata set by each backup which reuses a content addressed file, to change its version. */
+  private static final String REFERENCED_BY_METADATA = "referencedBy";
+
+  private static final int NOT_FOUND = 404;
+  private static final int PRECONDITION_FAILED = 412;
+
   private final Storage client;
   private final BucketInfo bucketInfo;
   private final String basePath;
+  private final Executor transferExecutor;
 
   FileSetManager(final Storage client, final BucketInfo bucketInfo, final String basePath) {
+    this(client, bucketInfo, basePath, Runnable::run);
+  }
+
+  /**
+   * @param transferExecutor the bounded executor on which the files of a file set are uploaded
+   *     and downloaded; files are transferred concurrently up to its number of threads. Its tasks
+   *     never wait for each other, but it must not be the executor of the calling thread.
+   */
+  FileSetManager(
+      final Storage client,
+      final BucketInfo bucketInfo,
+      final String basePath,
+      final Executor transferExecutor) {
     this.client = client;
     this.bucketInfo = bucketInfo;
     this.basePath = basePath;
+    this.transferExecutor = transferExecutor;
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var fileName = namedFile.getKey();
-      final var filePath = namedFile.getValue();
+    final var uploads =
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                namedFile ->
+                    CompletableFuture.runAsync(
+                        () -> saveFile(id, fileSetName, namedFile.getKey(), namedFile.getValue()),
+                        transferExecutor))
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(uploads);
+  }
+
+  private void saveFile(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final String fileName,
+      final Path filePath) {
+    try {
+      client.createFrom(
+          blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Saves the given files by their content hash, as listed in {@code contentAddressed}. Files whose
+   * content was already saved by a previous backup of the same partition are not uploaded again,
+   * but claimed, see {@link ContentAddressedFiles}. Files without content hash are saved under the
+   * path of the backup.
+   */
+  void saveContent(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet contentAddressed) {
+    final var namedFiles = fileSet.namedFiles();
+    final var uploads =
+        contentAddressed.files().stream()
+            .map(
+                file ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          final var path = namedFiles.get(file.name());
+                          if (file.contentHash() != null) {
+                            saveContentFile(id, file.contentHash(), path);
+                          } else {
+                            saveFile(id, fileSetName, file.name(), path);
+                          }
+                        },
+                        transferExecutor))
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(uploads);
+  }
+
+  private void saveContentFile(
+      final BackupIdentifier id, final String contentHash, final Path path) {
+    final var blobInfo = contentBlobInfo(id.partitionId(), contentHash);
+    // retry while the content is deleted, claimed or uploaded concurrently
+    while (true) {
+      final var existing = client.get(blobInfo.getBlobId());
+      if (existing == null ? uploadContent(blobInfo, path) : claimContent(id, existing)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return true if uploaded, false if the same content was uploaded concurrently; it must be
+   *     claimed nevertheless, as the backup which uploaded it may be deleted
+   */
+  private boolean uploadContent(final BlobInfo blobInfo, final Path path) {
+    try {
+      client.createFrom(blobInfo, path, BlobWriteOption.doesNotExist());
+      return true;
+    } catch (final StorageException e) {
+      if (e.getCode() == PRECONDITION_FAILED) {
+        return false;
+      }
+      throw e;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Changes the metageneration of the existing content, so that deletions which read it before
+   * the calling backup's manifest was written fail to delete it.
+   *
+   * @return true if claimed, false if the content was deleted or changed since it was read
+   */
+  private boolean claimContent(final BackupIdentifier id, final Blob existing) {
+    try {
+      client.update(
+          BlobInfo.newBuilder(existing.getBlobId())
+              .setMetadata(Map.of(REFERENCED_BY_METADATA, id.checkpointId() + "-" + id.nodeId()))
+              .build(),
+          BlobTargetOption.generationMatch(existing.getGeneration()),
+          BlobTargetOption.metagenerationMatch(existing.getMetageneration()));
+      return true;
+    } catch (final StorageException e) {
+      if (e.getCode() == NOT_FOUND || e.getCode() == PRECONDITION_FAILED) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Reads the current versions of the content addressed files with the given hashes. Must be
+   * called before listing the manifests which may still reference them, see {@link
+   * #deleteContent(Map, Collection)}.
+   *
+   * @return the existing content objects by their hash
+   */
+  Map<String, Blob> contentVersions(final int partitionId, final Collection<String> contentHashes) {
+    final Map<String, Blob> versions = new HashMap<>();
+    for (final var contentHash : contentHashes) {
+      final var blob = client.get(contentBlobInfo(partitionId, contentHash).getBlobId());
+      if (blob != null) {
+        versions.put(contentHash, blob);
+      }
+    }
+    return versions;
+  }
+
+  /**
+   * Deletes the content addressed files with the given hashes, unless they changed since their
+   * versions were read. The caller must ensure that they are not referenced by any remaining
+   * backup anymore.
+   *
+   * @param contentVersions the versions read before listing the remaining backups, see {@link
+   *     #contentVersions(int, Collection)}
+   */
+  void deleteContent(
+      final Map<String, Blob> contentVersions, final Collection<String> contentHashes) {
+    for (final var contentHash : contentHashes) {
+      final var version = contentVersions.get(contentHash);
+      if (version == null) {
+        continue;
+      }
+
       try {
-        client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+        client.delete(
+            version.getBlobId(),
+            BlobSourceOption.generationMatch(version.getGeneration()),
+            BlobSourceOption.metagenerationMatch(version.getMetageneration()));
+      } catch (final StorageException e) {
+        // claimed by a new backup in the meantime, which still references it
+        if (e.getCode() != PRECONDITION_FAILED) {
+          throw e;
+        }
       }
     }
   }
@@ -78,20 +267,52 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
-    }
+    final var downloads =
+        fileSet.files().stream()
+            .map(
+                file -> {
+                  // files of backups taken before content addressing are stored per backup
+                  final var source =
+                      file.contentHash() != null
+                          ? contentBlobInfo(id.partitionId(), file.contentHash())
+                          : blobInfo(id, filesetName, file.name());
+                  return CompletableFuture.runAsync(
+                      () -> client.downloadTo(source.getBlobId(), pathByName.get(file.name())),
+                      transferExecutor);
+                })
+            .toArray(CompletableFuture[]::new);
+    awaitTransfers(downloads);
 
     return new NamedFileSetImpl(pathByName);
   }
 
+  /**
+   * Waits until all given transfers are done. If any transfer failed, its error is rethrown as is,
+   * such that callers see the same exceptions as with sequential transfers.
+   */
+  private static void awaitTransfers(final CompletableFuture<?>[] transfers) {
+    try {
+      CompletableFuture.allOf(transfers).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
   }
 
+  private BlobInfo contentBlobInfo(final int partitionId, final String contentHash) {
+    return BlobInfo.newBuilder(
+            bucketInfo, CONTENT_PATH_FORMAT.formatted(basePath, partitionId, contentHash))
+        .setContentType("application/octet-stream")
+        .build();
+  }
+
   private BlobInfo blobInfo(
       final BackupIdentifier id, final String fileSetName, final String fileName) {
     return BlobInfo.newBuilder(bucketInfo, fileSetPath(id, fileSetName) + fileName)
@@ -17,8 +17,10 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException.CouldNotAccessBucketException;
 import java.nio.file.Path;
@@ -37,7 +39,12 @@ public final class GcsBackupStore implements BackupStore {
   public static final String ERROR_MSG_ACCESS_FAILED = "Expected to access bucket '%s', but failed";
   public static final String SNAPSHOT_FILESET_NAME = "snapshot";
   public static final String SEGMENTS_FILESET_NAME = "segments";
+
+  /** The files of a backup are uploaded and downloaded by at most this many threads. */
+  private static final int MAX_CONCURRENT_TRANSFERS = 4;
+
   private final ExecutorService executor;
+  private final ExecutorService transferExecutor;
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
   private final Storage client;
@@ -51,18 +58,27 @@ public final class GcsBackupStore implements BackupStore {
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
     executor = Executors.newWorkStealingPool(4);
+    // separate from the executor above, whose tasks block until the transfers are done
+    transferExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_TRANSFERS);
     manifestManager = new ManifestManager(client, bucketInfo, basePath);
-    fileSetManager = new FileSetManager(client, bucketInfo, basePath);
+    fileSetManager = new FileSetManager(client, bucketInfo, basePath, transferExecutor);
   }
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          // hashes are part of the initial manifest, so that concurrent deletions of other
+          // backups of this partition keep the content this backup is going to reference
+          final var snapshot = ContentAddressedFiles.fileSetOf(backup.snapshot());
+          final var segments = ContentAddressedFiles.segmentsFileSetOf(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(backup, snapshot, segments);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            fileSetManager.saveContent(
+                backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), snapshot);
+            fileSetManager.saveContent(
+                backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), segments);
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
@@ -96,9 +112,22 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+
+          if (manifest != null) {
+            // read before listing, so that content claimed by new backups in between is kept
+            final var contentVersions =
+                fileSetManager.contentVersions(id.partitionId(), manifest.contentHashes());
+            final var remaining =
+                manifestManager.listManifests(
+                    new BackupIdentifierWildcardImpl(
+                        Optional.empty(), Optional.of(id.partitionId()), Optional.empty()));
+            fileSetManager.deleteContent(
+                contentVersions, ContentAddressedFiles.unreferencedContent(manifest, remaining));
+          }
         },
         executor);
   }
@@ -151,6 +180,7 @@ public final class GcsBackupStore implements BackupStore {
             if (!closed) {
               executor.shutdownNow();
             }
+            transferExecutor.shutdownNow();
             client.close();
           } catch (final Exception e) {
             throw new RuntimeException(e);
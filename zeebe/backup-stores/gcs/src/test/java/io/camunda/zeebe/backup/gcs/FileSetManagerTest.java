@@ -12,8 +12,12 @@ import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.FileSet;
@@ -159,4 +163,129 @@ final class FileSetManagerTest {
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
+
+  @Test
+  void shouldNotUploadContentWhichIsAlreadyStored() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var namedFileSet =
+        new NamedFileSetImpl(
+            Map.of(
+                "stored", Path.of("file1"), "new", Path.of("file2"), "unsealed", Path.of("file3")));
+    final var contentAddressed =
+        new FileSet(
+            List.of(
+                new NamedFile("stored", "hash1"),
+                new NamedFile("new", "hash2"),
+                new NamedFile("unsealed")));
+    final var stored = storedContent("basePathobjects/2/hash1");
+    when(mockClient.get(stored.getBlobId())).thenReturn(stored);
+
+    // when
+    manager.saveContent(backupIdentifier, "filesetName", namedFileSet, contentAddressed);
+
+    // then
+    verify(mockClient, never()).createFrom(any(), eq(Path.of("file1")), any());
+    verify(mockClient)
+        .update(
+            argThat(info -> info.getName().equals("basePathobjects/2/hash1")),
+            any(BlobTargetOption.class),
+            any(BlobTargetOption.class));
+    verify(mockClient)
+        .createFrom(
+            argThat(info -> info.getName().equals("basePathobjects/2/hash2")),
+            eq(Path.of("file2")),
+            any());
+    verify(mockClient)
+        .createFrom(
+            argThat(info -> info.getName().equals("basePathcontents/2/3/1/filesetName/unsealed")),
+            eq(Path.of("file3")),
+            any());
+  }
+
+  @Test
+  void shouldUploadContentAgainWhenDeletedBeforeClaimed() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var stored = storedContent("basePathobjects/2/hash1");
+    when(mockClient.get(stored.getBlobId())).thenReturn(stored).thenReturn(null);
+    when(mockClient.update(
+            any(BlobInfo.class), any(BlobTargetOption.class), any(BlobTargetOption.class)))
+        .thenThrow(new StorageException(404, "deleted"));
+
+    // when
+    manager.saveContent(
+        backupIdentifier,
+        "filesetName",
+        new NamedFileSetImpl(Map.of("stored", Path.of("file1"))),
+        new FileSet(List.of(new NamedFile("stored", "hash1"))));
+
+    // then
+    verify(mockClient)
+        .createFrom(
+            argThat(info -> info.getName().equals("basePathobjects/2/hash1")),
+            eq(Path.of("file1")),
+            any());
+  }
+
+  @Test
+  void shouldKeepContentWhichChangedSinceItsVersionWasRead() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var claimed = storedContent("basePathobjects/2/claimed");
+    final var unclaimed = storedContent("basePathobjects/2/unclaimed");
+    when(mockClient.get(claimed.getBlobId())).thenReturn(claimed);
+    when(mockClient.get(unclaimed.getBlobId())).thenReturn(unclaimed);
+    when(mockClient.delete(
+            eq(claimed.getBlobId()), any(BlobSourceOption.class), any(BlobSourceOption.class)))
+        .thenThrow(new StorageException(412, "claimed"));
+    final var versions = manager.contentVersions(2, List.of("claimed", "unclaimed", "missing"));
+
+    // when
+    manager.deleteContent(versions, List.of("claimed", "unclaimed", "missing"));
+
+    // then
+    Assertions.assertThat(versions).containsOnlyKeys("claimed", "unclaimed");
+    verify(mockClient)
+        .delete(
+            eq(unclaimed.getBlobId()),
+            any(BlobSourceOption.class),
+            any(BlobSourceOption.class));
+  }
+
+  @Test
+  void shouldRestoreContentAddressedFileSet() {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var fileSet =
+        new FileSet(List.of(new NamedFile("snapshotFile", "hash1"), new NamedFile("legacyFile")));
+    final Path restorePath = Path.of("restorePath");
+
+    // when
+    manager.restore(backupIdentifier, "filesetName", fileSet, restorePath);
+
+    // then
+    verify(mockClient)
+        .downloadTo(
+            BlobId.of("bucket", "basePathobjects/2/hash1"), Path.of("restorePath/snapshotFile"));
+    verify(mockClient)
+        .downloadTo(
+            BlobId.of("bucket", "basePathcontents/2/3/1/filesetName/legacyFile"),
+            Path.of("restorePath/legacyFile"));
+  }
+
+  private static Blob storedContent(final String name) {
+    final var blob = mock(Blob.class);
+    when(blob.getBlobId()).thenReturn(BlobId.of("bucket", name));
+    when(blob.getGeneration()).thenReturn(1L);
+    when(blob.getMetageneration()).thenReturn(1L);
+    return blob;
+  }
 }
@@ -31,6 +31,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Testcontainers
 public class GcsBucketIT {
 
+  private static final String EMPTY_CONTENT_HASH =
+      "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
   @Container private static final GcsContainer GCS = new GcsContainer();
   private String bucketName;
   private GcsBackupStore store;
@@ -87,13 +90,11 @@ public class GcsBucketIT {
     blobList.iterateAll().forEach(blobs::add);
 
     Assertions.assertThat(blobs).isNotEmpty();
+    // all files are empty, so they share a single content object
     Assertions.assertThat(blobs)
         .extracting(Blob::getName)
         .containsExactlyInAnyOrder(
-            "contents/2/3/1/segments/segmentFile1",
-            "contents/2/3/1/snapshot/snapshotFile1",
-            "contents/2/3/1/snapshot/snapshotFile2",
-            "manifests/2/3/1/manifest.json");
+            "objects/2/" + EMPTY_CONTENT_HASH, "manifests/2/3/1/manifest.json");
   }
 
   @Test
@@ -134,12 +135,10 @@ public class GcsBucketIT {
     blobList.iterateAll().forEach(blobs::add);
 
     Assertions.assertThat(blobs).isNotEmpty();
+    // all files are empty, so they share a single content object
     Assertions.assertThat(blobs)
         .extracting(Blob::getName)
         .containsExactlyInAnyOrder(
-            "root/contents/2/3/1/segments/segmentFile1",
-            "root/contents/2/3/1/snapshot/snapshotFile1",
-            "root/contents/2/3/1/snapshot/snapshotFile2",
-            "root/manifests/2/3/1/manifest.json");
+            "root/objects/2/" + EMPTY_CONTENT_HASH, "root/manifests/2/3/1/manifest.json");
   }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.gcs.manifest;
+
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFiles;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ContentAddressedFilesTest {
+
+  @Test
+  void shouldComputeSameHashForSameContent(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var file1 = Files.writeString(tempDir.resolve("file1"), "content");
+    final var file2 = Files.writeString(tempDir.resolve("file2"), "content");
+    final var file3 = Files.writeString(tempDir.resolve("file3"), "other content");
+
+    // when
+    final var fileSet =
+        ContentAddressedFiles.fileSetOf(
+            new NamedFileSetImpl(Map.of("file1", file1, "file2", file2, "file3", file3)));
+
+    // then
+    final var hashByName =
+        fileSet.files().stream()
+            .collect(Collectors.toMap(NamedFile::name, NamedFile::contentHash));
+    Assertions.assertThat(hashByName.get("file1")).isEqualTo(hashByName.get("file2"));
+    Assertions.assertThat(hashByName.get("file1")).isNotEqualTo(hashByName.get("file3"));
+    Assertions.assertThat(fileSet.contentHashes()).hasSize(2);
+  }
+
+  @Test
+  void shouldComputeHashOfModifiedFileAgain(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var file = Files.writeString(tempDir.resolve("file"), "content");
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+    final var hash = ContentAddressedFiles.contentHash(file);
+
+    // when
+    Files.writeString(file, "modified content");
+    final var modifiedHash = ContentAddressedFiles.contentHash(file);
+
+    // then
+    Assertions.assertThat(modifiedHash).isNotEqualTo(hash);
+    Assertions.assertThat(ContentAddressedFiles.contentHash(file)).isEqualTo(modifiedHash);
+  }
+
+  @Test
+  void shouldNotHashNewestSegments(@TempDir final Path tempDir) throws IOException {
+    // given
+    final var segments =
+        new NamedFileSetImpl(
+            Map.of(
+                "journal-9.log", Files.writeString(tempDir.resolve("journal-9.log"), "sealed"),
+                "journal-10.log", Files.writeString(tempDir.resolve("journal-10.log"), "active"),
+                "journal-11.log", Files.writeString(tempDir.resolve("journal-11.log"), "next")));
+
+    // when
+    final var fileSet = ContentAddressedFiles.segmentsFileSetOf(segments);
+
+    // then
+    final var hashByName = new HashMap<String, String>();
+    fileSet.files().forEach(file -> hashByName.put(file.name(), file.contentHash()));
+    Assertions.assertThat(hashByName.get("journal-9.log")).isNotNull();
+    Assertions.assertThat(hashByName)
+        .containsEntry("journal-10.log", null)
+        .containsEntry("journal-11.log", null);
+  }
+
+  @Test
+  void shouldNotHashFilesWhichAreNotNamedLikeSegments(@TempDir final Path tempDir)
+      throws IOException {
+    // given
+    final var segments =
+        new NamedFileSetImpl(
+            Map.of("unknown", Files.writeString(tempDir.resolve("unknown"), "content")));
+
+    // when
+    final var fileSet = ContentAddressedFiles.segmentsFileSetOf(segments);
+
+    // then
+    Assertions.assertThat(fileSet.contentHashes()).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyReportContentWhichIsNoLongerReferenced() {
+    // given
+    final var deleted = manifest(1, "shared", "deletedOnly");
+    final var remaining = List.of(manifest(2, "shared", "remainingOnly"));
+
+    // when
+    final var unreferenced = ContentAddressedFiles.unreferencedContent(deleted, remaining);
+
+    // then
+    Assertions.assertThat(unreferenced).containsExactly("deletedOnly");
+  }
+
+  @Test
+  void shouldIgnoreDeletedManifestAmongRemainingManifests() {
+    // given
+    final var deleted = manifest(1, "hash");
+
+    // when
+    final var unreferenced = ContentAddressedFiles.unreferencedContent(deleted, List.of(deleted));
+
+    // then
+    Assertions.assertThat(unreferenced).containsExactly("hash");
+  }
+
+  @Test
+  void shouldNotReportContentOfLegacyManifests() {
+    // given
+    final var legacy = manifest(1, new FileSet(List.of(new NamedFile("legacyFile"))));
+
+    // when
+    final var unreferenced = ContentAddressedFiles.unreferencedContent(legacy, List.of());
+
+    // then
+    Assertions.assertThat(unreferenced).isEmpty();
+  }
+
+  private static Manifest manifest(final long checkpointId, final String... contentHashes) {
+    return manifest(
+        checkpointId,
+        new FileSet(
+            Stream.of(contentHashes).map(hash -> new NamedFile("file-" + hash, hash)).toList()));
+  }
+
+  private static Manifest manifest(final long checkpointId, final FileSet snapshot) {
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, checkpointId),
+            new BackupDescriptorImpl(Optional.empty(), 1, 1, "version"),
+            new NamedFileSetImpl(Map.of()),
+            new NamedFileSetImpl(Map.of()));
+    return Manifest.createInProgress(backup, snapshot, new FileSet(List.of()));
+  }
+}
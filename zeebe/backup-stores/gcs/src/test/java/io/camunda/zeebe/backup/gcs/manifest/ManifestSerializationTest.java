@@ -344,4 +344,29 @@ final class ManifestSerializationTest {
     final JsonNode expectedJson = MAPPER.readTree(expectedJsonString);
     assertThat(actualJson).isEqualTo(expectedJson);
   }
+
+  @Test
+  void shouldIgnoreUnknownProperties() throws JsonProcessingException {
+    // given - a manifest written by a newer version
+    final var json =
+        """
+        {
+          "id": { "nodeId": 1, "partitionId": 2, "checkpointId": 43 },
+          "descriptor": { "checkpointPosition": 2345234, "numberOfPartitions": 3, "brokerVersion": "1.2.0-SNAPSHOT"},
+          "statusCode": "IN_PROGRESS",
+          "snapshot": { "files": [ { "name": "snapshotFile1", "contentHash": "hash", "unknown": 1 } ] },
+          "segments": { "files": [], "unknown": true },
+          "createdAt": "2023-03-14T10:45:08+00:00",
+          "modifiedAt": "2023-03-14T10:45:08+00:00",
+          "unknown": "value"
+        }
+        """;
+
+    // when
+    final var manifest = MAPPER.readValue(json, Manifest.class);
+
+    // then
+    assertThat(manifest.contentHashes()).containsExactly("hash");
+    assertThat(manifest.statusCode()).isEqualTo(IN_PROGRESS);
+  }
 }
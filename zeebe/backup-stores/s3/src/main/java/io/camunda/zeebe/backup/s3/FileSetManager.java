@@ -16,19 +16,21 @@ import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -37,13 +39,21 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 final class FileSetManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
-  private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  private static final int MULTIPART_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
+
+  /**
+   * Parts of all multipart uploads are buffered in a shared pool of this many buffers of {@link
+   * MultipartUploadOutputStream#PART_SIZE}, i.e. 64 MiB. Buffers are reused, as each of them would
+   * otherwise be a humongous allocation.
+   */
+  private static final int MAX_BUFFERED_PARTS = 8;
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
   private final Semaphore uploadLimit;
+  private final ExecutorService transferExecutor;
+  private final PartBufferPool bufferPool =
+      new PartBufferPool(MAX_BUFFERED_PARTS, MultipartUploadOutputStream.PART_SIZE);
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
@@ -53,7 +63,17 @@ final class FileSetManager {
     // concurrent uploads to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
     // where we would otherwise occupy all connections, preventing some uploads from starting.
-    uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    final int maxConcurrentUploads = Math.max(1, config.maxConcurrentConnections() / 2);
+    uploadLimit = new Semaphore(maxConcurrentUploads);
+
+    // blocking work (waiting for an upload slot, reading and compressing files) runs on dedicated
+    // threads; a transfer task never waits for another task of this executor
+    transferExecutor = Executors.newFixedThreadPool(maxConcurrentUploads);
+  }
+
+  /** Stops the transfer threads. Transfers which are still running are interrupted. */
+  void close() {
+    transferExecutor.shutdownNow();
   }
 
   CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
@@ -67,79 +87,90 @@ final class FileSetManager {
 
   private CompletableFuture<FileSet.FileMetadata> saveFile(
       final String prefix, final String fileName, final Path filePath) {
-
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
+    final var key = prefix + fileName;
+
+    if (shouldUploadInParts(filePath)) {
+      final var algorithm = config.compressionAlgorithm();
+      // the whole upload runs on one transfer thread, which keeps the upload slot until it's done
+      return CompletableFuture.supplyAsync(
+          () -> {
+            uploadLimit.acquireUninterruptibly();
+            try {
+              final var upload =
+                  client
+                      .createMultipartUpload(req -> req.bucket(config.bucketName()).key(key))
+                      .join();
+              LOG.trace(
+                  "Saving file {}({}) in prefix {} as multipart upload {}, compressed with {}",
+                  fileName,
+                  filePath,
+                  prefix,
+                  upload.uploadId(),
+                  algorithm.orElse("none"));
+              uploadInParts(filePath, key, upload.uploadId(), algorithm.orElse(null));
+              return algorithm.map(FileMetadata::withCompression).orElseGet(FileMetadata::none);
+            } finally {
+              uploadLimit.release();
+            }
+          },
+          transferExecutor);
     }
 
-    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
+    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly, transferExecutor)
         .thenCompose(
             (nothing) -> {
               LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
               return client
                   .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
+                      put -> put.bucket(config.bucketName()).key(key),
                       AsyncRequestBody.fromFile(filePath))
                   .thenApply(unused -> FileSet.FileMetadata.none());
             })
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
-  private void cleanupCompressedFile(final Path compressedFile) {
+  /**
+   * Large files are streamed to S3 in parts, compressing them on the fly if compression is
+   * configured. This avoids writing the compressed file to a temporary file first, and overlaps
+   * reading and compressing the file with uploading the already compressed parts.
+   */
+  private boolean shouldUploadInParts(final Path filePath) {
     try {
-      Files.delete(compressedFile);
+      return Files.size(filePath) > MULTIPART_SIZE_THRESHOLD;
     } catch (final IOException e) {
-      LOG.warn(
-          "Failed to clean up temporary file used for (de-)compression: {}", compressedFile, e);
-    }
-  }
-
-  private boolean shouldCompressFile(final Path filePath) {
-    try {
-      return config.compressionAlgorithm().isPresent()
-          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
-    } catch (final IOException e) {
-      LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
+      LOG.warn("Failed to determine file size, assuming it is small: {}", filePath);
       return false;
     }
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
-    try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
+  private void uploadInParts(
+      final Path file, final String key, final String uploadId, final String algorithm) {
+    final var upload =
+        new MultipartUploadOutputStream(client, config.bucketName(), key, uploadId, bufferPool);
+    try (final var input = new BufferedInputStream(Files.newInputStream(file));
+        final OutputStream output =
+            algorithm == null
+                ? upload
+                : new CompressorStreamFactory().createCompressorOutputStream(algorithm, upload)) {
+      try {
+        IOUtils.copy(input, output);
+      } catch (final IOException e) {
+        // abort before the output is closed, which would otherwise complete the partial upload
+        upload.abort();
+        throw e;
       }
-    } catch (final IOException | CompressorException e) {
+      // closing the output flushes the remaining compressed bytes and completes the upload
+    } catch (final CompressorException e) {
+      upload.abort();
       throw new BackupCompressionFailed(
           "Failed to compress file %s using %s".formatted(file, algorithm), e);
+    } catch (final IOException e) {
+      upload.abort();
+      if (algorithm != null) {
+        throw new BackupCompressionFailed(
+            "Failed to compress and upload file %s using %s".formatted(file, algorithm), e);
+      }
+      throw new UncheckedIOException(e);
     }
   }
 
@@ -171,22 +202,13 @@ final class FileSetManager {
           fileName,
           sourcePrefix,
           targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      return client
+          .getObject(
+              req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
+              AsyncResponseTransformer.toBlockingInputStream())
+          .thenApplyAsync(
+              compressed -> decompressFile(compressed, decompressed, compressionAlgorithm.get()),
+              transferExecutor);
     }
 
     LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
@@ -196,29 +218,22 @@ final class FileSetManager {
         .thenApply(response -> path);
   }
 
+  /**
+   * Decompresses the object while it is being downloaded, so the compressed object never has to be
+   * stored on disk.
+   */
   private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
+      final InputStream compressed, final Path decompressed, final String algorithm) {
+    try (final var input = new BufferedInputStream(compressed);
         final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
         final var decompressedOutput =
             new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
       IOUtils.copy(decompressedOutput, output);
-      if (LOG.isTraceEnabled()) {
-        LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
-            decompressed,
-            algorithm,
-            Files.size(compressed),
-            Files.size(decompressed));
-      }
-      cleanupCompressedFile(compressed);
+      LOG.trace("Decompressed file {} using {}", decompressed, algorithm);
       return decompressed;
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+          "Failed to decompress to %s using %s".formatted(decompressed, algorithm), e);
     }
   }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * An {@link OutputStream} which uploads everything written to it as a single object, using an S3
+ * multipart upload. Written bytes are buffered in memory until a part is full, which is then
+ * uploaded in the background while the writer continues to fill the next part. This allows
+ * streaming data of unknown size, e.g. the output of a compressor, to S3 without first writing it
+ * to a temporary file.
+ *
+ * <p>Part buffers are taken from a {@link PartBufferPool} shared with the other uploads of the
+ * store, and returned once their part is uploaded. At most {@link #MAX_IN_FLIGHT_PARTS} parts of a
+ * stream are uploaded concurrently; writers are blocked until one of them completes, or until the
+ * pool has a buffer available.
+ *
+ * <p>The upload is only completed by {@link #close()}. If writing fails, callers must call {@link
+ * #abort()} instead, so that S3 can discard the parts which were already uploaded.
+ */
+final class MultipartUploadOutputStream extends OutputStream {
+
+  /** S3 requires every part but the last one to be at least 5 MiB. */
+  static final int PART_SIZE = 8 * 1024 * 1024; // 8 MiB
+
+  static final int MAX_IN_FLIGHT_PARTS = 2;
+
+  private static final Logger LOG = LoggerFactory.getLogger(MultipartUploadOutputStream.class);
+
+  private final S3AsyncClient client;
+  private final String bucketName;
+  private final String key;
+  private final String uploadId;
+  private final PartBufferPool bufferPool;
+  private final Semaphore inFlightParts = new Semaphore(MAX_IN_FLIGHT_PARTS);
+  private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+  // acquired from the pool on the first write after a part was handed off for upload
+  private byte[] buffer;
+  private int position;
+  private boolean closed;
+  private boolean aborted;
+
+  MultipartUploadOutputStream(
+      final S3AsyncClient client,
+      final String bucketName,
+      final String key,
+      final String uploadId,
+      final PartBufferPool bufferPool) {
+    this.client = client;
+    this.bucketName = bucketName;
+    this.key = key;
+    this.uploadId = uploadId;
+    this.bufferPool = bufferPool;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    ensureBuffer();
+    buffer[position++] = (byte) b;
+    if (position == PART_SIZE) {
+      uploadPart();
+    }
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    ensureOpen();
+    int written = 0;
+    while (written < length) {
+      ensureBuffer();
+      final int chunk = Math.min(length - written, PART_SIZE - position);
+      System.arraycopy(bytes, offset + written, buffer, position, chunk);
+      position += chunk;
+      written += chunk;
+      if (position == PART_SIZE) {
+        uploadPart();
+      }
+    }
+  }
+
+  /**
+   * Uploads the remaining buffered bytes as the last part, waits for all parts to be uploaded and
+   * completes the multipart upload.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    // an upload needs at least one part, even if it is empty
+    if (position > 0 || parts.isEmpty()) {
+      uploadPart();
+    }
+    closed = true;
+
+    final var completedParts = awaitParts();
+    join(
+        client.completeMultipartUpload(
+            req ->
+                req.bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts))));
+    LOG.trace("Completed multipart upload of {} with {} parts", key, completedParts.size());
+  }
+
+  /**
+   * Aborts the upload, discarding all parts which were uploaded so far. Failing to abort is only
+   * logged, as the original error is more relevant to the caller. Once aborted, closing the stream
+   * does not complete the upload anymore.
+   */
+  void abort() {
+    if (aborted) {
+      return;
+    }
+    aborted = true;
+    closed = true;
+    releaseBuffer();
+    client
+        .abortMultipartUpload(req -> req.bucket(bucketName).key(key).uploadId(uploadId))
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                LOG.warn("Failed to abort multipart upload {} of {}", uploadId, key, error);
+              }
+            });
+  }
+
+  private void uploadPart() throws IOException {
+    try {
+      inFlightParts.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to upload part of " + key);
+    }
+
+    // fail fast instead of compressing and uploading the rest of the file in vain
+    if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+      inFlightParts.release();
+      awaitParts();
+    }
+
+    final int partNumber = parts.size() + 1;
+    final byte[] partBuffer = buffer;
+    final int partSize = position;
+    final byte[] body;
+    if (partBuffer != null && partSize == partBuffer.length) {
+      // the request reads the pooled buffer directly, so it's only released once it completes
+      body = partBuffer;
+    } else {
+      // only the last part may be smaller, it's copied so the buffer can be released right away
+      body = partBuffer == null ? new byte[0] : Arrays.copyOf(partBuffer, partSize);
+      releaseBuffer();
+    }
+    buffer = null;
+    position = 0;
+
+    final var part =
+        client
+            .uploadPart(
+                req ->
+                    req.bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) partSize),
+                AsyncRequestBody.fromBytesUnsafe(body))
+            .thenApply(
+                response ->
+                    CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build())
+            .whenComplete(
+                (response, error) -> {
+                  if (body == partBuffer) {
+                    bufferPool.release(partBuffer);
+                  }
+                  inFlightParts.release();
+                });
+    parts.add(part);
+  }
+
+  private void ensureBuffer() throws IOException {
+    if (buffer == null) {
+      buffer = bufferPool.acquire();
+      position = 0;
+    }
+  }
+
+  private void releaseBuffer() {
+    if (buffer != null) {
+      bufferPool.release(buffer);
+      buffer = null;
+      position = 0;
+    }
+  }
+
+  private List<CompletedPart> awaitParts() throws IOException {
+    final var completedParts = new ArrayList<CompletedPart>(parts.size());
+    for (final var part : parts) {
+      completedParts.add(join(part));
+    }
+    return completedParts;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Multipart upload of %s is already closed".formatted(key));
+    }
+  }
+
+  private static <T> T join(final CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+}
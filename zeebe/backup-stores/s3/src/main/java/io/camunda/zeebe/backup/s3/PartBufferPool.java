@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import java.io.InterruptedIOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A bounded pool of buffers for the parts of multipart uploads, shared by all uploads of a store.
+ * Buffers are allocated on first use and reused afterwards, so the memory used to buffer parts
+ * never exceeds {@code maxBuffers * bufferSize}, no matter how many files are uploaded at the same
+ * time. Uploads which need a buffer while all of them are in use wait until one is released.
+ */
+final class PartBufferPool {
+
+  private final Semaphore available;
+  private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+  private final int bufferSize;
+
+  PartBufferPool(final int maxBuffers, final int bufferSize) {
+    available = new Semaphore(maxBuffers);
+    this.bufferSize = bufferSize;
+  }
+
+  /** Returns a buffer of the pool, waiting until one is available. */
+  byte[] acquire() throws InterruptedIOException {
+    try {
+      available.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a part buffer");
+    }
+
+    final var buffer = buffers.poll();
+    return buffer != null ? buffer : new byte[bufferSize];
+  }
+
+  /** Returns the buffer to the pool. It must not be used by the caller anymore afterwards. */
+  void release(final byte[] buffer) {
+    buffers.offer(buffer);
+    available.release();
+  }
+}
@@ -255,6 +255,7 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
+    fileSetManager.close();
     client.close();
     return CompletableFuture.completedFuture(null);
   }
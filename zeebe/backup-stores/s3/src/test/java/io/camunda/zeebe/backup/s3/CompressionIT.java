@@ -107,6 +107,33 @@ final class CompressionIT {
         .hasSameContentsAs(backup);
   }
 
+  @Test
+  void canRestoreBackupWithCompressedFileSpanningMultipleParts(@TempDir final Path target)
+      throws IOException {
+    // given - random bytes do not compress, so the compressed file is larger than a single part
+    final var tempDir = Files.createTempDirectory("backup");
+    final var segment = Files.createFile(tempDir.resolve("segment-file-1"));
+    Files.write(
+        segment, RandomUtils.nextBytes(MultipartUploadOutputStream.PART_SIZE * 2 + 1024 * 1024));
+    final var snapshot = Files.createFile(tempDir.resolve("snapshot-file-1"));
+    Files.write(snapshot, COMPRESSIBLE_BYTES);
+    final var backup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 3),
+            new BackupDescriptorImpl(Optional.of("test-snapshot-id"), 4, 5, "test"),
+            new NamedFileSetImpl(Map.of("segment-file-1", segment)),
+            new NamedFileSetImpl(Map.of("snapshot-file-1", snapshot)));
+
+    // when
+    Assertions.assertThat(store.save(backup)).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(store.restore(backup.id(), target))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .asInstanceOf(new InstanceOfAssertFactory<>(Backup.class, BackupAssert::assertThatBackup))
+        .hasSameContentsAs(backup);
+  }
+
   private Backup compressibleBackup() throws IOException {
     final var tempDir = Files.createTempDirectory("backup");
     Files.createDirectory(tempDir.resolve("segments/"));
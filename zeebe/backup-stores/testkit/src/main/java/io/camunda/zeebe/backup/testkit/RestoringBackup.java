@@ -13,9 +13,11 @@ import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
@@ -52,6 +54,22 @@ public interface RestoringBackup {
         .residesInPath(targetDir);
   }
 
+  @Test
+  default void restoredBackupWithManyAndLargeFilesHasSameContents(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var originalBackup = new TestBackupProvider().backupWithManyAndLargeFiles();
+    getStore().save(originalBackup).join();
+
+    // when
+    final var restored = getStore().restore(originalBackup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored)
+        .hasSameContentsAs(originalBackup)
+        .residesInPath(targetDir);
+  }
+
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
   default void savedContentDoesNotGetOverWritten(
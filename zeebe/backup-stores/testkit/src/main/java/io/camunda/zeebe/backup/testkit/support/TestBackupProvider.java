@@ -17,6 +17,8 @@ import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -75,6 +77,31 @@ public final class TestBackupProvider implements ArgumentsProvider {
         new NamedFileSetImpl(Map.of("segment-file-1", seg1, "segment-file-2", seg2)));
   }
 
+  /**
+   * Returns a backup with more files than stores transfer concurrently, and with a snapshot file
+   * which is larger than the parts of a multipart upload.
+   */
+  public Backup backupWithManyAndLargeFiles() throws IOException {
+    final var tempDir = Files.createTempDirectory("backup");
+    Files.createDirectory(tempDir.resolve("segments/"));
+    final var segments = new HashMap<String, Path>();
+    for (int i = 1; i <= 32; i++) {
+      final var segment = Files.createFile(tempDir.resolve("segments/segment-file-" + i));
+      Files.write(segment, RandomUtils.nextBytes(1024));
+      segments.put("segment-file-" + i, segment);
+    }
+
+    Files.createDirectory(tempDir.resolve("snapshot/"));
+    final var s1 = Files.createFile(tempDir.resolve("snapshot/snapshot-file-1"));
+    Files.write(s1, RandomUtils.nextBytes(20 * 1024 * 1024));
+
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, 3),
+        new BackupDescriptorImpl(Optional.of("test-snapshot-id"), 4, 5, "test"),
+        new NamedFileSetImpl(Map.of("snapshot-file-1", s1)),
+        new NamedFileSetImpl(segments));
+  }
+
   public Backup minimalBackupWithId(final BackupIdentifierImpl id) throws IOException {
     final var tempDir = Files.createTempDirectory("backup");
     Files.createDirectory(tempDir.resolve("segments/"));
@@ -21,6 +21,20 @@ public interface BrokerClusterState {
 
   int getPartitionsCount();
 
+  /**
+   * Returns the number of partitions the cluster was created with, which are the partitions with
+   * ids from {@code 1} to this count. Partitions which are added to a running cluster don't take
+   * over any correlation keys, as the messages and subscriptions of those keys are already stored
+   * on the initial partitions. They also don't receive any deployments yet, so requests which can
+   * go to any partition, like creating a process instance, are only dispatched to the initial
+   * partitions.
+   *
+   * @return the number of partitions the cluster was created with
+   */
+  default int getInitialPartitionsCount() {
+    return getPartitionsCount();
+  }
+
   int getReplicationFactor();
 
   int getLeaderForPartition(int partition);
@@ -46,4 +60,12 @@ public interface BrokerClusterState {
   String getBrokerVersion(int brokerId);
 
   PartitionHealthStatus getPartitionHealth(int brokerId, int partition);
+
+  /**
+   * @return the number of records written per second to the given partition, as last reported by
+   *     its leader, or {@code 0} if the leader didn't report any load yet
+   */
+  default long getPartitionLoad(final int partition) {
+    return 0;
+  }
 }
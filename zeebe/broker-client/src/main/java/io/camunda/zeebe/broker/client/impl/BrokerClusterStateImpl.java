@@ -15,6 +15,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2LongHashMap;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntArrayList;
 
@@ -28,6 +29,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   private final Int2ObjectHashMap<Set<Integer>> partitionInactiveNodes;
   private final Int2ObjectHashMap<Int2ObjectHashMap<PartitionHealthStatus>>
       partitionsHealthPerBroker;
+  private final Int2LongHashMap partitionLoads;
   private final Int2ObjectHashMap<String> brokerAddresses;
   private final Int2ObjectHashMap<String> brokerVersions;
   private final IntArrayList brokers;
@@ -35,6 +37,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   private final Random randomBroker;
   private int clusterSize = UNINITIALIZED_CLUSTER_SIZE;
   private int partitionsCount;
+  private int initialPartitionsCount;
   private int replicationFactor;
 
   public BrokerClusterStateImpl(final BrokerClusterStateImpl topology) {
@@ -44,6 +47,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       partitionLeaderTerms.putAll(topology.partitionLeaderTerms);
       partitionFollowers.putAll(topology.partitionFollowers);
       partitionsHealthPerBroker.putAll(topology.partitionsHealthPerBroker);
+      partitionLoads.putAll(topology.partitionLoads);
       brokerAddresses.putAll(topology.brokerAddresses);
       brokerVersions.putAll(topology.brokerVersions);
       partitionInactiveNodes.putAll(topology.partitionInactiveNodes);
@@ -53,6 +57,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
 
       clusterSize = topology.clusterSize;
       partitionsCount = topology.partitionsCount;
+      initialPartitionsCount = topology.initialPartitionsCount;
       replicationFactor = topology.replicationFactor;
     }
   }
@@ -63,6 +68,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     partitionFollowers = new Int2ObjectHashMap<>();
     partitionInactiveNodes = new Int2ObjectHashMap<>();
     partitionsHealthPerBroker = new Int2ObjectHashMap<>();
+    partitionLoads = new Int2LongHashMap(0);
     brokerAddresses = new Int2ObjectHashMap<>();
     brokerVersions = new Int2ObjectHashMap<>();
     brokers = new IntArrayList(5, NODE_ID_NULL);
@@ -118,6 +124,10 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     partitionsHealth.put(partitionId, status);
   }
 
+  public void setPartitionLoad(final int partitionId, final long load) {
+    partitionLoads.put(partitionId, load);
+  }
+
   public void addPartitionFollower(final int partitionId, final int followerId) {
     partitionFollowers.computeIfAbsent(partitionId, HashSet::new).add(followerId);
     partitionLeaders.remove(partitionId, followerId);
@@ -199,6 +209,15 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     this.partitionsCount = partitionsCount;
   }
 
+  @Override
+  public int getInitialPartitionsCount() {
+    return initialPartitionsCount;
+  }
+
+  public void setInitialPartitionsCount(final int initialPartitionsCount) {
+    this.initialPartitionsCount = initialPartitionsCount;
+  }
+
   @Override
   public int getReplicationFactor() {
     return replicationFactor;
@@ -272,6 +291,11 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     }
   }
 
+  @Override
+  public long getPartitionLoad(final int partition) {
+    return partitionLoads.get(partition);
+  }
+
   @Override
   public String toString() {
     return "BrokerClusterStateImpl{"
@@ -285,6 +309,8 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
         + clusterSize
         + ", partitionsCount="
         + partitionsCount
+        + ", initialPartitionsCount="
+        + initialPartitionsCount
         + ", replicationFactor="
         + replicationFactor
         + '}';
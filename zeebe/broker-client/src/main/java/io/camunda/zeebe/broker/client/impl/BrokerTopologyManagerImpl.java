@@ -171,6 +171,14 @@ public final class BrokerTopologyManagerImpl extends Actor
       topology.setReplicationFactor(distributedBrokerInfo.getReplicationFactor());
     }
 
+    // The partitions count of the BrokerInfo is the static one the cluster was created with. Unlike
+    // the partitions count, it's not updated from the ClusterConfiguration, as partitions added
+    // later must not change which partition a correlation key belongs to, and must not receive
+    // requests for deployed processes before deployments are distributed to them.
+    if (topology.getInitialPartitionsCount() == 0) {
+      topology.setInitialPartitionsCount(distributedBrokerInfo.getPartitionsCount());
+    }
+
     final int nodeId = distributedBrokerInfo.getNodeId();
 
     topology.syncPartitions(nodeId, distributedBrokerInfo.getPartitionRoles().keySet());
@@ -180,6 +188,16 @@ public final class BrokerTopologyManagerImpl extends Actor
         followerPartitionId -> topology.addPartitionFollower(followerPartitionId, nodeId),
         inactivePartitionId -> topology.addPartitionInactive(inactivePartitionId, nodeId));
 
+    // only trust the load reported by the current leader, a former leader may still report it
+    distributedBrokerInfo
+        .getPartitionLoads()
+        .forEach(
+            (partitionId, load) -> {
+              if (topology.getLeaderForPartition(partitionId) == nodeId) {
+                topology.setPartitionLoad(partitionId, load);
+              }
+            });
+
     distributedBrokerInfo.consumePartitionsHealth(
         (partition, health) -> topology.setPartitionHealthStatus(nodeId, partition, health));
 
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.broker.client.impl;
 
+import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
+
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
@@ -14,7 +16,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Return the next partition using a round-robin strategy, but skips the partitions where there is
- * no leader at the moment.
+ * no leader at the moment. Only the initial partitions of the cluster are considered, as
+ * deployments are not distributed to partitions which were added later.
+ *
+ * @see BrokerClusterState#getInitialPartitionsCount()
  */
 public final class RoundRobinDispatchStrategy implements RequestDispatchStrategy {
 
@@ -25,9 +30,10 @@ public final class RoundRobinDispatchStrategy implements RequestDispatchStrategy
     final BrokerClusterState topology = topologyManager.getTopology();
 
     if (topology != null) {
-      for (int i = 0; i < topology.getPartitionsCount(); i++) {
+      final int partitionsCount = topology.getInitialPartitionsCount();
+      for (int i = 0; i < partitionsCount; i++) {
         final int offset = partitions.getAndIncrement();
-        final int partition = topology.getPartition(offset);
+        final int partition = Math.floorMod(offset, partitionsCount) + START_PARTITION_ID;
         if (topology.getLeaderForPartition(partition) != BrokerClusterState.NODE_ID_NULL) {
           return partition;
         }
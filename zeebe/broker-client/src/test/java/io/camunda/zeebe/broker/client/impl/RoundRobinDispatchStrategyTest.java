@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.client.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 final class RoundRobinDispatchStrategyTest {
@@ -41,4 +42,17 @@ final class RoundRobinDispatchStrategyTest {
     assertThat(dispatchStrategy.determinePartition(topologyManager)).isEqualTo(2);
     assertThat(dispatchStrategy.determinePartition(topologyManager)).isEqualTo(3);
   }
+
+  @Test
+  void shouldNotDispatchToPartitionsAddedAfterCreation() {
+    // given
+    topologyManager.addPartition(1, 0).addPartition(2, 0).addNewPartition(3, 0);
+
+    // when
+    final var partitionIds =
+        IntStream.range(0, 6).map(i -> dispatchStrategy.determinePartition(topologyManager));
+
+    // then
+    assertThat(partitionIds).containsExactly(1, 2, 1, 2, 1, 2);
+  }
 }
@@ -31,6 +31,15 @@ final class TestTopologyManager implements BrokerTopologyManager {
 
     topology.addPartitionIfAbsent(id);
     topology.setPartitionsCount(topology.getPartitions().size());
+    topology.setInitialPartitionsCount(topology.getPartitions().size());
+    return this;
+  }
+
+  /** Adds a partition which was added to the running cluster, after it was created. */
+  TestTopologyManager addNewPartition(final int id, final int leaderId) {
+    final int initialPartitionsCount = topology.getInitialPartitionsCount();
+    addPartition(id, leaderId);
+    topology.setInitialPartitionsCount(initialPartitionsCount);
     return this;
   }
 
@@ -44,6 +44,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -298,6 +299,41 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
     return joinPartition(partitionMetadata, partitionConfig); // TODO
   }
 
+  @Override
+  public ActorFuture<Void> bootstrap(
+      final int partitionId, final int priority, final DynamicPartitionConfig partitionConfig) {
+    final var localMemberId = managementService.getMembershipService().getLocalMember().id();
+    final var partitionMetadata =
+        new PartitionMetadata(
+            PartitionId.from(GROUP_NAME, partitionId),
+            Set.of(localMemberId),
+            Map.of(localMemberId, priority),
+            priority,
+            localMemberId);
+
+    final var result = concurrencyControl.<Void>createFuture();
+    concurrencyControl.run(
+        () -> {
+          if (partitions.containsKey(partitionId)) {
+            // already bootstrapped before a restart, nothing left to do
+            result.complete(null);
+            return;
+          }
+
+          LOGGER.info("Bootstrapping new partition {}", partitionId);
+          concurrencyControl.runOnCompletion(
+              bootstrapPartition(partitionMetadata, partitionConfig),
+              (ok, error) -> {
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(null);
+                }
+              });
+        });
+    return result;
+  }
+
   @Override
   public ActorFuture<Void> leave(final int partitionId) {
     final var result = concurrencyControl.<Void>createFuture();
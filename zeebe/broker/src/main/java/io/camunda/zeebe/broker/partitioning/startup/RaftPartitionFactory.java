@@ -11,6 +11,7 @@ import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.storage.log.AdaptiveFlusher;
 import io.atomix.raft.storage.log.DelayedFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
@@ -101,7 +102,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, false));
     }
 
     return createFlusherFactory(config);
@@ -110,6 +111,12 @@ public final class RaftPartitionFactory {
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
+      if (config.adaptive()) {
+        return AdaptiveFlusher.factory(
+            delayTime.isZero() ? AdaptiveFlusher.DEFAULT_MAX_DELAY : delayTime,
+            AdaptiveFlusher.DEFAULT_MAX_BATCH_SIZE);
+      }
+
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
       }
@@ -15,16 +15,19 @@ import io.atomix.cluster.Member;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.PartitionListener;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.util.LogUtil;
 import io.camunda.zeebe.util.health.HealthStatus;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Properties;
+import org.agrona.collections.Int2LongHashMap;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
@@ -32,8 +35,12 @@ import org.slf4j.Logger;
 public final class TopologyManagerImpl extends Actor
     implements TopologyManager, ClusterMembershipEventListener, PartitionListener {
   private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+  private static final Duration LOAD_SAMPLE_INTERVAL = Duration.ofSeconds(10);
 
   private final Int2ObjectHashMap<BrokerInfo> partitionLeaders = new Int2ObjectHashMap<>();
+  // the flow control of each partition led by this broker, to sample how much is written to it
+  private final Int2ObjectHashMap<FlowControl> leaderFlowControls = new Int2ObjectHashMap<>();
+  private final Int2LongHashMap lastWrittenPositions = new Int2LongHashMap(0);
   private final ClusterMembershipService membershipService;
   private final BrokerInfo localBroker;
 
@@ -59,7 +66,7 @@ public final class TopologyManagerImpl extends Actor
       final long term,
       final LogStream logStream,
       final QueryService queryService) {
-    return setLeader(term, partitionId);
+    return setLeader(term, partitionId, logStream);
   }
 
   @Override
@@ -80,13 +87,24 @@ public final class TopologyManagerImpl extends Actor
     membershipService
         .getMembers()
         .forEach(m -> event(new ClusterMembershipEvent(Type.MEMBER_ADDED, m)));
+    actor.runAtFixedRate(LOAD_SAMPLE_INTERVAL, this::samplePartitionLoads);
   }
 
   public ActorFuture<Void> setLeader(final long term, final int partitionId) {
+    return setLeader(term, partitionId, null);
+  }
+
+  private ActorFuture<Void> setLeader(
+      final long term, final int partitionId, final LogStream logStream) {
     return actor.call(
         () -> {
           partitionLeaders.put(partitionId, localBroker);
           localBroker.setLeaderForPartition(partitionId, term);
+          final var flowControl = logStream != null ? logStream.getFlowControl() : null;
+          if (flowControl != null) {
+            leaderFlowControls.put(partitionId, flowControl);
+            lastWrittenPositions.put(partitionId, flowControl.getLastWrittenPosition());
+          }
           publishTopologyChanges();
           notifyPartitionLeaderUpdated(partitionId, localBroker);
         });
@@ -96,6 +114,7 @@ public final class TopologyManagerImpl extends Actor
     return actor.call(
         () -> {
           removeIfLeader(localBroker, partitionId);
+          stopSamplingLoad(partitionId);
           localBroker.setFollowerForPartition(partitionId);
           publishTopologyChanges();
         });
@@ -105,6 +124,7 @@ public final class TopologyManagerImpl extends Actor
     return actor.call(
         () -> {
           removeIfLeader(localBroker, partitionId);
+          stopSamplingLoad(partitionId);
           localBroker.setInactiveForPartition(partitionId);
           publishTopologyChanges();
         });
@@ -207,6 +227,40 @@ public final class TopologyManagerImpl extends Actor
     return true;
   }
 
+  /**
+   * Publishes the number of records written per second to each partition led by this broker, so
+   * that gateways can balance the leaders by their load. To avoid gossiping every small
+   * fluctuation, the load is only published again when it changed by more than a tenth.
+   */
+  private void samplePartitionLoads() {
+    boolean changed = false;
+    for (final var entry : leaderFlowControls.entrySet()) {
+      final int partitionId = entry.getKey();
+      final long position = entry.getValue().getLastWrittenPosition();
+      final long previousPosition = lastWrittenPositions.put(partitionId, position);
+      // without a previous position, the first write would count all records written before
+      final long load =
+          previousPosition > 0
+              ? (position - previousPosition) / LOAD_SAMPLE_INTERVAL.toSeconds()
+              : 0;
+
+      final Long previousLoad = localBroker.getPartitionLoads().get(partitionId);
+      if (previousLoad == null || Math.abs(load - previousLoad) > previousLoad / 10) {
+        localBroker.setPartitionLoad(partitionId, load);
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      publishTopologyChanges();
+    }
+  }
+
+  private void stopSamplingLoad(final int partitionId) {
+    leaderFlowControls.remove(partitionId);
+    lastWrittenPositions.remove(partitionId);
+  }
+
   // Propagate local partition info to other nodes through Atomix member properties
   private void publishTopologyChanges() {
     final Properties memberProperties = membershipService.getLocalMember().properties();
@@ -252,6 +306,7 @@ public final class TopologyManagerImpl extends Actor
     actor.run(
         () -> {
           removeIfLeader(localBroker, partitionId);
+          stopSamplingLoad(partitionId);
           localBroker.removePartition(partitionId);
         });
   }
@@ -37,6 +37,8 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableTimerDueDateCheckerAsync();
   private boolean enableStraightThroughProcessingLoopDetector =
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
+  private boolean enableDeferredMultiInstanceOutputCollection =
+      DEFAULT_SETTINGS.enableDeferredMultiInstanceOutputCollection();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -79,13 +81,23 @@ public final class FeatureFlagsCfg {
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
+  public boolean isEnableDeferredMultiInstanceOutputCollection() {
+    return enableDeferredMultiInstanceOutputCollection;
+  }
+
+  public void setEnableDeferredMultiInstanceOutputCollection(
+      final boolean enableDeferredMultiInstanceOutputCollection) {
+    this.enableDeferredMultiInstanceOutputCollection = enableDeferredMultiInstanceOutputCollection;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
         enableActorMetrics,
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
-        enableStraightThroughProcessingLoopDetector
+        enableStraightThroughProcessingLoopDetector,
+        enableDeferredMultiInstanceOutputCollection
         /*, enableFoo*/ );
   }
 
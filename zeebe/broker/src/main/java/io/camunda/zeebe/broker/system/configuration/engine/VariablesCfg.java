@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
+
+public final class VariablesCfg implements ConfigurationEntry {
+  private boolean offloadingEnabled = EngineConfiguration.DEFAULT_VARIABLE_OFFLOADING_ENABLED;
+  private DataSize offloadingThreshold =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_VARIABLE_OFFLOADING_THRESHOLD);
+
+  public boolean isOffloadingEnabled() {
+    return offloadingEnabled;
+  }
+
+  public void setOffloadingEnabled(final boolean offloadingEnabled) {
+    this.offloadingEnabled = offloadingEnabled;
+  }
+
+  public DataSize getOffloadingThreshold() {
+    return offloadingThreshold;
+  }
+
+  public void setOffloadingThreshold(final DataSize offloadingThreshold) {
+    this.offloadingThreshold = offloadingThreshold;
+  }
+
+  @Override
+  public String toString() {
+    return "VariablesCfg{"
+        + "offloadingEnabled="
+        + offloadingEnabled
+        + ", offloadingThreshold="
+        + offloadingThreshold
+        + '}';
+  }
+}
@@ -38,6 +38,9 @@ final class EngineCfgTest {
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.isVariableOffloadingEnabled()).isFalse();
+    assertThat(configuration.getVariableOffloadingThreshold())
+        .isEqualTo(EngineConfiguration.DEFAULT_VARIABLE_OFFLOADING_THRESHOLD);
   }
 
   @Test
@@ -57,5 +60,7 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.isVariableOffloadingEnabled()).isTrue();
+    assertThat(configuration.getVariableOffloadingThreshold()).isEqualTo(64 * 1024);
   }
 }
@@ -162,4 +162,29 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableStraightThroughProcessingLoopDetector()).isTrue();
   }
+
+  @Test
+  void shouldSetEnableDeferredMultiInstanceOutputCollectionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableDeferredMultiInstanceOutputCollection()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableDeferredMultiInstanceOutputCollectionFromEnv() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.features.enableDeferredMultiInstanceOutputCollection",
+        "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableDeferredMultiInstanceOutputCollection()).isFalse();
+  }
 }
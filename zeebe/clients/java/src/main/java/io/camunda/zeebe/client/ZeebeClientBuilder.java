@@ -192,6 +192,13 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder defaultJobWorkerStreamEnabled(boolean streamEnabled);
 
+  /**
+   * Default value for {@link JobWorkerBuilderStep3#virtualThreadsEnabled(boolean)}. If enabled, job
+   * handlers are executed on virtual threads instead of the job worker executor. Requires Java 21
+   * or newer. Disabled by default.
+   */
+  ZeebeClientBuilder defaultJobWorkerVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
   /**
    * If enabled, the client will make use of the default retry policy defined. False by default.
    *
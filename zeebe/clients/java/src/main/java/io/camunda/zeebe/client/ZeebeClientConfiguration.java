@@ -140,6 +140,11 @@ public interface ZeebeClientConfiguration {
    */
   boolean getDefaultJobWorkerStreamEnabled();
 
+  /**
+   * @see ZeebeClientBuilder#defaultJobWorkerVirtualThreadsEnabled(boolean)
+   */
+  boolean getDefaultJobWorkerVirtualThreadsEnabled();
+
   /**
    * @see ZeebeClientBuilder#useDefaultRetryPolicy(boolean)
    */
@@ -124,6 +124,21 @@ public interface CreateProcessInstanceCommandStep1 {
      */
     CreateProcessInstanceCommandStep3 startBeforeElement(final String elementId);
 
+    /**
+     * Creates the process instance on the partition which owns the given correlation key, i.e. the
+     * same partition a message published with this correlation key is sent to. Message
+     * subscriptions the process instance opens with the same correlation key can then be
+     * correlated locally on that partition, without sending commands between partitions.
+     *
+     * <p>If the partition is not available, the process instance may still be created on a
+     * different partition; message correlation works as usual in that case.
+     *
+     * @param correlationKey the correlation key used to select the partition of the instance
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateProcessInstanceCommandStep3 correlationKey(final String correlationKey);
+
     /**
      * When this method is called, the response to the command will be received after the process is
      * completed. The response consists of a set of variables.
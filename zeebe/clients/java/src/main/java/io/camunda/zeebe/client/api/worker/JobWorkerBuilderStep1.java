@@ -241,6 +241,45 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Executes the job handler of this worker on virtual threads, starting a new virtual thread
+     * for every job. This is useful for handlers which block on I/O, as the number of concurrently
+     * handled jobs is not limited by the size of the job worker executor anymore. The number of
+     * jobs handled concurrently is instead bounded by {@link #maxJobsActive(int)}.
+     *
+     * <p>Polling and streaming jobs still happen on the job worker executor.
+     *
+     * <p>If not set, the default is used from the {@link ZeebeClientConfiguration}.
+     *
+     * <p>NOTE: virtual threads require Java 21 or newer; opening the worker on an older JVM fails
+     * with an {@link UnsupportedOperationException}.
+     *
+     * @param virtualThreadsEnabled if true, job handlers are executed on virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    /**
+     * Lets the worker adapt when and how many jobs it polls for to the observed handler throughput,
+     * instead of polling once 30% of {@link #maxJobsActive(int)} jobs remain and always asking for
+     * as many jobs as it has capacity for.
+     *
+     * <p>With adaptive polling, the worker polls early enough to keep its handlers busy while a
+     * poll is in flight, asks for no more jobs than it can handle within half of the job {@link
+     * #timeout(Duration)}, and stretches the {@link #pollInterval(Duration)} (by up to 4 times) the
+     * more polls return no jobs. {@link #maxJobsActive(int)} remains the upper bound of activated
+     * jobs at any time.
+     *
+     * <p>NOTE: adaptive polling does not switch between polling and streaming; the stream is only
+     * opened if {@link #streamEnabled(boolean)} is set, independently of the observed traffic.
+     *
+     * <p>Disabled by default.
+     *
+     * @param adaptivePollingEnabled if true, the worker adapts its polling to its throughput
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptivePollingEnabled(boolean adaptivePollingEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
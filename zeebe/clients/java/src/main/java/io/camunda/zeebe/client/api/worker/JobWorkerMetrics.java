@@ -17,6 +17,7 @@ package io.camunda.zeebe.client.api.worker;
 
 import io.camunda.zeebe.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder;
 import io.camunda.zeebe.client.impl.worker.metrics.MicrometerJobWorkerMetricsBuilderImpl;
+import java.time.Duration;
 
 /** Worker metrics API. Allows basic instrumenting of job activation and handling. */
 public interface JobWorkerMetrics {
@@ -39,6 +40,16 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time the job handler returns for a job, with the time it took to handle it.
+   *
+   * <p>NOTE: this covers only the job handler itself, successful or not, but not the time the job
+   * was waiting to be handled.
+   *
+   * @param latency the time spent in the job handler
+   */
+  default void jobHandlerLatency(final Duration latency) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
@@ -32,6 +32,7 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A timer for the time spent in the job handler
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
@@ -78,6 +79,14 @@ public interface MicrometerJobWorkerMetricsBuilder {
       public String asString() {
         return "zeebe.client.worker.job.handled";
       }
+    },
+
+    /** Timer backing the {@link JobWorkerMetrics#jobHandlerLatency(java.time.Duration)} latency. */
+    JOB_HANDLER_LATENCY {
+      @Override
+      public String asString() {
+        return "zeebe.client.worker.job.handler.latency";
+      }
     }
   }
 }
@@ -102,6 +102,12 @@ public final class CreateProcessInstanceCommandImpl
     return this;
   }
 
+  @Override
+  public CreateProcessInstanceCommandStep3 correlationKey(final String correlationKey) {
+    builder.setCorrelationKey(correlationKey);
+    return this;
+  }
+
   @Override
   public CreateProcessInstanceWithResultCommandStep1 withResult() {
     return new CreateProcessInstanceWithResultCommandImpl(
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A {@link JobPollingController} which adapts to the observed throughput of the worker.
+ *
+ * <p>It keeps exponentially weighted moving averages of:
+ *
+ * <ul>
+ *   <li>the time between two handled jobs, i.e. the inverse of the handler throughput
+ *   <li>the round trip time of poll requests
+ *   <li>the ratio of polls which did not activate any jobs
+ * </ul>
+ *
+ * <p>From these, it derives:
+ *
+ * <ul>
+ *   <li>the activation threshold: enough jobs to keep the handlers busy for twice the time a poll
+ *       takes, such that fast workers poll early enough to never run dry
+ *   <li>the number of jobs to activate: no more jobs than the worker can handle within half of the
+ *       job timeout, such that slow workers do not hold on to jobs until they time out
+ *   <li>the poll interval: stretched by up to {@link #MAX_POLL_INTERVAL_FACTOR} the more polls
+ *       come back empty, to reduce the number of useless requests when there is no work
+ * </ul>
+ *
+ * <p>Until enough samples were collected, it behaves like {@link JobPollingController#fixed(int)}.
+ *
+ * <p>It only adapts polling; it does not switch between polling and job streaming. Whether jobs
+ * are streamed is still decided once, when the worker is opened, by {@code streamEnabled}.
+ */
+@ThreadSafe
+final class AdaptiveJobPollingController implements JobPollingController {
+
+  static final int MAX_POLL_INTERVAL_FACTOR = 4;
+  private static final double SMOOTHING_FACTOR = 0.2;
+  private static final double THRESHOLD_SAFETY_FACTOR = 2.0;
+  private static final double JOB_TIMEOUT_RATIO = 0.5;
+  private static final long NO_SAMPLE = -1;
+
+  private final int maxJobsActive;
+  private final int initialActivationThreshold;
+  private final long jobTimeoutNanos;
+  private final LongSupplier nanoClock;
+
+  private long lastJobHandledNanos = NO_SAMPLE;
+  private double averageJobIntervalNanos = NO_SAMPLE;
+  private long pollStartedNanos = NO_SAMPLE;
+  private double averagePollLatencyNanos = NO_SAMPLE;
+  private double emptyPollRatio = 0;
+
+  AdaptiveJobPollingController(final int maxJobsActive, final Duration jobTimeout) {
+    this(maxJobsActive, jobTimeout, System::nanoTime);
+  }
+
+  AdaptiveJobPollingController(
+      final int maxJobsActive, final Duration jobTimeout, final LongSupplier nanoClock) {
+    this.maxJobsActive = maxJobsActive;
+    this.nanoClock = nanoClock;
+    jobTimeoutNanos = jobTimeout.toNanos();
+    initialActivationThreshold = Math.round(maxJobsActive * 0.3f);
+  }
+
+  @Override
+  public synchronized int activationThreshold() {
+    if (averageJobIntervalNanos == NO_SAMPLE || averagePollLatencyNanos == NO_SAMPLE) {
+      return initialActivationThreshold;
+    }
+
+    final double jobsHandledDuringPoll = averagePollLatencyNanos / averageJobIntervalNanos;
+    final long threshold = (long) Math.ceil(jobsHandledDuringPoll * THRESHOLD_SAFETY_FACTOR);
+    return (int) Math.max(0, Math.min(threshold, maxJobsActive - 1L));
+  }
+
+  @Override
+  public synchronized int jobsToActivate(final int remainingJobs) {
+    final int capacity = Math.max(1, maxJobsActive - remainingJobs);
+    if (averageJobIntervalNanos == NO_SAMPLE) {
+      return capacity;
+    }
+
+    // jobs are handled one after the other at the observed rate, so any job beyond this limit
+    // would most likely time out before its handler even starts
+    final long handleableJobs =
+        (long) (jobTimeoutNanos * JOB_TIMEOUT_RATIO / averageJobIntervalNanos) - remainingJobs;
+    return (int) Math.max(1, Math.min(capacity, handleableJobs));
+  }
+
+  @Override
+  public synchronized long pollInterval(final long pollInterval) {
+    return Math.round(pollInterval * (1 + emptyPollRatio * (MAX_POLL_INTERVAL_FACTOR - 1)));
+  }
+
+  @Override
+  public synchronized void onPollStarted() {
+    pollStartedNanos = nanoClock.getAsLong();
+  }
+
+  @Override
+  public synchronized void onPollCompleted(final int activatedJobs) {
+    if (pollStartedNanos != NO_SAMPLE) {
+      averagePollLatencyNanos =
+          smooth(averagePollLatencyNanos, nanoClock.getAsLong() - pollStartedNanos);
+      pollStartedNanos = NO_SAMPLE;
+    }
+
+    emptyPollRatio = smooth(emptyPollRatio, activatedJobs == 0 ? 1 : 0);
+  }
+
+  @Override
+  public synchronized void onPollFailed() {
+    pollStartedNanos = NO_SAMPLE;
+  }
+
+  @Override
+  public synchronized void onJobHandled(final int remainingJobs) {
+    final long now = nanoClock.getAsLong();
+    if (lastJobHandledNanos != NO_SAMPLE) {
+      averageJobIntervalNanos =
+          smooth(averageJobIntervalNanos, Math.max(1, now - lastJobHandledNanos));
+    }
+
+    // once the worker runs out of jobs, the time until the next handled job includes idle time,
+    // which says nothing about the handler throughput
+    lastJobHandledNanos = remainingJobs > 0 ? now : NO_SAMPLE;
+  }
+
+  private static double smooth(final double average, final double sample) {
+    if (average == NO_SAMPLE) {
+      return sample;
+    }
+
+    return average + SMOOTHING_FACTOR * (sample - average);
+  }
+}
@@ -44,14 +44,20 @@ final class BlockingExecutor implements Executor {
                 "Not able to acquire lease in %d%s", timeoutMillis, TIMEOUT_UNIT.toString()));
       }
 
-      wrappedExecutor.execute(
-          () -> {
-            try {
-              command.run();
-            } finally {
-              semaphore.release();
-            }
-          });
+      try {
+        wrappedExecutor.execute(
+            () -> {
+              try {
+                command.run();
+              } finally {
+                semaphore.release();
+              }
+            });
+      } catch (final RejectedExecutionException e) {
+        // the command never runs, e.g. because the wrapped executor was shut down
+        semaphore.release();
+        throw e;
+      }
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Decides when a {@link JobWorkerImpl} should poll for new jobs, how many jobs it should ask for,
+ * and how long it should wait between polls which did not return any jobs.
+ *
+ * <p>The worker notifies the controller about polls and handled jobs, such that implementations
+ * can adapt their decisions to the observed load.
+ */
+@ThreadSafe
+interface JobPollingController {
+
+  /**
+   * @return the number of remaining jobs at or below which the worker should poll for more jobs
+   */
+  int activationThreshold();
+
+  /**
+   * @param remainingJobs the number of jobs currently activated but not yet handled by the worker
+   * @return the number of jobs to request in the next poll; always at least 1
+   */
+  int jobsToActivate(int remainingJobs);
+
+  /**
+   * @param pollInterval the configured poll interval, in milliseconds
+   * @return the delay, in milliseconds, until the next poll after a successful poll
+   */
+  default long pollInterval(final long pollInterval) {
+    return pollInterval;
+  }
+
+  /** Called right before the worker sends a poll request. */
+  default void onPollStarted() {}
+
+  /**
+   * Called when a poll request completed successfully.
+   *
+   * @param activatedJobs the number of jobs which were activated by the poll
+   */
+  default void onPollCompleted(final int activatedJobs) {}
+
+  /** Called when a poll request failed. */
+  default void onPollFailed() {}
+
+  /**
+   * Called every time the worker finished handling a job, successfully or not.
+   *
+   * @param remainingJobs the number of jobs still to be handled by the worker
+   */
+  default void onJobHandled(final int remainingJobs) {}
+
+  /**
+   * Returns a controller which polls once at most 30% of {@code maxJobsActive} jobs remain, and
+   * always asks for as many jobs as the worker has capacity for.
+   */
+  static JobPollingController fixed(final int maxJobsActive) {
+    return new FixedJobPollingController(maxJobsActive);
+  }
+
+  @ThreadSafe
+  final class FixedJobPollingController implements JobPollingController {
+    private final int maxJobsActive;
+    private final int activationThreshold;
+
+    private FixedJobPollingController(final int maxJobsActive) {
+      this.maxJobsActive = maxJobsActive;
+      activationThreshold = Math.round(maxJobsActive * 0.3f);
+    }
+
+    @Override
+    public int activationThreshold() {
+      return activationThreshold;
+    }
+
+    @Override
+    public int jobsToActivate(final int remainingJobs) {
+      return maxJobsActive - remainingJobs;
+    }
+  }
+}
@@ -18,9 +18,11 @@ package io.camunda.zeebe.client.impl.worker;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.client.impl.Loggers;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import org.slf4j.Logger;
 
 public final class JobRunnableFactoryImpl implements JobRunnableFactory {
@@ -29,10 +31,17 @@ public final class JobRunnableFactoryImpl implements JobRunnableFactory {
 
   private final JobClient jobClient;
   private final JobHandler handler;
+  private final JobWorkerMetrics metrics;
 
   public JobRunnableFactoryImpl(final JobClient jobClient, final JobHandler handler) {
+    this(jobClient, handler, JobWorkerMetrics.noop());
+  }
+
+  public JobRunnableFactoryImpl(
+      final JobClient jobClient, final JobHandler handler, final JobWorkerMetrics metrics) {
     this.jobClient = jobClient;
     this.handler = handler;
+    this.metrics = metrics;
   }
 
   @Override
@@ -41,6 +50,7 @@ public final class JobRunnableFactoryImpl implements JobRunnableFactory {
   }
 
   private void executeJob(final ActivatedJob job, final Runnable doneCallback) {
+    final long startNanos = System.nanoTime();
     try {
       handler.handle(jobClient, job);
     } catch (final Exception e) {
@@ -60,6 +70,7 @@ public final class JobRunnableFactoryImpl implements JobRunnableFactory {
           .errorMessage(message)
           .send();
     } finally {
+      metrics.jobHandlerLatency(Duration.ofNanos(System.nanoTime() - startNanos));
       doneCallback.run();
     }
   }
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 public final class JobWorkerBuilderImpl
@@ -58,6 +59,8 @@ public final class JobWorkerBuilderImpl
   private final List<String> customTenantIds;
   private BackoffSupplier backoffSupplier;
   private boolean enableStreaming;
+  private boolean virtualThreadsEnabled;
+  private boolean adaptivePollingEnabled;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
@@ -76,6 +79,7 @@ public final class JobWorkerBuilderImpl
     pollInterval = configuration.getDefaultJobPollInterval();
     requestTimeout = configuration.getDefaultRequestTimeout();
     enableStreaming = configuration.getDefaultJobWorkerStreamEnabled();
+    virtualThreadsEnabled = configuration.getDefaultJobWorkerVirtualThreadsEnabled();
     defaultTenantIds = configuration.getDefaultJobWorkerTenantIds();
     customTenantIds = new ArrayList<>();
     backoffSupplier = DEFAULT_BACKOFF_SUPPLIER;
@@ -164,6 +168,18 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 adaptivePollingEnabled(final boolean adaptivePollingEnabled) {
+    this.adaptivePollingEnabled = adaptivePollingEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -173,7 +189,8 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(jobClient, handler, metrics);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -185,11 +202,15 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
+    if (enableStreaming && streamingTimeout != null) {
+      ensurePositive("streamingTimeout", streamingTimeout);
+    }
+
+    // the virtual threads belong to this worker only, and are shut down when it is closed
+    final ExecutorService virtualThreadExecutor =
+        virtualThreadsEnabled ? VirtualThreadExecutor.create() : null;
     final Executor jobExecutor;
     if (enableStreaming) {
-      if (streamingTimeout != null) {
-        ensurePositive("streamingTimeout", streamingTimeout);
-      }
 
       jobStreamer =
           new JobStreamerImpl(
@@ -202,15 +223,22 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor =
+          new BlockingExecutor(handlerExecutor(virtualThreadExecutor), maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor =
+          virtualThreadsEnabled
+              ? new BlockingExecutor(virtualThreadExecutor, maxJobsActive, timeout)
+              : executorService;
     }
 
+    final JobPollingController pollingController =
+        adaptivePollingEnabled
+            ? new AdaptiveJobPollingController(maxJobsActive, timeout)
+            : JobPollingController.fixed(maxJobsActive);
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive,
             executorService,
             pollInterval,
             jobRunnableFactory,
@@ -218,7 +246,9 @@ public final class JobWorkerBuilderImpl
             jobStreamer,
             backoffSupplier,
             metrics,
-            jobExecutor);
+            jobExecutor,
+            pollingController,
+            virtualThreadExecutor == null ? () -> {} : virtualThreadExecutor::shutdown);
     closeables.add(jobWorker);
     return jobWorker;
   }
@@ -241,6 +271,16 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  /**
+   * Returns the executor on which job handlers are run. With virtual threads enabled, every job is
+   * handled on its own virtual thread; the number of concurrent handlers is then bounded by the
+   * {@link BlockingExecutor} to {@code maxJobsActive}. Otherwise, the shared job worker executor is
+   * used.
+   */
+  private Executor handlerExecutor(final ExecutorService virtualThreadExecutor) {
+    return virtualThreadExecutor != null ? virtualThreadExecutor : executorService;
+  }
+
   private List<String> getTenantIds() {
     return customTenantIds.isEmpty() ? defaultTenantIds : customTenantIds;
   }
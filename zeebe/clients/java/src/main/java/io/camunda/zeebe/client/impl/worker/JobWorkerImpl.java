@@ -43,7 +43,8 @@ import org.slf4j.Logger;
  * <p>If a poll successfully provides jobs, the worker submits each job to the job handler. Every
  * time a job is completed, the worker checks if it still has enough jobs to work on. If not, it
  * will poll for new jobs. To determine what is considered enough jobs it compares its number of
- * {@code remainingJobs} with the {@code activationThreshold}.
+ * {@code remainingJobs} with the activation threshold of its {@link JobPollingController}, which
+ * also decides how many jobs are requested per poll.
  *
  * <p>If a poll fails with an error response, a retry is scheduled with a delay using the {@code
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default, this retry delay supplier
@@ -62,8 +63,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private static final String SUPPLY_RETRY_DELAY_FAILURE_MESSAGE =
       "Expected to supply retry delay, but an exception was thrown. Falling back to default backoff supplier";
   // job queue state
-  private final int maxJobsActive;
-  private final int activationThreshold;
+  private final JobPollingController pollingController;
   private final AtomicInteger remainingJobs;
 
   // job execution facilities
@@ -73,6 +73,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final JobStreamer jobStreamer;
   private final BackoffSupplier backoffSupplier;
   private final JobWorkerMetrics metrics;
+  private final Runnable jobExecutorShutdown;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
@@ -92,8 +93,57 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final BackoffSupplier backoffSupplier,
       final JobWorkerMetrics metrics,
       final Executor jobExecutor) {
-    this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
+    this(
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics,
+        jobExecutor,
+        JobPollingController.fixed(maxJobsActive));
+  }
+
+  public JobWorkerImpl(
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics,
+      final Executor jobExecutor,
+      final JobPollingController pollingController) {
+    this(
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics,
+        jobExecutor,
+        pollingController,
+        () -> {});
+  }
+
+  /**
+   * @param jobExecutorShutdown shuts down the job executor if it is owned by this worker, letting
+   *     already submitted jobs run to completion; called when the worker is closed
+   */
+  public JobWorkerImpl(
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics,
+      final Executor jobExecutor,
+      final JobPollingController pollingController,
+      final Runnable jobExecutorShutdown) {
+    this.pollingController = pollingController;
     remainingJobs = new AtomicInteger(0);
 
     this.executor = jobExecutor;
@@ -103,6 +153,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
     this.metrics = metrics;
+    this.jobExecutorShutdown = jobExecutorShutdown;
 
     claimableJobPoller = new AtomicReference<>(jobPoller);
     this.pollInterval = initialPollInterval;
@@ -129,6 +180,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   public void close() {
     acquiringJobs.set(false);
     jobStreamer.close();
+    jobExecutorShutdown.run();
   }
 
   /**
@@ -151,7 +203,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private boolean shouldPoll(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get() && remainingJobs <= pollingController.activationThreshold();
   }
 
   private void tryPoll() {
@@ -189,7 +241,8 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       schedulePoll();
       return;
     }
-    final int maxJobsToActivate = maxJobsActive - actualRemainingJobs;
+    final int maxJobsToActivate = pollingController.jobsToActivate(actualRemainingJobs);
+    pollingController.onPollStarted();
     jobPoller.poll(
         maxJobsToActivate,
         this::handleJob,
@@ -200,6 +253,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private void onPollSuccess(final JobPoller jobPoller, final int activatedJobs) {
     // first release, then lookup remaining jobs, to allow handleJobFinished() to poll
+    pollingController.onPollCompleted(activatedJobs);
     releaseJobPoller(jobPoller);
     final int actualRemainingJobs = remainingJobs.addAndGet(activatedJobs);
 
@@ -209,7 +263,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       backoff(jobPoller);
       LOG.trace("No jobs to activate via polling, will backoff and poll in {}", pollInterval);
     } else {
-      pollInterval = initialPollInterval;
+      pollInterval = pollingController.pollInterval(initialPollInterval);
       if (actualRemainingJobs <= 0) {
         schedulePoll();
       }
@@ -218,6 +272,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void onPollError(final JobPoller jobPoller, final Throwable error) {
+    pollingController.onPollFailed();
     backoff(jobPoller);
     LOG.debug(
         "Failed to activate jobs due to {}, delay retry for {} ms",
@@ -254,7 +309,9 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     try {
       executor.execute(jobHandlerFactory.create(job, finalizer));
     } catch (final RejectedExecutionException e) {
-      if (isClosed()) {
+      if (!isOpen()) {
+        // the job executor may have been shut down with the worker; the job is activated again
+        // once its timeout expires
         return;
       }
 
@@ -270,6 +327,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private void handleJobFinished() {
     final int actualRemainingJobs = remainingJobs.decrementAndGet();
+    pollingController.onJobHandled(actualRemainingJobs);
     if (!isPollScheduled.get() && shouldPoll(actualRemainingJobs)) {
       tryPoll();
     }
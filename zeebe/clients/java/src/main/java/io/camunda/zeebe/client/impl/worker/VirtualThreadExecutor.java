@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors which run every submitted task on a new virtual thread. The client is compiled
+ * for Java 8, so the virtual thread API is looked up reflectively; creating such an executor on a
+ * JVM without virtual threads (i.e. before Java 21) fails with an {@link
+ * UnsupportedOperationException}.
+ */
+final class VirtualThreadExecutor {
+
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+      lookupVirtualThreadPerTaskExecutor();
+
+  private VirtualThreadExecutor() {}
+
+  /**
+   * @return true if the current JVM supports virtual threads, false otherwise
+   */
+  static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Returns a new executor which starts a new virtual thread for each task. The executor is not
+   * bounded; callers are expected to limit the number of concurrently submitted tasks themselves.
+   *
+   * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+   */
+  static ExecutorService create() {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Expected to execute job handlers on virtual threads, but virtual threads are not supported by the current JVM (%s); use Java 21 or newer, or disable virtual threads for this worker",
+              System.getProperty("java.version")));
+    }
+
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke();
+    } catch (final Throwable e) {
+      throw new UnsupportedOperationException(
+          "Expected to create a virtual thread executor, but an unexpected error occurred", e);
+    }
+  }
+
+  private static MethodHandle lookupVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
@@ -17,19 +17,30 @@ package io.camunda.zeebe.client.impl.worker.metrics;
 
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.Objects;
 
 public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
   private final Counter jobActivatedCounter;
   private final Counter jobHandledCounter;
+  private final Timer jobHandlerLatencyTimer;
 
   public MicrometerJobWorkerMetrics(
       final Counter jobActivatedCounter, final Counter jobHandledCounter) {
+    this(jobActivatedCounter, jobHandledCounter, null);
+  }
+
+  public MicrometerJobWorkerMetrics(
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final Timer jobHandlerLatencyTimer) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
         Objects.requireNonNull(jobHandledCounter, "must specify a job handled counter");
+    this.jobHandlerLatencyTimer = jobHandlerLatencyTimer;
   }
 
   @Override
@@ -41,4 +52,11 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     jobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobHandlerLatency(final Duration latency) {
+    if (jobHandlerLatencyTimer != null) {
+      jobHandlerLatencyTimer.record(latency);
+    }
+  }
 }
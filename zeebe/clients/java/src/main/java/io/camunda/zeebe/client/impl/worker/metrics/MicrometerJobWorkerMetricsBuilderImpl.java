@@ -22,6 +22,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 
 public final class MicrometerJobWorkerMetricsBuilderImpl
     implements MicrometerJobWorkerMetricsBuilder {
@@ -44,6 +45,9 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
   public JobWorkerMetrics build() {
     final Counter jobActivatedCounter = meterRegistry.counter(Names.JOB_ACTIVATED.asString(), tags);
     final Counter jobHandledCounter = meterRegistry.counter(Names.JOB_HANDLED.asString(), tags);
-    return new MicrometerJobWorkerMetrics(jobActivatedCounter, jobHandledCounter);
+    final Timer jobHandlerLatencyTimer =
+        meterRegistry.timer(Names.JOB_HANDLER_LATENCY.asString(), tags);
+    return new MicrometerJobWorkerMetrics(
+        jobActivatedCounter, jobHandledCounter, jobHandlerLatencyTimer);
   }
 }
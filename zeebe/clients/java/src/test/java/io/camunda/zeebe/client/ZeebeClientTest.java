@@ -22,6 +22,7 @@ import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.STREAM_ENABLED;
 import static io.camunda.zeebe.client.ClientProperties.USE_DEFAULT_RETRY_POLICY;
 import static io.camunda.zeebe.client.ClientProperties.USE_PLAINTEXT_CONNECTION;
+import static io.camunda.zeebe.client.ClientProperties.VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.CA_CERTIFICATE_VAR;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.DEFAULT_GATEWAY_ADDRESS;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.DEFAULT_GRPC_ADDRESS;
@@ -36,6 +37,7 @@ import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.PREFER_REST_VA
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.REST_ADDRESS_VAR;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.USE_DEFAULT_RETRY_POLICY_VAR;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.ZEEBE_CLIENT_WORKER_STREAM_ENABLED;
+import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED;
 import static io.camunda.zeebe.client.impl.util.DataSizeUtil.ONE_MB;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -101,6 +103,7 @@ public final class ZeebeClientTest extends ClientTest {
       assertThat(configuration.getDefaultTenantId())
           .isEqualTo(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.getDefaultJobWorkerStreamEnabled()).isFalse();
+      assertThat(configuration.getDefaultJobWorkerVirtualThreadsEnabled()).isFalse();
       assertThat(configuration.getDefaultJobWorkerTenantIds())
           .containsExactly(CommandWithTenantStep.DEFAULT_TENANT_IDENTIFIER);
       assertThat(configuration.preferRestOverGrpc()).isFalse();
@@ -203,6 +206,38 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder2.getDefaultJobWorkerStreamEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldEnableVirtualThreadsWithProperty() {
+    // given
+    final Properties properties = new Properties();
+    properties.putIfAbsent(VIRTUAL_THREADS_ENABLED, "true");
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.withProperties(properties);
+
+    // when
+    builder.build();
+
+    // then
+    assertThat(builder.getDefaultJobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldEnableVirtualThreadsWithEnvironmentVariableWhenApplied() {
+    // given
+    Environment.system().put(ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS_ENABLED, "true");
+
+    final ZeebeClientBuilderImpl builder1 = new ZeebeClientBuilderImpl();
+    final ZeebeClientBuilderImpl builder2 = new ZeebeClientBuilderImpl();
+    builder1.applyEnvironmentVariableOverrides(false);
+    builder2.applyEnvironmentVariableOverrides(true);
+
+    // when
+    builder1.build();
+    builder2.build();
+    assertThat(builder1.getDefaultJobWorkerVirtualThreadsEnabled()).isFalse();
+    assertThat(builder2.getDefaultJobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
   @Test
   public void environmentVariableShouldOverrideProperty() {
     // given
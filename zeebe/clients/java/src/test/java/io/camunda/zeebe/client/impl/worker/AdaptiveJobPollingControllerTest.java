@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveJobPollingControllerTest {
+
+  private static final int MAX_JOBS_ACTIVE = 100;
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldBehaveLikeFixedControllerWithoutSamples() {
+    // given
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+    final JobPollingController fixed = JobPollingController.fixed(MAX_JOBS_ACTIVE);
+
+    // then
+    assertThat(controller.activationThreshold()).isEqualTo(fixed.activationThreshold());
+    assertThat(controller.jobsToActivate(10)).isEqualTo(fixed.jobsToActivate(10));
+    assertThat(controller.pollInterval(100)).isEqualTo(100);
+  }
+
+  @Test
+  void shouldRaiseThresholdForFastWorkers() {
+    // given - a job is handled every millisecond, and polls take 40 ms
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+    handleJobs(controller, 10, 1);
+    poll(controller, 40, 10);
+
+    // then - keeps enough jobs to stay busy for twice the poll latency
+    assertThat(controller.activationThreshold()).isEqualTo(80);
+  }
+
+  @Test
+  void shouldLowerThresholdForSlowWorkers() {
+    // given - a job is handled every second, and polls take 40 ms
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+    handleJobs(controller, 10, 1_000);
+    poll(controller, 40, 10);
+
+    // then
+    assertThat(controller.activationThreshold()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotActivateMoreJobsThanCanBeHandledWithinTimeout() {
+    // given - a job is handled every second, and jobs time out after 10 seconds
+    final AdaptiveJobPollingController controller = createController(Duration.ofSeconds(10));
+    handleJobs(controller, 10, 1_000);
+
+    // then - only half the timeout is used, minus the jobs already waiting
+    assertThat(controller.jobsToActivate(0)).isEqualTo(5);
+    assertThat(controller.jobsToActivate(3)).isEqualTo(2);
+    assertThat(controller.jobsToActivate(10)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotActivateMoreJobsThanCapacity() {
+    // given
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+    handleJobs(controller, 10, 1);
+
+    // then
+    assertThat(controller.jobsToActivate(90)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldIgnoreIdleTimeWhenMeasuringThroughput() {
+    // given
+    final AdaptiveJobPollingController controller = createController(Duration.ofSeconds(10));
+    handleJobs(controller, 10, 1);
+
+    // when - the worker runs dry and idles for a minute
+    controller.onJobHandled(0);
+    clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    controller.onJobHandled(5);
+
+    // then
+    assertThat(controller.jobsToActivate(0)).isEqualTo(MAX_JOBS_ACTIVE);
+  }
+
+  @Test
+  void shouldStretchPollIntervalOnEmptyResponses() {
+    // given
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      poll(controller, 10, 0);
+    }
+
+    // then
+    assertThat(controller.pollInterval(100))
+        .isEqualTo(100L * AdaptiveJobPollingController.MAX_POLL_INTERVAL_FACTOR);
+  }
+
+  @Test
+  void shouldResetPollIntervalWhenJobsAreActivatedAgain() {
+    // given
+    final AdaptiveJobPollingController controller = createController(Duration.ofMinutes(5));
+    for (int i = 0; i < 100; i++) {
+      poll(controller, 10, 0);
+    }
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      poll(controller, 10, 5);
+    }
+
+    // then
+    assertThat(controller.pollInterval(100)).isEqualTo(100);
+  }
+
+  private AdaptiveJobPollingController createController(final Duration jobTimeout) {
+    return new AdaptiveJobPollingController(MAX_JOBS_ACTIVE, jobTimeout, clock::get);
+  }
+
+  private void handleJobs(
+      final AdaptiveJobPollingController controller, final int count, final long intervalMs) {
+    for (int i = 0; i < count; i++) {
+      clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(intervalMs));
+      controller.onJobHandled(count - i);
+    }
+  }
+
+  private void poll(
+      final AdaptiveJobPollingController controller,
+      final long latencyMs,
+      final int activatedJobs) {
+    controller.onPollStarted();
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    controller.onPollCompleted(activatedJobs);
+  }
+}
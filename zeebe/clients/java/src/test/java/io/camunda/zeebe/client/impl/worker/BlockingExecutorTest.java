@@ -57,6 +57,31 @@ public class BlockingExecutorTest {
         .isInstanceOf(RejectedExecutionException.class);
   }
 
+  @Test
+  public void shouldReleaseWhenWrappedExecutorRejects() {
+    // given
+    final AtomicBoolean atomicBoolean = new AtomicBoolean(false);
+    final AtomicBoolean reject = new AtomicBoolean(true);
+    final Executor rejecting =
+        command -> {
+          if (reject.get()) {
+            throw new RejectedExecutionException("expected");
+          }
+          command.run();
+        };
+    final BlockingExecutor executor = new BlockingExecutor(rejecting, 1, Duration.ofMillis(10));
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class)
+        .hasMessage("expected");
+
+    // when
+    reject.set(false);
+    executor.execute(() -> atomicBoolean.set(true));
+
+    // then
+    assertThat(atomicBoolean).isTrue();
+  }
+
   @Test
   public void shouldReleaseAndRun() {
     // given
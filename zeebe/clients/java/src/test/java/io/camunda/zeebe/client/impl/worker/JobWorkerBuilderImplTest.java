@@ -32,6 +32,7 @@ import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobs
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
 import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
 import java.io.Closeable;
@@ -47,6 +48,8 @@ import org.awaitility.core.ThrowingRunnable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -308,6 +311,26 @@ class JobWorkerBuilderImplTest {
         () -> assertThat(tenantIdCaptor.getValue()).containsExactlyInAnyOrder("1", "2", "3", "4"));
   }
 
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21)
+  void shouldNotRegisterVirtualThreadExecutorOnClient() {
+    // given
+    final JobWorkerBuilderStep3 builder =
+        jobWorkerBuilder
+            .jobType("type")
+            .handler((c, j) -> {})
+            .timeout(1)
+            .name("test")
+            .maxJobsActive(30)
+            .virtualThreadsEnabled(true);
+
+    // when
+    final JobWorker jobWorker = builder.open();
+
+    // then the executor is shut down by the worker instead of the client
+    assertThat(closeables).containsExactly((Closeable) jobWorker);
+  }
+
   private void await(final ThrowingRunnable throwingRunnable) {
     Awaitility.await()
         .ignoreExceptions()
@@ -22,6 +22,7 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
 import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
 import io.camunda.zeebe.client.impl.ZeebeClientImpl;
@@ -50,6 +51,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.awaitility.Awaitility;
@@ -276,6 +278,36 @@ public final class JobWorkerImplTest {
     }
   }
 
+  @Test
+  public void shouldShutDownOwnJobExecutorOnClose() {
+    // given
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+    final JobWorkerImpl jobWorker =
+        new JobWorkerImpl(
+            scheduler,
+            Duration.ofHours(1),
+            (job, doneCallback) -> doneCallback,
+            (maxJobsToActivate, jobConsumer, doneCallback, errorCallback, openSupplier) -> {},
+            JobStreamer.noop(),
+            prev -> prev,
+            JobWorkerMetrics.noop(),
+            jobExecutor,
+            JobPollingController.fixed(32),
+            jobExecutor::shutdown);
+
+    try {
+      // when
+      jobWorker.close();
+
+      // then
+      assertThat(jobExecutor.isShutdown()).isTrue();
+    } finally {
+      scheduler.shutdownNow();
+      jobExecutor.shutdownNow();
+    }
+  }
+
   /**
    * This mocked gateway is able to record metrics on polling for new jobs and easily switch how it
    * responds to polling.
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+final class VirtualThreadExecutorTest {
+
+  @Test
+  void shouldRunTaskOnVirtualThread() throws Exception {
+    // given
+    final ExecutorService executor = VirtualThreadExecutor.create();
+    final CompletableFuture<Thread> executingThread = new CompletableFuture<>();
+
+    // when
+    try {
+      executor.execute(() -> executingThread.complete(Thread.currentThread()));
+
+      // then
+      final Thread thread = executingThread.get(5, TimeUnit.SECONDS);
+      assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldLimitConcurrentTasksToMaxJobsActive() throws Exception {
+    // given
+    final int maxJobsActive = 4;
+    final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.create();
+    final BlockingExecutor executor =
+        new BlockingExecutor(virtualThreadExecutor, maxJobsActive, Duration.ofMillis(100));
+    final CountDownLatch blockHandlers = new CountDownLatch(1);
+    final CountDownLatch handlersStarted = new CountDownLatch(maxJobsActive);
+    final AtomicInteger rejected = new AtomicInteger();
+
+    try {
+      // when
+      for (int i = 0; i < maxJobsActive + 1; i++) {
+        try {
+          executor.execute(
+              () -> {
+                handlersStarted.countDown();
+                awaitQuietly(blockHandlers);
+              });
+        } catch (final RejectedExecutionException e) {
+          rejected.incrementAndGet();
+        }
+      }
+
+      // then
+      assertThat(handlersStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(rejected).hasValue(1);
+    } finally {
+      blockHandlers.countDown();
+      virtualThreadExecutor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldReleaseLeaseWhenExecutorIsShutDown() {
+    // given
+    final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.create();
+    final BlockingExecutor executor =
+        new BlockingExecutor(virtualThreadExecutor, 1, Duration.ofMillis(100));
+    virtualThreadExecutor.shutdown();
+
+    // when
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> executor.execute(() -> {}))
+          .isInstanceOf(RejectedExecutionException.class)
+          .hasMessageNotContaining("Not able to acquire lease");
+    }
+  }
+
+  private static void awaitQuietly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -22,9 +22,12 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.condition.VerboseCondition;
@@ -58,6 +61,19 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldRecordJobHandlerLatency() {
+    // when
+    metrics.jobHandlerLatency(Duration.ofMillis(10));
+    metrics.jobHandlerLatency(Duration.ofMillis(30));
+
+    // then
+    final Timer timer = meterRegistry.find(Names.JOB_HANDLER_LATENCY.asString()).tags(tags).timer();
+    Assertions.assertThat(timer).isNotNull();
+    Assertions.assertThat(timer.count()).isEqualTo(2);
+    Assertions.assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -236,6 +236,32 @@ public final class CreateProcessInstanceTest extends ClientTest {
     assertThat(startInstructionB.getElementId()).isEqualTo(ELEMENT_ID_B);
   }
 
+  @Test
+  public void shouldSetCorrelationKey() {
+    // when
+    client
+        .newCreateInstanceCommand()
+        .processDefinitionKey(123)
+        .correlationKey("order-123")
+        .send()
+        .join();
+
+    // then
+    final CreateProcessInstanceRequest request = gatewayService.getLastRequest();
+    assertThat(request.hasCorrelationKey()).isTrue();
+    assertThat(request.getCorrelationKey()).isEqualTo("order-123");
+  }
+
+  @Test
+  public void shouldNotSetCorrelationKeyByDefault() {
+    // when
+    client.newCreateInstanceCommand().processDefinitionKey(123).send().join();
+
+    // then
+    final CreateProcessInstanceRequest request = gatewayService.getLastRequest();
+    assertThat(request.hasCorrelationKey()).isFalse();
+  }
+
   @Test
   public void shouldUseDefaultTenantId() {
     // when
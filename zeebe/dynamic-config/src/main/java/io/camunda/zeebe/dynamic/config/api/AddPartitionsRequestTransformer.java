@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dynamic.config.api;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationRequestFailedException.InvalidRequest;
+import io.camunda.zeebe.dynamic.config.changes.ConfigurationChangeCoordinator.ConfigurationChangeRequest;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionBootstrapOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionJoinOperation;
+import io.camunda.zeebe.dynamic.config.state.MemberState.State;
+import io.camunda.zeebe.dynamic.config.util.RoundRobinPartitionDistributor;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Adds partitions to the cluster until it has the requested number of partitions. The new
+ * partitions are distributed over the active members in the same round-robin fashion as the
+ * initial partitions, using the current replication factor. The existing partitions are not moved.
+ *
+ * <p>Each new partition is first bootstrapped on its primary member, after which the remaining
+ * replicas join it one by one.
+ */
+public class AddPartitionsRequestTransformer implements ConfigurationChangeRequest {
+
+  private final int partitionCount;
+
+  public AddPartitionsRequestTransformer(final int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  @Override
+  public Either<Exception, List<ClusterConfigurationChangeOperation>> operations(
+      final ClusterConfiguration clusterConfiguration) {
+    final int currentPartitionCount = clusterConfiguration.partitionCount();
+    if (partitionCount <= currentPartitionCount) {
+      return Either.left(
+          new InvalidRequest(
+              String.format(
+                  "Expected to add partitions, but the requested partition count [%d] is not "
+                      + "greater than the current partition count [%d]",
+                  partitionCount, currentPartitionCount)));
+    }
+
+    final int replicationFactor = clusterConfiguration.minReplicationFactor();
+    if (replicationFactor <= 0) {
+      return Either.left(
+          new InvalidRequest(
+              String.format("Replication factor [%d] must be greater than 0", replicationFactor)));
+    }
+
+    final var activeMembers =
+        clusterConfiguration.members().entrySet().stream()
+            .filter(entry -> entry.getValue().state() == State.ACTIVE)
+            .map(Entry::getKey)
+            .collect(Collectors.toSet());
+
+    // distribute all partitions, so that the new ones continue the round-robin of the existing ones
+    final var partitionIds =
+        IntStream.rangeClosed(1, partitionCount)
+            .mapToObj(i -> PartitionId.from("temp", i))
+            .sorted()
+            .toList();
+    final var distribution =
+        new RoundRobinPartitionDistributor()
+            .distributePartitions(activeMembers, partitionIds, replicationFactor);
+
+    final List<ClusterConfigurationChangeOperation> operations = new ArrayList<>();
+    distribution.stream()
+        .filter(metadata -> metadata.id().id() > currentPartitionCount)
+        .sorted(Comparator.comparing(metadata -> metadata.id().id()))
+        .forEach(metadata -> operations.addAll(addPartition(metadata)));
+
+    return Either.right(operations);
+  }
+
+  private List<ClusterConfigurationChangeOperation> addPartition(
+      final PartitionMetadata metadata) {
+    final int partitionId = metadata.id().id();
+    final MemberId primary = metadata.getPrimary().orElseThrow();
+
+    final List<ClusterConfigurationChangeOperation> operations = new ArrayList<>();
+    operations.add(
+        new PartitionBootstrapOperation(primary, partitionId, metadata.getPriority(primary)));
+    metadata.members().stream()
+        .filter(member -> !member.equals(primary))
+        .sorted(Comparator.comparing(member -> Integer.parseInt(member.id())))
+        .map(
+            member ->
+                new PartitionJoinOperation(member, partitionId, metadata.getPriority(member)))
+        .forEach(operations::add);
+    return operations;
+  }
+}
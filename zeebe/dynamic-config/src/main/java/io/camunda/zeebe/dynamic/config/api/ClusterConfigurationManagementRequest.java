@@ -42,6 +42,13 @@ public sealed interface ClusterConfigurationManagementRequest {
     }
   }
 
+  /**
+   * Adds new partitions to the cluster, such that it has {@code partitionCount} partitions
+   * afterwards. The existing partitions are not moved.
+   */
+  record AddPartitionsRequest(int partitionCount, boolean dryRun)
+      implements ClusterConfigurationManagementRequest {}
+
   record ExporterDisableRequest(String exporterId, boolean dryRun)
       implements ClusterConfigurationManagementRequest {}
 
@@ -9,6 +9,7 @@ package io.camunda.zeebe.dynamic.config.api;
 
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddMembersRequest;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddPartitionsRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterDisableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterEnableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.JoinPartitionRequest;
@@ -116,6 +117,17 @@ public final class ClusterConfigurationManagementRequestSender {
         TIMEOUT);
   }
 
+  public CompletableFuture<Either<ErrorResponse, ClusterConfigurationChangeResponse>>
+      addPartitions(final AddPartitionsRequest addPartitionsRequest) {
+    return communicationService.send(
+        ClusterConfigurationRequestTopics.ADD_PARTITIONS.topic(),
+        addPartitionsRequest,
+        serializer::encodeAddPartitionsRequest,
+        serializer::decodeTopologyChangeResponse,
+        coordinatorSupplier.getDefaultCoordinator(),
+        TIMEOUT);
+  }
+
   public CompletableFuture<Either<ErrorResponse, ClusterConfigurationChangeResponse>>
       disableExporter(final ExporterDisableRequest exporterDisableRequest) {
     return communicationService.send(
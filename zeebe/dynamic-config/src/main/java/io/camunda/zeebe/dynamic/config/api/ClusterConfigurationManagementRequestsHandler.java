@@ -9,6 +9,7 @@ package io.camunda.zeebe.dynamic.config.api;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddMembersRequest;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddPartitionsRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.CancelChangeRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterDisableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterEnableRequest;
@@ -128,6 +129,14 @@ public final class ClusterConfigurationManagementRequestsHandler
         new ForceScaleDownRequestTransformer(forceScaleDownRequest.members(), localMemberId));
   }
 
+  @Override
+  public ActorFuture<ClusterConfigurationChangeResponse> addPartitions(
+      final AddPartitionsRequest addPartitionsRequest) {
+    return handleRequest(
+        addPartitionsRequest.dryRun(),
+        new AddPartitionsRequestTransformer(addPartitionsRequest.partitionCount()));
+  }
+
   @Override
   public ActorFuture<ClusterConfigurationChangeResponse> disableExporter(
       final ExporterDisableRequest exporterDisableRequest) {
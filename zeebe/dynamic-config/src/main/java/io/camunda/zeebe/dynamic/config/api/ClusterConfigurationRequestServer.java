@@ -44,6 +44,7 @@ public final class ClusterConfigurationRequestServer implements AutoCloseable {
     registerGetTopologyQueryHandler();
     registerTopologyCancelHandler();
     registerForceScaleDownHandler();
+    registerAddPartitionsHandler();
     registerDisableExporterHandler();
     registerEnableExporterHandler();
   }
@@ -127,6 +128,14 @@ public final class ClusterConfigurationRequestServer implements AutoCloseable {
         this::encodeResponse);
   }
 
+  private void registerAddPartitionsHandler() {
+    communicationService.replyTo(
+        ClusterConfigurationRequestTopics.ADD_PARTITIONS.topic(),
+        serializer::decodeAddPartitionsRequest,
+        request -> mapResponse(clusterConfigurationManagementApi.addPartitions(request)),
+        this::encodeResponse);
+  }
+
   private void registerGetTopologyQueryHandler() {
     communicationService.replyTo(
         ClusterConfigurationRequestTopics.QUERY_TOPOLOGY.topic(),
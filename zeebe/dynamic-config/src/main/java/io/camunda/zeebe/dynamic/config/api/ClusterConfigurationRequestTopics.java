@@ -14,6 +14,7 @@ public enum ClusterConfigurationRequestTopics {
   LEAVE_PARTITION("topology-partition-leave"),
   REASSIGN_PARTITIONS("topology-partition-reassign"),
   SCALE_MEMBERS("topology-member-scale"),
+  ADD_PARTITIONS("topology-partition-add"),
   QUERY_TOPOLOGY("topology-query"),
   CANCEL_CHANGE("topology-change-cancel"),
   FORCE_SCALE_DOWN("topology-force-scale-down"),
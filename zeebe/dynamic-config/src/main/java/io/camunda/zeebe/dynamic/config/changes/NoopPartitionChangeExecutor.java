@@ -24,6 +24,12 @@ public final class NoopPartitionChangeExecutor implements PartitionChangeExecuto
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> bootstrap(
+      final int partitionId, final int priority, final DynamicPartitionConfig partitionConfig) {
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> leave(final int partitionId) {
     return CompletableActorFuture.completed(null);
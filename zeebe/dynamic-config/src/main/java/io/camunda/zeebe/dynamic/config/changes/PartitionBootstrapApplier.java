@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dynamic.config.changes;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.dynamic.config.changes.ConfigurationChangeAppliers.MemberOperationApplier;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.MemberState.State;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.util.Either;
+import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
+
+/**
+ * A Partition Bootstrap operation is executed when a new partition is added to the cluster. The
+ * member starts the partition as the only member of its replication group. This is allowed only
+ * when the member is active, and no other member replicates the partition yet.
+ */
+final class PartitionBootstrapApplier implements MemberOperationApplier {
+  private final int partitionId;
+  private final int priority;
+  private final MemberId localMemberId;
+  private final PartitionChangeExecutor partitionChangeExecutor;
+  private DynamicPartitionConfig partitionConfig;
+
+  PartitionBootstrapApplier(
+      final int partitionId,
+      final int priority,
+      final MemberId localMemberId,
+      final PartitionChangeExecutor partitionChangeExecutor) {
+    this.partitionId = partitionId;
+    this.priority = priority;
+    this.localMemberId = localMemberId;
+    this.partitionChangeExecutor = partitionChangeExecutor;
+  }
+
+  @Override
+  public MemberId memberId() {
+    return localMemberId;
+  }
+
+  @Override
+  public Either<Exception, UnaryOperator<MemberState>> initMemberState(
+      final ClusterConfiguration currentClusterConfiguration) {
+
+    final boolean localMemberIsActive =
+        currentClusterConfiguration.hasMember(localMemberId)
+            && currentClusterConfiguration.getMember(localMemberId).state() == State.ACTIVE;
+    if (!localMemberIsActive) {
+      return Either.left(
+          new IllegalStateException(
+              "Expected to bootstrap partition, but the local member is not active"));
+    }
+
+    final var partitionExistsInOtherMember =
+        currentClusterConfiguration.members().entrySet().stream()
+            .filter(member -> !member.getKey().equals(localMemberId))
+            .anyMatch(member -> member.getValue().hasPartition(partitionId));
+    if (partitionExistsInOtherMember) {
+      return Either.left(
+          new IllegalStateException(
+              String.format(
+                  "Expected to bootstrap partition %s, but the partition already exists",
+                  partitionId)));
+    }
+
+    final MemberState localMemberState = currentClusterConfiguration.getMember(localMemberId);
+    if (localMemberState.hasPartition(partitionId)) {
+      final var partitionState = localMemberState.getPartition(partitionId);
+      if (partitionState.state() != PartitionState.State.JOINING) {
+        return Either.left(
+            new IllegalStateException(
+                String.format(
+                    "Expected to bootstrap partition %s, but the local member already has the partition at state %s",
+                    partitionId, partitionState.state())));
+      }
+
+      // The state is already JOINING, so we don't need to change it. This can happen when the node
+      // was restarted while applying the bootstrap operation.
+      partitionConfig = partitionState.config();
+      return Either.right(memberState -> memberState);
+    }
+
+    partitionConfig = getPartitionConfig(currentClusterConfiguration);
+    return Either.right(
+        memberState ->
+            memberState.addPartition(
+                partitionId, PartitionState.joining(priority, partitionConfig)));
+  }
+
+  @Override
+  public ActorFuture<UnaryOperator<MemberState>> applyOperation() {
+    final CompletableActorFuture<UnaryOperator<MemberState>> result =
+        new CompletableActorFuture<>();
+
+    partitionChangeExecutor
+        .bootstrap(partitionId, priority, partitionConfig)
+        .onComplete(
+            (ignore, error) -> {
+              if (error == null) {
+                result.complete(
+                    memberState ->
+                        memberState.updatePartition(partitionId, PartitionState::toActive));
+              } else {
+                result.completeExceptionally(error);
+              }
+            });
+    return result;
+  }
+
+  private DynamicPartitionConfig getPartitionConfig(
+      final ClusterConfiguration currentClusterConfiguration) {
+    // The exporters are configured for the whole cluster, so the new partition starts with the
+    // same configuration as the existing ones.
+    return currentClusterConfiguration.members().values().stream()
+        .flatMap(member -> member.partitions().entrySet().stream())
+        .min(Entry.comparingByKey())
+        .map(partition -> partition.getValue().config())
+        .orElseGet(DynamicPartitionConfig::init);
+  }
+}
@@ -35,6 +35,20 @@ public interface PartitionChangeExecutor {
       Map<MemberId, Integer> membersWithPriority,
       DynamicPartitionConfig partitionConfig);
 
+  /**
+   * The implementation of this method must start a new partition on this member, with this member
+   * as the only member of the replication group. Other members join the partition afterwards. The
+   * implementation must be idempotent. If the node restarts after this method was called, but
+   * before marking the operation as completed, it will be retried after the restart.
+   *
+   * @param partitionId id of the new partition
+   * @param priority priority of this member used for leader election
+   * @param partitionConfig the initial configuration of the partition
+   * @return a future that completes when the partition is started
+   */
+  ActorFuture<Void> bootstrap(
+      int partitionId, int priority, DynamicPartitionConfig partitionConfig);
+
   /**
    * The implementation of this method must remove the member from the replication group of the
    * given partition and stops the partition on this member. The implementation must be idempotent.
@@ -32,6 +32,9 @@ public interface ClusterConfigurationRequestsSerializer {
   byte[] encodeCancelChangeRequest(
       ClusterConfigurationManagementRequest.CancelChangeRequest cancelChangeRequest);
 
+  byte[] encodeAddPartitionsRequest(
+      ClusterConfigurationManagementRequest.AddPartitionsRequest addPartitionsRequest);
+
   byte[] encodeExporterDisableRequest(
       ClusterConfigurationManagementRequest.ExporterDisableRequest exporterDisableRequest);
 
@@ -58,6 +61,9 @@ public interface ClusterConfigurationRequestsSerializer {
   ClusterConfigurationManagementRequest.CancelChangeRequest decodeCancelChangeRequest(
       byte[] encodedState);
 
+  ClusterConfigurationManagementRequest.AddPartitionsRequest decodeAddPartitionsRequest(
+      byte[] encodedRequest);
+
   ClusterConfigurationManagementRequest.ExporterDisableRequest decodeExporterDisableRequest(
       byte[] encodedRequest);
 
@@ -12,6 +12,7 @@ import com.google.protobuf.Timestamp;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationChangeResponse;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddMembersRequest;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddPartitionsRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.CancelChangeRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterDisableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterEnableRequest;
@@ -38,6 +39,7 @@ import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberLeaveOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberRemoveOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionBootstrapOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionDisableExporterOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionEnableExporterOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionForceReconfigureOperation;
@@ -395,6 +397,12 @@ public class ProtoBufSerializer
       case final PartitionEnableExporterOperation enableExporterOperation ->
           builder.setPartitionEnableExporter(
               encodeEnabledExporterOperation(enableExporterOperation));
+      case final PartitionBootstrapOperation bootstrapOperation ->
+          builder.setPartitionBootstrap(
+              Topology.PartitionBootstrapOperation.newBuilder()
+                  .setPartitionId(bootstrapOperation.partitionId())
+                  .setPriority(bootstrapOperation.priority())
+                  .build());
       default ->
           throw new IllegalArgumentException(
               "Unknown operation type: " + operation.getClass().getSimpleName());
@@ -504,6 +512,11 @@ public class ProtoBufSerializer
           enableExporterOperation.getPartitionId(),
           enableExporterOperation.getExporterId(),
           initializeFrom);
+    } else if (topologyChangeOperation.hasPartitionBootstrap()) {
+      return new PartitionBootstrapOperation(
+          MemberId.from(topologyChangeOperation.getMemberId()),
+          topologyChangeOperation.getPartitionBootstrap().getPartitionId(),
+          topologyChangeOperation.getPartitionBootstrap().getPriority());
     } else {
       // If the node does not know of a type, the exception thrown will prevent
       // ClusterTopologyGossiper from processing the incoming topology. This helps to prevent any
@@ -590,6 +603,15 @@ public class ProtoBufSerializer
         .toByteArray();
   }
 
+  @Override
+  public byte[] encodeAddPartitionsRequest(final AddPartitionsRequest addPartitionsRequest) {
+    return Requests.AddPartitionsRequest.newBuilder()
+        .setPartitionCount(addPartitionsRequest.partitionCount())
+        .setDryRun(addPartitionsRequest.dryRun())
+        .build()
+        .toByteArray();
+  }
+
   @Override
   public byte[] encodeExporterDisableRequest(final ExporterDisableRequest exporterDisableRequest) {
     return Requests.ExporterDisableRequest.newBuilder()
@@ -708,6 +730,17 @@ public class ProtoBufSerializer
     }
   }
 
+  @Override
+  public AddPartitionsRequest decodeAddPartitionsRequest(final byte[] encodedRequest) {
+    try {
+      final var addPartitionsRequest = Requests.AddPartitionsRequest.parseFrom(encodedRequest);
+      return new AddPartitionsRequest(
+          addPartitionsRequest.getPartitionCount(), addPartitionsRequest.getDryRun());
+    } catch (final InvalidProtocolBufferException e) {
+      throw new DecodingFailed(e);
+    }
+  }
+
   @Override
   public ExporterDisableRequest decodeExporterDisableRequest(final byte[] encodedRequest) {
     try {
@@ -107,5 +107,17 @@ public sealed interface ClusterConfigurationChangeOperation {
     record PartitionEnableExporterOperation(
         MemberId memberId, int partitionId, String exporterId, Optional<String> initializeFrom)
         implements PartitionChangeOperation {}
+
+    /**
+     * Operation to bootstrap a new partition, which is not replicated by any member yet. The given
+     * member forms the initial replication group on its own; other replicas are added afterwards
+     * via {@link PartitionJoinOperation}.
+     *
+     * @param memberId the member id of the member that will bootstrap the partition
+     * @param partitionId id of the partition to bootstrap
+     * @param priority priority of the member in the partition used for Raft's priority election
+     */
+    record PartitionBootstrapOperation(MemberId memberId, int partitionId, int priority)
+        implements PartitionChangeOperation {}
   }
 }
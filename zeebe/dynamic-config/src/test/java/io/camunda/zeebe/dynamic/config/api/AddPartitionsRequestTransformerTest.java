@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dynamic.config.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationRequestFailedException.InvalidRequest;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionBootstrapOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionJoinOperation;
+import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class AddPartitionsRequestTransformerTest {
+
+  private final MemberId id0 = MemberId.from("0");
+  private final MemberId id1 = MemberId.from("1");
+  private final DynamicPartitionConfig config = DynamicPartitionConfig.init();
+
+  private final ClusterConfiguration clusterConfiguration =
+      ClusterConfiguration.init()
+          .addMember(id0, MemberState.initializeAsActive(Map.of()))
+          .addMember(id1, MemberState.initializeAsActive(Map.of()))
+          .updateMember(id0, m -> m.addPartition(1, PartitionState.active(2, config)))
+          .updateMember(id1, m -> m.addPartition(1, PartitionState.active(1, config)));
+
+  @Test
+  void shouldBootstrapNewPartitionsBeforeJoiningReplicas() {
+    // given
+    final var transformer = new AddPartitionsRequestTransformer(3);
+
+    // when
+    final var result = transformer.operations(clusterConfiguration);
+
+    // then
+    EitherAssert.assertThat(result).isRight();
+    assertThat(result.get())
+        .containsExactly(
+            new PartitionBootstrapOperation(id1, 2, 2),
+            new PartitionJoinOperation(id0, 2, 1),
+            new PartitionBootstrapOperation(id0, 3, 2),
+            new PartitionJoinOperation(id1, 3, 1));
+  }
+
+  @Test
+  void shouldRejectIfPartitionCountIsNotIncreased() {
+    // given
+    final var transformer = new AddPartitionsRequestTransformer(1);
+
+    // when
+    final var result = transformer.operations(clusterConfiguration);
+
+    // then
+    EitherAssert.assertThat(result).isLeft();
+    assertThat(result.getLeft())
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessageContaining("is not greater than the current partition count");
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dynamic.config.changes;
+
+import static io.camunda.zeebe.test.util.asserts.EitherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.dynamic.config.ClusterConfigurationAssert;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState.State;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class PartitionBootstrapApplierTest {
+  private final PartitionChangeExecutor partitionChangeExecutor =
+      mock(PartitionChangeExecutor.class);
+  private final MemberId localMemberId = MemberId.from("1");
+
+  private final DynamicPartitionConfig partitionConfig = DynamicPartitionConfig.init();
+
+  @Test
+  void shouldRejectBootstrapIfMemberIsNotActive() {
+    // given
+    final ClusterConfiguration topologyWithMemberNotActive =
+        ClusterConfiguration.init()
+            .addMember(localMemberId, MemberState.initializeAsActive(Map.of()))
+            .updateMember(localMemberId, MemberState::toLeaving);
+
+    // when
+    final var result =
+        new PartitionBootstrapApplier(2, 1, localMemberId, partitionChangeExecutor)
+            .init(topologyWithMemberNotActive);
+
+    // then
+    assertThat(result).isLeft();
+    Assertions.assertThat(result.getLeft())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("the local member is not active");
+  }
+
+  @Test
+  void shouldRejectBootstrapIfPartitionExistsOnOtherMember() {
+    // given
+    final ClusterConfiguration topology =
+        ClusterConfiguration.init()
+            .addMember(localMemberId, MemberState.initializeAsActive(Map.of()))
+            .addMember(
+                MemberId.from("2"),
+                MemberState.initializeAsActive(
+                    Map.of(2, PartitionState.active(1, partitionConfig))));
+
+    // when
+    final var result =
+        new PartitionBootstrapApplier(2, 1, localMemberId, partitionChangeExecutor)
+            .init(topology);
+
+    // then
+    assertThat(result).isLeft();
+    Assertions.assertThat(result.getLeft())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("the partition already exists");
+  }
+
+  @Test
+  void shouldRejectBootstrapIfPartitionIsAlreadyActive() {
+    // given
+    final ClusterConfiguration topology =
+        ClusterConfiguration.init()
+            .addMember(
+                localMemberId,
+                MemberState.initializeAsActive(
+                    Map.of(2, PartitionState.active(1, partitionConfig))));
+
+    // when
+    final var result =
+        new PartitionBootstrapApplier(2, 1, localMemberId, partitionChangeExecutor)
+            .init(topology);
+
+    // then
+    assertThat(result).isLeft();
+    Assertions.assertThat(result.getLeft())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("the local member already has the partition");
+  }
+
+  @Test
+  void shouldInitializeStateToJoining() {
+    // given
+    final var initialTopology =
+        ClusterConfiguration.init()
+            .addMember(
+                localMemberId,
+                MemberState.initializeAsActive(
+                    Map.of(1, PartitionState.active(1, partitionConfig))));
+
+    // when
+    final var updater =
+        new PartitionBootstrapApplier(2, 3, localMemberId, partitionChangeExecutor)
+            .init(initialTopology)
+            .get();
+    final var resultingTopology = updater.apply(initialTopology);
+
+    // then
+    ClusterConfigurationAssert.assertThatClusterTopology(resultingTopology)
+        .hasMemberWithPartitions(1, Set.of(1, 2))
+        .member(localMemberId)
+        .hasPartitionWithState(2, State.JOINING)
+        .hasPartitionWithPriority(2, 3);
+  }
+
+  @Test
+  void shouldContinueBootstrapIfPartitionIsAlreadyJoining() {
+    // given
+    final var initialTopology =
+        ClusterConfiguration.init()
+            .addMember(
+                localMemberId,
+                MemberState.initializeAsActive(
+                    Map.of(2, PartitionState.joining(1, partitionConfig))));
+
+    // when
+    final var result =
+        new PartitionBootstrapApplier(2, 1, localMemberId, partitionChangeExecutor)
+            .init(initialTopology);
+
+    // then
+    assertThat(result).isRight();
+    Assertions.assertThat(result.get().apply(initialTopology)).isEqualTo(initialTopology);
+  }
+
+  @Test
+  void shouldExecuteBootstrapCallback() {
+    // given
+    final var initialTopology =
+        ClusterConfiguration.init()
+            .addMember(
+                localMemberId,
+                MemberState.initializeAsActive(
+                    Map.of(1, PartitionState.active(1, partitionConfig))));
+    final var applier = new PartitionBootstrapApplier(2, 1, localMemberId, partitionChangeExecutor);
+    final var updatedTopology = applier.init(initialTopology).get().apply(initialTopology);
+    when(partitionChangeExecutor.bootstrap(eq(2), eq(1), any()))
+        .thenReturn(CompletableActorFuture.completed(null));
+
+    // when
+    final var resultingTopology = applier.apply().join().apply(updatedTopology);
+
+    // then
+    verify(partitionChangeExecutor, times(1)).bootstrap(eq(2), eq(1), any());
+    ClusterConfigurationAssert.assertThatClusterTopology(resultingTopology)
+        .hasMemberWithPartitions(1, Set.of(1, 2))
+        .member(localMemberId)
+        .hasPartitionWithState(2, State.ACTIVE);
+  }
+}
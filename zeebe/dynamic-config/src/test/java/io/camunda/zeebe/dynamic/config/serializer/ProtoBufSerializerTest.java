@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationChangeResponse;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddMembersRequest;
+import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.AddPartitionsRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterDisableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.ExporterEnableRequest;
 import io.camunda.zeebe.dynamic.config.api.ClusterConfigurationManagementRequest.JoinPartitionRequest;
@@ -24,6 +25,7 @@ import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberJoinOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberLeaveOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.MemberRemoveOperation;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionBootstrapOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionDisableExporterOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionEnableExporterOperation;
 import io.camunda.zeebe.dynamic.config.state.ClusterConfigurationChangeOperation.PartitionChangeOperation.PartitionForceReconfigureOperation;
@@ -151,6 +153,19 @@ final class ProtoBufSerializerTest {
     assertThat(decodedRequest).isEqualTo(leavePartitionRequest);
   }
 
+  @Test
+  void shouldEncodeAndDecodeAddPartitionsRequest() {
+    // given
+    final var addPartitionsRequest = new AddPartitionsRequest(6, true);
+
+    // when
+    final var encodedRequest = protoBufSerializer.encodeAddPartitionsRequest(addPartitionsRequest);
+
+    // then
+    final var decodedRequest = protoBufSerializer.decodeAddPartitionsRequest(encodedRequest);
+    assertThat(decodedRequest).isEqualTo(addPartitionsRequest);
+  }
+
   @Test
   void shouldEncodeAndDecodeExporterDisableRequest() {
     // given
@@ -221,7 +236,8 @@ final class ProtoBufSerializerTest {
         topologyWithClusterChangePlanWithMemberOperations(),
         topologyWithExporterState(),
         topologyWithExporterDisableOperation(),
-        topologyWithExporterEnableOperation());
+        topologyWithExporterEnableOperation(),
+        topologyWithPartitionBootstrapOperation());
   }
 
   private static ClusterConfiguration topologyWithOneMemberNoPartitions() {
@@ -344,6 +360,14 @@ final class ProtoBufSerializerTest {
                     1, new PartitionState(PartitionState.State.ACTIVE, 1, dynamicConfig)));
   }
 
+  private static ClusterConfiguration topologyWithPartitionBootstrapOperation() {
+    return topologyWithExporterState()
+        .startConfigurationChange(
+            List.of(
+                new PartitionBootstrapOperation(MemberId.from("1"), 2, 1),
+                new PartitionJoinOperation(MemberId.from("2"), 2, 2)));
+  }
+
   private static ClusterConfiguration topologyWithExporterDisableOperation() {
     return topologyWithExporterState()
         .startConfigurationChange(
@@ -25,6 +25,8 @@ public final class EngineConfiguration {
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final boolean DEFAULT_VARIABLE_OFFLOADING_ENABLED = false;
+  public static final int DEFAULT_VARIABLE_OFFLOADING_THRESHOLD = 32 * 1024;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
@@ -34,6 +36,8 @@ public final class EngineConfiguration {
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean variableOffloadingEnabled = DEFAULT_VARIABLE_OFFLOADING_ENABLED;
+  private int variableOffloadingThreshold = DEFAULT_VARIABLE_OFFLOADING_THRESHOLD;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -101,4 +105,22 @@ public final class EngineConfiguration {
     this.jobsTimeoutCheckerBatchLimit = jobsTimeoutCheckerBatchLimit;
     return this;
   }
+
+  public boolean isVariableOffloadingEnabled() {
+    return variableOffloadingEnabled;
+  }
+
+  public EngineConfiguration setVariableOffloadingEnabled(final boolean variableOffloadingEnabled) {
+    this.variableOffloadingEnabled = variableOffloadingEnabled;
+    return this;
+  }
+
+  public int getVariableOffloadingThreshold() {
+    return variableOffloadingThreshold;
+  }
+
+  public EngineConfiguration setVariableOffloadingThreshold(final int variableOffloadingThreshold) {
+    this.variableOffloadingThreshold = variableOffloadingThreshold;
+    return this;
+  }
 }
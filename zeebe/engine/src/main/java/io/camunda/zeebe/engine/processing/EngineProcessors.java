@@ -99,7 +99,8 @@ public final class EngineProcessors {
             timerChecker,
             jobStreamer,
             jobMetrics,
-            decisionBehavior);
+            decisionBehavior,
+            featureFlags);
 
     final var commandDistributionBehavior =
         new CommandDistributionBehavior(
@@ -191,7 +192,8 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final JobStreamer jobStreamer,
       final JobMetrics jobMetrics,
-      final DecisionBehavior decisionBehavior) {
+      final DecisionBehavior decisionBehavior,
+      final FeatureFlags featureFlags) {
     return new BpmnBehaviorsImpl(
         processingState,
         writers,
@@ -200,7 +202,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         partitionsCount,
         timerChecker,
-        jobStreamer);
+        jobStreamer,
+        featureFlags);
   }
 
   private static TypedRecordProcessor<ProcessInstanceRecord> addProcessProcessors(
@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.processing.variable.VariableBehavior;
 import io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContextLookup;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.util.FeatureFlags;
 
 public final class BpmnBehaviorsImpl implements BpmnBehaviors {
 
@@ -56,7 +57,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final int partitionsCount,
       final DueDateTimerChecker timerChecker,
-      final JobStreamer jobStreamer) {
+      final JobStreamer jobStreamer,
+      final FeatureFlags featureFlags) {
     expressionBehavior =
         new ExpressionProcessor(
             ExpressionLanguageFactory.createExpressionLanguage(
@@ -135,7 +137,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             jobMetrics);
 
     multiInstanceOutputCollectionBehavior =
-        new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
+        new MultiInstanceOutputCollectionBehavior(
+            stateBehavior, expressionBehavior(), featureFlags);
 
     elementActivationBehavior =
         new ElementActivationBehavior(
@@ -19,29 +19,69 @@ import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.FeatureFlags;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the output elements of the inner instances of a multi-instance body into its output
+ * collection.
+ *
+ * <p>By default, the output collection is initialized with {@code nil} elements when the body is
+ * activated, and every completed inner instance replaces its element. This rewrites the whole
+ * collection for each inner instance, which is quadratic in the number of elements.
+ *
+ * <p>If {@link FeatureFlags#enableDeferredMultiInstanceOutputCollection()} is enabled, each output
+ * element is instead stored as its own local variable {@code outputCollection[loopCounter]} of the
+ * body, and the output collection is assembled once when the body completes. The output collection
+ * is then not available before the body completes, e.g. in its completion condition. On
+ * activation, such a body stores the size of its output collection as local variable {@code
+ * outputCollection[size]}. This variable marks the body as collecting its output elements
+ * separately, so changing the flag does not affect bodies which are already active, and it sizes
+ * the assembled collection independently of later changes to the input collection.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
+  private static final String OUTPUT_COLLECTION_SIZE_SUFFIX = "[size]";
+
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer updatedOutputCollectionBuffer = new UnsafeBuffer(0, 0);
+  private final MutableDirectBuffer outputElementNameBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer outputElementNameView = new UnsafeBuffer(0, 0);
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
+  private final boolean deferredOutputCollection;
 
   MultiInstanceOutputCollectionBehavior(
-      final BpmnStateBehavior stateBehavior, final ExpressionProcessor expressionProcessor) {
+      final BpmnStateBehavior stateBehavior,
+      final ExpressionProcessor expressionProcessor,
+      final FeatureFlags featureFlags) {
     this.stateBehavior = stateBehavior;
     this.expressionProcessor = expressionProcessor;
+    deferredOutputCollection = featureFlags.enableDeferredMultiInstanceOutputCollection();
   }
 
   public void initializeOutputCollection(
       final BpmnElementContext context, final DirectBuffer variableName, final int size) {
+    if (deferredOutputCollection) {
+      // the collection is assembled from the output elements when the body completes
+      outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+      outputCollectionWriter.writeInteger(size);
+      stateBehavior.setLocalVariable(
+          context,
+          outputCollectionSizeName(variableName),
+          outputCollectionBuffer,
+          0,
+          outputCollectionWriter.getOffset());
+      return;
+    }
 
     outputCollectionWriter.wrap(outputCollectionBuffer, 0);
 
@@ -86,6 +126,14 @@ public final class MultiInstanceOutputCollectionBehavior {
               // is read, because readOutputElementVariable(Context) uses the same
               // buffer as getVariableLocal this could also be avoided by cloning the current
               // collection, but that is slower.
+              if (getDeferredOutputCollectionSize(flowScopeContext, variableName).isPresent()) {
+                stateBehavior.setLocalVariable(
+                    flowScopeContext,
+                    outputElementName(variableName, loopCounter),
+                    elementVariable);
+                return Either.right(null);
+              }
+
               final var currentCollection =
                   stateBehavior.getLocalVariable(flowScopeContext, variableName);
               return replaceAt(
@@ -103,6 +151,73 @@ public final class MultiInstanceOutputCollectionBehavior {
             });
   }
 
+  /**
+   * Assembles the output collection of a body which collects its output elements separately and
+   * sets it as local variable of the body. Elements of inner instances which did not complete, e.g.
+   * because the completion condition was fulfilled before, are {@code nil}. Does nothing if the
+   * body updates its output collection directly.
+   */
+  public void completeOutputCollection(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+    final var size = getDeferredOutputCollectionSize(context, variableName);
+    if (size.isEmpty()) {
+      return;
+    }
+
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+    outputCollectionWriter.writeArrayHeader(size.getAsInt());
+    for (int loopCounter = 1; loopCounter <= size.getAsInt(); loopCounter++) {
+      final var element =
+          stateBehavior.getLocalVariable(context, outputElementName(variableName, loopCounter));
+      if (element == null) {
+        outputCollectionWriter.writeNil();
+      } else {
+        outputCollectionWriter.writeRaw(element);
+      }
+    }
+
+    final var length = outputCollectionWriter.getOffset();
+    stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
+  }
+
+  /**
+   * @return the size of the output collection stored on activation if the body collects its output
+   *     elements separately, or empty if it updates its output collection directly
+   */
+  private OptionalInt getDeferredOutputCollectionSize(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+    final var size =
+        stateBehavior.getLocalVariable(context, outputCollectionSizeName(variableName));
+    if (size == null) {
+      return OptionalInt.empty();
+    }
+
+    outputCollectionReader.wrap(size, 0, size.capacity());
+    return OptionalInt.of((int) outputCollectionReader.readInteger());
+  }
+
+  private DirectBuffer outputCollectionSizeName(final DirectBuffer variableName) {
+    final int nameLength = variableName.capacity();
+    outputElementNameBuffer.putBytes(0, variableName, 0, nameLength);
+    final int length =
+        nameLength
+            + outputElementNameBuffer.putStringWithoutLengthAscii(
+                nameLength, OUTPUT_COLLECTION_SIZE_SUFFIX);
+    outputElementNameView.wrap(outputElementNameBuffer, 0, length);
+    return outputElementNameView;
+  }
+
+  private DirectBuffer outputElementName(final DirectBuffer variableName, final int loopCounter) {
+    final int nameLength = variableName.capacity();
+    outputElementNameBuffer.putBytes(0, variableName, 0, nameLength);
+    int length = nameLength;
+    length += outputElementNameBuffer.putStringWithoutLengthAscii(length, "[");
+    length += outputElementNameBuffer.putIntAscii(length, loopCounter);
+    length += outputElementNameBuffer.putStringWithoutLengthAscii(length, "]");
+    outputElementNameView.wrap(outputElementNameBuffer, 0, length);
+    return outputElementNameView;
+  }
+
   private Either<Failure, DirectBuffer> readOutputElementVariable(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
     final var expression = element.getLoopCharacteristics().getOutputElement().orElseThrow();
@@ -99,6 +99,14 @@ public final class MultiInstanceBodyProcessor
   public Either<Failure, ?> onComplete(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
 
+    element
+        .getLoopCharacteristics()
+        .getOutputCollection()
+        .ifPresent(
+            variableName ->
+                multiInstanceOutputCollectionBehavior.completeOutputCollection(
+                    context, variableName));
+
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
     element
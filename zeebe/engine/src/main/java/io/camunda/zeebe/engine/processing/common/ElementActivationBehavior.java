@@ -329,9 +329,7 @@ public final class ElementActivationBehavior {
           .orElse(Collections.emptyList());
 
     } else {
-      return elementInstanceState.getChildren(flowScopeKey).stream()
-          .filter(instance -> instance.getValue().getElementIdBuffer().equals(element.getId()))
-          .toList();
+      return elementInstanceState.getChildrenByElementId(flowScopeKey, element.getId());
     }
   }
 
@@ -110,18 +110,15 @@ public class EventTriggerBehavior {
   private boolean terminateChildInstances(final BpmnElementContext flowScopeContext) {
     // we need to go to the parent and delete all children to trigger the interrupting event sub
     // process
-    elementInstanceState.getChildren(flowScopeContext.getElementInstanceKey()).stream()
-        .filter(child -> ProcessInstanceLifecycle.canTerminate(child.getState()))
-        .map(
-            childInstance ->
-                flowScopeContext.copy(
-                    childInstance.getKey(), childInstance.getValue(), childInstance.getState()))
-        .forEach(
-            childInstanceContext ->
-                commandWriter.appendFollowUpCommand(
-                    childInstanceContext.getElementInstanceKey(),
-                    ProcessInstanceIntent.TERMINATE_ELEMENT,
-                    childInstanceContext.getRecordValue()));
+    elementInstanceState.forEachChild(
+        flowScopeContext.getElementInstanceKey(),
+        (childKey, childInstance) -> {
+          if (ProcessInstanceLifecycle.canTerminate(childInstance.getState())) {
+            commandWriter.appendFollowUpCommand(
+                childKey, ProcessInstanceIntent.TERMINATE_ELEMENT, childInstance.getValue());
+          }
+          return true;
+        });
 
     final var elementInstance =
         elementInstanceState.getInstance(flowScopeContext.getElementInstanceKey());
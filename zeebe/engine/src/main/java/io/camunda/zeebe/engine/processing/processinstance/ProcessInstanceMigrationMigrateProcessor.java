@@ -122,15 +122,19 @@ public class ProcessInstanceMigrationMigrateProcessor
     final Map<String, String> mappedElementIds =
         mapElementIds(mappingInstructions, processInstance, targetProcessDefinition);
 
-    // avoid stackoverflow using a queue to iterate over the descendants instead of recursion
-    final var elementInstances = new ArrayDeque<>(List.of(processInstance));
-    while (!elementInstances.isEmpty()) {
-      final var elementInstance = elementInstances.poll();
+    // avoid stackoverflow using a queue to iterate over the descendants instead of recursion;
+    // only the keys are queued, so the instances don't have to be kept in memory all at once
+    final var elementInstanceKeys = new ArrayDeque<>(List.of(processInstanceKey));
+    while (!elementInstanceKeys.isEmpty()) {
+      final var elementInstance = elementInstanceState.getInstance(elementInstanceKeys.poll());
       tryMigrateElementInstance(
           elementInstance, sourceProcessDefinition, targetProcessDefinition, mappedElementIds);
-      final List<ElementInstance> children =
-          elementInstanceState.getChildren(elementInstance.getKey());
-      elementInstances.addAll(children);
+      elementInstanceState.forEachChild(
+          elementInstance.getKey(),
+          (childKey, childInstance) -> {
+            elementInstanceKeys.add(childKey);
+            return true;
+          });
     }
 
     stateWriter.appendFollowUpEvent(
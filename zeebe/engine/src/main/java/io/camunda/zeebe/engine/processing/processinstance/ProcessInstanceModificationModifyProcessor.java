@@ -47,6 +47,7 @@ import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -698,9 +699,17 @@ public final class ProcessInstanceModificationModifyProcessor
         || elementType == BpmnElementType.SUB_PROCESS
         || elementType == BpmnElementType.PROCESS
         || elementType == BpmnElementType.MULTI_INSTANCE_BODY) {
-      elementInstanceState.getChildren(elementInstanceKey).stream()
-          .filter(ElementInstance::canTerminate)
-          .forEach(this::terminateElement);
+      // only collect the keys, since terminating a child modifies the state we're iterating over
+      final List<Long> childKeys = new ArrayList<>();
+      elementInstanceState.forEachChild(
+          elementInstanceKey,
+          (childKey, childInstance) -> {
+            if (childInstance.canTerminate()) {
+              childKeys.add(childKey);
+            }
+            return true;
+          });
+      childKeys.stream().map(elementInstanceState::getInstance).forEach(this::terminateElement);
     } else if (elementType == BpmnElementType.CALL_ACTIVITY) {
       final var calledActivityElementInstance =
           elementInstanceState.getInstance(elementInstance.getCalledChildInstanceKey());
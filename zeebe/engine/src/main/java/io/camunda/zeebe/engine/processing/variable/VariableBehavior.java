@@ -11,6 +11,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.variable.DocumentEntry;
 import io.camunda.zeebe.engine.state.variable.IndexedDocument;
+import io.camunda.zeebe.engine.state.variable.MsgPackMergePatch;
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
 import io.camunda.zeebe.protocol.record.intent.VariableIntent;
@@ -32,6 +33,7 @@ public final class VariableBehavior {
   private final KeyGenerator keyGenerator;
 
   private final IndexedDocument indexedDocument = new IndexedDocument();
+  private final MsgPackMergePatch mergePatch = new MsgPackMergePatch();
   private final VariableRecord variableRecord = new VariableRecord();
 
   public VariableBehavior(
@@ -149,6 +151,75 @@ public final class VariableBehavior {
     }
   }
 
+  /**
+   * Patches the variables of the given document, where the value of each variable is a JSON merge
+   * patch (RFC 7396) for the current value of the variable.
+   *
+   * <p>Like {@link #mergeDocument(long, long, long, DirectBuffer, String, DirectBuffer)}, each
+   * variable is looked up from the given {@code scopeKey} to the top of the scope hierarchy. If it
+   * exists in any of these scopes, a {@code Variable.PATCHED} record is produced as a follow up
+   * event, which only contains the patch instead of the whole patched value.
+   *
+   * <p>For all variables from the document which do not exist in any scope, a {@code
+   * Variable.CREATED} record is produced on the top-most scope, with the patch applied to an empty
+   * value.
+   *
+   * @param scopeKey the scope key from which to look up each variable
+   * @param processDefinitionKey the process key to be associated with each variable
+   * @param processInstanceKey the process instance key to be associated with each variable
+   * @param document the document of merge patches to apply
+   */
+  public void patchDocument(
+      final long scopeKey,
+      final long processDefinitionKey,
+      final long processInstanceKey,
+      final DirectBuffer bpmnProcessId,
+      final String tenantId,
+      final DirectBuffer document) {
+    indexedDocument.index(document);
+    if (indexedDocument.isEmpty()) {
+      return;
+    }
+
+    variableRecord
+        .setProcessDefinitionKey(processDefinitionKey)
+        .setProcessInstanceKey(processInstanceKey)
+        .setBpmnProcessId(bpmnProcessId)
+        .setTenantId(tenantId);
+
+    long currentScope = scopeKey;
+    do {
+      final Iterator<DocumentEntry> entryIterator = indexedDocument.iterator();
+
+      variableRecord.setScopeKey(currentScope);
+      while (entryIterator.hasNext()) {
+        final DocumentEntry entry = entryIterator.next();
+        final VariableInstance variableInstance =
+            variableState.getVariableInstanceLocal(currentScope, entry.getName());
+
+        if (variableInstance != null) {
+          applyEntryToRecord(entry);
+          stateWriter.appendFollowUpEvent(
+              variableInstance.getKey(), VariableIntent.PATCHED, variableRecord);
+          entryIterator.remove();
+        }
+      }
+
+      final long parentScope = variableState.getParentScopeKey(currentScope);
+      if (parentScope <= 0) {
+        break;
+      }
+      currentScope = parentScope;
+    } while (!indexedDocument.isEmpty());
+
+    variableRecord.setScopeKey(currentScope);
+    for (final DocumentEntry entry : indexedDocument) {
+      variableRecord.setName(entry.getName()).setValue(mergePatch.apply(null, entry.getValue()));
+      stateWriter.appendFollowUpEvent(
+          keyGenerator.nextKey(), VariableIntent.CREATED, variableRecord);
+    }
+  }
+
   /**
    * Publishes a follow up event to create or update the variable with name {@code name} on the
    * given scope with key {@code scopeKey}, with additional {@code processDefinitionKey} and {@code
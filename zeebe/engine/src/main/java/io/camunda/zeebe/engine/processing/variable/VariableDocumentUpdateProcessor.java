@@ -76,6 +76,14 @@ public final class VariableDocumentUpdateProcessor
             bpmnProcessId,
             tenantId,
             value.getVariablesBuffer());
+      } else if (value.getUpdateSemantics() == VariableDocumentUpdateSemantic.PATCH) {
+        variableBehavior.patchDocument(
+            scope.getKey(),
+            processDefinitionKey,
+            processInstanceKey,
+            bpmnProcessId,
+            tenantId,
+            value.getVariablesBuffer());
       } else {
         variableBehavior.mergeDocument(
             scope.getKey(),
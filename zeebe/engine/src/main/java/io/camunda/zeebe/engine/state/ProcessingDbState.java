@@ -102,7 +102,13 @@ public class ProcessingDbState implements MutableProcessingState {
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
+    variableState =
+        new DbVariableState(
+            zeebeDb,
+            transactionContext,
+            config.isVariableOffloadingEnabled()
+                ? config.getVariableOffloadingThreshold()
+                : DbVariableState.NO_BLOB_THRESHOLD);
     processState = new DbProcessState(zeebeDb, transactionContext, config);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
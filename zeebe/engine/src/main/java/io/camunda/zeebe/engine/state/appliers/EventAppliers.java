@@ -138,6 +138,7 @@ public final class EventAppliers implements EventApplier {
     register(VariableIntent.CREATED, variableApplier);
     register(VariableIntent.UPDATED, variableApplier);
     register(VariableIntent.MIGRATED, new VariableMigratedApplier());
+    register(VariableIntent.PATCHED, new VariablePatchedApplier(state.getVariableState()));
     register(VariableDocumentIntent.UPDATED, NOOP_EVENT_APPLIER);
   }
 
@@ -16,6 +16,9 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import org.agrona.DirectBuffer;
 
@@ -75,23 +78,31 @@ final class ProcessInstanceCreationCreatedApplier
 
   private ElementInstance findFlowScopeInChildren(
       final ElementInstance processInstance, final DirectBuffer targetElementId) {
-    ElementInstance found = null;
-    final List<ElementInstance> children =
-        elementInstanceState.getChildren(processInstance.getKey());
+    // visits the descendants depth-first via a stack of keys, as iterations over the children of
+    // different scopes can't be nested
+    final Deque<Long> pendingKeys = new ArrayDeque<>();
+    pushChildKeys(processInstance.getKey(), pendingKeys);
 
-    for (final ElementInstance childInstance : children) {
+    while (!pendingKeys.isEmpty()) {
+      final ElementInstance childInstance = elementInstanceState.getInstance(pendingKeys.pop());
       if (childInstance.getValue().getElementIdBuffer().equals(targetElementId)) {
-        found = childInstance;
-        break;
-      } else {
-        found = findFlowScopeInChildren(childInstance, targetElementId);
-        if (found != null) {
-          break;
-        }
+        return childInstance;
       }
+      pushChildKeys(childInstance.getKey(), pendingKeys);
     }
 
-    return found;
+    return null;
+  }
+
+  private void pushChildKeys(final long parentKey, final Deque<Long> pendingKeys) {
+    final List<Long> childKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        parentKey, (childKey, childInstance) -> childKeys.add(childKey));
+
+    // push in reverse order, so the children are visited in their original order
+    for (int i = childKeys.size() - 1; i >= 0; i--) {
+      pendingKeys.push(childKeys.get(i));
+    }
   }
 
   private void incrementNumberOfTakenSequenceFlows(
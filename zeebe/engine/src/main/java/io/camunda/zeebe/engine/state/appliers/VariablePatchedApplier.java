@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+
+final class VariablePatchedApplier implements TypedEventApplier<VariableIntent, VariableRecord> {
+
+  private final MutableVariableState variableState;
+
+  public VariablePatchedApplier(final MutableVariableState variableState) {
+    this.variableState = variableState;
+  }
+
+  @Override
+  public void applyState(final long key, final VariableRecord value) {
+    // the record only contains the merge patch, the patched value is computed from the state
+    variableState.patchVariableLocal(
+        key,
+        value.getScopeKey(),
+        value.getProcessDefinitionKey(),
+        value.getNameBuffer(),
+        value.getValueBuffer());
+  }
+}
@@ -17,8 +17,37 @@ public interface ElementInstanceState {
 
   ElementInstance getInstance(long key);
 
+  /**
+   * Returns a copy of every child of the given parent. Prefer {@link #forEachChild(long,
+   * BiFunction)} or {@link #getChildrenByElementId(long, DirectBuffer)}, which don't materialize
+   * all children at once, since a scope can have a large number of children.
+   *
+   * @param parentKey the key of the parent element instance
+   * @return the children of the parent, or an empty list if the parent doesn't exist
+   */
   List<ElementInstance> getChildren(long parentKey);
 
+  /**
+   * Returns the children of the given parent that are instances of the given element. Children of
+   * other elements are skipped without being copied.
+   *
+   * @param parentKey the key of the parent element instance
+   * @param elementId the id of the element the children should be instances of
+   * @return the matching children, or an empty list if there are none
+   */
+  List<ElementInstance> getChildrenByElementId(long parentKey, DirectBuffer elementId);
+
+  /**
+   * Applies the provided visitor to each child element of the given parent, starting at the first
+   * child. The visitor can indicate via the return value, whether the iteration should continue or
+   * not.
+   *
+   * @param parentKey the key of the parent element instance
+   * @param visitor the visitor which is applied for each child
+   * @see #forEachChild(long, long, BiFunction)
+   */
+  void forEachChild(long parentKey, BiFunction<Long, ElementInstance, Boolean> visitor);
+
   /**
    * Applies the provided visitor to each child element of the given parent. The visitor can
    * indicate via the return value, whether the iteration should continue or not. This means if the
@@ -307,15 +307,38 @@ public final class DbElementInstanceState implements MutableElementInstanceState
           this.parentKey,
           (key, value) -> {
             final DbLong childKey = key.second().inner();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            children.add(getInstance(childKey.getValue()));
           });
     }
     return children;
   }
 
+  @Override
+  public List<ElementInstance> getChildrenByElementId(
+      final long parentKey, final DirectBuffer elementId) {
+    final List<ElementInstance> children = new ArrayList<>();
+    this.parentKey.inner().wrapLong(parentKey);
+
+    parentChildColumnFamily.whileEqualPrefix(
+        this.parentKey,
+        (key, value) -> {
+          // only copy the matching children, the others are overwritten by the next lookup
+          elementInstanceKey.wrapLong(key.second().inner().getValue());
+          final var childInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+          if (childInstance != null
+              && childInstance.getValue().getElementIdBuffer().equals(elementId)) {
+            children.add(copyElementInstance(childInstance));
+          }
+        });
+    return children;
+  }
+
+  @Override
+  public void forEachChild(
+      final long parentKey, final BiFunction<Long, ElementInstance, Boolean> visitor) {
+    forEachChild(parentKey, -1, visitor);
+  }
+
   @Override
   public void forEachChild(
       final long parentKey,
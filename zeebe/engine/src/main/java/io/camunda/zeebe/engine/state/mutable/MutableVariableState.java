@@ -56,6 +56,23 @@ public interface MutableVariableState extends VariableState {
       int valueOffset,
       int valueLength);
 
+  /**
+   * Applies the given JSON merge patch (RFC 7396) to the value of the variable with {@code name}
+   * within the given scope with {@code scopeKey}. If the variable does not exist yet, it's created
+   * with the patch applied to an empty value.
+   *
+   * <p>This method is expected to be called directly ONLY from an {@link
+   * io.camunda.zeebe.engine.state.EventApplier} or from tests.
+   *
+   * @param key the variable key
+   * @param scopeKey the local scope of the variable
+   * @param processDefinitionKey the associated process key, mostly for monitoring purposes
+   * @param name the name of the variable
+   * @param patch the merge patch to apply to the value of the variable (MsgPack encoded)
+   */
+  void patchVariableLocal(
+      long key, long scopeKey, long processDefinitionKey, DirectBuffer name, DirectBuffer patch);
+
   void createScope(long childKey, long parentKey);
 
   void removeScope(long scopeKey);
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.variable;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
@@ -18,6 +19,9 @@ import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -33,6 +37,11 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /** Threshold which disables storing large values as {@link VariableBlob}s. */
+  public static final int NO_BLOB_THRESHOLD = -1;
+
+  private static final DirectBuffer NO_VALUE = new UnsafeBuffer();
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -50,14 +59,39 @@ public class DbVariableState implements MutableVariableState {
   private final DbString variableName;
 
   private final VariableInstance newVariable = new VariableInstance();
+  private final MsgPackMergePatch mergePatch = new MsgPackMergePatch();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
+  // (value hash) => (value, reference count)
+  private final ColumnFamily<DbBytes, VariableBlob> blobsColumnFamily;
+  private final DbBytes blobKey = new DbBytes();
+  private final VariableBlob newBlob = new VariableBlob();
+  private final int blobThreshold;
+  private final MessageDigest blobDigest;
+  private final ExpandableArrayBuffer blobValueBuffer = new ExpandableArrayBuffer();
+  private final byte[] blobHash;
+  // whether variables may reference blobs; once false, it stays false as no blobs are stored
+  private boolean mayReferenceBlobs = true;
+  private boolean checkedForBlobs;
+
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, NO_BLOB_THRESHOLD);
+  }
+
+  /**
+   * @param blobThreshold values of at least this many bytes are stored once per distinct value in
+   *     a separate column family, and variables only reference them; {@link #NO_BLOB_THRESHOLD}
+   *     stores all values inline. Values stored as blobs are resolved regardless of this setting.
+   */
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int blobThreshold) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +109,17 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    blobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS, transactionContext, blobKey, new VariableBlob());
+    this.blobThreshold = blobThreshold;
+    try {
+      blobDigest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Expected SHA-256 to be supported by every JVM", e);
+    }
+    blobHash = new byte[blobDigest.getDigestLength()];
   }
 
   @Override
@@ -100,17 +145,41 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
-    newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
-    newVariable.setKey(key);
-
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
+    if (mayReferenceBlobs()) {
+      final var existingVariable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+      if (existingVariable != null && existingVariable.hasBlobKey()) {
+        releaseBlob(existingVariable.getBlobKey());
+      }
+    }
+
+    newVariable.reset();
+    newVariable.setKey(key);
+    if (blobThreshold != NO_BLOB_THRESHOLD && valueLength >= blobThreshold) {
+      newVariable.setValue(NO_VALUE, 0, 0);
+      newVariable.setBlobKey(acquireBlob(value, valueOffset, valueLength));
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+    }
+
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
   }
 
+  @Override
+  public void patchVariableLocal(
+      final long key,
+      final long scopeKey,
+      final long processDefinitionKey,
+      final DirectBuffer name,
+      final DirectBuffer patch) {
+    final var currentValue = getVariableLocal(scopeKey, name);
+    final var patchedValue = mergePatch.apply(currentValue, patch);
+    setVariableLocal(key, scopeKey, processDefinitionKey, name, patchedValue);
+  }
+
   @Override
   public void createScope(final long childKey, final long parentKey) {
     this.childKey.wrapLong(childKey);
@@ -132,11 +201,17 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
-        () -> false);
+    this.scopeKey.wrapLong(scopeKey);
+
+    // iterates over the raw instances, as their values are not needed to release the blobs
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (compositeKey, variable) -> {
+          if (variable.hasBlobKey()) {
+            releaseBlob(variable.getBlobKey());
+          }
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+        });
   }
 
   @Override
@@ -274,7 +349,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && blobsColumnFamily.isEmpty();
   }
 
   @Override
@@ -313,7 +390,89 @@ public class DbVariableState implements MutableVariableState {
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+    return resolveBlob(variablesColumnFamily.get(scopeKeyVariableNameKey));
+  }
+
+  /**
+   * Replaces the value of the given variable with the value of the blob it references, if any. The
+   * value is only a view on the blob, which is valid until the next blob is read.
+   */
+  private VariableInstance resolveBlob(final VariableInstance variable) {
+    if (variable == null || !variable.hasBlobKey()) {
+      return variable;
+    }
+
+    blobKey.wrap(variable.getBlobKey(), 0, variable.getBlobKey().capacity());
+    final var blob = blobsColumnFamily.get(blobKey);
+    if (blob == null) {
+      throw new IllegalStateException(
+          "Expected variable with key %d to reference an existing blob, but none found"
+              .formatted(variable.getKey()));
+    }
+
+    variable.setValue(blob.getValue(), 0, blob.getValue().capacity());
+    return variable;
+  }
+
+  /**
+   * Returns whether the existing variables may reference blobs, which must be released when they
+   * are overwritten. If storing blobs is disabled, this is only the case as long as blobs stored
+   * before are left, so the blobs are only checked once and no longer afterwards when there are
+   * none.
+   */
+  private boolean mayReferenceBlobs() {
+    if (blobThreshold == NO_BLOB_THRESHOLD && !checkedForBlobs) {
+      mayReferenceBlobs = !blobsColumnFamily.isEmpty();
+      checkedForBlobs = true;
+    }
+    return mayReferenceBlobs;
+  }
+
+  /**
+   * Stores the given value as a blob, or increments the reference count of the blob if the value
+   * is already stored.
+   *
+   * @return the key of the blob, which is the SHA-256 hash of the value
+   */
+  private DirectBuffer acquireBlob(
+      final DirectBuffer value, final int valueOffset, final int valueLength) {
+    blobValueBuffer.putBytes(0, value, valueOffset, valueLength);
+    blobDigest.update(blobValueBuffer.byteArray(), 0, valueLength);
+    try {
+      blobDigest.digest(blobHash, 0, blobHash.length);
+    } catch (final DigestException e) {
+      throw new IllegalStateException("Expected digest to fit the hash buffer", e);
+    }
+    blobKey.wrapBytes(blobHash);
+
+    final var existingBlob = blobsColumnFamily.get(blobKey);
+    if (existingBlob != null) {
+      existingBlob.setReferenceCount(existingBlob.getReferenceCount() + 1);
+      blobsColumnFamily.update(blobKey, existingBlob);
+    } else {
+      newBlob.reset();
+      newBlob.setValue(value, valueOffset, valueLength).setReferenceCount(1);
+      blobsColumnFamily.insert(blobKey, newBlob);
+    }
+
+    return blobKey.getDirectBuffer();
+  }
+
+  /** Decrements the reference count of the given blob, removing it if no longer referenced. */
+  private void releaseBlob(final DirectBuffer key) {
+    blobKey.wrap(key, 0, key.capacity());
+
+    final var blob = blobsColumnFamily.get(blobKey);
+    if (blob == null) {
+      return;
+    }
+
+    if (blob.getReferenceCount() <= 1) {
+      blobsColumnFamily.deleteExisting(blobKey);
+    } else {
+      blob.setReferenceCount(blob.getReferenceCount() - 1);
+      blobsColumnFamily.update(blobKey, blob);
+    }
   }
 
   /**
@@ -358,7 +517,7 @@ public class DbVariableState implements MutableVariableState {
           final DbString name = compositeKey.second();
 
           if (variableFilter.test(name)) {
-            variableConsumer.accept(name, variable);
+            variableConsumer.accept(name, resolveBlob(variable));
           }
 
           return !completionCondition.getAsBoolean();
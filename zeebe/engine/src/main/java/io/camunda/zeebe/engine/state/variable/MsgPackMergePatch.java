@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Object2IntHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Applies a JSON merge patch (RFC 7396) to a MessagePack value:
+ *
+ * <ul>
+ *   <li>if the patch is not a map, it replaces the target
+ *   <li>otherwise, for each entry of the patch, a nil value removes the entry from the target, and
+ *       any other value is merged recursively with the corresponding entry of the target
+ * </ul>
+ *
+ * <p>Entries of the target keep their order, and new entries are appended in the order of the
+ * patch. The result is only valid until the next call to {@link #apply(DirectBuffer,
+ * DirectBuffer)}.
+ *
+ * <p>All buffers needed to read the maps are kept per nesting level and reused, so that applying a
+ * patch doesn't allocate once the levels are initialized.
+ */
+public final class MsgPackMergePatch {
+  private static final byte NIL = (byte) 0xc0;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer resultBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
+  private final List<MergeLevel> levels = new ArrayList<>();
+
+  /**
+   * @param target the value to patch, or {@code null} if there is no value yet
+   * @param patch the merge patch to apply
+   * @return the patched value
+   * @throws MsgpackReaderException if either value is not valid MessagePack, or contains a map
+   *     with non-string keys
+   */
+  public DirectBuffer apply(final DirectBuffer target, final DirectBuffer patch) {
+    writer.wrap(resultBuffer, 0);
+    merge(target, patch, 0);
+
+    resultView.wrap(resultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private void merge(final DirectBuffer target, final DirectBuffer patch, final int depth) {
+    final var level = level(depth);
+    final var patchEntries = level.patchEntries;
+    if (!patchEntries.read(patch)) {
+      writer.writeRaw(patch);
+      return;
+    }
+
+    final var targetEntries = level.targetEntries;
+    if (target == null || !targetEntries.read(target)) {
+      targetEntries.clear();
+    }
+
+    int size = 0;
+    for (int i = 0; i < targetEntries.size; i++) {
+      final int patchIndex = patchEntries.indexOf(targetEntries.names.get(i));
+      if (targetEntries.isLast(i) && (patchIndex < 0 || !patchEntries.isNil(patchIndex))) {
+        size++;
+      }
+    }
+    for (int i = 0; i < patchEntries.size; i++) {
+      if (isAddedEntry(targetEntries, patchEntries, i)) {
+        size++;
+      }
+    }
+
+    writer.writeMapHeader(size);
+    for (int i = 0; i < targetEntries.size; i++) {
+      if (!targetEntries.isLast(i)) {
+        continue;
+      }
+
+      final var name = targetEntries.names.get(i);
+      final int patchIndex = patchEntries.indexOf(name);
+      if (patchIndex < 0) {
+        writer.writeString(name);
+        writer.writeRaw(targetEntries.values.get(i));
+      } else if (!patchEntries.isNil(patchIndex)) {
+        writer.writeString(name);
+        merge(targetEntries.values.get(i), patchEntries.values.get(patchIndex), depth + 1);
+      }
+    }
+    for (int i = 0; i < patchEntries.size; i++) {
+      if (isAddedEntry(targetEntries, patchEntries, i)) {
+        writer.writeString(patchEntries.names.get(i));
+        merge(null, patchEntries.values.get(i), depth + 1);
+      }
+    }
+  }
+
+  /** Returns true if the patch entry at the given index adds a new entry to the target. */
+  private static boolean isAddedEntry(
+      final MapEntries targetEntries, final MapEntries patchEntries, final int index) {
+    return patchEntries.isLast(index)
+        && !patchEntries.isNil(index)
+        && targetEntries.indexOf(patchEntries.names.get(index)) < 0;
+  }
+
+  private MergeLevel level(final int depth) {
+    if (depth == levels.size()) {
+      levels.add(new MergeLevel());
+    }
+    return levels.get(depth);
+  }
+
+  /** The entries of the target and the patch which are merged at one nesting level. */
+  private static final class MergeLevel {
+    private final MapEntries targetEntries = new MapEntries();
+    private final MapEntries patchEntries = new MapEntries();
+  }
+
+  /**
+   * The entries of a map as views on its buffer. If a name occurs more than once, the last entry
+   * with that name wins, like for any other map.
+   */
+  private static final class MapEntries {
+    private final MsgPackReader reader = new MsgPackReader();
+    private final List<UnsafeBuffer> names = new ArrayList<>();
+    private final List<UnsafeBuffer> values = new ArrayList<>();
+    private final Object2IntHashMap<DirectBuffer> indexByName = new Object2IntHashMap<>(-1);
+    private int size;
+
+    /** Reads the entries of the given value, and returns false if it's no map. */
+    private boolean read(final DirectBuffer value) {
+      clear();
+      reader.wrap(value, 0, value.capacity());
+      final var token = reader.readToken();
+      if (token.getType() != MsgPackType.MAP) {
+        return false;
+      }
+
+      final int mapSize = token.getSize();
+      for (int i = 0; i < mapSize; i++) {
+        final var nameToken = reader.readToken();
+        if (nameToken.getType() != MsgPackType.STRING) {
+          throw new MsgpackReaderException(
+              "Expected keys of patched documents to be strings, but found '%s'"
+                  .formatted(nameToken.getType()));
+        }
+        if (i == names.size()) {
+          names.add(new UnsafeBuffer(0, 0));
+          values.add(new UnsafeBuffer(0, 0));
+        }
+        final var name = names.get(i);
+        name.wrap(nameToken.getValueBuffer());
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+        values.get(i).wrap(reader.getBuffer(), valueOffset, reader.getOffset() - valueOffset);
+
+        indexByName.put(name, i);
+        size++;
+      }
+
+      return true;
+    }
+
+    private void clear() {
+      indexByName.clear();
+      size = 0;
+    }
+
+    /** Returns the index of the entry with the given name, or -1 if there is none. */
+    private int indexOf(final DirectBuffer name) {
+      return indexByName.getValue(name);
+    }
+
+    /** Returns false if a later entry has the same name as the entry at the given index. */
+    private boolean isLast(final int index) {
+      return indexOf(names.get(index)) == index;
+    }
+
+    private boolean isNil(final int index) {
+      return values.get(index).getByte(0) == NIL;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import org.agrona.DirectBuffer;
+
+/**
+ * A variable value which is stored once and shared by all {@link VariableInstance}s with the same
+ * value, referenced by the hash of its content. The reference count is the number of variable
+ * instances referencing the blob; the blob is removed when it drops to zero.
+ */
+public final class VariableBlob extends UnpackedObject implements DbValue {
+
+  private final BinaryProperty valueProp = new BinaryProperty("value");
+  private final LongProperty referenceCountProp = new LongProperty("referenceCount", 0);
+
+  public VariableBlob() {
+    super(2);
+    declareProperty(valueProp).declareProperty(referenceCountProp);
+  }
+
+  public DirectBuffer getValue() {
+    return valueProp.getValue();
+  }
+
+  public VariableBlob setValue(final DirectBuffer value, final int offset, final int length) {
+    valueProp.setValue(value, offset, length);
+    return this;
+  }
+
+  public long getReferenceCount() {
+    return referenceCountProp.getValue();
+  }
+
+  public VariableBlob setReferenceCount(final long referenceCount) {
+    referenceCountProp.setValue(referenceCount);
+    return this;
+  }
+}
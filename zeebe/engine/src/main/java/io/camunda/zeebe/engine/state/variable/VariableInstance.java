@@ -12,15 +12,18 @@ import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
   private final LongProperty keyProp = new LongProperty("key");
   private final BinaryProperty valueProp = new BinaryProperty("value");
+  // hash of the value, if the value is stored as a shared VariableBlob instead of inline
+  private final BinaryProperty blobKeyProp = new BinaryProperty("blobKey", new UnsafeBuffer());
 
   public VariableInstance() {
-    super(2);
-    declareProperty(keyProp).declareProperty(valueProp);
+    super(3);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(blobKeyProp);
   }
 
   public long getKey() {
@@ -40,4 +43,17 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  public boolean hasBlobKey() {
+    return blobKeyProp.getValue().capacity() > 0;
+  }
+
+  public DirectBuffer getBlobKey() {
+    return blobKeyProp.getValue();
+  }
+
+  public VariableInstance setBlobKey(final DirectBuffer blobKey) {
+    blobKeyProp.setValue(blobKey);
+    return this;
+  }
 }
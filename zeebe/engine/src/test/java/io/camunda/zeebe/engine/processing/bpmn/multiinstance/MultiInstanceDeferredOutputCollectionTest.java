@@ -0,0 +1,235 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.MultiInstanceLoopCharacteristicsBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import io.camunda.zeebe.test.util.BrokerClassRuleHelper;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.FeatureFlags;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MultiInstanceDeferredOutputCollectionTest {
+
+  @ClassRule
+  public static final EngineRule ENGINE =
+      EngineRule.singlePartition()
+          .withFeatureFlags(new FeatureFlags(true, false, true, true, true, true));
+
+  private static final String PROCESS_ID = "process";
+  private static final String ELEMENT_ID = "task";
+  private static final String INPUT_COLLECTION_VARIABLE = "items";
+  private static final List<Integer> INPUT_COLLECTION = List.of(10, 20, 30);
+  private static final String OUTPUT_COLLECTION_VARIABLE = "results";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  private String jobType;
+
+  @Before
+  public void init() {
+    jobType = helper.getJobType();
+  }
+
+  @Test
+  public void shouldCollectOutputElementsSeparately() {
+    // given
+    ENGINE.deployment().withXmlResource(process(m -> m.parallel())).deploy();
+
+    // when
+    final long processInstanceKey = createProcessInstance(INPUT_COLLECTION);
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    final long multiInstanceBodyKey = multiInstanceBodyKey(processInstanceKey);
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .variableRecords()
+                .withScopeKey(multiInstanceBodyKey)
+                .filter(r -> r.getValue().getName().startsWith(OUTPUT_COLLECTION_VARIABLE)))
+        .extracting(Record::getIntent, r -> r.getValue().getName(), r -> r.getValue().getValue())
+        .containsExactlyInAnyOrder(
+            tuple(VariableIntent.CREATED, "results[size]", "3"),
+            tuple(VariableIntent.CREATED, "results[1]", "11"),
+            tuple(VariableIntent.CREATED, "results[2]", "21"),
+            tuple(VariableIntent.CREATED, "results[3]", "31"),
+            tuple(VariableIntent.CREATED, OUTPUT_COLLECTION_VARIABLE, "[11,21,31]"));
+  }
+
+  @Test
+  public void shouldPropagateAssembledOutputCollection() {
+    // given
+    ENGINE.deployment().withXmlResource(process(m -> m.parallel())).deploy();
+
+    // when
+    final long processInstanceKey = createProcessInstance(INPUT_COLLECTION);
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .extracting(VariableRecordValue::getValue)
+        .isEqualTo("[11,21,31]");
+  }
+
+  @Test
+  public void shouldSetNilForInnerInstancesWhichDidNotComplete() {
+    // given
+    ENGINE
+        .deployment()
+        .withXmlResource(process(m -> m.sequential().completionCondition("=loopCounter = 2")))
+        .deploy();
+
+    // when
+    final long processInstanceKey = createProcessInstance(INPUT_COLLECTION);
+    completeJobs(processInstanceKey, 2);
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .extracting(VariableRecordValue::getValue)
+        .isEqualTo("[11,21,null]");
+  }
+
+  @Test
+  public void shouldKeepSizeOfOutputCollectionWhenInputCollectionChanges() {
+    // given
+    ENGINE.deployment().withXmlResource(process(m -> m.parallel())).deploy();
+    final long processInstanceKey = createProcessInstance(INPUT_COLLECTION);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .limit(INPUT_COLLECTION.size()))
+        .hasSize(INPUT_COLLECTION.size());
+
+    // when
+    ENGINE
+        .variables()
+        .ofScope(processInstanceKey)
+        .withDocument(Map.of(INPUT_COLLECTION_VARIABLE, List.of(10)))
+        .update();
+    completeJobs(processInstanceKey, INPUT_COLLECTION.size());
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .extracting(VariableRecordValue::getValue)
+        .isEqualTo("[11,21,31]");
+  }
+
+  @Test
+  public void shouldCollectEmptyOutputCollection() {
+    // given
+    ENGINE.deployment().withXmlResource(process(m -> m.parallel())).deploy();
+
+    // when
+    final long processInstanceKey = createProcessInstance(List.of());
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withName(OUTPUT_COLLECTION_VARIABLE)
+                .withScopeKey(processInstanceKey)
+                .getFirst()
+                .getValue())
+        .extracting(VariableRecordValue::getValue)
+        .isEqualTo("[]");
+  }
+
+  private BpmnModelInstance process(
+      final Consumer<MultiInstanceLoopCharacteristicsBuilder> builder) {
+    return Bpmn.createExecutableProcess(PROCESS_ID)
+        .startEvent()
+        .serviceTask(
+            ELEMENT_ID,
+            t ->
+                t.zeebeJobType(jobType)
+                    .multiInstance(
+                        m -> {
+                          m.zeebeInputCollectionExpression(INPUT_COLLECTION_VARIABLE)
+                              .zeebeInputElement("item")
+                              .zeebeOutputElementExpression("item + 1")
+                              .zeebeOutputCollection(OUTPUT_COLLECTION_VARIABLE);
+                          builder.accept(m);
+                        }))
+        .endEvent()
+        .done();
+  }
+
+  private long createProcessInstance(final List<Integer> inputCollection) {
+    return ENGINE
+        .processInstance()
+        .ofBpmnProcessId(PROCESS_ID)
+        .withVariable(INPUT_COLLECTION_VARIABLE, inputCollection)
+        .create();
+  }
+
+  private long multiInstanceBodyKey(final long processInstanceKey) {
+    return RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+        .getFirst()
+        .getKey();
+  }
+
+  private void completeJobs(final long processInstanceKey, final int count) {
+    for (int i = 0; i < count; i++) {
+      assertThat(
+              RecordingExporter.jobRecords(JobIntent.CREATED)
+                  .withProcessInstanceKey(processInstanceKey)
+                  .skip(i)
+                  .exists())
+          .describedAs("Expected job %d/%d to be created", i + 1, count)
+          .isTrue();
+
+      ENGINE
+          .jobs()
+          .withType(jobType)
+          .withMaxJobsToActivate(1)
+          .activate()
+          .getValue()
+          .getJobKeys()
+          .forEach(jobKey -> ENGINE.job().withKey(jobKey).complete());
+    }
+  }
+}
@@ -906,4 +906,60 @@ public class CreateProcessInstanceAnywhereTest {
             tuple(BpmnElementType.START_EVENT, ProcessInstanceIntent.ELEMENT_ACTIVATED),
             tuple(BpmnElementType.START_EVENT, ProcessInstanceIntent.ELEMENT_COMPLETED));
   }
+
+  @Test
+  public void shouldActivateParallelGatewayWithinThirdLevelSubprocess() {
+    // Given
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .subProcess(
+                    "subprocess_lvl_1",
+                    s1 ->
+                        s1.embeddedSubProcess()
+                            .startEvent()
+                            .subProcess(
+                                "subprocess_lvl_2",
+                                s2 ->
+                                    s2.embeddedSubProcess()
+                                        .startEvent()
+                                        .subProcess(
+                                            "subprocess_lvl_3",
+                                            s3 ->
+                                                s3.embeddedSubProcess()
+                                                    .startEvent()
+                                                    .parallelGateway("fork")
+                                                    .userTask("A")
+                                                    .moveToLastGateway()
+                                                    .userTask("B"))))
+                .done())
+        .deploy();
+
+    // When
+    final long processInstanceKey =
+        ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).withStartInstruction("fork").create();
+
+    // Then
+    Assertions.assertThat(
+            RecordingExporter.processInstanceRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .limit("fork", ProcessInstanceIntent.ELEMENT_COMPLETED))
+        .extracting(
+            record -> record.getValue().getElementId(),
+            record -> record.getValue().getBpmnElementType(),
+            Record::getIntent)
+        .describedAs("Expected to start process instance at parallel gateway three scopes deep")
+        .containsSubsequence(
+            tuple(
+                "subprocess_lvl_3",
+                BpmnElementType.SUB_PROCESS,
+                ProcessInstanceIntent.ELEMENT_ACTIVATED),
+            tuple("fork", BpmnElementType.PARALLEL_GATEWAY, ProcessInstanceIntent.ACTIVATE_ELEMENT),
+            tuple(
+                "fork", BpmnElementType.PARALLEL_GATEWAY, ProcessInstanceIntent.ELEMENT_ACTIVATED),
+            tuple(
+                "fork", BpmnElementType.PARALLEL_GATEWAY, ProcessInstanceIntent.ELEMENT_COMPLETED));
+  }
 }
@@ -657,6 +657,89 @@ final class VariableBehaviorTest {
             });
   }
 
+  @Test
+  void shouldPatchDocument() {
+    // given
+    final long processDefinitionKey = 1;
+    final long rootScopeKey = 1;
+    final long parentScopeKey = 2;
+    final long childScopeKey = 3;
+    final long parentOrderKey = 4;
+    final DirectBuffer bpmnProcessId = BufferUtil.wrapString("process");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    state.createScope(rootScopeKey, VariableState.NO_PARENT);
+    state.createScope(parentScopeKey, rootScopeKey);
+    state.createScope(childScopeKey, parentScopeKey);
+    state.setVariableLocal(
+        parentOrderKey,
+        parentScopeKey,
+        processDefinitionKey,
+        BufferUtil.wrapString("order"),
+        MsgPackUtil.asMsgPack("{'id': 1, 'state': 'new', 'note': 'fragile'}"));
+
+    // when
+    behavior.patchDocument(
+        childScopeKey,
+        processDefinitionKey,
+        rootScopeKey,
+        bpmnProcessId,
+        tenantId,
+        MsgPackUtil.asMsgPack("{'order': {'state': 'paid', 'note': null}}"));
+
+    // then
+    final List<RecordedEvent<VariableRecordValue>> events = getFollowUpEvents();
+    assertThat(events)
+        .satisfiesExactly(
+            event -> {
+              assertThat(event.intent).isEqualTo(VariableIntent.PATCHED);
+              assertThat(event.key).isEqualTo(parentOrderKey);
+              VariableRecordValueAssert.assertThat(event.value)
+                  .hasName("order")
+                  .hasValue("{\"state\":\"paid\",\"note\":null}")
+                  .hasScopeKey(parentScopeKey)
+                  .hasProcessDefinitionKey(processDefinitionKey)
+                  .hasProcessInstanceKey(rootScopeKey)
+                  .hasBpmnProcessId("process")
+                  .hasTenantId(tenantId);
+            });
+    MsgPackUtil.assertEquality(
+        state.getVariableLocal(parentScopeKey, BufferUtil.wrapString("order")),
+        "{'id': 1, 'state': 'paid'}");
+  }
+
+  @Test
+  void shouldCreateVariableOnRootScopeWhenPatchingNonExistingVariable() {
+    // given
+    final long processDefinitionKey = 1;
+    final long rootScopeKey = 1;
+    final long childScopeKey = 2;
+    final DirectBuffer bpmnProcessId = BufferUtil.wrapString("process");
+    final String tenantId = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+    state.createScope(rootScopeKey, VariableState.NO_PARENT);
+    state.createScope(childScopeKey, rootScopeKey);
+
+    // when
+    behavior.patchDocument(
+        childScopeKey,
+        processDefinitionKey,
+        rootScopeKey,
+        bpmnProcessId,
+        tenantId,
+        MsgPackUtil.asMsgPack("{'order': {'state': 'new', 'note': null}}"));
+
+    // then
+    final List<RecordedEvent<VariableRecordValue>> events = getFollowUpEvents();
+    assertThat(events)
+        .satisfiesExactly(
+            event -> {
+              assertThat(event.intent).isEqualTo(VariableIntent.CREATED);
+              VariableRecordValueAssert.assertThat(event.value)
+                  .hasName("order")
+                  .hasValue("{\"state\":\"new\"}")
+                  .hasScopeKey(rootScopeKey);
+            });
+  }
+
   @SuppressWarnings("unchecked")
   private List<RecordedEvent<VariableRecordValue>> getFollowUpEvents() {
     return eventWriter.getEvents().stream()
@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -186,6 +187,59 @@ public final class ElementInstanceStateTest {
     assertElementInstance(updatedParent, 1);
   }
 
+  @Test
+  public void shouldGetChildrenByElementId() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    processInstanceRecord.setElementId("subProcess");
+    elementInstanceState.newInstance(
+        parentInstance, 101, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    processInstanceRecord.setElementId("subProcess2");
+    elementInstanceState.newInstance(
+        parentInstance, 102, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    processInstanceRecord.setElementId("subProcess");
+    elementInstanceState.newInstance(
+        parentInstance, 103, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final List<ElementInstance> children =
+        elementInstanceState.getChildrenByElementId(100L, wrapString("subProcess"));
+
+    // then
+    assertThat(children).extracting(ElementInstance::getKey).containsExactly(101L, 103L);
+    assertChildInstance(children.get(0), 101L, "subProcess");
+    assertChildInstance(children.get(1), 103L, "subProcess");
+    assertThat(elementInstanceState.getChildrenByElementId(100L, wrapString("task"))).isEmpty();
+  }
+
+  @Test
+  public void shouldStopVisitingChildren() {
+    // given
+    final ProcessInstanceRecord processInstanceRecord = createProcessInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    for (long key = 101; key <= 105; key++) {
+      elementInstanceState.newInstance(
+          parentInstance, key, processInstanceRecord, ProcessInstanceIntent.ELEMENT_ACTIVATING);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        (childKey, childInstance) -> {
+          visitedKeys.add(childKey);
+          return childKey < 103L;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(101L, 102L, 103L);
+  }
+
   @Test
   public void shouldUpdateElementInstance() {
     // given
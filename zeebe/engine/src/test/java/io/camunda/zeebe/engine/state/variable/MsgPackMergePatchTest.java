@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class MsgPackMergePatchTest {
+
+  private final MsgPackMergePatch mergePatch = new MsgPackMergePatch();
+
+  // test cases from RFC 7396, appendix A
+  @ParameterizedTest(name = "{0} patched with {1} = {2}")
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "{'a':'b'}                | {'a':'c'}            | {'a':'c'}",
+        "{'a':'b'}                | {'b':'c'}            | {'a':'b','b':'c'}",
+        "{'a':'b'}                | {'a':null}           | {}",
+        "{'a':'b','b':'c'}        | {'a':null}           | {'b':'c'}",
+        "{'a':['b']}              | {'a':'c'}            | {'a':'c'}",
+        "{'a':'c'}                | {'a':['b']}          | {'a':['b']}",
+        "{'a':{'b':'c'}}          | {'a':{'b':'d','c':null}} | {'a':{'b':'d'}}",
+        "{'a':[{'b':'c'}]}        | {'a':[1]}            | {'a':[1]}",
+        "['a','b']                | ['c','d']            | ['c','d']",
+        "{'a':'b'}                | ['c']                | ['c']",
+        "{'a':'foo'}              | 'bar'                | 'bar'",
+        "{'e':null}               | {'a':1}              | {'e':null,'a':1}",
+        "['a','b']                | {'a':'b','c':null}   | {'a':'b'}",
+        "{}                       | {'a':{'bb':{'ccc':null}}} | {'a':{'bb':{}}}",
+      })
+  void shouldApplyMergePatch(final String target, final String patch, final String expected) {
+    // when
+    final var result = mergePatch.apply(msgPack(target), msgPack(patch));
+
+    // then
+    assertEquality(result, expected);
+  }
+
+  @Test
+  void shouldApplyMergePatchWithoutTarget() {
+    // when
+    final var result = mergePatch.apply(null, msgPack("{'a':{'b':1,'c':null},'d':null}"));
+
+    // then
+    assertEquality(result, "{'a':{'b':1}}");
+  }
+
+  @Test
+  void shouldKeepOrderOfTargetEntries() {
+    // when
+    final var result = mergePatch.apply(msgPack("{'a':1,'b':2,'c':3}"), msgPack("{'d':4,'a':5}"));
+
+    // then
+    assertThat(MsgPackConverter.convertToJson(result))
+        .isEqualTo("{\"a\":5,\"b\":2,\"c\":3,\"d\":4}");
+  }
+
+  @Test
+  void shouldNotKeepEntriesOfPreviousPatches() {
+    // given
+    mergePatch.apply(
+        msgPack("{'a':{'b':{'c':1,'d':2},'e':3},'f':4}"), msgPack("{'a':{'b':{'c':5}},'g':6}"));
+
+    // when
+    final var result = mergePatch.apply(msgPack("{'a':{'x':1}}"), msgPack("{'a':{'y':2}}"));
+
+    // then
+    assertThat(MsgPackConverter.convertToJson(result)).isEqualTo("{\"a\":{\"x\":1,\"y\":2}}");
+  }
+
+  @Test
+  void shouldRejectNonStringKeys() {
+    // given - a map with a single integer key
+    final var patch = new UnsafeBuffer(new byte[] {(byte) 0x81, 0x01, 0x01});
+
+    // when - then
+    assertThatThrownBy(() -> mergePatch.apply(msgPack("{}"), patch))
+        .isInstanceOf(MsgpackReaderException.class);
+  }
+
+  private static DirectBuffer msgPack(final String json) {
+    return asMsgPack(json);
+  }
+}
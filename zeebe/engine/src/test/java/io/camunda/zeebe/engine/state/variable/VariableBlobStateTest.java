@@ -0,0 +1,207 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class VariableBlobStateTest {
+  private static final int BLOB_THRESHOLD = 64;
+  private static final long PROCESS_DEFINITION_KEY = 123;
+  private static final long PARENT = 1;
+  private static final long CHILD = 2;
+  private static final long SECOND_CHILD = 3;
+
+  private static final DirectBuffer NAME = wrapString("payload");
+  private static final DirectBuffer LARGE_VALUE = asMsgPack("data", "x".repeat(BLOB_THRESHOLD));
+  private static final DirectBuffer OTHER_LARGE_VALUE =
+      asMsgPack("data", "y".repeat(BLOB_THRESHOLD));
+  private static final DirectBuffer SMALL_VALUE = asMsgPack("data", "x");
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext context;
+  private DbVariableState variableState;
+  private ColumnFamily<DbBytes, VariableBlob> blobs;
+
+  @BeforeEach
+  void beforeEach(final @TempDir Path directory) {
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    variableState = new DbVariableState(zeebeDb, context, BLOB_THRESHOLD);
+    blobs =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS, context, new DbBytes(), new VariableBlob());
+
+    variableState.createScope(PARENT, VariableState.NO_PARENT);
+    variableState.createScope(CHILD, PARENT);
+    variableState.createScope(SECOND_CHILD, PARENT);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldNotStoreSmallValuesAsBlob() {
+    // when
+    setVariable(PARENT, SMALL_VALUE);
+
+    // then
+    assertThat(variableState.getVariable(PARENT, NAME)).isEqualTo(SMALL_VALUE);
+    assertThat(blobs.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldResolveValueStoredAsBlob() {
+    // when
+    setVariable(PARENT, LARGE_VALUE);
+
+    // then
+    assertThat(variableState.getVariable(CHILD, NAME)).isEqualTo(LARGE_VALUE);
+    assertThat(variableState.getVariableLocal(PARENT, NAME)).isEqualTo(LARGE_VALUE);
+    assertThat(variableState.getVariableInstanceLocal(PARENT, NAME).getValue())
+        .isEqualTo(LARGE_VALUE);
+    assertThat(variableState.getVariablesLocal(PARENT))
+        .extracting(VariableState.Variable::value)
+        .containsExactly(LARGE_VALUE);
+  }
+
+  @Test
+  void shouldResolveValueStoredAsBlobInDocument() {
+    // given
+    setVariable(PARENT, LARGE_VALUE);
+
+    // when
+    final var document = variableState.getVariablesAsDocument(CHILD);
+
+    // then
+    assertEquality(document, "{'payload': {'data': '%s'}}".formatted("x".repeat(BLOB_THRESHOLD)));
+  }
+
+  @Test
+  void shouldStoreSameValueOnlyOnce() {
+    // when
+    setVariable(PARENT, LARGE_VALUE);
+    setVariable(CHILD, LARGE_VALUE);
+    setVariable(SECOND_CHILD, LARGE_VALUE);
+
+    // then
+    assertThat(countBlobs()).isOne();
+    blobs.forEach(blob -> assertThat(blob.getReferenceCount()).isEqualTo(3));
+  }
+
+  @Test
+  void shouldKeepBlobWhileReferenced() {
+    // given
+    setVariable(CHILD, LARGE_VALUE);
+    setVariable(SECOND_CHILD, LARGE_VALUE);
+
+    // when
+    variableState.removeScope(CHILD);
+
+    // then
+    assertThat(variableState.getVariableLocal(SECOND_CHILD, NAME)).isEqualTo(LARGE_VALUE);
+    assertThat(countBlobs()).isOne();
+  }
+
+  @Test
+  void shouldRemoveBlobWhenNoLongerReferenced() {
+    // given
+    setVariable(CHILD, LARGE_VALUE);
+    setVariable(SECOND_CHILD, LARGE_VALUE);
+
+    // when
+    variableState.removeScope(SECOND_CHILD);
+    variableState.removeScope(CHILD);
+    variableState.removeScope(PARENT);
+
+    // then
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldReleaseBlobWhenOverwritten() {
+    // given
+    setVariable(PARENT, LARGE_VALUE);
+
+    // when
+    setVariable(PARENT, SMALL_VALUE);
+
+    // then
+    assertThat(variableState.getVariableLocal(PARENT, NAME)).isEqualTo(SMALL_VALUE);
+    assertThat(blobs.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotReleaseBlobWhenOverwrittenWithSameValue() {
+    // given
+    setVariable(PARENT, LARGE_VALUE);
+
+    // when
+    setVariable(PARENT, LARGE_VALUE);
+
+    // then
+    assertThat(variableState.getVariableLocal(PARENT, NAME)).isEqualTo(LARGE_VALUE);
+    blobs.forEach(blob -> assertThat(blob.getReferenceCount()).isOne());
+  }
+
+  @Test
+  void shouldStoreDifferentValuesSeparately() {
+    // when
+    setVariable(PARENT, LARGE_VALUE);
+    setVariable(CHILD, OTHER_LARGE_VALUE);
+
+    // then
+    assertThat(countBlobs()).isEqualTo(2);
+    assertThat(variableState.getVariableLocal(PARENT, NAME)).isEqualTo(LARGE_VALUE);
+    assertThat(variableState.getVariableLocal(CHILD, NAME)).isEqualTo(OTHER_LARGE_VALUE);
+  }
+
+  @Test
+  void shouldReleaseBlobWhenOverwrittenAfterDisablingBlobs() {
+    // given
+    setVariable(PARENT, LARGE_VALUE);
+    variableState = new DbVariableState(zeebeDb, context, DbVariableState.NO_BLOB_THRESHOLD);
+
+    // when
+    setVariable(PARENT, LARGE_VALUE);
+
+    // then
+    assertThat(variableState.getVariableLocal(PARENT, NAME)).isEqualTo(LARGE_VALUE);
+    assertThat(variableState.getVariableInstanceLocal(PARENT, NAME).hasBlobKey()).isFalse();
+    assertThat(blobs.isEmpty()).isTrue();
+  }
+
+  private void setVariable(final long scopeKey, final DirectBuffer value) {
+    variableState.setVariableLocal(scopeKey + 100, scopeKey, PROCESS_DEFINITION_KEY, NAME, value);
+  }
+
+  private int countBlobs() {
+    final var count = new AtomicInteger();
+    blobs.forEach(blob -> count.incrementAndGet());
+    return count.get();
+  }
+}
@@ -462,6 +462,29 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldPatchVariableLocal() {
+    // given
+    declareScope(parent);
+    final long key =
+        setVariableLocal(
+            parent,
+            wrapString("order"),
+            asMsgPack("{\"id\":1,\"state\":\"new\",\"note\":\"x\"}"));
+
+    // when
+    variableState.patchVariableLocal(
+        key,
+        parent,
+        PROCESS_KEY,
+        wrapString("order"),
+        asMsgPack("{\"state\":\"paid\",\"note\":null}"));
+
+    // then
+    assertEquality(
+        variableState.getVariableLocal(parent, wrapString("order")), "{'id':1,'state':'paid'}");
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
@@ -174,6 +174,10 @@ public final class RequestMapper extends RequestUtil {
       brokerRequest.setOperationReference(grpcRequest.getOperationReference());
     }
 
+    if (grpcRequest.hasCorrelationKey()) {
+      brokerRequest.setCorrelationKey(grpcRequest.getCorrelationKey());
+    }
+
     return brokerRequest;
   }
 
@@ -195,6 +199,10 @@ public final class RequestMapper extends RequestUtil {
     if (request.hasOperationReference()) {
       brokerRequest.setOperationReference(request.getOperationReference());
     }
+
+    if (request.hasCorrelationKey()) {
+      brokerRequest.setCorrelationKey(request.getCorrelationKey());
+    }
     return brokerRequest;
   }
 
@@ -230,6 +238,9 @@ public final class RequestMapper extends RequestUtil {
     brokerRequest.setElementInstanceKey(grpcRequest.getElementInstanceKey());
     brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariables()));
     brokerRequest.setLocal(grpcRequest.getLocal());
+    if (grpcRequest.hasPatch() && grpcRequest.getPatch()) {
+      brokerRequest.setPatch();
+    }
 
     if (grpcRequest.hasOperationReference()) {
       brokerRequest.setOperationReference(grpcRequest.getOperationReference());
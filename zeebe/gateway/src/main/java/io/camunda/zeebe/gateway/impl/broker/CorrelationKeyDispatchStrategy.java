@@ -13,25 +13,31 @@ import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 
-public final class PublishMessageDispatchStrategy implements RequestDispatchStrategy {
+/**
+ * Dispatches a request to the partition which owns the message subscriptions for the given
+ * correlation key. Used for publishing messages, as well as for creating process instances which
+ * should live on the same partition as the messages they will later be correlated with, such that
+ * the message correlation does not require any inter-partition communication.
+ */
+public final class CorrelationKeyDispatchStrategy implements RequestDispatchStrategy {
 
   private final String correlationKey;
 
-  public PublishMessageDispatchStrategy(final String correlationKey) {
+  public CorrelationKeyDispatchStrategy(final String correlationKey) {
     this.correlationKey = correlationKey;
   }
 
   @Override
   public int determinePartition(final BrokerTopologyManager topologyManager) {
     final var topology = topologyManager.getTopology();
-    if (topology == null || topology.getPartitionsCount() == 0) {
+    if (topology == null || topology.getInitialPartitionsCount() == 0) {
       throw new NoTopologyAvailableException(
           String.format(
-              "Expected to pick partition for message with correlation key '%s', but no topology is available",
+              "Expected to pick partition for correlation key '%s', but no topology is available",
               correlationKey));
     }
 
-    final int partitionsCount = topology.getPartitionsCount();
+    final int partitionsCount = topology.getInitialPartitionsCount();
     return SubscriptionUtil.getSubscriptionPartitionId(
         BufferUtil.wrapString(correlationKey), partitionsCount);
   }
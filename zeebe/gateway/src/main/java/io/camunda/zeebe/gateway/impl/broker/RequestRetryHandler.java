@@ -80,15 +80,17 @@ public final class RequestRetryHandler {
       final BrokerResponseConsumer<BrokerResponseT> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
     final var topology = topologyManager.getTopology();
-    if (topology == null || topology.getPartitionsCount() == 0) {
+    if (topology == null || topology.getInitialPartitionsCount() == 0) {
       throwableConsumer.accept(new NoTopologyAvailableException());
       return;
     }
 
+    // partitions added to a running cluster have no deployments, so requests are only retried on
+    // the partitions the cluster was created with
     sendRequestWithRetry(
         request,
         requestSender,
-        partitionIdIteratorForType(topology.getPartitionsCount()),
+        partitionIdIteratorForRequest(request, topology.getInitialPartitionsCount()),
         responseConsumer,
         throwableConsumer,
         new ArrayList<>());
@@ -150,8 +152,16 @@ public final class RequestRetryHandler {
     return false;
   }
 
-  private PartitionIdIterator partitionIdIteratorForType(final int partitionsCount) {
-    final int nextPartitionId = roundRobinDispatchStrategy.determinePartition(topologyManager);
+  private PartitionIdIterator partitionIdIteratorForRequest(
+      final BrokerRequest<?> request, final int partitionsCount) {
+    // requests with a specific dispatch strategy (e.g. process instances created with a
+    // correlation key) start with the preferred partition, and only fall back to the other
+    // partitions if it is not available
+    final int nextPartitionId =
+        request
+            .requestDispatchStrategy()
+            .orElse(roundRobinDispatchStrategy)
+            .determinePartition(topologyManager);
     return new PartitionIdIterator(nextPartitionId, partitionsCount, topologyManager);
   }
 }
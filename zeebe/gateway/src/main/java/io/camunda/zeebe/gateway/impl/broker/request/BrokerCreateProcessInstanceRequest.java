@@ -7,18 +7,22 @@
  */
 package io.camunda.zeebe.gateway.impl.broker.request;
 
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.CorrelationKeyDispatchStrategy;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import java.util.List;
+import java.util.Optional;
 import org.agrona.DirectBuffer;
 
 public class BrokerCreateProcessInstanceRequest
     extends BrokerExecuteCommand<ProcessInstanceCreationRecord> {
 
   private final ProcessInstanceCreationRecord requestDto = new ProcessInstanceCreationRecord();
+  private RequestDispatchStrategy dispatchStrategy;
 
   public BrokerCreateProcessInstanceRequest() {
     super(ValueType.PROCESS_INSTANCE_CREATION, ProcessInstanceCreationIntent.CREATE);
@@ -62,6 +66,25 @@ public class BrokerCreateProcessInstanceRequest
     return this;
   }
 
+  /**
+   * Creates the process instance on the partition which owns the message subscriptions of the given
+   * correlation key, the partition a message published with that key is routed to. Subscriptions
+   * the instance opens with the same key are then opened and correlated without commands between
+   * partitions.
+   *
+   * @param correlationKey the correlation key used to select the partition
+   * @return this request
+   */
+  public BrokerCreateProcessInstanceRequest setCorrelationKey(final String correlationKey) {
+    dispatchStrategy = new CorrelationKeyDispatchStrategy(correlationKey);
+    return this;
+  }
+
+  @Override
+  public Optional<RequestDispatchStrategy> requestDispatchStrategy() {
+    return Optional.ofNullable(dispatchStrategy);
+  }
+
   @Override
   public ProcessInstanceCreationRecord getRequestWriter() {
     return requestDto;
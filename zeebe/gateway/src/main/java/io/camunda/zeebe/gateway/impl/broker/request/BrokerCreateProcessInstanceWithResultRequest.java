@@ -7,18 +7,22 @@
  */
 package io.camunda.zeebe.gateway.impl.broker.request;
 
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.CorrelationKeyDispatchStrategy;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessInstanceCreationStartInstruction;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import java.util.List;
+import java.util.Optional;
 import org.agrona.DirectBuffer;
 
 public final class BrokerCreateProcessInstanceWithResultRequest
     extends BrokerExecuteCommand<ProcessInstanceResultRecord> {
   private final ProcessInstanceCreationRecord requestDto = new ProcessInstanceCreationRecord();
+  private RequestDispatchStrategy dispatchStrategy;
 
   public BrokerCreateProcessInstanceWithResultRequest() {
     super(
@@ -70,6 +74,25 @@ public final class BrokerCreateProcessInstanceWithResultRequest
     return this;
   }
 
+  /**
+   * Sends the command to the partition which owns the message subscriptions of the given
+   * correlation key, instead of a round-robin partition. That partition creates the instance and
+   * responds with its result once the instance completed.
+   *
+   * @param correlationKey the correlation key used to select the partition
+   * @return this request
+   */
+  public BrokerCreateProcessInstanceWithResultRequest setCorrelationKey(
+      final String correlationKey) {
+    dispatchStrategy = new CorrelationKeyDispatchStrategy(correlationKey);
+    return this;
+  }
+
+  @Override
+  public Optional<RequestDispatchStrategy> requestDispatchStrategy() {
+    return Optional.ofNullable(dispatchStrategy);
+  }
+
   @Override
   public ProcessInstanceCreationRecord getRequestWriter() {
     return requestDto;
@@ -9,7 +9,7 @@ package io.camunda.zeebe.gateway.impl.broker.request;
 
 import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
-import io.camunda.zeebe.gateway.impl.broker.PublishMessageDispatchStrategy;
+import io.camunda.zeebe.gateway.impl.broker.CorrelationKeyDispatchStrategy;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
@@ -19,12 +19,12 @@ import org.agrona.DirectBuffer;
 public final class BrokerPublishMessageRequest extends BrokerExecuteCommand<MessageRecord> {
 
   private final MessageRecord requestDto = new MessageRecord();
-  private final PublishMessageDispatchStrategy dispatchStrategy;
+  private final CorrelationKeyDispatchStrategy dispatchStrategy;
 
   public BrokerPublishMessageRequest(final String messageName, final String correlationKey) {
     super(ValueType.MESSAGE, MessageIntent.PUBLISH);
     requestDto.setName(messageName).setCorrelationKey(correlationKey);
-    dispatchStrategy = new PublishMessageDispatchStrategy(correlationKey);
+    dispatchStrategy = new CorrelationKeyDispatchStrategy(correlationKey);
   }
 
   public DirectBuffer getCorrelationKey() {
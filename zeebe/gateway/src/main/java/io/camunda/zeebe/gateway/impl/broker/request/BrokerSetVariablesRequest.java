@@ -42,6 +42,15 @@ public final class BrokerSetVariablesRequest extends BrokerExecuteCommand<Variab
     return this;
   }
 
+  /**
+   * Applies the variables as JSON merge patches to the current values, instead of replacing them.
+   * Overrides {@link #setLocal(boolean)}.
+   */
+  public BrokerSetVariablesRequest setPatch() {
+    requestDto.setUpdateSemantics(VariableDocumentUpdateSemantic.PATCH);
+    return this;
+  }
+
   @Override
   public VariableDocumentRecord getRequestWriter() {
     return requestDto;
@@ -32,6 +32,7 @@ public final class StubbedTopologyManager implements BrokerTopologyManager {
       clusterState.addPartitionIfAbsent(START_PARTITION_ID + partitionOffset);
     }
     clusterState.setPartitionsCount(partitionsCount);
+    clusterState.setInitialPartitionsCount(partitionsCount);
   }
 
   @Override
@@ -100,6 +100,14 @@ public interface Journal extends AutoCloseable {
    */
   long getLastIndex();
 
+  /**
+   * Returns the index of the last record which is known to be flushed to the persistent storage,
+   * see {@link #flush()}. May lag behind while a flush is in progress on another thread.
+   *
+   * @return the last flushed index
+   */
+  long getLastFlushedIndex();
+
   /**
    * Returns the index of the first record.
    *
@@ -0,0 +1,313 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+import io.camunda.zeebe.journal.record.JournalRecordSerializer;
+import io.camunda.zeebe.journal.record.SBESerializer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.agrona.BitUtil;
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * {@link SegmentAccess} for the {@link SegmentBackend#FILE_CHANNEL} backend. The segment is never
+ * memory mapped: bytes are staged in a direct buffer shared by all segments of a journal and
+ * written to the file via positional writes, and entries are read via positional reads into
+ * buffers borrowed from a pool shared by all readers of the journal. Records which are read or
+ * written are copied out of these buffers, so they remain valid after the buffers are reused.
+ */
+final class FileChannelSegmentAccess implements SegmentAccess {
+
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private final FileChannel channel;
+  private final int capacity;
+  private final StagingBuffer stagingBuffer;
+  private final ReadBufferPool readBufferPool;
+  private final UnsafeBuffer stagedBuffer = new UnsafeBuffer();
+  private final ByteBuffer frameBuffer =
+      ByteBuffer.allocateDirect(FrameUtil.getLength()).order(ENDIANNESS);
+  private final ByteBuffer descriptorBuffer =
+      ByteBuffer.allocate(SegmentDescriptor.getEncodingLength()).order(ENDIANNESS);
+
+  FileChannelSegmentAccess(
+      final FileChannel channel,
+      final int capacity,
+      final StagingBuffer stagingBuffer,
+      final ReadBufferPool readBufferPool) {
+    this.channel = channel;
+    this.capacity = capacity;
+    this.stagingBuffer = stagingBuffer;
+    this.readBufferPool = readBufferPool;
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public SegmentView openView() {
+    return new FileChannelSegmentView();
+  }
+
+  @Override
+  public DirectBuffer retain(final DirectBuffer stagedBuffer, final int offset, final int length) {
+    // the staging buffer is reused for the next entry
+    final var copy = new UnsafeBuffer(new byte[length]);
+    copy.putBytes(0, stagedBuffer, offset, length);
+    return copy;
+  }
+
+  @Override
+  public MutableDirectBuffer stage(final int position, final int length) {
+    final int stagedLength = Math.min(length, capacity - position);
+    stagedBuffer.wrap(stagingBuffer.ensureCapacity(stagedLength), 0, stagedLength);
+    return stagedBuffer;
+  }
+
+  @Override
+  public void commit(final int position, final int offset, final int length) {
+    final ByteBuffer source = stagingBuffer.buffer;
+    source.clear().limit(offset + length).position(offset);
+    write(source, position + offset);
+  }
+
+  @Override
+  public void writeVersion(final int position) {
+    FrameUtil.writeVersion(frameBuffer, 0);
+    write(frameBuffer.clear(), position);
+  }
+
+  @Override
+  public void markAsIgnored(final int position) {
+    FrameUtil.markAsIgnored(frameBuffer, 0);
+    write(frameBuffer.clear(), position);
+  }
+
+  @Override
+  public void writeDescriptor(final SegmentDescriptor descriptor) {
+    descriptor.copyTo(descriptorBuffer);
+    write(descriptorBuffer.clear().limit(descriptor.length()), 0);
+  }
+
+  @Override
+  public void updateDescriptor(final SegmentDescriptor descriptor) {
+    if (descriptor.updateIfCurrentVersion(descriptorBuffer)) {
+      write(descriptorBuffer.clear().limit(descriptor.length()), 0);
+    }
+  }
+
+  @Override
+  public void flush() {
+    try {
+      // segment files are not preallocated, but fdatasync also syncs the size of the file
+      channel.force(false);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void flushDescriptor(final int length) {
+    flush();
+  }
+
+  @Override
+  public void close() {
+    CloseHelper.quietClose(channel);
+  }
+
+  /**
+   * Reads the descriptor at the beginning of a segment file, without mapping it.
+   *
+   * @return a buffer with the bytes of the descriptor, which holds fewer bytes than a descriptor if
+   *     the file is shorter than that
+   */
+  static ByteBuffer readDescriptor(final FileChannel channel) throws IOException {
+    final var buffer = ByteBuffer.allocate(SegmentDescriptor.getEncodingLength()).order(ENDIANNESS);
+    int read = 0;
+    while (buffer.hasRemaining() && read >= 0) {
+      read = channel.read(buffer, buffer.position());
+    }
+    return buffer.flip();
+  }
+
+  private void write(final ByteBuffer source, final long position) {
+    long writePosition = position;
+    try {
+      while (source.hasRemaining()) {
+        writePosition += channel.write(source, writePosition);
+      }
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+  }
+
+  /**
+   * Reads from the given position until the target is full or the end of the file is reached.
+   *
+   * @return the number of bytes read
+   */
+  private int read(final ByteBuffer target, final long position) {
+    int readBytes = 0;
+    try {
+      while (target.hasRemaining()) {
+        final int read = channel.read(target, position + readBytes);
+        if (read < 0) {
+          break;
+        }
+        readBytes += read;
+      }
+    } catch (final IOException e) {
+      throw new JournalException(e);
+    }
+    return readBytes;
+  }
+
+  /**
+   * Reads entries via positional reads. Checking for an entry reads ahead into a pooled buffer, so
+   * that reading it usually needs no further I/O. As entries may be truncated and rewritten, the
+   * bytes read ahead are only used for the entry directly following the check.
+   */
+  private final class FileChannelSegmentView implements SegmentView {
+    private final JournalRecordSerializer serializer = new SBESerializer();
+    private final JournalRecordReaderUtil recordReader = new JournalRecordReaderUtil(serializer);
+    private final UnsafeBuffer metadataBuffer = new UnsafeBuffer();
+    private ByteBuffer readBuffer;
+    private int position;
+    private int loadedPosition = -1;
+    private int loadedLength;
+
+    @Override
+    public int position() {
+      return position;
+    }
+
+    @Override
+    public void position(final int position) {
+      this.position = position;
+      loadedPosition = -1;
+    }
+
+    @Override
+    public boolean hasValidVersion() {
+      load();
+      return loadedLength >= FrameUtil.getLength() && FrameUtil.hasValidVersion(readBuffer.clear());
+    }
+
+    @Override
+    public JournalRecord read(final long expectedIndex, final boolean validateChecksum) {
+      if (loadedPosition != position) {
+        load();
+      }
+
+      final int frameLength = FrameUtil.getLength();
+      if (loadedLength < frameLength + serializer.getMetadataLength()) {
+        throw new CorruptedJournalException(
+            "Expected to read a record, but reached the end of the segment.");
+      }
+
+      metadataBuffer.wrap(readBuffer, frameLength, loadedLength - frameLength);
+      final var metadata = serializer.readMetadata(metadataBuffer, 0);
+      final long entryLength =
+          (long) frameLength + serializer.getMetadataLength(metadataBuffer, 0) + metadata.length();
+      if (position + entryLength > capacity) {
+        throw new CorruptedJournalException(
+            String.format(
+                "Expected to read a record at position %d, with metadata %s, but reached the end of the segment.",
+                position, metadata));
+      }
+
+      // copy the entry, so the record stays valid when the read buffer is reused
+      final var entry = ByteBuffer.allocate((int) entryLength).order(ENDIANNESS);
+      if (entryLength <= loadedLength) {
+        entry.put(0, readBuffer, 0, (int) entryLength);
+      } else if (FileChannelSegmentAccess.this.read(entry, position) < entryLength) {
+        throw new CorruptedJournalException(
+            "Expected to read a record at position %d, but reached the end of the file."
+                .formatted(position));
+      }
+
+      FrameUtil.readVersion(entry.clear());
+      final var record = recordReader.read(entry, expectedIndex, validateChecksum);
+      position += (int) entryLength;
+      loadedPosition = -1;
+      return record;
+    }
+
+    @Override
+    public void close() {
+      if (readBuffer != null) {
+        readBufferPool.release(readBuffer);
+        readBuffer = null;
+      }
+    }
+
+    private void load() {
+      if (readBuffer == null) {
+        readBuffer = readBufferPool.acquire();
+      }
+
+      readBuffer.clear().limit(Math.max(0, Math.min(readBuffer.capacity(), capacity - position)));
+      loadedLength = FileChannelSegmentAccess.this.read(readBuffer, position);
+      loadedPosition = position;
+    }
+  }
+
+  /**
+   * A reusable direct buffer in which entries are serialized before being written. Only the last
+   * segment of a journal is appended to, so a single buffer can be shared by all its segments.
+   */
+  static final class StagingBuffer {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+
+    private ByteBuffer ensureCapacity(final int capacity) {
+      if (buffer.capacity() < capacity) {
+        buffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(capacity));
+      }
+
+      return buffer.clear();
+    }
+  }
+
+  /**
+   * A pool of direct buffers into which readers of a journal read ahead. Readers borrow a buffer
+   * when they first read, and return it when they are closed; at most {@link #MAX_POOLED_BUFFERS}
+   * buffers are kept for reuse.
+   */
+  static final class ReadBufferPool {
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    private final BlockingQueue<ByteBuffer> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    private ByteBuffer acquire() {
+      final var buffer = buffers.poll();
+      return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE).order(ENDIANNESS);
+    }
+
+    private void release(final ByteBuffer buffer) {
+      buffers.offer(buffer);
+    }
+  }
+}
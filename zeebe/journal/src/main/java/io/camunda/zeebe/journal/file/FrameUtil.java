@@ -16,6 +16,7 @@
 package io.camunda.zeebe.journal.file;
 
 import java.nio.ByteBuffer;
+import org.agrona.MutableDirectBuffer;
 
 final class FrameUtil {
 
@@ -33,6 +34,10 @@ final class FrameUtil {
     write(buffer, offset, IGNORE);
   }
 
+  static void markAsIgnored(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putByte(offset, IGNORE);
+  }
+
   /**
    * Reads the version at buffer's current position. The position of the buffer will be advanced.
    */
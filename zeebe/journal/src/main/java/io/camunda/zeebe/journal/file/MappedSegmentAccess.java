@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+import io.camunda.zeebe.journal.record.SBESerializer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** {@link SegmentAccess} for the {@link SegmentBackend#MAPPED} backend. */
+final class MappedSegmentAccess implements SegmentAccess {
+
+  private final MappedByteBuffer buffer;
+  private final UnsafeBuffer stagedBuffer = new UnsafeBuffer();
+
+  MappedSegmentAccess(final MappedByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int capacity() {
+    return buffer.capacity();
+  }
+
+  @Override
+  public SegmentView openView() {
+    return new MappedSegmentView(buffer.asReadOnlyBuffer().clear().order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Override
+  public DirectBuffer retain(final DirectBuffer stagedBuffer, final int offset, final int length) {
+    // the staged bytes are part of the mapping, which stays valid until the segment is closed
+    return new UnsafeBuffer(stagedBuffer, offset, length);
+  }
+
+  @Override
+  public MutableDirectBuffer stage(final int position, final int length) {
+    // serialize in place; the remaining space of the segment is the only limit
+    stagedBuffer.wrap(buffer, position, buffer.capacity() - position);
+    return stagedBuffer;
+  }
+
+  @Override
+  public void commit(final int position, final int offset, final int length) {
+    // staged bytes are written directly to the mapping
+  }
+
+  @Override
+  public void writeVersion(final int position) {
+    FrameUtil.writeVersion(buffer, position);
+  }
+
+  @Override
+  public void markAsIgnored(final int position) {
+    FrameUtil.markAsIgnored(buffer, position);
+  }
+
+  @Override
+  public void writeDescriptor(final SegmentDescriptor descriptor) {
+    descriptor.copyTo(buffer);
+  }
+
+  @Override
+  public void updateDescriptor(final SegmentDescriptor descriptor) {
+    descriptor.updateIfCurrentVersion(buffer);
+  }
+
+  @Override
+  public void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public void flushDescriptor(final int length) {
+    buffer.force(0, length);
+  }
+
+  @Override
+  public void close() {
+    IoUtil.unmap(buffer);
+  }
+
+  /** Reads entries directly from the mapping, without copying them. */
+  private static final class MappedSegmentView implements SegmentView {
+    private final ByteBuffer buffer;
+    private final JournalRecordReaderUtil recordReader =
+        new JournalRecordReaderUtil(new SBESerializer());
+
+    private MappedSegmentView(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int position() {
+      return buffer.position();
+    }
+
+    @Override
+    public void position(final int position) {
+      buffer.position(position);
+    }
+
+    @Override
+    public boolean hasValidVersion() {
+      return FrameUtil.hasValidVersion(buffer);
+    }
+
+    @Override
+    public JournalRecord read(final long expectedIndex, final boolean validateChecksum) {
+      final int position = buffer.position();
+      FrameUtil.readVersion(buffer);
+      try {
+        return recordReader.read(buffer, expectedIndex, validateChecksum);
+      } catch (final RuntimeException e) {
+        buffer.position(position);
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -25,10 +25,10 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,7 +40,6 @@ import org.slf4j.LoggerFactory;
  */
 final class Segment implements AutoCloseable, FlushableSegment {
 
-  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
   private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
 
   private final SegmentFile file;
@@ -48,8 +47,12 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final JournalIndex index;
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
-  private final MappedByteBuffer buffer;
+  private final SegmentAccess access;
   private final JournalMetrics metrics;
+  private final boolean lazyReadValidation;
+  // the end of the entries which were read and validated contiguously from the start of the
+  // segment; it moves forward when readers validate entries, and back when entries are truncated
+  private final AtomicInteger validatedPosition;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -59,15 +62,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
   Segment(
       final SegmentFile file,
       final SegmentDescriptor descriptor,
-      final MappedByteBuffer buffer,
+      final SegmentAccess access,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final boolean lazyReadValidation) {
     this.file = file;
     this.descriptor = descriptor;
-    this.buffer = buffer;
+    this.access = access;
     this.index = index;
     this.metrics = metrics;
+    this.lazyReadValidation = lazyReadValidation;
+    validatedPosition = new AtomicInteger(descriptor.length());
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -111,7 +117,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * with a message about being unable to allocate memory. There are no other exceptions (other than
    * the usual suspects, like null pointers) possible, so it's safe to assume that if we get such an
    * error on calling {@link MappedByteBuffer#force()}, but the segment is closed/deleted, then we
-   * can safely ignore it (as flushing doesn't matter in that case).
+   * can safely ignore it (as flushing doesn't matter in that case). The same applies to the {@link
+   * SegmentBackend#FILE_CHANNEL} backend, which fails with an {@link UncheckedIOException} when
+   * forcing a closed channel.
    *
    * <p>{@inheritDoc}
    *
@@ -122,7 +130,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      access.flush();
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
         throw e;
@@ -184,14 +192,37 @@ final class Segment implements AutoCloseable, FlushableSegment {
    */
   SegmentReader createReader() {
     checkOpen();
-    final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+    final SegmentReader reader = new SegmentReader(access.openView(), this, index);
     readers.add(reader);
     return reader;
   }
 
+  /**
+   * Returns true if the entry starting at the given position was already validated by a reader and
+   * doesn't need to be validated again. Always false unless lazy read validation is enabled.
+   */
+  boolean isValidated(final int entryPosition) {
+    return lazyReadValidation && entryPosition < validatedPosition.get();
+  }
+
+  /**
+   * Marks the entry between the given positions as validated. Only entries which directly follow
+   * the already validated ones move the validated position forward, so it always covers a
+   * contiguous range of entries.
+   */
+  void onValidated(final int entryPosition, final int nextEntryPosition) {
+    if (lazyReadValidation) {
+      validatedPosition.compareAndSet(entryPosition, nextEntryPosition);
+    }
+  }
+
+  /** Invalidates all entries from the given position onwards, e.g. when they are truncated. */
+  void invalidateFrom(final int position) {
+    validatedPosition.accumulateAndGet(position, Math::min);
+  }
+
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+    return new SegmentWriter(access, this, index, lastWrittenAsqn, metrics);
   }
 
   /**
@@ -228,7 +259,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
-    IoUtil.unmap(buffer);
+    access.close();
   }
 
   /** Deletes the segment. */
@@ -248,7 +279,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
-      IoUtil.unmap(buffer);
+      access.close();
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -281,14 +312,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
   void updateDescriptor() {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
-    descriptor.updateIfCurrentVersion(buffer);
+    access.updateDescriptor(descriptor);
   }
 
   void resetLastEntryInDescriptor() {
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
-    descriptor.updateIfCurrentVersion(buffer);
+    access.updateDescriptor(descriptor);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
-    buffer.force(0, descriptor.length());
+    access.flushDescriptor(descriptor.length());
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.UncheckedIOException;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Gives access to the content of a segment file, as configured by its {@link SegmentBackend}.
+ *
+ * <p>Entries are read through the {@link SegmentView views} returned by {@link #openView()}.
+ * Writing happens in two steps: bytes are first serialized in the buffer returned by {@link
+ * #stage(int, int)}, and then applied to the file via {@link #commit(int, int, int)}. Depending on
+ * the backend, the staged bytes may already be part of the mapping, in which case committing them
+ * is a no-op.
+ *
+ * <p>Implementations are not thread safe, and are expected to be written to from the journal's
+ * write path only. {@link #flush()} may be called concurrently.
+ */
+interface SegmentAccess extends AutoCloseable {
+
+  /**
+   * @return the maximum size of the segment in bytes
+   */
+  int capacity();
+
+  /**
+   * Opens a new view to read the entries of the segment, which reflects all committed writes. The
+   * view must be closed once it's not used anymore.
+   */
+  SegmentView openView();
+
+  /**
+   * Returns a buffer with the given range of the bytes staged by the last call to {@link
+   * #stage(int, int)}, which remains valid after further writes. Depending on the backend, this is
+   * either a view of the segment or a copy of the staged bytes.
+   */
+  DirectBuffer retain(DirectBuffer stagedBuffer, int offset, int length);
+
+  /**
+   * Returns a buffer in which the bytes to write at the given position are serialized. Index 0 of
+   * the returned buffer corresponds to the given position in the segment. The buffer is only valid
+   * until the next call to this method.
+   *
+   * @param position the position in the segment of the first byte to write
+   * @param length the number of bytes which are expected to be written; the returned buffer is
+   *     smaller if there is not enough space left in the segment
+   */
+  MutableDirectBuffer stage(int position, int length);
+
+  /**
+   * Writes the bytes staged in the range {@code [offset, offset + length)} to the segment.
+   *
+   * @param position the position which was passed to {@link #stage(int, int)}
+   * @param offset the offset of the bytes to write, relative to the staged buffer
+   * @param length the number of bytes to write
+   */
+  void commit(int position, int offset, int length);
+
+  /** Writes a valid frame version at the given position, making the entry visible to readers. */
+  void writeVersion(int position);
+
+  /** Marks the frame at the given position as ignored, e.g. the end of the written entries. */
+  void markAsIgnored(int position);
+
+  /** Writes the given descriptor at the beginning of the segment. */
+  void writeDescriptor(SegmentDescriptor descriptor);
+
+  /**
+   * Writes the given descriptor at the beginning of the segment, unless the segment was written
+   * with an older descriptor version. See {@link SegmentDescriptor#updateIfCurrentVersion}.
+   */
+  void updateDescriptor(SegmentDescriptor descriptor);
+
+  /**
+   * Flushes all written bytes to disk.
+   *
+   * @throws UncheckedIOException if flushing failed
+   */
+  void flush();
+
+  /**
+   * Flushes the descriptor to disk. Depending on the backend, this may also flush other changes.
+   *
+   * @throws UncheckedIOException if flushing failed
+   */
+  void flushDescriptor(int length);
+
+  /** Releases the mapping and any other resource. Must be idempotent. */
+  @Override
+  void close();
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * Defines how entries are written to and read from the segment files of a {@link
+ * SegmentedJournal}.
+ */
+public enum SegmentBackend {
+
+  /**
+   * Segments are preallocated and memory mapped. Entries are serialized directly into the mapping,
+   * read from it without copying, and flushed via {@code msync}. This is the default.
+   */
+  MAPPED,
+
+  /**
+   * Segments are never memory mapped nor preallocated. Entries are serialized into a reusable
+   * direct buffer and written with positional {@link java.nio.channels.FileChannel} writes, read
+   * with positional reads into pooled buffers and copied out of them, and flushed via {@code
+   * fdatasync}. This avoids the page faults and page cache pressure of large mappings, which makes
+   * memory usage and flush latency more predictable on memory constrained systems, at the cost of
+   * copying every entry which is read.
+   */
+  FILE_CHANNEL
+}
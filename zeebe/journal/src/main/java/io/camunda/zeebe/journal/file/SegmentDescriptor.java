@@ -237,10 +237,14 @@ final class SegmentDescriptor {
     this.lastIndex = lastIndex;
   }
 
-  void updateIfCurrentVersion(final ByteBuffer buffer) {
+  /**
+   * @return true if the descriptor was written to the buffer, false if it was skipped
+   */
+  boolean updateIfCurrentVersion(final ByteBuffer buffer) {
     if (version >= CUR_VERSION
         && actingSchemaVersion == segmentDescriptorEncoder.sbeSchemaVersion()) {
       copyTo(buffer);
+      return true;
     } else {
       // Do not overwrite the descriptor for older versions. The new version has a higher length and
       // will overwrite the first entry.
@@ -251,6 +255,7 @@ final class SegmentDescriptor {
           actingSchemaVersion,
           CUR_VERSION,
           segmentDescriptorEncoder.sbeSchemaVersion());
+      return false;
     }
   }
 
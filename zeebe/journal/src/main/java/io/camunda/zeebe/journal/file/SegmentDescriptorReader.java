@@ -88,9 +88,7 @@ final class SegmentDescriptorReader {
 
   private void validateChecksum(
       final DirectBuffer buffer, final int descHeaderOffset, final int descriptorLength) {
-    final ByteBuffer slice = ByteBuffer.allocate(descriptorLength);
-    buffer.getBytes(descHeaderOffset, slice, descriptorLength);
-    final long computedChecksum = checksumGen.compute(slice, 0, descriptorLength);
+    final long computedChecksum = checksumGen.compute(buffer, descHeaderOffset, descriptorLength);
 
     if (computedChecksum != checksum) {
       throw new CorruptedJournalException(
@@ -9,8 +9,11 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.FileChannelSegmentAccess.ReadBufferPool;
+import io.camunda.zeebe.journal.file.FileChannelSegmentAccess.StagingBuffer;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
@@ -20,6 +23,7 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +36,10 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final SegmentBackend backend;
+  private final boolean lazyReadValidation;
+  private final StagingBuffer stagingBuffer = new StagingBuffer();
+  private final ReadBufferPool readBufferPool = new ReadBufferPool();
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +47,20 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentBackend.MAPPED, false);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentBackend backend,
+      final boolean lazyReadValidation) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.backend = backend;
+    this.lazyReadValidation = lazyReadValidation;
   }
 
   Segment createSegment(
@@ -49,19 +68,19 @@ final class SegmentLoader {
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentAccess segmentAccess;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      segmentAccess = openNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
     }
 
     try {
-      descriptor.copyTo(mappedSegment);
-      mappedSegment.force();
-    } catch (final InternalError e) {
+      segmentAccess.writeDescriptor(descriptor);
+      segmentAccess.flush();
+    } catch (final InternalError | UncheckedIOException e) {
       throw new JournalException(
           String.format(
               "Failed to ensure durability of segment %s with descriptor %s, rolling back",
@@ -80,15 +99,15 @@ final class SegmentLoader {
           e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    return loadSegment(segmentFile, segmentAccess, descriptor, lastWrittenAsqn, journalIndex);
   }
 
   UninitializedSegment createUninitializedSegment(
       final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
-    final MappedByteBuffer mappedSegment;
+    final SegmentAccess segmentAccess;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      segmentAccess = openNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
@@ -108,41 +127,79 @@ final class SegmentLoader {
         new SegmentFile(segmentFile.toFile()),
         descriptor.id(),
         descriptor.maxSegmentSize(),
-        mappedSegment,
-        journalIndex);
+        segmentAccess,
+        journalIndex,
+        lazyReadValidation);
   }
 
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
-    try (final var channel =
-        FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
-      MappedByteBuffer mappedSegment;
-      final var initialMappedLength = Files.size(segmentFile);
-      mappedSegment = mapSegment(channel, initialMappedLength);
-      final var descriptor = readDescriptor(mappedSegment, segmentFile.getFileName().toString());
-
-      if (descriptor.maxSegmentSize() > initialMappedLength) {
-        // remap with actual size
-        IoUtil.unmap(mappedSegment);
-        mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
-      }
-
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    FileChannel channel = null;
+    try {
+      channel = FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      final var fileName = segmentFile.getFileName().toString();
+      return switch (backend) {
+        case MAPPED -> {
+          MappedByteBuffer mappedSegment;
+          final var initialMappedLength = Files.size(segmentFile);
+          mappedSegment = mapSegment(channel, initialMappedLength);
+          final var descriptor = readDescriptor(mappedSegment, fileName);
+
+          if (descriptor.maxSegmentSize() > initialMappedLength) {
+            // remap with actual size
+            IoUtil.unmap(mappedSegment);
+            mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
+          }
+
+          channel.close();
+          yield loadSegment(
+              segmentFile,
+              new MappedSegmentAccess(mappedSegment),
+              descriptor,
+              lastWrittenAsqn,
+              journalIndex);
+        }
+        case FILE_CHANNEL -> {
+          final var descriptor =
+              readDescriptor(FileChannelSegmentAccess.readDescriptor(channel), fileName);
+          yield loadSegment(
+              segmentFile,
+              createFileChannelAccess(channel, descriptor.maxSegmentSize()),
+              descriptor,
+              lastWrittenAsqn,
+              journalIndex);
+        }
+      };
     } catch (final IOException e) {
+      CloseHelper.quietClose(channel);
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
+    } catch (final RuntimeException e) {
+      CloseHelper.quietClose(channel);
+      throw e;
     }
   }
 
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
-      final MappedByteBuffer buffer,
+      final SegmentAccess segmentAccess,
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile,
+        descriptor,
+        segmentAccess,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        lazyReadValidation);
+  }
+
+  private SegmentAccess createFileChannelAccess(final FileChannel channel, final int capacity) {
+    return new FileChannelSegmentAccess(channel, capacity, stagingBuffer, readBufferPool);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -167,27 +224,44 @@ final class SegmentLoader {
     }
   }
 
-  private MappedByteBuffer mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
+  private SegmentAccess openNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
 
     checkDiskSpace(segmentPath, maxSegmentSize);
 
-    try (final var channel =
-        FileChannel.open(
-            segmentPath,
-            StandardOpenOption.READ,
-            StandardOpenOption.WRITE,
-            StandardOpenOption.CREATE_NEW)) {
-      allocateSegment(maxSegmentSize, channel);
-      return mapSegment(channel, maxSegmentSize);
+    final FileChannel channel;
+    try {
+      channel =
+          FileChannel.open(
+              segmentPath,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.CREATE_NEW);
     } catch (final FileAlreadyExistsException e) {
       LOGGER.warn(
           "Failed to create segment {}: an unused file already existed, and will be replaced",
           segmentPath,
           e);
       Files.delete(segmentPath);
-      return mapNewSegment(segmentPath, descriptor);
+      return openNewSegment(segmentPath, descriptor);
+    }
+
+    try {
+      return switch (backend) {
+        case MAPPED -> {
+          allocateSegment(maxSegmentSize, channel);
+          final var mappedSegment = mapSegment(channel, maxSegmentSize);
+          // the mapping stays valid without the channel
+          channel.close();
+          yield new MappedSegmentAccess(mappedSegment);
+        }
+        // the file grows with the appended entries, so there is nothing to preallocate
+        case FILE_CHANNEL -> createFileChannelAccess(channel, maxSegmentSize);
+      };
+    } catch (final IOException | RuntimeException e) {
+      CloseHelper.quietClose(channel);
+      throw e;
     }
   }
 
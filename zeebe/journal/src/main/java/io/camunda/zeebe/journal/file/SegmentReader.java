@@ -18,28 +18,23 @@ package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
-import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
-import io.camunda.zeebe.journal.record.SBESerializer;
-import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /** Log segment reader. */
 final class SegmentReader implements Iterator<JournalRecord> {
 
-  private final ByteBuffer buffer;
+  private final SegmentView view;
   private final JournalIndex index;
   private final Segment segment;
   private long currentIndex;
-  private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(final SegmentView view, final Segment segment, final JournalIndex index) {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
-    this.buffer = buffer;
+    this.view = view;
     reset();
   }
 
@@ -52,7 +47,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
     }
 
     // if the next entry exists the version would be non-zero
-    return FrameUtil.hasValidVersion(buffer);
+    return view.hasValidVersion();
   }
 
   @Override
@@ -61,17 +56,20 @@ final class SegmentReader implements Iterator<JournalRecord> {
       throw new NoSuchElementException();
     }
 
-    // Read version so that buffer's position is advanced.
-    FrameUtil.readVersion(buffer);
+    final int entryPosition = view.position();
+    final boolean validated = segment.isValidated(entryPosition);
 
-    final var currentEntry = recordReader.read(buffer, getNextIndex());
+    final var currentEntry = view.read(getNextIndex(), !validated);
+    if (!validated) {
+      segment.onValidated(entryPosition, view.position());
+    }
     // currentEntry should not be null as hasNext returns true
     currentIndex = currentEntry.index();
     return currentEntry;
   }
 
   void reset() {
-    buffer.position(descriptorLength);
+    view.position(descriptorLength);
     currentIndex = segment.index() - 1;
   }
 
@@ -84,7 +82,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
     final var position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
-      buffer.position(position.position());
+      view.position(position.position());
       currentIndex = position.index() - 1;
     }
 
@@ -93,7 +91,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
     final boolean shouldIndex = !this.index.hasIndexed(index);
 
     while (getNextIndex() < index && hasNext()) {
-      final var nextPosition = buffer.position();
+      final var nextPosition = view.position();
       final var nextEntry = next();
       if (shouldIndex) {
         this.index.index(nextEntry, nextPosition);
@@ -102,6 +100,7 @@ final class SegmentReader implements Iterator<JournalRecord> {
   }
 
   void close() {
+    view.close();
     segment.onReaderClosed(this);
   }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
+
+/**
+ * A cursor over the entries of a segment, as returned by {@link SegmentAccess#openView()}. Its
+ * position is an offset in the segment, starting with the descriptor. Records read from a view
+ * remain valid after the view moved on.
+ *
+ * <p>Views are not thread safe, and each reader of a segment uses its own.
+ */
+interface SegmentView extends AutoCloseable {
+
+  /**
+   * @return the position in the segment of the next entry to read
+   */
+  int position();
+
+  /** Moves the view to the entry at the given position in the segment. */
+  void position(int position);
+
+  /**
+   * Returns true if there is an entry with a valid version at the current position. The position
+   * of the view is unchanged.
+   */
+  boolean hasValidVersion();
+
+  /**
+   * Reads the entry at the current position, and advances the position to the next entry. See
+   * {@link JournalRecordReaderUtil#read(java.nio.ByteBuffer, long, boolean)}.
+   *
+   * @throws CorruptedJournalException if the entry is corrupted or partially written
+   */
+  JournalRecord read(long expectedIndex, boolean validateChecksum);
+
+  /** Releases the resources of the view. Must be idempotent. */
+  @Override
+  void close();
+}
@@ -24,7 +24,6 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
-import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
 import io.camunda.zeebe.journal.record.RecordMetadata;
@@ -34,7 +33,6 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
-import java.nio.MappedByteBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -45,7 +43,8 @@ final class SegmentWriter {
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentWriter.class);
 
-  private final MappedByteBuffer buffer;
+  private final SegmentAccess access;
+  private final int capacity;
   private final Segment segment;
   private final JournalIndex index;
   private final long firstIndex;
@@ -53,26 +52,26 @@ final class SegmentWriter {
   private long lastAsqn;
   private JournalRecord lastEntry;
   private int lastEntryPosition;
-  private final JournalRecordReaderUtil recordUtil;
+  // the position at which the next entry is written
+  private int position;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
   private final JournalRecordSerializer serializer = new SBESerializer();
-  private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
 
   SegmentWriter(
-      final MappedByteBuffer buffer,
+      final SegmentAccess access,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
       final JournalMetrics metrics) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
-    recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
     firstIndex = segment.index();
-    this.buffer = buffer;
-    writeBuffer.wrap(buffer);
+    this.access = access;
+    capacity = access.capacity();
+    position = descriptorLength;
     firstAsqn = lastWrittenAsqn + 1;
     lastAsqn = lastWrittenAsqn;
     lastEntryPosition = segment.descriptor().lastPosition();
@@ -121,18 +120,19 @@ final class SegmentWriter {
 
     verifyAsqnIsIncreasing(asqn);
 
-    final int startPosition = buffer.position();
+    final int startPosition = position;
     final int frameLength = FrameUtil.getLength();
     final int metadataLength = serializer.getMetadataLength();
+    final var stagedBuffer = stage(startPosition, recordDataWriter);
 
     // Write using sbe old version because the checksum is calculated based on that version. This is
     // to handle all append requests coming from leaders that are at versions 8.2.x or older.
     final var writeResult =
         writeRecordAtOldVersion(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
+            entryIndex, asqn, stagedBuffer, frameLength + metadataLength, recordDataWriter);
 
     return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+        expectedChecksum, startPosition, stagedBuffer, frameLength, metadataLength, writeResult);
   }
 
   Either<SegmentFull, JournalRecord> append(final long asqn, final BufferWriter recordDataWriter) {
@@ -147,37 +147,54 @@ final class SegmentWriter {
 
     verifyAsqnIsIncreasing(asqn);
 
-    final int startPosition = buffer.position();
+    final int startPosition = position;
     final int frameLength = FrameUtil.getLength();
     final int metadataLength = serializer.getMetadataLength();
+    final var stagedBuffer = stage(startPosition, recordDataWriter);
 
     final var writeResult =
-        writeRecord(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
+        writeRecord(entryIndex, asqn, stagedBuffer, frameLength + metadataLength, recordDataWriter);
 
     return tryFinalizeAppend(
-        expectedChecksum, startPosition, frameLength, metadataLength, writeResult);
+        expectedChecksum, startPosition, stagedBuffer, frameLength, metadataLength, writeResult);
   }
 
   Either<SegmentFull, JournalRecord> append(
       final long expectedChecksum, final byte[] serializedRecord) {
 
-    final int startPosition = buffer.position();
+    final int startPosition = position;
     final int frameLength = FrameUtil.getLength();
     final int recordLength = serializedRecord.length;
     final int metadataLength = serializer.getMetadataLength();
 
-    if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
+    if (startPosition + frameLength + metadataLength + recordLength > capacity) {
       return Either.left(new SegmentFull("Not enough space to write record"));
     }
 
     // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
-
-    finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+    final var stagedBuffer =
+        access.stage(
+            startPosition,
+            frameLength + metadataLength + recordLength + FrameUtil.getLength());
+    stagedBuffer.putBytes(frameLength + metadataLength, serializedRecord);
+
+    finalizeAppend(
+        expectedChecksum, startPosition, stagedBuffer, frameLength, metadataLength, recordLength);
     return Either.right(lastEntry);
   }
 
+  /**
+   * Returns the buffer in which to serialize the entry at the given position, with enough space for
+   * the entry and the frame marking the end of the written entries.
+   */
+  private MutableDirectBuffer stage(final int startPosition, final BufferWriter recordDataWriter) {
+    final int entryLength =
+        FrameUtil.getLength()
+            + serializer.getMetadataLength()
+            + serializer.getSerializedLength(recordDataWriter.getLength());
+    return access.stage(startPosition, entryLength + FrameUtil.getLength());
+  }
+
   private void verifyAsqnIsIncreasing(final long asqn) {
     if (asqn != SegmentedJournal.ASQN_IGNORE && asqn <= lastAsqn) {
       throw new InvalidAsqn(
@@ -200,6 +217,7 @@ final class SegmentWriter {
   private Either<SegmentFull, JournalRecord> tryFinalizeAppend(
       final Long expectedChecksum,
       final int startPosition,
+      final MutableDirectBuffer stagedBuffer,
       final int frameLength,
       final int metadataLength,
       final Either<SegmentFull, Integer> writeResult) {
@@ -207,63 +225,79 @@ final class SegmentWriter {
         .map(
             recordLength -> {
               finalizeAppend(
-                  expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
+                  expectedChecksum,
+                  startPosition,
+                  stagedBuffer,
+                  frameLength,
+                  metadataLength,
+                  recordLength);
               return lastEntry;
             })
         .mapLeft(
             segmentFull -> {
-              buffer.position(startPosition);
+              position = startPosition;
               return segmentFull;
             });
   }
 
-  /** Writes record metadata and header. Update lastWrittenEntry. Update JournalIndex */
+  /**
+   * Writes record metadata and header. Update lastWrittenEntry. Update JournalIndex
+   *
+   * <p>The staged buffer starts at the start position of the entry, and already contains the
+   * serialized record.
+   */
   private void finalizeAppend(
       final Long expectedChecksum,
       final int startPosition,
+      final MutableDirectBuffer stagedBuffer,
       final int frameLength,
       final int metadataLength,
       final int recordLength) {
     final long checksum =
-        checksumGenerator.compute(
-            buffer, startPosition + frameLength + metadataLength, recordLength);
+        checksumGenerator.compute(stagedBuffer, frameLength + metadataLength, recordLength);
 
     if (expectedChecksum != null && expectedChecksum != checksum) {
-      buffer.position(startPosition);
+      position = startPosition;
       throw new InvalidChecksum(
           String.format(
               "Failed to append record. Checksum %d does not match the expected %d.",
               checksum, expectedChecksum));
     }
 
-    writeMetadata(startPosition, frameLength, recordLength, checksum);
+    writeMetadata(stagedBuffer, frameLength, recordLength, checksum);
+
+    // invalidate the next entry together with this one, unless the segment is full
+    final int appendedBytes = frameLength + metadataLength + recordLength;
+    final boolean hasNextEntry = appendedBytes < stagedBuffer.capacity();
+    if (hasNextEntry) {
+      FrameUtil.markAsIgnored(stagedBuffer, appendedBytes);
+    }
 
-    final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
-    invalidateNextEntry(nextEntryOffset);
+    // write everything but the version first, so readers never observe a partially written entry
+    final int committedBytes = metadataLength + recordLength + (hasNextEntry ? frameLength : 0);
+    access.commit(startPosition, frameLength, committedBytes);
 
-    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
-    FrameUtil.writeVersion(buffer, startPosition);
+    updateLastWrittenEntry(startPosition, stagedBuffer, frameLength, metadataLength, recordLength);
+    access.writeVersion(startPosition);
 
-    final int appendedBytes = frameLength + metadataLength + recordLength;
-    buffer.position(startPosition + appendedBytes);
+    position = startPosition + appendedBytes;
     metrics.observeAppend(appendedBytes);
   }
 
   private void updateLastWrittenEntry(
       final int startPosition,
+      final MutableDirectBuffer stagedBuffer,
       final int frameLength,
       final int metadataLength,
       final int recordLength) {
-    final var metadata = serializer.readMetadata(writeBuffer, startPosition + frameLength);
-    final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
+    final var entry = access.retain(stagedBuffer, frameLength, metadataLength + recordLength);
+    final var metadata = serializer.readMetadata(entry, 0);
+    final var data = serializer.readData(entry, metadataLength);
     verifyNoIndexGap(data.index(), getNextIndex());
 
     lastEntry =
         new PersistedJournalRecord(
-            metadata,
-            data,
-            new UnsafeBuffer(
-                writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+            metadata, data, new UnsafeBuffer(entry, metadataLength, recordLength));
     updateLastAsqn(lastEntry.asqn());
     index.index(lastEntry, startPosition);
     lastEntryPosition = startPosition;
@@ -274,38 +308,48 @@ final class SegmentWriter {
   }
 
   private void writeMetadata(
-      final int startPosition, final int frameLength, final int recordLength, final long checksum) {
+      final MutableDirectBuffer stagedBuffer,
+      final int frameLength,
+      final int recordLength,
+      final long checksum) {
     final RecordMetadata recordMetadata = new RecordMetadata(checksum, recordLength);
-    serializer.writeMetadata(recordMetadata, writeBuffer, startPosition + frameLength);
+    serializer.writeMetadata(recordMetadata, stagedBuffer, frameLength);
   }
 
   private Either<SegmentFull, Integer> writeRecord(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer stagedBuffer,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeData(index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeData(index, asqn, recordDataWriter, stagedBuffer, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
   private Either<SegmentFull, Integer> writeRecordAtOldVersion(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
+      final long index,
+      final long asqn,
+      final MutableDirectBuffer stagedBuffer,
+      final int offset,
+      final BufferWriter recordDataWriter) {
     return serializer
-        .writeDataAtVersion(1, index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeDataAtVersion(1, index, asqn, recordDataWriter, stagedBuffer, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
   private void invalidateNextEntry(final int position) {
-    if (position >= buffer.capacity()) {
+    if (position >= capacity) {
       return;
     }
 
-    FrameUtil.markAsIgnored(buffer, position);
+    access.markAsIgnored(position);
   }
 
   private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
-    try {
-      buffer.position(lastPosition);
-      buffer.mark();
-      if (!FrameUtil.hasValidVersion(buffer)) {
+    try (final var view = access.openView()) {
+      view.position(lastPosition);
+      if (!view.hasValidVersion()) {
         // last position in the descriptor and last entry in the segment does not match. This might
         // be a corruption or a race condition between updating the description and flushing the
         // segment. To simplify the handling, we switch to scanning the whole segment.
@@ -314,10 +358,11 @@ final class SegmentWriter {
         // Here normally we expect to jump to last entry directly. But to handle the case where new
         // entries where written after descriptor was updated, iterate until the end.
         long nextIndex = lastIndex;
-        while (FrameUtil.hasValidVersion(buffer)) {
-          advanceToNextEntry(nextIndex);
+        while (view.hasValidVersion()) {
+          advanceToNextEntry(view, nextIndex);
           nextIndex++;
         }
+        position = view.position();
       }
     } catch (final Exception e) {
       /*
@@ -335,28 +380,25 @@ final class SegmentWriter {
     }
   }
 
-  // Reads the current entry and advance the buffer position to the start of next entry.
-  private void advanceToNextEntry(final long nextIndex) {
-    final int position = buffer.position();
-    FrameUtil.readVersion(buffer);
-    lastEntry = recordUtil.read(buffer, nextIndex);
+  // Reads the current entry and advance the view to the start of next entry.
+  private void advanceToNextEntry(final SegmentView view, final long nextIndex) {
+    final int entryPosition = view.position();
+    lastEntry = view.read(nextIndex, true);
     updateLastAsqn(lastEntry.asqn());
-    lastEntryPosition = position;
-    index.index(lastEntry, position);
-    buffer.mark();
+    lastEntryPosition = entryPosition;
+    index.index(lastEntry, entryPosition);
   }
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
 
-    buffer.position(descriptorLength);
-    buffer.mark();
-    int position = buffer.position();
-    try {
-      while ((index == 0 || nextIndex <= index) && FrameUtil.hasValidVersion(buffer)) {
-        advanceToNextEntry(nextIndex);
+    position = descriptorLength;
+    try (final var view = access.openView()) {
+      view.position(descriptorLength);
+      while ((index == 0 || nextIndex <= index) && view.hasValidVersion()) {
+        advanceToNextEntry(view, nextIndex);
         nextIndex++;
-        position = buffer.position();
+        position = view.position();
       }
     } catch (final BufferUnderflowException e) {
       // Reached end of the segment
@@ -365,8 +407,6 @@ final class SegmentWriter {
         throw e;
       }
       resetPartiallyWrittenEntry(e, position);
-    } finally {
-      buffer.reset();
     }
   }
 
@@ -375,9 +415,7 @@ final class SegmentWriter {
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
         e.getMessage(),
         position);
-    FrameUtil.markAsIgnored(buffer, position);
-    buffer.position(position);
-    buffer.mark();
+    access.markAsIgnored(position);
   }
 
   public void truncate(final long index) {
@@ -394,8 +432,9 @@ final class SegmentWriter {
     lastAsqn = firstAsqn - 1;
 
     if (index < segment.index()) {
-      buffer.position(descriptorLength);
+      position = descriptorLength;
       invalidateNextEntry(descriptorLength);
+      segment.invalidateFrom(descriptorLength);
     } else {
       if (lastEntryPosition > 0) {
         // There can be race condition between truncating the segment, updating the descriptor, and
@@ -404,7 +443,8 @@ final class SegmentWriter {
         invalidateNextEntry(lastEntryPosition);
       }
       reset(index, true);
-      invalidateNextEntry(buffer.position());
+      invalidateNextEntry(position);
+      segment.invalidateFrom(position);
     }
   }
 }
@@ -136,6 +136,11 @@ public final class SegmentedJournal implements Journal {
     return writer.getLastIndex();
   }
 
+  @Override
+  public long getLastFlushedIndex() {
+    return writer.getLastFlushedIndex();
+  }
+
   @Override
   public long getFirstIndex() {
     final var firstSegment = segments.getFirstSegment();
@@ -32,6 +32,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentBackend DEFAULT_SEGMENT_BACKEND = SegmentBackend.MAPPED;
+  private static final boolean DEFAULT_LAZY_READ_VALIDATION = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +46,8 @@ public class SegmentedJournalBuilder {
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
+  private SegmentBackend segmentBackend = DEFAULT_SEGMENT_BACKEND;
+  private boolean lazyReadValidation = DEFAULT_LAZY_READ_VALIDATION;
 
   private JournalMetaStore journalMetaStore;
 
@@ -140,6 +144,32 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how entries are written to the segment files. Defaults to {@link SegmentBackend#MAPPED}.
+   *
+   * @param segmentBackend the backend to write segments with
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentBackend(final SegmentBackend segmentBackend) {
+    this.segmentBackend = checkNotNull(segmentBackend, "segmentBackend cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether readers validate the checksum of an entry only the first time any reader of the
+   * segment reads it, instead of on every read. Entries which were validated once are trusted
+   * afterwards, which makes repeated reads cheaper, e.g. when replicating and exporting the same
+   * entries, at the cost of not detecting corruption which happens after the first read. Defaults
+   * to false.
+   *
+   * @param lazyReadValidation true to validate each entry only on its first read
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withLazyReadValidation(final boolean lazyReadValidation) {
+    this.lazyReadValidation = lazyReadValidation;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +196,9 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace, journalMetrics, segmentAllocator, segmentBackend, lazyReadValidation);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
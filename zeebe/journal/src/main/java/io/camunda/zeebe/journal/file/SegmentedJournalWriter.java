@@ -47,6 +47,10 @@ final class SegmentedJournalWriter {
     return currentWriter.getLastIndex();
   }
 
+  long getLastFlushedIndex() {
+    return flusher.nextFlushIndex() - 1;
+  }
+
   long getNextIndex() {
     return currentWriter.getNextIndex();
   }
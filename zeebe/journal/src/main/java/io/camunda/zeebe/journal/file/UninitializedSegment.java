@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import java.nio.MappedByteBuffer;
-
 /**
  * Holds a normal segment file that hasn't been written to and that has no {@link
  * SegmentDescriptor}.
@@ -17,8 +15,9 @@ public record UninitializedSegment(
     SegmentFile file,
     long segmentId,
     int maxSegmentSize,
-    MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    SegmentAccess access,
+    JournalIndex journalIndex,
+    boolean lazyReadValidation) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -32,7 +31,14 @@ public record UninitializedSegment(
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
-    updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    access.writeDescriptor(updatedDescriptor);
+    return new Segment(
+        file,
+        updatedDescriptor,
+        access,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        lazyReadValidation);
   }
 }
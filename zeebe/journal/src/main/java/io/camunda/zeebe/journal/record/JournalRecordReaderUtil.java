@@ -19,6 +19,7 @@ public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final UnsafeBuffer directBuffer = new UnsafeBuffer();
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
     this.serializer = serializer;
@@ -29,6 +30,16 @@ public final class JournalRecordReaderUtil {
    * position of {@code buffer} will be advanced to the next record.
    */
   public JournalRecord read(final ByteBuffer buffer, final long expectedIndex) {
+    return read(buffer, expectedIndex, true);
+  }
+
+  /**
+   * Reads the JournalRecord in the buffer at the current position, like {@link #read(ByteBuffer,
+   * long)}, but only validates its checksum if {@code validateChecksum} is true. Skipping the
+   * validation is only safe for records which were already validated before.
+   */
+  public JournalRecord read(
+      final ByteBuffer buffer, final long expectedIndex, final boolean validateChecksum) {
     // Mark the buffer so it can be reset if necessary.
     buffer.mark();
 
@@ -40,7 +51,7 @@ public final class JournalRecordReaderUtil {
 
     final int startPosition = buffer.position();
 
-    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
+    directBuffer.wrap(buffer, startPosition, buffer.limit() - startPosition);
 
     final RecordMetadata metadata = serializer.readMetadata(directBuffer, 0);
 
@@ -55,15 +66,17 @@ public final class JournalRecordReaderUtil {
               buffer.position(), metadata));
     }
 
-    // verify checksum
-    final long checksum =
-        checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
+    if (validateChecksum) {
+      // computed directly over the record's bytes in the buffer, without copying them
+      final long checksum =
+          checksumGenerator.compute(buffer, startPosition + metadataLength, recordLength);
 
-    if (checksum != metadata.checksum()) {
-      buffer.reset();
-      throw new CorruptedJournalException(
-          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
-              .formatted(checksum, metadata.checksum()));
+      if (checksum != metadata.checksum()) {
+        buffer.reset();
+        throw new CorruptedJournalException(
+            "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
+                .formatted(checksum, metadata.checksum()));
+      }
     }
 
     // Read record
@@ -42,6 +42,16 @@ public interface JournalRecordSerializer {
       MutableDirectBuffer writeBuffer,
       int offset);
 
+  /**
+   * Returns the number of bytes required to write a {@link RecordData} whose data has the given
+   * length. This is the length returned by {@link #writeData(long, long, BufferWriter,
+   * MutableDirectBuffer, int)} on success.
+   *
+   * @param dataLength the length of the record's data
+   * @return the expected length of the serialized record
+   */
+  int getSerializedLength(int dataLength);
+
   Either<BufferOverflowException, Integer> writeDataAtVersion(
       int version,
       final long index,
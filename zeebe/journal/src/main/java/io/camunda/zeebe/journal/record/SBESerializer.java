@@ -143,7 +143,8 @@ public final class SBESerializer implements JournalRecordSerializer {
         && headerDecoder.templateId() == metadataDecoder.sbeTemplateId());
   }
 
-  private int getSerializedLength(final int entryLength) {
+  @Override
+  public int getSerializedLength(final int entryLength) {
     return headerEncoder.encodedLength()
         + recordEncoder.sbeBlockLength()
         + RecordDataEncoder.dataHeaderLength()
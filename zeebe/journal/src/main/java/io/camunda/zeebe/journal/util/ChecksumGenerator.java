@@ -9,16 +9,62 @@ package io.camunda.zeebe.journal.util;
 
 import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
+import org.agrona.DirectBuffer;
 
+/**
+ * Computes CRC32C checksums directly over the given memory, without copying it or creating views
+ * of the buffers. For direct and mapped buffers, {@link CRC32C} reads straight from their address
+ * using the intrinsic of the JVM.
+ */
 public final class ChecksumGenerator {
 
   private final CRC32C crc32 = new CRC32C();
+  private byte[] copyBuffer;
+  // a duplicate of the last given buffer, which is reused while the same buffer is passed, since
+  // the journal passes the buffer of its current segment for every record
+  private ByteBuffer source;
+  private ByteBuffer view;
 
-  /** Compute checksum of given ByteBuffer */
+  /**
+   * Compute checksum of the given ByteBuffer. The position and limit of the buffer are not changed,
+   * the checksum is computed over a duplicate of it.
+   */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
+    if (buffer != source) {
+      source = buffer;
+      view = buffer.duplicate();
+    }
+
+    // set the limit first, as the position must not be greater than the limit
+    view.limit(offset + length).position(offset);
+    crc32.reset();
+    crc32.update(view);
+    return crc32.getValue();
+  }
+
+  /** Compute checksum of the given DirectBuffer. */
+  public long compute(final DirectBuffer buffer, final int offset, final int length) {
+    // the wrap adjustment is relative to the array if there is one, even if a heap ByteBuffer is
+    // wrapped
+    final byte[] array = buffer.byteArray();
+    if (array != null) {
+      crc32.reset();
+      crc32.update(array, buffer.wrapAdjustment() + offset, length);
+      return crc32.getValue();
+    }
+
+    final ByteBuffer byteBuffer = buffer.byteBuffer();
+    if (byteBuffer != null) {
+      return compute(byteBuffer, buffer.wrapAdjustment() + offset, length);
+    }
+
+    // the buffer wraps a raw address, which can only be read by copying
+    if (copyBuffer == null || copyBuffer.length < length) {
+      copyBuffer = new byte[length];
+    }
+    buffer.getBytes(offset, copyBuffer, 0, length);
     crc32.reset();
-    crc32.update(slice.limit(length));
+    crc32.update(copyBuffer, 0, length);
     return crc32.getValue();
   }
 }
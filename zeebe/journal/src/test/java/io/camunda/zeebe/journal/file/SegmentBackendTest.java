@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class SegmentBackendTest {
+  private static final int ENTRY_COUNT = 100;
+
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+  private final List<SegmentedJournal> journals = new ArrayList<>();
+  private @TempDir Path directory;
+
+  @AfterEach
+  void tearDown() {
+    journals.forEach(CloseHelper::quietClose);
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldReadEntriesBeforeFlush(final SegmentBackend backend) {
+    // given
+    final var journal = openJournal(backend);
+
+    // when - enough entries to span multiple segments
+    appendEntries(journal, 1, ENTRY_COUNT);
+
+    // then
+    assertThat(journal.getFirstIndex()).isEqualTo(1);
+    assertThat(readEntries(journal)).containsExactlyElementsOf(expectedEntries(1, ENTRY_COUNT));
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldRecoverFlushedEntriesAfterReopen(final SegmentBackend backend) {
+    // given
+    final var journal = openJournal(backend);
+    appendEntries(journal, 1, ENTRY_COUNT);
+    journal.flush();
+    journal.close();
+
+    // when
+    final var reopened = openJournal(backend);
+
+    // then
+    assertThat(reopened.getLastIndex()).isEqualTo(ENTRY_COUNT);
+    assertThat(readEntries(reopened)).containsExactlyElementsOf(expectedEntries(1, ENTRY_COUNT));
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldOverwriteTruncatedEntries(final SegmentBackend backend) {
+    // given
+    final var journal = openJournal(backend);
+    appendEntries(journal, 1, ENTRY_COUNT);
+
+    // when
+    journal.deleteAfter(10);
+    appendEntries(journal, 11, 20);
+    journal.flush();
+    journal.close();
+
+    // then
+    final var reopened = openJournal(backend);
+    assertThat(reopened.getLastIndex()).isEqualTo(20);
+    assertThat(readEntries(reopened)).containsExactlyElementsOf(expectedEntries(1, 20));
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldAppendSerializedRecords(final SegmentBackend backend) {
+    // given
+    final var leader = openJournal(backend, directory.resolve("leader"));
+    final var follower = openJournal(backend, directory.resolve("follower"));
+    appendEntries(leader, 1, ENTRY_COUNT);
+
+    // when
+    try (final var reader = leader.openReader()) {
+      while (reader.hasNext()) {
+        final var record = reader.next();
+        final byte[] serialized = new byte[record.serializedRecord().capacity()];
+        record.serializedRecord().getBytes(0, serialized);
+        follower.append(record.checksum(), serialized);
+      }
+    }
+
+    // then
+    assertThat(readEntries(follower)).containsExactlyElementsOf(expectedEntries(1, ENTRY_COUNT));
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldKeepRecordsValidAfterReadingFurther(final SegmentBackend backend) {
+    // given
+    final var journal = openJournal(backend);
+    appendEntries(journal, 1, ENTRY_COUNT);
+
+    // when
+    final List<JournalRecord> records = new ArrayList<>();
+    try (final var reader = journal.openReader()) {
+      reader.forEachRemaining(records::add);
+    }
+
+    // then
+    assertThat(records)
+        .extracting(record -> BufferUtil.bufferAsString(record.data()))
+        .containsExactlyElementsOf(expectedEntries(1, ENTRY_COUNT));
+  }
+
+  @ParameterizedTest
+  @EnumSource(SegmentBackend.class)
+  void shouldReadEntriesLargerThanReadAhead(final SegmentBackend backend) {
+    // given
+    final var journal = openJournal(backend, directory, 64 * 1024);
+    final var largeEntry = "x".repeat(20 * 1024);
+
+    // when
+    for (int index = 1; index <= 10; index++) {
+      journal.append(index, new DirectBufferWriter().wrap(BufferUtil.wrapString(largeEntry)));
+    }
+
+    // then
+    assertThat(readEntries(journal)).hasSize(10).containsOnly(largeEntry);
+  }
+
+  @Test
+  void shouldNotPreallocateFileChannelSegments() throws IOException {
+    // given
+    final var journal = openJournal(SegmentBackend.FILE_CHANNEL);
+
+    // when
+    appendEntries(journal, 1, 1);
+    journal.flush();
+
+    // then
+    try (final var files = Files.list(directory)) {
+      assertThat(files.filter(file -> file.toString().endsWith(".log")))
+          .isNotEmpty()
+          .allSatisfy(file -> assertThat(file.toFile().length()).isLessThan(1024));
+    }
+  }
+
+  private SegmentedJournal openJournal(final SegmentBackend backend) {
+    return openJournal(backend, directory);
+  }
+
+  private SegmentedJournal openJournal(final SegmentBackend backend, final Path journalDirectory) {
+    return openJournal(backend, journalDirectory, 1024);
+  }
+
+  private SegmentedJournal openJournal(
+      final SegmentBackend backend, final Path journalDirectory, final int maxSegmentSize) {
+    final var journal =
+        SegmentedJournal.builder()
+            .withDirectory(journalDirectory.toFile())
+            .withMaxSegmentSize(maxSegmentSize)
+            .withFreeDiskSpace(0)
+            .withJournalIndexDensity(5)
+            .withMetaStore(metaStore)
+            .withSegmentBackend(backend)
+            .build();
+    journals.add(journal);
+    return journal;
+  }
+
+  private void appendEntries(final SegmentedJournal journal, final int from, final int to) {
+    for (int index = from; index <= to; index++) {
+      journal.append(index, new DirectBufferWriter().wrap(BufferUtil.wrapString(entry(index))));
+    }
+  }
+
+  private List<String> readEntries(final SegmentedJournal journal) {
+    final List<String> entries = new ArrayList<>();
+    try (final var reader = journal.openReader()) {
+      while (reader.hasNext()) {
+        final JournalRecord record = reader.next();
+        entries.add(BufferUtil.bufferAsString(record.data()));
+      }
+    }
+    return entries;
+  }
+
+  private List<String> expectedEntries(final int from, final int to) {
+    final List<String> entries = new ArrayList<>();
+    for (int index = from; index <= to; index++) {
+      entries.add(entry(index));
+    }
+    return entries;
+  }
+
+  private static String entry(final int index) {
+    return "entry-" + index;
+  }
+}
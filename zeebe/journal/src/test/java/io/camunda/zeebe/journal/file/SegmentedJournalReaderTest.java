@@ -23,8 +23,11 @@ import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
@@ -170,6 +173,44 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldValidateEntriesOnlyOnFirstReadWithLazyReadValidation() throws IOException {
+    // given
+    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
+    final var lazyDirectory = directory.resolve("lazy");
+    try (final var lazyJournal =
+        SegmentedJournal.builder()
+            .withDirectory(lazyDirectory.toFile())
+            .withMaxSegmentSize(
+                entrySize * ENTRIES_PER_SEGMENT + SegmentDescriptor.getEncodingLength())
+            .withMetaStore(new MockJournalMetastore())
+            .withLazyReadValidation(true)
+            .build()) {
+      lazyJournal.append(1, recordDataWriter);
+      try (final var firstReader = lazyJournal.openReader()) {
+        assertThat(firstReader.next().index()).isEqualTo(1);
+      }
+
+      // when - the data of the validated entry is corrupted afterwards
+      final Path segmentFile;
+      try (final var files = Files.list(lazyDirectory)) {
+        segmentFile = files.filter(f -> f.toString().endsWith(".log")).findFirst().orElseThrow();
+      }
+      try (final var file = new RandomAccessFile(segmentFile.toFile(), "rw")) {
+        final long lastDataByte = SegmentDescriptor.getEncodingLength() + entrySize - 1;
+        file.seek(lastDataByte);
+        final int value = file.read();
+        file.seek(lastDataByte);
+        file.write(value + 1);
+      }
+
+      // then - the entry is not validated again
+      try (final var secondReader = lazyJournal.openReader()) {
+        assertThat(secondReader.next().index()).isEqualTo(1);
+      }
+    }
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
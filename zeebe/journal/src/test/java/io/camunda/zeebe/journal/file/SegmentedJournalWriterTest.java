@@ -49,6 +49,20 @@ final class SegmentedJournalWriterTest {
     CloseHelper.quietClose(segments);
   }
 
+  @Test
+  void shouldReturnLastFlushedIndex() {
+    // given
+    writer.append(1, journalFactory.entry());
+    writer.append(2, journalFactory.entry());
+    writer.flush();
+
+    // when
+    writer.append(3, journalFactory.entry());
+
+    // then
+    assertThat(writer.getLastFlushedIndex()).isEqualTo(2L);
+  }
+
   @Test
   void shouldResetLastFlushedIndexOnDeleteAfter() {
     // given
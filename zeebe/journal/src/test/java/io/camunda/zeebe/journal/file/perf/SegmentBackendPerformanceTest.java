@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file.perf;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentBackend;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares appending to the journal with the {@link SegmentBackend#MAPPED} and the {@link
+ * SegmentBackend#FILE_CHANNEL} backends. Entries are flushed after every append to measure the
+ * worst case, where the cost of syncing dirty pages dominates.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SegmentBackendPerformanceTest {
+  private static final int ENTRY_SIZE = 1024;
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({"MAPPED", "FILE_CHANNEL"})
+  public SegmentBackend backend;
+
+  private final DirectBufferWriter entry = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private long index;
+
+  @Setup
+  public void setup() throws Exception {
+    final byte[] data = new byte[ENTRY_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    entry.wrap(new UnsafeBuffer(data));
+
+    directory = Files.createTempDirectory("journal");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .withSegmentBackend(backend)
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @JMHTest("measureAppendAndFlush")
+  void shouldAppendWithFileChannelAtLeastAsFastAsMapped(final JMHTestCase testCase) {
+    // given
+    final var mapped =
+        JMHTestCase.of(
+                SegmentBackendPerformanceTest.class,
+                "measureAppendAndFlush",
+                options -> options.param("backend", SegmentBackend.MAPPED.name()))
+            .run();
+
+    // when
+    final var fileChannel =
+        testCase.withOptions(o -> o.param("backend", SegmentBackend.FILE_CHANNEL.name())).run();
+
+    // then
+    fileChannel.isAtLeast(mapped, 0.2);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppend() {
+    return journal.append(++index, entry);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppendAndFlush() {
+    final var record = journal.append(++index, entry);
+    journal.flush();
+    return record;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ChecksumGeneratorTest {
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+
+  @Test
+  void shouldComputeChecksumOfRange() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    for (int i = 0; i < buffer.capacity(); i++) {
+      buffer.put(i, (byte) i);
+    }
+
+    // when
+    final long checksum = checksumGenerator.compute(buffer, 8, 16);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 8, 16));
+  }
+
+  @Test
+  void shouldNotChangePositionAndLimitOfBuffer() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    buffer.limit(20).position(4);
+
+    // when
+    checksumGenerator.compute(buffer, 16, 32);
+    checksumGenerator.compute(new UnsafeBuffer(buffer, 0, 64), 8, 48);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(4);
+    assertThat(buffer.limit()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldComputeChecksumOfDifferentBuffers() {
+    // given
+    final ByteBuffer first = ByteBuffer.allocateDirect(32);
+    final ByteBuffer second = ByteBuffer.allocateDirect(32);
+    for (int i = 0; i < 32; i++) {
+      first.put(i, (byte) i);
+      second.put(i, (byte) -i);
+    }
+
+    // when
+    final long firstChecksum = checksumGenerator.compute(first, 0, 32);
+    final long secondChecksum = checksumGenerator.compute(second, 0, 32);
+
+    // then
+    assertThat(firstChecksum).isEqualTo(expectedChecksum(first, 0, 32));
+    assertThat(secondChecksum).isEqualTo(expectedChecksum(second, 0, 32));
+  }
+
+  private long expectedChecksum(final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.get(offset, bytes);
+    final CRC32C crc32 = new CRC32C();
+    crc32.update(bytes);
+    return crc32.getValue();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.util.perf;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares computing the checksum of a record directly over a direct buffer with the previous
+ * approach, which created a read-only view and a slice of the buffer for every record.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ChecksumGeneratorPerformanceTest {
+  private static final int BUFFER_SIZE = 1024 * 1024;
+
+  @Param({"128", "1024", "16384"})
+  public int recordLength;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final CRC32C crc32 = new CRC32C();
+  private ByteBuffer buffer;
+  private int offset;
+
+  @Setup
+  public void setup() {
+    final byte[] data = new byte[BUFFER_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).put(data).clear();
+  }
+
+  @JMHTest("measureChecksum")
+  void shouldComputeChecksumAtLeastAsFastAsWithViews(final JMHTestCase testCase) {
+    // given
+    final var withViews =
+        JMHTestCase.of(
+                ChecksumGeneratorPerformanceTest.class,
+                "measureChecksumWithViews",
+                options -> options.param("recordLength", "1024"))
+            .run();
+
+    // when
+    final var result = testCase.withOptions(o -> o.param("recordLength", "1024")).run();
+
+    // then
+    result.isAtLeast(withViews, 0.1);
+  }
+
+  @Benchmark
+  public long measureChecksum() {
+    return checksumGenerator.compute(buffer, nextOffset(), recordLength);
+  }
+
+  @Benchmark
+  public long measureChecksumWithViews() {
+    final var slice = buffer.asReadOnlyBuffer().position(nextOffset()).slice();
+    crc32.reset();
+    crc32.update(slice.limit(recordLength));
+    return crc32.getValue();
+  }
+
+  // moves through the buffer like a reader, so the data isn't always in the same cache lines
+  private int nextOffset() {
+    offset += recordLength;
+    if (offset + recordLength > BUFFER_SIZE) {
+      offset = 0;
+    }
+    return offset;
+  }
+}
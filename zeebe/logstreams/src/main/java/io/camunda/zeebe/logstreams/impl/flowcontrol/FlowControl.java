@@ -39,6 +39,7 @@ public final class FlowControl implements AppendListener {
   private final Map<Long, InFlightEntry.Unwritten> unwritten = new ConcurrentHashMap<>();
   private final Map<Long, InFlightEntry.Uncommitted> uncommitted = new ConcurrentHashMap<>();
   private final Map<Long, InFlightEntry.Unprocessed> unprocessed = new ConcurrentHashMap<>();
+  private volatile long lastWrittenPosition;
 
   public FlowControl(final LogStreamMetrics metrics) {
     this(metrics, VegasLimit.newDefault(), StabilizingAIMDLimit.newBuilder().build());
@@ -98,6 +99,7 @@ public final class FlowControl implements AppendListener {
 
   @Override
   public void onWrite(final long index, final long highestPosition) {
+    lastWrittenPosition = highestPosition;
     final var written = unwritten.remove(highestPosition);
     if (written != null) {
       written.finish(highestPosition);
@@ -114,6 +116,15 @@ public final class FlowControl implements AppendListener {
     cleanupUncommitted(highestPosition);
   }
 
+  /**
+   * Returns the highest position written to the log so far, or 0 if nothing was written since this
+   * instance was created. As every record increments the position by one, the difference between
+   * two observations is the number of records written in between.
+   */
+  public long getLastWrittenPosition() {
+    return lastWrittenPosition;
+  }
+
   public void onProcessed(final long position) {
     final var processed = unprocessed.remove(position);
     if (processed != null) {
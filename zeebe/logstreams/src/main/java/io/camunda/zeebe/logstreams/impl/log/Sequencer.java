@@ -13,6 +13,7 @@ import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializ
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
 
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry.PendingAppend;
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -22,7 +23,8 @@ import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,18 +32,32 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Positions are reserved lock-free: each writer appends its batch to a linked queue of pending
+ * batches with a CAS on the queue's tail, so the order of the queue is the order of the positions.
+ * Afterwards, the batches are appended to the {@link LogStorage} in order by whichever writer
+ * manages to become the drainer. A drainer only appends the batches up to and including its own,
+ * so that no writer keeps appending the batches of others while new ones arrive. Each writer
+ * returns once its own batch was appended, by itself or by the drainer of a later batch, with the
+ * outcome of appending its own batch.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
   private final int maxFragmentSize;
 
-  private volatile long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
   private final LogStorage logStorage;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
 
+  /** The last batch which reserved its positions, i.e. the tail of the queue of pending batches. */
+  private final AtomicReference<PendingBatch> lastReserved;
+
+  private final AtomicBoolean isDraining = new AtomicBoolean();
+
+  /** The last batch appended to the log storage; only modified while holding the drain flag. */
+  private volatile PendingBatch lastAppended;
+
   Sequencer(
       final LogStorage logStorage,
       final long initialPosition,
@@ -50,11 +66,14 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final FlowControl flowControl) {
     this.logStorage = logStorage;
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+
+    final var initialBatch = new PendingBatch(initialPosition);
+    lastReserved = new AtomicReference<>(initialBatch);
+    lastAppended = initialBatch;
   }
 
   /** {@inheritDoc} */
@@ -94,19 +113,14 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
+    final var batch =
+        new PendingBatch(
+            currentTimeMillis(), sourcePosition, appendEntries, batchLength, permit.get());
+    final var highestPosition = reserve(batch);
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              currentTimeMillis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(permit.get(), highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
+      awaitAppended(batch);
       return Either.right(highestPosition);
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -122,10 +136,139 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  /**
+   * Reserves the positions for the given batch by making it the tail of the queue of pending
+   * batches. Positions are contiguous, as each batch starts right after the previous tail.
+   *
+   * @return the highest position of the batch
+   */
+  private long reserve(final PendingBatch batch) {
+    PendingBatch previous;
+    do {
+      previous = lastReserved.get();
+      batch.firstPosition = previous.nextPosition();
+    } while (!lastReserved.compareAndSet(previous, batch));
+
+    previous.next = batch;
+    return batch.nextPosition() - 1;
+  }
+
+  /**
+   * Waits until the given batch was appended to the log storage, draining the pending batches up to
+   * and including it whenever no other writer is draining.
+   *
+   * @throws RuntimeException the failure of appending the given batch, if any
+   */
+  private void awaitAppended(final PendingBatch batch) {
+    while (!batch.appended) {
+      if (isDraining.compareAndSet(false, true)) {
+        try {
+          drainUntil(batch);
+        } finally {
+          isDraining.set(false);
+        }
+      } else {
+        Thread.onSpinWait();
+      }
+    }
+
+    if (batch.failure != null) {
+      throw batch.failure;
+    }
+  }
+
+  /**
+   * Appends the pending batches in order, until the given batch was appended. Stops early if the
+   * next batch reserved its positions but was not linked yet.
+   */
+  private void drainUntil(final PendingBatch batch) {
+    PendingBatch next;
+    while (!batch.appended && (next = lastAppended.next) != null) {
+      // advance first, such that a failing append does not block all subsequent batches
+      lastAppended = next;
+      try {
+        append(next);
+      } catch (final RuntimeException e) {
+        // reported to the writer of the batch, not to the drainer
+        next.failure = e;
+      } finally {
+        next.appended = true;
+      }
+    }
+  }
+
+  private void append(final PendingBatch batch) {
+    final var highestPosition = batch.nextPosition() - 1;
+    final var sequencedBatch =
+        new SequencedBatch(
+            batch.timestamp,
+            batch.firstPosition,
+            batch.sourcePosition,
+            batch.entries,
+            batch.length);
+    final var permit = batch.permit;
+    batch.release();
+
+    flowControl.onAppend(permit, highestPosition);
+    logStorage.append(batch.firstPosition, highestPosition, sequencedBatch, flowControl);
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
         && entry.recordMetadata() != null
         && entry.recordMetadata().getLength() > 0;
   }
+
+  /**
+   * A batch waiting to be appended to the log storage. Its first position is assigned when it is
+   * reserved, and it is linked to its successor as soon as that one is reserved.
+   */
+  private static final class PendingBatch {
+    private final long timestamp;
+    private final long sourcePosition;
+    private final int size;
+    private final int length;
+    private List<LogAppendEntry> entries;
+    private PendingAppend permit;
+
+    // published by the CAS on the tail of the queue
+    private long firstPosition;
+    private volatile PendingBatch next;
+
+    // published by setting appended
+    private RuntimeException failure;
+    private volatile boolean appended;
+
+    private PendingBatch(
+        final long timestamp,
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int length,
+        final PendingAppend permit) {
+      this.timestamp = timestamp;
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.length = length;
+      this.permit = permit;
+      size = entries.size();
+    }
+
+    /** Creates the initial, already appended batch, which precedes the given position. */
+    private PendingBatch(final long initialPosition) {
+      this(0, -1, List.of(), 0, null);
+      firstPosition = initialPosition;
+      appended = true;
+    }
+
+    private long nextPosition() {
+      return firstPosition + size;
+    }
+
+    /** Drops the references to the entries, as the last appended batch remains in the queue. */
+    private void release() {
+      entries = null;
+      permit = null;
+    }
+  }
 }
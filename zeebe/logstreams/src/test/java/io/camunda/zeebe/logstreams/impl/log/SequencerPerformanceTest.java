@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the {@link Sequencer} with multiple concurrent writers. The log
+ * storage acknowledges every append immediately, such that only sequencing and flow control are
+ * measured.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SequencerPerformanceTest {
+  // conservative lower bound, to detect regressions which reintroduce contention between writers
+  private static final double REFERENCE_SCORE = 500_000;
+
+  private final List<LogAppendEntry> entries =
+      List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+  private Sequencer sequencer;
+
+  @Setup
+  public void setup() {
+    sequencer =
+        new Sequencer(
+            new AcknowledgingLogStorage(),
+            1,
+            4 * 1024 * 1024,
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+  }
+
+  @TearDown
+  public void tearDown() {
+    sequencer.close();
+  }
+
+  @JMHTest("measureConcurrentWrites")
+  void shouldWriteConcurrently(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(REFERENCE_SCORE, 0.2);
+  }
+
+  @Benchmark
+  public Either<WriteFailure, Long> measureConcurrentWrites() {
+    return sequencer.tryWrite(WriteContext.internal(), entries);
+  }
+
+  private static final class AcknowledgingLogStorage implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
@@ -114,6 +114,31 @@ final class SequencerTest {
     Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
   }
 
+  @Test
+  void reportsFailedAppendToWriterOfBatch() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+    final var failure = new IllegalStateException("expected");
+    Mockito.doThrow(failure)
+        .when(logStorage)
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+
+    // when
+    final var failedWrite =
+        Assertions.catchThrowable(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- only the writer of the failed batch sees the failure, the next batch is appended
+    Assertions.assertThat(failedWrite).isSameAs(failure);
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(2L);
+    Mockito.verify(logStorage).append(eq(2L), eq(2L), any(BufferWriter.class), any());
+  }
+
   @Test
   void maintainsPositionWithSingleWriterAndSingleEntry() throws InterruptedException {
     // given
@@ -213,6 +238,38 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void appendsAllBatchesWithMultipleWriters() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          newWriterThread(sequencer, 1, batchesPerWriter, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every batch was handed to the log storage, in order of their positions
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position)
+        .isEqualTo((long) numberOfWriters * batchesPerWriter * entries.size());
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
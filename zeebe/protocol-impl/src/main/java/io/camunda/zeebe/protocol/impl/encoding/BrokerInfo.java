@@ -41,6 +41,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.StringJoiner;
 import java.util.function.BiConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.ObjLongConsumer;
@@ -52,6 +53,8 @@ import org.slf4j.Logger;
 public final class BrokerInfo implements BufferReader, BufferWriter {
 
   private static final String BROKER_INFO_PROPERTY_NAME = "brokerInfo";
+  // the load is not part of the encoded broker info, so that it doesn't change its schema
+  private static final String PARTITION_LOAD_PROPERTY_NAME = "partitionLoad";
   private static final DirectBuffer COMMAND_API_NAME = wrapString("commandApi");
 
   private static final Logger LOG = Loggers.PROTOCOL_LOGGER;
@@ -69,6 +72,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   private final Map<Integer, PartitionRole> partitionRoles = new HashMap<>();
   private final Map<Integer, Long> partitionLeaderTerms = new HashMap<>();
   private final Map<Integer, PartitionHealthStatus> partitionHealthStatuses = new HashMap<>();
+  private final Map<Integer, Long> partitionLoads = new HashMap<>();
 
   private int nodeId;
   private int partitionsCount;
@@ -102,12 +106,14 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     partitionRoles.clear();
     partitionLeaderTerms.clear();
     partitionHealthStatuses.clear();
+    partitionLoads.clear();
   }
 
   public void removePartition(final int partitionId) {
     partitionRoles.remove(partitionId);
     partitionLeaderTerms.remove(partitionId);
     partitionHealthStatuses.remove(partitionId);
+    partitionLoads.remove(partitionId);
   }
 
   public int getNodeId() {
@@ -196,6 +202,18 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     return partitionLeaderTerms;
   }
 
+  /**
+   * @return the number of records written per second to each partition led by this broker
+   */
+  public Map<Integer, Long> getPartitionLoads() {
+    return partitionLoads;
+  }
+
+  public BrokerInfo setPartitionLoad(final int partitionId, final long load) {
+    partitionLoads.put(partitionId, load);
+    return this;
+  }
+
   public BrokerInfo addPartitionRole(final Integer partitionId, final PartitionRole role) {
     partitionRoles.put(partitionId, role);
     return this;
@@ -224,6 +242,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public BrokerInfo setFollowerForPartition(final int partitionId) {
     partitionLeaderTerms.remove(partitionId);
+    partitionLoads.remove(partitionId);
     return addPartitionRole(partitionId, PartitionRole.FOLLOWER);
   }
 
@@ -234,6 +253,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public BrokerInfo setInactiveForPartition(final int partitionId) {
     partitionLeaderTerms.remove(partitionId);
+    partitionLoads.remove(partitionId);
     return addPartitionRole(partitionId, PartitionRole.INACTIVE);
   }
 
@@ -401,12 +421,31 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   public static BrokerInfo fromProperties(final Properties properties) {
     final String property = properties.getProperty(BROKER_INFO_PROPERTY_NAME);
     if (property != null) {
-      return readFromString(property);
+      final var brokerInfo = readFromString(property);
+      readPartitionLoads(brokerInfo, properties.getProperty(PARTITION_LOAD_PROPERTY_NAME));
+      return brokerInfo;
     } else {
       return null;
     }
   }
 
+  private static void readPartitionLoads(final BrokerInfo brokerInfo, final String property) {
+    if (property == null || property.isEmpty()) {
+      return;
+    }
+
+    for (final String entry : property.split(",")) {
+      final int separator = entry.indexOf('=');
+      try {
+        brokerInfo.setPartitionLoad(
+            Integer.parseInt(entry.substring(0, separator)),
+            Long.parseLong(entry.substring(separator + 1)));
+      } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+        LOG.warn("Failed to decode load of partition from '{}', ignoring it", entry, e);
+      }
+    }
+  }
+
   private static BrokerInfo readFromString(final String property) {
     final byte[] bytes = BASE_64_DECODER.decode(property.getBytes(BASE_64_CHARSET));
 
@@ -418,6 +457,13 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public void writeIntoProperties(final Properties memberProperties) {
     memberProperties.setProperty(BROKER_INFO_PROPERTY_NAME, writeToString());
+    memberProperties.setProperty(PARTITION_LOAD_PROPERTY_NAME, writePartitionLoadsToString());
+  }
+
+  private String writePartitionLoadsToString() {
+    final var joiner = new StringJoiner(",");
+    partitionLoads.forEach((partitionId, load) -> joiner.add(partitionId + "=" + load));
+    return joiner.toString();
   }
 
   private String writeToString() {
@@ -482,6 +528,8 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
         + partitionLeaderTerms
         + ", partitionHealthStatuses="
         + partitionHealthStatuses
+        + ", partitionLoads="
+        + partitionLoads
         + ", version="
         + BufferUtil.bufferAsString(version)
         + '}';
@@ -16,6 +16,7 @@ import io.camunda.zeebe.protocol.record.PartitionHealthStatus;
 import io.camunda.zeebe.protocol.record.PartitionRole;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
@@ -114,6 +115,41 @@ final class BrokerInfoTest {
     assertThat(brokerInfo.getPartitionHealthStatuses()).isEmpty();
   }
 
+  @Test
+  void shouldWriteAndReadPartitionLoadsFromProperties() {
+    // given
+    final BrokerInfo brokerInfo =
+        new BrokerInfo(1, "localhost:26501")
+            .setLeaderForPartition(1, 2)
+            .setLeaderForPartition(2, 3)
+            .setPartitionLoad(1, 120)
+            .setPartitionLoad(2, 0);
+    final var properties = new Properties();
+
+    // when
+    brokerInfo.writeIntoProperties(properties);
+    final var readBrokerInfo = BrokerInfo.fromProperties(properties);
+
+    // then
+    assertThat(readBrokerInfo.getPartitionLoads())
+        .containsExactlyInAnyOrderEntriesOf(Map.of(1, 120L, 2, 0L));
+  }
+
+  @Test
+  void shouldReadBrokerInfoWithoutPartitionLoads() {
+    // given - e.g. written by a broker which does not publish its load
+    final var properties = new Properties();
+    new BrokerInfo(1, "localhost:26501").setPartitionLoad(1, 120).writeIntoProperties(properties);
+    properties.remove("partitionLoad");
+
+    // when
+    final var readBrokerInfo = BrokerInfo.fromProperties(properties);
+
+    // then
+    assertThat(readBrokerInfo.getNodeId()).isEqualTo(1);
+    assertThat(readBrokerInfo.getPartitionLoads()).isEmpty();
+  }
+
   private void encodeDecode(final BrokerInfo brokerInfo) {
     // encode
     final UnsafeBuffer buffer = new UnsafeBuffer(new byte[brokerInfo.getLength()]);
@@ -18,4 +18,5 @@ package io.camunda.zeebe.protocol.record.value;
 public enum VariableDocumentUpdateSemantic {
   LOCAL,
   PROPAGATE,
+  PATCH,
 }
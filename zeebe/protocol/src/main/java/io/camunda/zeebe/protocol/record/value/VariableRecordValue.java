@@ -35,7 +35,9 @@ public interface VariableRecordValue extends RecordValue, ProcessInstanceRelated
   String getName();
 
   /**
-   * @return the value of the variable as JSON string.
+   * @return the value of the variable as JSON string. For {@link VariableIntent#PATCHED} events,
+   *     this is only the JSON merge patch (RFC 7396) which was applied to the previous value of the
+   *     variable; apply it to the previous value to reconstruct the current one.
    */
   String getValue();
 
@@ -83,4 +83,17 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the result of this benchmark is at least the score of another benchmark, e.g. to
+   * compare two implementations of the same operation.
+   *
+   * @param other the results of the benchmark to compare against
+   * @param maxDeviation the maximum allowed deviation used to compute a real minimum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtLeast(final JMHAssert other, final double maxDeviation) {
+    return isAtLeast(other.actual.getPrimaryResult().getScore(), maxDeviation);
+  }
 }
@@ -15,7 +15,8 @@ public record FeatureFlags(
     boolean enableActorMetrics,
     boolean enableMessageTTLCheckerAsync,
     boolean enableTimerDueDateCheckerAsync,
-    boolean enableStraightThroughProcessingLoopDetector
+    boolean enableStraightThroughProcessingLoopDetector,
+    boolean enableDeferredMultiInstanceOutputCollection
     /*, boolean foo*/ ) {
 
   /* To add a new feature toggle, please follow these steps:
@@ -51,6 +52,7 @@ public record FeatureFlags(
   private static final boolean ENABLE_MSG_TTL_CHECKER_ASYNC = false;
   private static final boolean ENABLE_DUE_DATE_CHECKER_ASYNC = false;
   private static final boolean ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR = true;
+  private static final boolean ENABLE_DEFERRED_MULTI_INSTANCE_OUTPUT_COLLECTION = false;
 
   public static FeatureFlags createDefault() {
     return new FeatureFlags(
@@ -58,7 +60,8 @@ public record FeatureFlags(
         ENABLE_ACTOR_METRICS,
         ENABLE_MSG_TTL_CHECKER_ASYNC,
         ENABLE_DUE_DATE_CHECKER_ASYNC,
-        ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR
+        ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR,
+        ENABLE_DEFERRED_MULTI_INSTANCE_OUTPUT_COLLECTION
         /*, FOO_DEFAULT*/ );
   }
 
@@ -73,7 +76,8 @@ public record FeatureFlags(
         false, /* ENABLE_ACTOR_METRICS */
         true, /* ENABLE_MSG_TTL_CHECKER_ASYNC */
         true, /* ENABLE_DUE_DATE_CHECKER_ASYNC */
-        true /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
+        true, /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
+        false /* ENABLE_DEFERRED_MULTI_INSTANCE_OUTPUT_COLLECTION */
         /*, FOO_DEFAULT*/ );
   }
 